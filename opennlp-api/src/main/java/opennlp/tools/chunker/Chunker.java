@@ -19,6 +19,7 @@ package opennlp.tools.chunker;
 
 import opennlp.tools.util.Sequence;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * The interface for chunkers which provide chunk tags for a sequence of tokens.
@@ -46,6 +47,22 @@ public interface Chunker {
    */
   Span[] chunkAsSpans(String[] toks, String[] tags);
 
+  /**
+   * Generates tagged chunk spans for the given sequence and writes them into a reusable
+   * {@link SpanBuffer}, which is cleared first.
+   * <p>
+   * The default implementation adapts {@link #chunkAsSpans(String[], String[])},
+   * implementations should override it to write into the buffer directly.
+   *
+   * @param toks an array of the tokens or words of the sequence.
+   * @param tags an array of the pos tags of the sequence.
+   * @param spans The {@link SpanBuffer} to receive the chunks, typed with the chunk tags.
+   */
+  default void chunkAsSpans(String[] toks, String[] tags, SpanBuffer spans) {
+    spans.clear();
+    spans.addAll(chunkAsSpans(toks, tags));
+  }
+
   /**
    * Computes the top k chunk {@link Sequence sequences} for the specified sentence with
    * the specified pos-tags.
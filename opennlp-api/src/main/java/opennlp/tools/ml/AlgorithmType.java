@@ -27,6 +27,10 @@ public enum AlgorithmType {
       "opennlp.tools.ml.maxent.quasinewton.QNTrainer",
       "opennlp.tools.ml.maxent.io.QNModelReader",
       "opennlp.tools.ml.maxent.io.BinaryQNModelWriter"),
+  MAXENT_SGD("MAXENT_SGD", "GIS",
+      "opennlp.tools.ml.maxent.sgd.SGDTrainer",
+      "opennlp.tools.ml.maxent.io.GISModelReader",
+      "opennlp.tools.ml.maxent.io.BinaryGISModelWriter"),
   PERCEPTRON("PERCEPTRON", "Perceptron",
       "opennlp.tools.ml.perceptron.PerceptronTrainer",
       "opennlp.tools.ml.perceptron.PerceptronModelReader",
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The dense {@code double[]} kernels behind {@link ArrayMath}.
+ * <p>
+ * Two implementations exist: {@link ScalarArrayKernels}, which is always available, and
+ * {@code VectorArrayKernels}, which relies on the incubating {@code jdk.incubator.vector} module.
+ * The latter is only compiled by the {@code vector-api} build profile and is not part of the
+ * released artifacts, which therefore always use the scalar kernels. In a build with the profile it
+ * is {@link #create() selected} only if the module has been added to the
+ * running JVM, e.g. via {@code --add-modules jdk.incubator.vector}, and if it was not disabled via
+ * the system property {@value #VECTOR_PROPERTY}. Results of both implementations are equal within
+ * floating point tolerance, as the vectorized reductions sum in a different order.
+ */
+interface ArrayKernels {
+
+  /**
+   * The system property to disable the vectorized kernels, if set to {@code false}.
+   */
+  String VECTOR_PROPERTY = "opennlp.ml.vector";
+
+  /**
+   * @return The sum of {@code a[i] * b[i]}. Both vectors must have the same length.
+   */
+  double innerProduct(double[] a, double[] b);
+
+  /**
+   * @return The sum of the absolute values of {@code v}.
+   */
+  double l1norm(double[] v);
+
+  /**
+   * Computes {@code y[i] += a * x[i]} for all elements. Both vectors must have the same length.
+   */
+  void axpy(double a, double[] x, double[] y);
+
+  /**
+   * @return The sum of {@code e^(x[i] - shift)} over the first {@code length} elements.
+   */
+  double sumOfExps(double[] x, int length, double shift);
+
+  /**
+   * Replaces the first {@code length} elements by {@code e^(x[i] - shift)}.
+   *
+   * @return The sum of the replaced elements.
+   */
+  double expInPlace(double[] x, int length, double shift);
+
+  /**
+   * Selects the fastest available implementation.
+   *
+   * @return A {@link ArrayKernels} instance, never {@code null}.
+   */
+  static ArrayKernels create() {
+    if (Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true"))
+        && ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        // loaded reflectively, so that the vector classes are never touched without the module
+        return (ArrayKernels) Class.forName("opennlp.tools.ml.VectorArrayKernels")
+            .getDeclaredConstructor().newInstance();
+      } catch (ClassNotFoundException e) {
+        // built without the vector-api profile
+      } catch (ReflectiveOperationException | LinkageError e) {
+        final Logger logger = LoggerFactory.getLogger(ArrayKernels.class);
+        logger.warn("Cannot initialize vectorized array kernels, falling back to scalar ones.", e);
+      }
+    }
+    return new ScalarArrayKernels();
+  }
+}
@@ -23,18 +23,65 @@ import opennlp.tools.ml.model.Context;
 
 /**
  * Utility class for simple vector arithmetic.
+ * <p>
+ * The dense kernels ({@link #innerProduct(double[], double[])}, {@link #l1norm(double[])},
+ * {@link #l2norm(double[])}, {@link #logSumOfExps(double[])}, {@link #axpy(double, double[], double[])}
+ * and {@link #expInPlace(double[], int, double)}) are computed via plain scalar loops.
+ * <p>
+ * The released artifacts contain only these scalar loops. A build of {@code opennlp-api} with
+ * the {@code vector-api} profile adds SIMD variants, which are used if the JVM runs with
+ * {@code --add-modules jdk.incubator.vector} and the system property {@code opennlp.ml.vector}
+ * is not set to {@code false}. Both variants yield equal results within floating point tolerance.
  */
 public class ArrayMath {
 
+  private static final ArrayKernels KERNELS = ArrayKernels.create();
+
+  /**
+   * @return {@code true} if the dense kernels of this class are computed via the Vector API,
+   *         {@code false} if scalar loops are used.
+   */
+  public static boolean isVectorized() {
+    return !(KERNELS instanceof ScalarArrayKernels);
+  }
+
   public static double innerProduct(double[] vecA, double[] vecB) {
     if (vecA == null || vecB == null || vecA.length != vecB.length)
       return Double.NaN;
 
-    double product = 0.0;
-    for (int i = 0; i < vecA.length; i++) {
-      product += vecA[i] * vecB[i];
+    return KERNELS.innerProduct(vecA, vecB);
+  }
+
+  /**
+   * Computes {@code y = a * x + y} in place.
+   *
+   * @param a The scalar factor for {@code x}.
+   * @param x The vector of {@code double} values to add. It must not be {@code null}.
+   * @param y The vector of {@code double} values to update. It must not be {@code null}
+   *          and must have the same length as {@code x}.
+   * @throws IllegalArgumentException Thrown if the vector lengths differ.
+   */
+  public static void axpy(double a, double[] x, double[] y) {
+    if (x.length != y.length) {
+      throw new IllegalArgumentException("Vectors x and y must have the same length");
+    }
+    KERNELS.axpy(a, x, y);
+  }
+
+  /**
+   * Replaces the first {@code length} elements of a vector {@code x} by {@code e^(x_i - shift)}.
+   *
+   * @param x      The vector of {@code double} values to update. It must not be {@code null}.
+   * @param length The number of leading elements to update. It must not exceed the length of {@code x}.
+   * @param shift  The value to subtract from each element before exponentiation.
+   * @return The sum of the updated elements.
+   * @throws IllegalArgumentException Thrown if {@code length} is out of range.
+   */
+  public static double expInPlace(double[] x, int length, double shift) {
+    if (length < 0 || length > x.length) {
+      throw new IllegalArgumentException("length is out of range: " + length);
     }
-    return product;
+    return KERNELS.expInPlace(x, length, shift);
   }
 
   /**
@@ -44,9 +91,7 @@ public class ArrayMath {
    * @return The computed L1-norm.
    */
   public static double l1norm(double[] v) {
-    double norm = 0;
-    for (double value : v) norm += StrictMath.abs(value);
-    return norm;
+    return KERNELS.l1norm(v);
   }
 
   /**
@@ -78,12 +123,11 @@ public class ArrayMath {
    */
   public static double logSumOfExps(double[] x) {
     double max = max(x);
-    double sum = 0.0;
-    for (double v : x) {
-      if (v != Double.NEGATIVE_INFINITY)
-        sum += StrictMath.exp(v - max);
+    if (max == Double.NEGATIVE_INFINITY) {
+      // all elements are -Infinity, so is their log-sum
+      return max;
     }
-    return max + StrictMath.log(sum);
+    return max + StrictMath.log(KERNELS.sumOfExps(x, x.length, max));
   }
 
   /**
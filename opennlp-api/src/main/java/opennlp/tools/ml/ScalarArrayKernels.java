@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml;
+
+/**
+ * The plain scalar {@link ArrayKernels}, available on every JVM.
+ */
+final class ScalarArrayKernels implements ArrayKernels {
+
+  @Override
+  public double innerProduct(double[] a, double[] b) {
+    double product = 0.0;
+    for (int i = 0; i < a.length; i++) {
+      product += a[i] * b[i];
+    }
+    return product;
+  }
+
+  @Override
+  public double l1norm(double[] v) {
+    double norm = 0;
+    for (double value : v) norm += StrictMath.abs(value);
+    return norm;
+  }
+
+  @Override
+  public void axpy(double a, double[] x, double[] y) {
+    for (int i = 0; i < x.length; i++) {
+      y[i] += a * x[i];
+    }
+  }
+
+  @Override
+  public double sumOfExps(double[] x, int length, double shift) {
+    double sum = 0.0;
+    for (int i = 0; i < length; i++) {
+      sum += StrictMath.exp(x[i] - shift);
+    }
+    return sum;
+  }
+
+  @Override
+  public double expInPlace(double[] x, int length, double shift) {
+    double sum = 0.0;
+    for (int i = 0; i < length; i++) {
+      x[i] = StrictMath.exp(x[i] - shift);
+      sum += x[i];
+    }
+    return sum;
+  }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.monitoring;
+
+import java.lang.reflect.Constructor;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import opennlp.tools.commons.ThreadSafe;
+
+/**
+ * Entry point of the runtime instrumentation of OpenNLP components.
+ * <p>
+ * By default, no {@link MetricsRecorder} is registered and all calls are no-ops which
+ * do not even read the system clock. A recorder can either be registered programmatically
+ * via {@link #register(MetricsRecorder)} or by setting the system property
+ * {@code opennlp.metrics.recorder.class} to the fully qualified name of a
+ * {@link MetricsRecorder} implementation with a public no-arg constructor.
+ * <p>
+ * Components measure an operation as follows:
+ * <pre>{@code
+ * final long start = Instrumentation.start();
+ * double[] probs = model.eval(context);
+ * Instrumentation.recordTime(EVAL_METRIC, start);
+ * }</pre>
+ * Metric names are built via {@link #metric(String, String)} and have the form
+ * {@code opennlp.<component>.<operation>}.
+ */
+@ThreadSafe
+public final class Instrumentation {
+
+  private static final Logger logger = LoggerFactory.getLogger(Instrumentation.class);
+
+  /**
+   * The system property to configure a {@link MetricsRecorder} implementation.
+   */
+  public static final String RECORDER_CLASS_PROPERTY = "opennlp.metrics.recorder.class";
+
+  /** Operation name for the generation of feature contexts. */
+  public static final String FEATURE_GENERATION = "featuregen";
+  /** Operation name for the evaluation of a {@code MaxentModel}. */
+  public static final String MODEL_EVAL = "eval";
+  /** Operation name for a single step of a beam search. */
+  public static final String BEAM_SEARCH_STEP = "step";
+  /** Counter name for cache hits. */
+  public static final String CACHE_HIT = "cache.hit";
+  /** Counter name for cache misses. */
+  public static final String CACHE_MISS = "cache.miss";
+  /** Operation name for the loading of a model. */
+  public static final String MODEL_LOAD = "load";
+  /** Operation name for the run of an ONNX inference session. */
+  public static final String SESSION_RUN = "session.run";
+
+  private static volatile MetricsRecorder recorder = MetricsRecorder.NOOP;
+  private static volatile boolean enabled = false;
+
+  static {
+    final String clazzName = System.getProperty(RECORDER_CLASS_PROPERTY);
+    if (clazzName != null) {
+      try {
+        final Class<?> clazz = Class.forName(clazzName);
+        final Constructor<?> cons = clazz.getDeclaredConstructor();
+        register((MetricsRecorder) cons.newInstance());
+        logger.debug("Using '{}' as metrics recorder implementation.", clazzName);
+      } catch (Exception e) {
+        throw new RuntimeException("Could not load specified metrics recorder implementation: '"
+            + clazzName + "'. Reason: " + e.getLocalizedMessage(), e);
+      }
+    }
+  }
+
+  private Instrumentation() {
+    // utility class, not intended to be instantiated
+  }
+
+  /**
+   * Registers a {@link MetricsRecorder} which replaces any previously registered one.
+   *
+   * @param metricsRecorder The {@link MetricsRecorder} to use. Must not be {@code null}.
+   */
+  public static void register(MetricsRecorder metricsRecorder) {
+    recorder = Objects.requireNonNull(metricsRecorder, "metricsRecorder must not be null");
+    enabled = metricsRecorder != MetricsRecorder.NOOP;
+  }
+
+  /**
+   * Removes the currently registered {@link MetricsRecorder} and restores the no-op default.
+   */
+  public static void unregister() {
+    register(MetricsRecorder.NOOP);
+  }
+
+  /**
+   * @return The currently registered {@link MetricsRecorder}, never {@code null}.
+   */
+  public static MetricsRecorder getRecorder() {
+    return recorder;
+  }
+
+  /**
+   * @return {@code true} if a {@link MetricsRecorder} other than the no-op default
+   *         is registered, {@code false} otherwise.
+   */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Builds a metric name of the form {@code opennlp.<component>.<operation>}.
+   *
+   * @param component The component, e.g. {@code tokenizer}.
+   * @param operation The operation, e.g. {@link #MODEL_EVAL}.
+   * @return The metric name.
+   */
+  public static String metric(String component, String operation) {
+    return "opennlp." + component + "." + operation;
+  }
+
+  /**
+   * Starts a measurement.
+   *
+   * @return The current value of {@link System#nanoTime()}, or {@code 0} if
+   *         instrumentation is disabled.
+   */
+  public static long start() {
+    return enabled ? System.nanoTime() : 0L;
+  }
+
+  /**
+   * Records the time elapsed since {@code startNanos}. Does nothing if the
+   * measurement was started while instrumentation was disabled.
+   *
+   * @param metric The name of the measured operation.
+   * @param startNanos The value obtained from {@link #start()}.
+   */
+  public static void recordTime(String metric, long startNanos) {
+    if (startNanos != 0L) {
+      recorder.recordTime(metric, System.nanoTime() - startNanos);
+    }
+  }
+
+  /**
+   * Increments the counter denoted by {@code metric} by one.
+   *
+   * @param metric The name of the counter.
+   */
+  public static void increment(String metric) {
+    if (enabled) {
+      recorder.incrementCounter(metric, 1L);
+    }
+  }
+}
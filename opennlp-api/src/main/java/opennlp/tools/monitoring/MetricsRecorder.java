@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.monitoring;
+
+import opennlp.tools.commons.ThreadSafe;
+
+/**
+ * A receiver of runtime timings and counters emitted by OpenNLP components
+ * (feature generation, model evaluation, beam search steps, cache lookups,
+ * model loading or ONNX session runs).
+ * <p>
+ * Implementations are typically adapters to a monitoring system and can be
+ * registered via {@link Instrumentation#register(MetricsRecorder)}.
+ * They are invoked concurrently from all threads using OpenNLP components and
+ * therefore must be thread-safe and cheap to call.
+ *
+ * @see Instrumentation
+ */
+@ThreadSafe
+public interface MetricsRecorder {
+
+  /**
+   * A {@link MetricsRecorder} which discards all values.
+   */
+  MetricsRecorder NOOP = new MetricsRecorder() {
+    @Override
+    public void recordTime(String metric, long nanos) {
+      // no-op
+    }
+
+    @Override
+    public void incrementCounter(String metric, long delta) {
+      // no-op
+    }
+  };
+
+  /**
+   * Records the duration of a single execution of the operation denoted by {@code metric}.
+   *
+   * @param metric The name of the measured operation, e.g. {@code opennlp.tokenizer.eval}.
+   * @param nanos The elapsed time in nanoseconds.
+   */
+  void recordTime(String metric, long nanos);
+
+  /**
+   * Increments the counter denoted by {@code metric}.
+   *
+   * @param metric The name of the counter, e.g. {@code opennlp.beamsearch.cache.hit}.
+   * @param delta The amount to add to the counter.
+   */
+  void incrementCounter(String metric, long delta);
+
+}
@@ -17,6 +17,8 @@
 
 package opennlp.tools.monitoring;
 
+import java.time.Duration;
+
 /**
  * An interface to capture training progress of a model.
  */
@@ -35,6 +37,16 @@ public interface TrainingProgressMonitor {
   void finishedIteration(int iteration, int numberCorrectEvents, int totalEvents,
                          TrainingMeasure measure, double measureValue);
 
+  /**
+   * Captures the time it took to complete an iteration.
+   * The default implementation ignores the timing.
+   *
+   * @param iteration The completed iteration number.
+   * @param duration  The {@link Duration} of the iteration.
+   */
+  default void finishedIteration(int iteration, Duration duration) {
+  }
+
   /**
    * Captures the training completion progress.
    *
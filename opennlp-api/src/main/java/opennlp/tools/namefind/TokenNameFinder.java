@@ -18,6 +18,7 @@
 package opennlp.tools.namefind;
 
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * The interface for name finders which provide name tags for a sequence of tokens.
@@ -33,6 +34,22 @@ public interface TokenNameFinder {
    */
   Span[] find(String[] tokens);
 
+  /**
+   * Generates name tags for the given sequence, typically a sentence, and writes the
+   * token spans of any identified names into a reusable {@link SpanBuffer}, which is
+   * cleared first.
+   * <p>
+   * The default implementation adapts {@link #find(String[])}, implementations
+   * should override it to write into the buffer directly.
+   *
+   * @param tokens An array of the tokens or words of the sequence, typically a sentence.
+   * @param spans The {@link SpanBuffer} to receive the names.
+   */
+  default void find(String[] tokens, SpanBuffer spans) {
+    spans.clear();
+    spans.addAll(find(tokens));
+  }
+
   /**
    * Forgets all adaptive data which was collected during previous
    * calls to one of the find methods.
@@ -62,4 +62,20 @@ public interface EndOfSentenceScanner {
    * @return A {@link List} of Integer objects.
    */
   List<Integer> getPositions(char[] cbuf);
+
+  /**
+   * The receiver scans the specified string for sentence ending characters and
+   * returns their offsets in ascending order.
+   *
+   * @param s A {@link CharSequence} to be scanned.
+   * @return An {@code int[]} with the offsets, never {@code null}.
+   */
+  default int[] getPositionArray(CharSequence s) {
+    List<Integer> positions = getPositions(s);
+    int[] result = new int[positions.size()];
+    for (int i = 0; i < result.length; i++) {
+      result[i] = positions.get(i);
+    }
+    return result;
+  }
 }
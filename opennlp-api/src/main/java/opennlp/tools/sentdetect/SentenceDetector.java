@@ -19,6 +19,7 @@
 package opennlp.tools.sentdetect;
 
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * The interface for sentence detectors, which find the sentence boundaries in
@@ -44,4 +45,20 @@ public interface SentenceDetector {
    * detected sentence as the individuals array elements.
    */
   Span[] sentPosDetect(CharSequence s);
+
+  /**
+   * Detects sentences in a character sequence and writes them into a reusable
+   * {@link SpanBuffer}, which is cleared first.
+   * <p>
+   * The default implementation adapts {@link #sentPosDetect(CharSequence)}, implementations
+   * should override it to write into the buffer directly.
+   *
+   * @param s The {@link CharSequence} for which sentences shall be detected.
+   * @param spans The {@link SpanBuffer} to receive the offsets into {@code s} of each
+   *              detected sentence.
+   */
+  default void sentPosDetect(CharSequence s, SpanBuffer spans) {
+    spans.clear();
+    spans.addAll(sentPosDetect(s));
+  }
 }
@@ -18,6 +18,7 @@
 package opennlp.tools.tokenize;
 
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * The interface for tokenizers, which segment a string into its tokens.
@@ -60,4 +61,19 @@ public interface Tokenizer {
    */
   Span[] tokenizePos(String s);
 
+  /**
+   * Finds the boundaries of atomic parts in a string and writes them into a reusable
+   * {@link SpanBuffer}, which is cleared first.
+   * <p>
+   * The default implementation adapts {@link #tokenizePos(String)}, implementations
+   * should override it to write into the buffer directly.
+   *
+   * @param s The string to be tokenized.
+   * @param spans The {@link SpanBuffer} to receive the offsets into {@code s} of each token.
+   */
+  default void tokenizePos(String s, SpanBuffer spans) {
+    spans.clear();
+    spans.addAll(tokenizePos(s));
+  }
+
 }
@@ -17,12 +17,14 @@
 
 package opennlp.tools.tokenize;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
 
 import opennlp.tools.util.Span;
+import opennlp.tools.util.StringUtil;
 
 /**
  * A {@link Tokenizer} implementation which performs tokenization
@@ -42,15 +44,21 @@ import opennlp.tools.util.Span;
  *    https://cran.r-project.org/web/packages/wordpiece/vignettes/basic_usage.html</a>
  *  </li>
  * </ul>
+ * <p>
+ * The word pieces are matched against a compiled {@link WordpieceVocabulary}, which
+ * also allows to {@link #encode(CharSequence, long[]) encode} a text directly into
+ * token ids without creating the intermediate token strings.
  */
 public class WordpieceTokenizer implements Tokenizer {
 
-  private static final Pattern PUNCTUATION_PATTERN = Pattern.compile("\\p{Punct}+");
   private static final String CLASSIFICATION_TOKEN = "[CLS]";
   private static final String SEPARATOR_TOKEN = "[SEP]";
   private static final String UNKNOWN_TOKEN = "[UNK]";
 
-  private final Set<String> vocabulary;
+  private final WordpieceVocabulary vocabulary;
+  private final int classificationId;
+  private final int separatorId;
+  private final int unknownId;
   private int maxTokenLength = 50;
 
   /**
@@ -60,7 +68,7 @@ public class WordpieceTokenizer implements Tokenizer {
    * @param vocabulary  A set of tokens considered the vocabulary.
    */
   public WordpieceTokenizer(Set<String> vocabulary) {
-    this.vocabulary = vocabulary;
+    this(toVocabulary(vocabulary));
   }
 
   /**
@@ -75,6 +83,39 @@ public class WordpieceTokenizer implements Tokenizer {
     this.maxTokenLength = maxTokenLength;
   }
 
+  /**
+   * Initializes a {@link WordpieceTokenizer} with a compiled {@code vocabulary} and a default
+   * {@code maxTokenLength} of {@code 50}.
+   *
+   * @param vocabulary  The {@link WordpieceVocabulary} to match the word pieces against.
+   */
+  public WordpieceTokenizer(WordpieceVocabulary vocabulary) {
+    this.vocabulary = vocabulary;
+    this.classificationId = vocabulary.getId(CLASSIFICATION_TOKEN);
+    this.separatorId = vocabulary.getId(SEPARATOR_TOKEN);
+    this.unknownId = vocabulary.getId(UNKNOWN_TOKEN);
+  }
+
+  /**
+   * Initializes a {@link WordpieceTokenizer} with a compiled {@code vocabulary} and a custom
+   * {@code maxTokenLength}.
+   *
+   * @param vocabulary  The {@link WordpieceVocabulary} to match the word pieces against.
+   * @param maxTokenLength A non-negative number that is used as maximum token length.
+   */
+  public WordpieceTokenizer(WordpieceVocabulary vocabulary, int maxTokenLength) {
+    this(vocabulary);
+    this.maxTokenLength = maxTokenLength;
+  }
+
+  private static WordpieceVocabulary toVocabulary(Set<String> tokens) {
+    final Map<String, Integer> vocabulary = new HashMap<>();
+    for (String token : tokens) {
+      vocabulary.put(token, vocabulary.size());
+    }
+    return new WordpieceVocabulary(vocabulary);
+  }
+
   @Override
   public Span[] tokenizePos(final String text) {
     // TODO: Implement this.
@@ -84,90 +125,157 @@ public class WordpieceTokenizer implements Tokenizer {
   @Override
   public String[] tokenize(final String text) {
 
-    final List<String> tokens = new LinkedList<>();
+    final List<String> tokens = new ArrayList<>();
     tokens.add(CLASSIFICATION_TOKEN);
 
-    // Put spaces around punctuation.
-    final String spacedPunctuation = PUNCTUATION_PATTERN.matcher(text).replaceAll(" $0 ");
-
-    // Split based on whitespace.
-    final String[] split = WhitespaceTokenizer.INSTANCE.tokenize(spacedPunctuation);
-
-    // For each resulting word, if the word is found in the WordPiece vocabulary, keep it as-is.
+    // Words are split at white spaces and around runs of punctuation.
+    // For each word, if the word is found in the WordPiece vocabulary, keep it as-is.
     // If not, starting from the beginning, pull off the biggest piece that is in the vocabulary,
     // and prefix "##" to the remaining piece. Repeat until the entire word is represented by
     // pieces from the vocabulary, if possible.
-    for (final String token : split) {
+    int start = nextWord(text, 0);
+    while (start < text.length()) {
 
-      final char[] characters = token.toCharArray();
+      final int end = wordEnd(text, start);
 
-      if (characters.length <= maxTokenLength) {
+      if (end - start <= maxTokenLength) {
 
-        // To start, the substring is the whole token.
-        int start = 0;
-        int end;
+        int pos = start;
+        while (pos < end) {
 
-        // Look at the token from the start.
-        while (start < characters.length) {
+          final long match = vocabulary.longestMatch(text, pos, end, pos > start);
 
-          end = characters.length;
-          boolean found = false;
+          // If the word can't be represented by vocabulary pieces replace
+          // it with a specified "unknown" token.
+          if (match == -1) {
+            tokens.add(UNKNOWN_TOKEN);
+            break;
+          }
 
-          // Look at the token from the end until the end is equal to the start.
-          while (start < end) {
+          final int matchEnd = WordpieceVocabulary.matchEnd(match);
+          if (pos > start) {
+            tokens.add(WordpieceVocabulary.CONTINUATION_PREFIX + text.substring(pos, matchEnd));
+          } else {
+            tokens.add(text.substring(pos, matchEnd));
+          }
 
-            // The substring is the part of the token we are looking at now.
-            String substring = String.valueOf(characters, start, end - start);
+          // Start the next piece where we just left off.
+          pos = matchEnd;
 
-            // This is a substring so prefix it with ##.
-            if (start > 0) {
-              substring = "##" + substring;
-            }
+        }
 
-            // See if the substring is in the vocabulary.
-            if (vocabulary.contains(substring)) {
+      } else {
 
-              // It is in the vocabulary so add it to the list of tokens.
-              tokens.add(substring);
+        // If the token's length is greater than the max length just add [UNK] instead.
+        tokens.add(UNKNOWN_TOKEN);
 
-              // Next time we can pick up where we left off.
-              start = end;
-              found = true;
+      }
 
-              break;
+      start = nextWord(text, end);
 
-            }
+    }
 
-            // Subtract 1 from the end to find the next longest piece in the vocabulary.
-            end--;
+    tokens.add(SEPARATOR_TOKEN);
 
-          }
+    return tokens.toArray(new String[0]);
 
-          // If the word can't be represented by vocabulary pieces replace
-          // it with a specified "unknown" token.
-          if (!found) {
-            tokens.add(UNKNOWN_TOKEN);
+  }
+
+  /**
+   * Tokenizes {@code text} like {@link #tokenize(String)}, but writes the ids of the
+   * tokens into {@code ids} instead of creating the token strings.
+   * <p>
+   * A text is encoded into at most {@code text.length() + 2} ids. If {@code ids} is
+   * shorter than the encoded text, only the leading ids are written, but the returned
+   * count still includes all of them.
+   *
+   * @param text The text to encode.
+   * @param ids The array to write the token ids to.
+   * @return The number of token ids of the encoded text.
+   * @throws IllegalStateException Thrown if the vocabulary lacks the
+   *                               {@code [CLS]}, {@code [SEP]} or {@code [UNK]} tokens.
+   */
+  public int encode(final CharSequence text, final long[] ids) {
+
+    if (classificationId < 0 || separatorId < 0 || unknownId < 0) {
+      throw new IllegalStateException("The vocabulary must contain the " + CLASSIFICATION_TOKEN + ", "
+          + SEPARATOR_TOKEN + " and " + UNKNOWN_TOKEN + " tokens");
+    }
+
+    int count = put(ids, 0, classificationId);
+
+    int start = nextWord(text, 0);
+    while (start < text.length()) {
+
+      final int end = wordEnd(text, start);
+
+      if (end - start <= maxTokenLength) {
+
+        int pos = start;
+        while (pos < end) {
+
+          final long match = vocabulary.longestMatch(text, pos, end, pos > start);
+          if (match == -1) {
+            count = put(ids, count, unknownId);
             break;
           }
 
-          // Start the next characters where we just left off.
-          start = end;
+          count = put(ids, count, WordpieceVocabulary.matchId(match));
+          pos = WordpieceVocabulary.matchEnd(match);
 
         }
 
       } else {
+        count = put(ids, count, unknownId);
+      }
 
-        // If the token's length is greater than the max length just add [UNK] instead.
-        tokens.add(UNKNOWN_TOKEN);
+      start = nextWord(text, end);
 
-      }
+    }
+
+    return put(ids, count, separatorId);
 
+  }
+
+  private static int put(long[] ids, int count, int id) {
+    if (count < ids.length) {
+      ids[count] = id;
     }
+    return count + 1;
+  }
 
-    tokens.add(SEPARATOR_TOKEN);
+  /*
+   * Returns the offset of the first char at or after index which is not a white space.
+   */
+  private static int nextWord(CharSequence text, int index) {
+    while (index < text.length() && StringUtil.isWhitespace(text.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
 
-    return tokens.toArray(new String[0]);
+  /*
+   * Returns the offset after the word which starts at start. A word is either a run of
+   * punctuation or a run of other chars which are not white spaces.
+   */
+  private static int wordEnd(CharSequence text, int start) {
+    final boolean punctuation = isPunctuation(text.charAt(start));
+    int end = start + 1;
+    while (end < text.length()) {
+      final char c = text.charAt(end);
+      if (isPunctuation(c) != punctuation || (!punctuation && StringUtil.isWhitespace(c))) {
+        break;
+      }
+      end++;
+    }
+    return end;
+  }
 
+  /*
+   * The ASCII punctuation chars, as matched by \p{Punct}.
+   */
+  private static boolean isPunctuation(char c) {
+    return c >= '!' && c <= '/' || c >= ':' && c <= '@' || c >= '[' && c <= '`' || c >= '{' && c <= '~';
   }
 
   /**
@@ -177,4 +285,11 @@ public class WordpieceTokenizer implements Tokenizer {
     return maxTokenLength;
   }
 
+  /**
+   * @return The {@link WordpieceVocabulary} the word pieces are matched against.
+   */
+  public WordpieceVocabulary getVocabulary() {
+    return vocabulary;
+  }
+
 }
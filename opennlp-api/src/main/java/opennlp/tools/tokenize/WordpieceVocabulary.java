@@ -0,0 +1,311 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.tokenize;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A compiled, immutable vocabulary of word pieces which maps tokens to their ids.
+ * <p>
+ * The tokens are stored in a double-array trie, hence a lookup walks the characters
+ * of a token without creating substrings. Word pieces which continue a word carry the
+ * {@code ##} prefix in the vocabulary; their lookups start at the continuation root,
+ * the trie state reached by {@code ##}, so the prefix does not need to be prepended.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @see WordpieceTokenizer
+ */
+public final class WordpieceVocabulary {
+
+  /**
+   * The prefix of word pieces which continue a word.
+   */
+  public static final String CONTINUATION_PREFIX = "##";
+
+  private static final int ROOT = 0;
+
+  private static final int FREE = -1;
+
+  /*
+   * The double-array: the transition from state s with char c leads to
+   * t = base[s] + c + 1, if check[t] == s. The id of the token which ends
+   * in a state is stored in ids, or -1 if no token ends there.
+   */
+  private int[] base;
+  private int[] check;
+  private int[] ids;
+
+  private final int continuationRoot;
+
+  private final int size;
+
+  // only used during construction
+  private int nextCheckPos;
+
+  /**
+   * Initializes a {@link WordpieceVocabulary}.
+   *
+   * @param vocabulary The tokens mapped to their ids. Must not be {@code null}
+   *                   and the ids must not be negative.
+   * @throws IllegalArgumentException Thrown if an id is negative.
+   */
+  public WordpieceVocabulary(Map<String, Integer> vocabulary) {
+    Objects.requireNonNull(vocabulary, "vocabulary must not be null");
+
+    final String[] tokens = vocabulary.keySet().toArray(new String[0]);
+    Arrays.sort(tokens);
+    final int[] tokenIds = new int[tokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokenIds[i] = vocabulary.get(tokens[i]);
+      if (tokenIds[i] < 0) {
+        throw new IllegalArgumentException("The id of '" + tokens[i] + "' must not be negative");
+      }
+    }
+
+    base = new int[1024];
+    check = new int[1024];
+    ids = new int[1024];
+    Arrays.fill(check, FREE);
+    Arrays.fill(ids, -1);
+    check[ROOT] = ROOT;
+    nextCheckPos = 1;
+
+    if (tokens.length > 0) {
+      insert(ROOT, tokens, tokenIds, 0, tokens.length, 0);
+    }
+
+    int last = check.length - 1;
+    while (last > ROOT && check[last] == FREE) {
+      last--;
+    }
+    base = Arrays.copyOf(base, last + 1);
+    check = Arrays.copyOf(check, last + 1);
+    ids = Arrays.copyOf(ids, last + 1);
+
+    size = tokens.length;
+    continuationRoot = next(next(ROOT, '#'), '#');
+  }
+
+  /**
+   * Loads a {@link WordpieceVocabulary} from a file which contains one token per line.
+   * The id of a token is its line number, starting at {@code 0}. If a token occurs
+   * more than once, the id of its last occurrence is used.
+   *
+   * @param vocabFile The UTF-8 encoded vocabulary file.
+   * @return The loaded {@link WordpieceVocabulary}.
+   * @throws IOException Thrown if the file cannot be opened or read.
+   */
+  public static WordpieceVocabulary load(Path vocabFile) throws IOException {
+    final Map<String, Integer> vocabulary = new HashMap<>();
+    try (BufferedReader reader = Files.newBufferedReader(vocabFile, StandardCharsets.UTF_8)) {
+      String line;
+      int id = 0;
+      while ((line = reader.readLine()) != null) {
+        vocabulary.put(line, id++);
+      }
+    }
+    return new WordpieceVocabulary(vocabulary);
+  }
+
+  /*
+   * Builds the sub trie of state for the sorted tokens [from, to) which share the
+   * first depth characters.
+   */
+  private void insert(int state, String[] tokens, int[] tokenIds, int from, int to, int depth) {
+    // sorted, so a token which ends at this state comes first
+    if (tokens[from].length() == depth) {
+      ids[state] = tokenIds[from];
+      from++;
+    }
+    if (from == to) {
+      return;
+    }
+
+    // the distinct chars at depth, and where their tokens start
+    final char[] chars = new char[to - from];
+    final int[] starts = new int[to - from + 1];
+    int count = 0;
+    for (int i = from; i < to; i++) {
+      char c = tokens[i].charAt(depth);
+      if (count == 0 || chars[count - 1] != c) {
+        chars[count] = c;
+        starts[count] = i;
+        count++;
+      }
+    }
+    starts[count] = to;
+
+    final int b = findBase(chars, count);
+    base[state] = b;
+    for (int i = 0; i < count; i++) {
+      check[b + chars[i] + 1] = state;
+    }
+    for (int i = 0; i < count; i++) {
+      insert(b + chars[i] + 1, tokens, tokenIds, starts[i], starts[i + 1], depth + 1);
+    }
+  }
+
+  /*
+   * Finds a base at which the transitions of all the given sorted chars are free.
+   */
+  private int findBase(char[] chars, int count) {
+    int pos = Math.max(chars[0] + 1, nextCheckPos) - 1;
+    int occupied = 0;
+    boolean firstFree = true;
+
+    while (true) {
+      pos++;
+      ensureCapacity(pos + chars[count - 1] + 1);
+      if (check[pos] != FREE) {
+        occupied++;
+        continue;
+      }
+      if (firstFree) {
+        nextCheckPos = pos;
+        firstFree = false;
+      }
+
+      final int b = pos - chars[0] - 1;
+      boolean fits = true;
+      for (int i = 1; i < count && fits; i++) {
+        fits = check[b + chars[i] + 1] == FREE;
+      }
+      if (fits) {
+        // skip densely used regions in the following searches
+        if (occupied >= 0.95 * (pos - nextCheckPos + 1)) {
+          nextCheckPos = pos;
+        }
+        return b;
+      }
+    }
+  }
+
+  private void ensureCapacity(int index) {
+    if (index >= check.length) {
+      final int length = Math.max(index + 1, check.length * 2);
+      final int oldLength = check.length;
+      base = Arrays.copyOf(base, length);
+      check = Arrays.copyOf(check, length);
+      ids = Arrays.copyOf(ids, length);
+      Arrays.fill(check, oldLength, length, FREE);
+      Arrays.fill(ids, oldLength, length, -1);
+    }
+  }
+
+  /*
+   * Returns the state reached from state with c, or -1 if there is no such transition.
+   */
+  private int next(int state, char c) {
+    if (state < 0) {
+      return -1;
+    }
+    final int t = base[state] + c + 1;
+    return t < check.length && check[t] == state ? t : -1;
+  }
+
+  /**
+   * @param token The token to look up.
+   * @return The id of {@code token}, or {@code -1} if it is not in the vocabulary.
+   */
+  public int getId(CharSequence token) {
+    return getId(token, 0, token.length(), false);
+  }
+
+  /**
+   * Looks up the word piece {@code s[start, end)}.
+   *
+   * @param s The text which contains the word piece.
+   * @param start The offset of the first character of the word piece.
+   * @param end The offset after the last character of the word piece.
+   * @param continuation Whether the word piece continues a word, in this case it is
+   *                     looked up as if it was prefixed with {@link #CONTINUATION_PREFIX}.
+   * @return The id of the word piece, or {@code -1} if it is not in the vocabulary.
+   */
+  public int getId(CharSequence s, int start, int end, boolean continuation) {
+    int state = continuation ? continuationRoot : ROOT;
+    for (int i = start; i < end && state >= 0; i++) {
+      state = next(state, s.charAt(i));
+    }
+    return state >= 0 ? ids[state] : -1;
+  }
+
+  /**
+   * Finds the longest word piece in the vocabulary which is a prefix of {@code s[start, end)}.
+   *
+   * @param s The text to match.
+   * @param start The offset at which the word piece must start.
+   * @param end The offset after which the word piece must not extend.
+   * @param continuation Whether the word piece continues a word, see
+   *                     {@link #getId(CharSequence, int, int, boolean)}.
+   * @return The end offset of the longest matching word piece in the upper
+   *         {@code 32} bits and its id in the lower {@code 32} bits, or {@code -1}
+   *         if there is no match. Use {@link #matchEnd(long)} and {@link #matchId(long)}
+   *         to decode the result.
+   */
+  public long longestMatch(CharSequence s, int start, int end, boolean continuation) {
+    int state = continuation ? continuationRoot : ROOT;
+    long match = -1;
+    for (int i = start; i < end && state >= 0; i++) {
+      state = next(state, s.charAt(i));
+      if (state >= 0 && ids[state] >= 0) {
+        match = ((long) (i + 1) << 32) | ids[state];
+      }
+    }
+    return match;
+  }
+
+  /**
+   * @param match A match found by {@link #longestMatch(CharSequence, int, int, boolean)}.
+   * @return The end offset of the matched word piece.
+   */
+  public static int matchEnd(long match) {
+    return (int) (match >>> 32);
+  }
+
+  /**
+   * @param match A match found by {@link #longestMatch(CharSequence, int, int, boolean)}.
+   * @return The id of the matched word piece.
+   */
+  public static int matchId(long match) {
+    return (int) match;
+  }
+
+  /**
+   * @param token The token to look up.
+   * @return {@code true} if {@code token} is in the vocabulary, {@code false} otherwise.
+   */
+  public boolean contains(CharSequence token) {
+    return getId(token) >= 0;
+  }
+
+  /**
+   * @return The number of tokens in the vocabulary.
+   */
+  public int size() {
+    return size;
+  }
+}
@@ -18,11 +18,35 @@
 package opennlp.tools.util;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
 
 public class ObjectStreamUtils {
 
+  /**
+   * A function which maps a sample to another object and may fail with an {@link IOException}.
+   *
+   * @param <S> The generic type of the input samples.
+   * @param <T> The generic type of the mapped samples.
+   *
+   * @see #parallelMap(ObjectStream, MapFunction, int)
+   */
+  @FunctionalInterface
+  public interface MapFunction<S, T> {
+
+    /**
+     * Maps a sample.
+     *
+     * @param sample The sample to map. It is never {@code null}.
+     * @return The mapped sample, or {@code null} to drop the sample.
+     * @throws IOException Thrown if IO errors occurred.
+     */
+    T apply(S sample) throws IOException;
+  }
+
   /**
    * Creates an {@link ObjectStream} form an array of {@link T}.
    *
@@ -202,4 +226,93 @@ public class ObjectStreamUtils {
       }
     };
   }
+
+  /**
+   * Creates an {@link ObjectStream} which reads the elements of {@code stream} ahead on a
+   * background thread, so that reading and parsing the samples overlaps with their consumption.
+   * <p>
+   * At most {@code capacity} elements are buffered. Exceptions of the underlying stream
+   * are rethrown when the element at which they occurred is read. The returned stream must
+   * be {@link ObjectStream#close() closed} or read to the end to release the background thread.
+   *
+   * @param stream The {@link ObjectStream} to read ahead. Must not be {@code null}.
+   * @param capacity The maximum number of buffered elements. Must be greater than {@code 0}.
+   * @param <T> The generic type of the elements in the {@code stream}.
+   *
+   * @return The prefetching {@link ObjectStream}.
+   * @throws IllegalArgumentException Thrown if {@code capacity} is not greater than {@code 0}.
+   */
+  public static <T> ObjectStream<T> prefetch(final ObjectStream<T> stream, int capacity) {
+    Objects.requireNonNull(stream, "stream cannot be null");
+    return new PrefetchingObjectStream<>(stream, capacity);
+  }
+
+  /**
+   * Creates an {@link ObjectStream} which applies {@code function} to the elements of
+   * {@code stream} on up to {@code threads} threads, e.g. to turn samples into events.
+   * <p>
+   * The elements are returned in the order of the underlying stream. The underlying
+   * stream is only read by the calling thread, but the {@code function} is called
+   * concurrently and must be thread-safe. Elements for which {@code function} returns
+   * {@code null} are skipped.
+   *
+   * @param stream The {@link ObjectStream} to map. Must not be {@code null}.
+   * @param function The {@link MapFunction} to apply. Must not be {@code null}.
+   * @param threads The number of threads to map on. Must be greater than {@code 0}.
+   * @param <S> The generic type of the elements in the {@code stream}.
+   * @param <T> The generic type of the mapped elements.
+   *
+   * @return The mapped {@link ObjectStream}.
+   * @throws IllegalArgumentException Thrown if {@code threads} is not greater than {@code 0}.
+   */
+  public static <S, T> ObjectStream<T> parallelMap(final ObjectStream<S> stream,
+                                                   final MapFunction<S, T> function, int threads) {
+    Objects.requireNonNull(stream, "stream cannot be null");
+    Objects.requireNonNull(function, "function cannot be null");
+    return new ParallelMapObjectStream<>(stream, function, threads);
+  }
+
+  /**
+   * Creates an {@link ObjectStream} which groups the elements of {@code stream}
+   * into {@link List lists} of {@code batchSize} elements. The last batch
+   * may contain fewer elements.
+   *
+   * @param stream The {@link ObjectStream} to read in batches. Must not be {@code null}.
+   * @param batchSize The maximum number of elements per batch. Must be greater than {@code 0}.
+   * @param <T> The generic type of the elements in the {@code stream}.
+   *
+   * @return The {@link ObjectStream} over the batches.
+   * @throws IllegalArgumentException Thrown if {@code batchSize} is not greater than {@code 0}.
+   */
+  public static <T> ObjectStream<List<T>> batch(final ObjectStream<T> stream, final int batchSize) {
+    Objects.requireNonNull(stream, "stream cannot be null");
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("batchSize must be greater than 0, but was " + batchSize);
+    }
+
+    return new ObjectStream<>() {
+
+      @Override
+      public List<T> read() throws IOException {
+        List<T> batch = new ArrayList<>(batchSize);
+
+        T object;
+        while (batch.size() < batchSize && (object = stream.read()) != null) {
+          batch.add(object);
+        }
+
+        return batch.isEmpty() ? null : batch;
+      }
+
+      @Override
+      public void reset() throws IOException, UnsupportedOperationException {
+        stream.reset();
+      }
+
+      @Override
+      public void close() throws IOException {
+        stream.close();
+      }
+    };
+  }
 }
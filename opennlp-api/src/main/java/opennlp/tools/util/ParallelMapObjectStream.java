@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * An {@link ObjectStream} which applies a {@link ObjectStreamUtils.MapFunction} to the
+ * samples of an underlying stream on several threads and returns the results in the order
+ * of the underlying stream.
+ * <p>
+ * The underlying stream is only read from the calling thread. At most
+ * {@code 2 * threads} samples are mapped ahead of the caller. Results which are
+ * {@code null} are skipped. The worker threads are released once the underlying
+ * stream is exhausted or fails, or the stream is {@link #reset() reset} or {@link #close() closed}.
+ * A failure of the underlying stream is rethrown by {@link #read()} after the samples which
+ * were read before it.
+ *
+ * @param <S> The generic type of the samples of the underlying stream.
+ * @param <T> The generic type of the mapped samples.
+ *
+ * @see ObjectStreamUtils#parallelMap(ObjectStream, ObjectStreamUtils.MapFunction, int)
+ */
+class ParallelMapObjectStream<S, T> implements ObjectStream<T> {
+
+  private static final ThreadFactory THREAD_FACTORY =
+      Thread.ofPlatform().daemon().name("opennlp-parallel-map-", 0).factory();
+
+  private final ObjectStream<S> samples;
+
+  private final ObjectStreamUtils.MapFunction<S, T> function;
+
+  private final int threads;
+
+  private final Deque<Future<T>> pending;
+
+  private ExecutorService executor;
+
+  private boolean exhausted;
+
+  ParallelMapObjectStream(ObjectStream<S> samples, ObjectStreamUtils.MapFunction<S, T> function,
+                          int threads) {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be greater than 0, but was " + threads);
+    }
+    this.samples = samples;
+    this.function = function;
+    this.threads = threads;
+    this.pending = new ArrayDeque<>(2 * threads);
+  }
+
+  @Override
+  public T read() throws IOException {
+    while (true) {
+      fill();
+
+      Future<T> next = pending.poll();
+      if (next == null) {
+        shutdown();
+        return null;
+      }
+
+      T result = get(next);
+      if (result != null) {
+        return result;
+      }
+    }
+  }
+
+  private void fill() throws IOException {
+    while (!exhausted && pending.size() < 2 * threads) {
+      S sample;
+      try {
+        sample = samples.read();
+      } catch (IOException | RuntimeException | Error e) {
+        // surface the failure in stream order and release the worker threads once the
+        // samples read so far are mapped, the caller might not close this stream
+        pending.add(CompletableFuture.failedFuture(e));
+        exhausted = true;
+        shutdown();
+        return;
+      }
+      if (sample == null) {
+        exhausted = true;
+      } else {
+        if (executor == null) {
+          executor = Executors.newFixedThreadPool(threads, THREAD_FACTORY);
+        }
+        pending.add(executor.submit(() -> function.apply(sample)));
+      }
+    }
+  }
+
+  private T get(Future<T> future) throws IOException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      cancel();
+      throw new InterruptedIOException("Interrupted while waiting for the next sample");
+    } catch (ExecutionException e) {
+      cancel();
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException ioe) {
+        throw ioe;
+      } else if (cause instanceof RuntimeException re) {
+        throw re;
+      } else if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  private void cancel() {
+    for (Future<T> future : pending) {
+      future.cancel(false);
+    }
+    pending.clear();
+    exhausted = true;
+    shutdown();
+  }
+
+  private void shutdown() {
+    if (executor != null) {
+      executor.shutdown();
+      executor = null;
+    }
+  }
+
+  @Override
+  public void reset() throws IOException, UnsupportedOperationException {
+    cancel();
+    exhausted = false;
+    samples.reset();
+  }
+
+  @Override
+  public void close() throws IOException {
+    cancel();
+    samples.close();
+  }
+}
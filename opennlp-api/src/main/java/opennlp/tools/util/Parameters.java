@@ -31,6 +31,25 @@ public interface Parameters {
   String CUTOFF_PARAM = "Cutoff";
   String THREADS_PARAM = "Threads";
 
+  /**
+   * The number of iterations to continue for if the training starts from an
+   * {@link TrainingConfiguration#initialModel() initial model}. If not set,
+   * the {@link #ITERATIONS_PARAM} value is used.
+   */
+  String WARM_START_ITERATIONS_PARAM = "WarmStartIterations";
+
+  /**
+   * The number of iterations between two evaluations on held-out data, if the trainer
+   * was given held-out data.
+   */
+  String HELD_OUT_INTERVAL_PARAM = "HeldOutInterval";
+
+  /**
+   * The number of held-out evaluations without an improvement of the held-out accuracy
+   * after which the training stops.
+   */
+  String HELD_OUT_PATIENCE_PARAM = "HeldOutPatience";
+
   String ALGORITHM_DEFAULT_VALUE = AlgorithmType.MAXENT.getAlgorithmType();
 
   /**
@@ -41,6 +60,14 @@ public interface Parameters {
    * The default cut off value is 5.
    */
   int CUTOFF_DEFAULT_VALUE = 5;
+  /**
+   * By default, the held-out data is evaluated after every iteration.
+   */
+  int HELD_OUT_INTERVAL_DEFAULT_VALUE = 1;
+  /**
+   * By default, the training stops after 5 held-out evaluations without improvement.
+   */
+  int HELD_OUT_PATIENCE_DEFAULT_VALUE = 5;
 
   /**
    * @param namespace The namespace used as prefix or {@code null}.
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An {@link ObjectStream} which reads the samples of an underlying stream ahead on a
+ * background thread and buffers them in a bounded queue.
+ * <p>
+ * The background thread is started on the first call to {@link #read()}. Exceptions
+ * thrown by the underlying stream are rethrown by {@link #read()} in the order in which
+ * they occurred. {@link #reset()} and {@link #close()} stop the background thread before
+ * they are forwarded to the underlying stream.
+ *
+ * @param <T> The generic type of samples.
+ *
+ * @see ObjectStreamUtils#prefetch(ObjectStream, int)
+ */
+class PrefetchingObjectStream<T> implements ObjectStream<T> {
+
+  private static final ThreadFactory THREAD_FACTORY =
+      Thread.ofPlatform().daemon().name("opennlp-prefetch-", 0).factory();
+
+  private static final Object END_OF_STREAM = new Object();
+
+  private static final long OFFER_TIMEOUT_MILLIS = 50;
+
+  private record Failure(Throwable cause) {
+  }
+
+  private final ObjectStream<T> samples;
+
+  private final BlockingQueue<Object> queue;
+
+  private Thread producer;
+
+  private volatile boolean stopped;
+
+  private boolean exhausted;
+
+  PrefetchingObjectStream(ObjectStream<T> samples, int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be greater than 0, but was " + capacity);
+    }
+    this.samples = samples;
+    this.queue = new ArrayBlockingQueue<>(capacity);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T read() throws IOException {
+    if (exhausted) {
+      return null;
+    }
+
+    if (producer == null) {
+      stopped = false;
+      producer = THREAD_FACTORY.newThread(this::produce);
+      producer.start();
+    }
+
+    Object next;
+    try {
+      next = queue.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the next sample");
+    }
+
+    if (next == END_OF_STREAM) {
+      exhausted = true;
+      return null;
+    }
+
+    if (next instanceof Failure failure) {
+      exhausted = true;
+      Throwable cause = failure.cause();
+      if (cause instanceof IOException ioe) {
+        throw ioe;
+      } else if (cause instanceof RuntimeException re) {
+        throw re;
+      } else if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IOException(cause);
+    }
+
+    return (T) next;
+  }
+
+  private void produce() {
+    try {
+      T sample;
+      while (!stopped && (sample = samples.read()) != null) {
+        if (!enqueue(sample)) {
+          return;
+        }
+      }
+      enqueue(END_OF_STREAM);
+    } catch (Throwable t) {
+      enqueue(new Failure(t));
+    }
+  }
+
+  /*
+   * Waits for free space in the queue, but gives up as soon as the stream is stopped.
+   * The producer is never interrupted, since interrupting a thread which reads from an
+   * interruptible channel would close that channel.
+   */
+  private boolean enqueue(Object element) {
+    try {
+      while (!queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+        if (stopped) {
+          return false;
+        }
+      }
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void stop() throws IOException {
+    if (producer != null) {
+      stopped = true;
+      try {
+        producer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while stopping the prefetch thread");
+      } finally {
+        queue.clear();
+      }
+      producer = null;
+    }
+  }
+
+  @Override
+  public void reset() throws IOException, UnsupportedOperationException {
+    stop();
+    exhausted = false;
+    samples.reset();
+  }
+
+  @Override
+  public void close() throws IOException {
+    stop();
+    exhausted = true;
+    samples.close();
+  }
+}
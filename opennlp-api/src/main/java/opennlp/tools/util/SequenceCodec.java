@@ -38,6 +38,21 @@ public interface SequenceCodec<T> {
    */
   Span[] decode(List<T> c);
 
+  /**
+   * Decodes a sequence of {@link T objects} into a reusable {@link SpanBuffer},
+   * which is cleared first.
+   * <p>
+   * The default implementation adapts {@link #decode(List)}, implementations
+   * should override it to write into the buffer directly.
+   *
+   * @param c A list of {@link T} to decode.
+   * @param spans The {@link SpanBuffer} to receive the decoded elements in {@code c}.
+   */
+  default void decode(List<T> c, SpanBuffer spans) {
+    spans.clear();
+    spans.addAll(decode(c));
+  }
+
   /**
    * Encodes {@link Span} objects into a sequence of {@link T objects}.
    *
@@ -0,0 +1,374 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A reusable, growable list of spans, stored in parallel primitive arrays instead of one
+ * {@link Span} object per span. It is filled by the {@code SpanBuffer} variants of the
+ * annotation APIs, for instance
+ * {@link opennlp.tools.tokenize.Tokenizer#tokenizePos(String, SpanBuffer)}, which avoids
+ * allocating objects on high-volume code paths.
+ * <p>
+ * The span types are stored as {@code int} ids. Each distinct type is assigned an id by this
+ * buffer the first time it is added, the ids are stable across {@link #clear()}, so they can
+ * be compared between calls. A span without a type has the id {@link #NO_TYPE}.
+ * <p>
+ * Note: This class is not thread-safe.
+ *
+ * @see Span
+ */
+public class SpanBuffer {
+
+  /**
+   * The type id of a span without type.
+   */
+  public static final int NO_TYPE = -1;
+
+  private static final int DEFAULT_CAPACITY = 16;
+  // up to this number of types a region is looked up by comparing the chars
+  private static final int MAX_LINEAR_TYPE_LOOKUP = 16;
+
+  private int[] starts;
+  private int[] ends;
+  private int[] typeIds;
+  private double[] probs;
+  private int size;
+
+  private String[] types = new String[4];
+  private int typeCount;
+  private final Map<String, Integer> typeIndex = new HashMap<>();
+
+  /**
+   * Initializes an empty {@link SpanBuffer}.
+   */
+  public SpanBuffer() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Initializes an empty {@link SpanBuffer}.
+   *
+   * @param initialCapacity The number of spans which can be added before the buffer grows.
+   *                        Must not be negative.
+   * @throws IllegalArgumentException Thrown if {@code initialCapacity} is negative.
+   */
+  public SpanBuffer(int initialCapacity) {
+    if (initialCapacity < 0) {
+      throw new IllegalArgumentException("initialCapacity must not be negative: " + initialCapacity);
+    }
+    starts = new int[initialCapacity];
+    ends = new int[initialCapacity];
+    typeIds = new int[initialCapacity];
+    probs = new double[initialCapacity];
+  }
+
+  /**
+   * Removes all spans. The arrays and the type ids are kept for reuse.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * @return The number of spans in this buffer.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * @return {@code true} if this buffer contains no spans, {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds a span without type and probability.
+   *
+   * @param start The start offset. Must be equal to or greater than {@code 0}.
+   * @param end The end offset. Must not be smaller than {@code start}.
+   * @throws IllegalArgumentException Thrown if the offsets are invalid.
+   */
+  public void add(int start, int end) {
+    add(start, end, NO_TYPE, 0d);
+  }
+
+  /**
+   * Adds a span without type.
+   *
+   * @param start The start offset. Must be equal to or greater than {@code 0}.
+   * @param end The end offset. Must not be smaller than {@code start}.
+   * @param prob The probability of the span.
+   * @throws IllegalArgumentException Thrown if the offsets are invalid.
+   */
+  public void add(int start, int end, double prob) {
+    add(start, end, NO_TYPE, prob);
+  }
+
+  /**
+   * Adds a span.
+   *
+   * @param start The start offset. Must be equal to or greater than {@code 0}.
+   * @param end The end offset. Must not be smaller than {@code start}.
+   * @param type The type of the span, may be {@code null}.
+   * @param prob The probability of the span.
+   * @throws IllegalArgumentException Thrown if the offsets are invalid.
+   */
+  public void add(int start, int end, String type, double prob) {
+    add(start, end, getTypeId(type), prob);
+  }
+
+  /**
+   * Adds a span.
+   *
+   * @param start The start offset. Must be equal to or greater than {@code 0}.
+   * @param end The end offset. Must not be smaller than {@code start}.
+   * @param typeId The type id of the span, as retrieved from {@link #getTypeId(String)},
+   *               or {@link #NO_TYPE}.
+   * @param prob The probability of the span.
+   * @throws IllegalArgumentException Thrown if the offsets or the {@code typeId} are invalid.
+   */
+  public void add(int start, int end, int typeId, double prob) {
+    if (start < 0 || start > end) {
+      throw new IllegalArgumentException("invalid span offsets: start=" + start + ", end=" + end);
+    }
+    if (typeId < NO_TYPE || typeId >= typeCount) {
+      throw new IllegalArgumentException("unknown type id: " + typeId);
+    }
+    if (size == starts.length) {
+      final int capacity = Math.max(DEFAULT_CAPACITY, size + (size >> 1));
+      starts = Arrays.copyOf(starts, capacity);
+      ends = Arrays.copyOf(ends, capacity);
+      typeIds = Arrays.copyOf(typeIds, capacity);
+      probs = Arrays.copyOf(probs, capacity);
+    }
+    starts[size] = start;
+    ends[size] = end;
+    typeIds[size] = typeId;
+    probs[size] = prob;
+    size++;
+  }
+
+  /**
+   * Adds a {@link Span}.
+   *
+   * @param span The {@link Span} to add. Must not be {@code null}.
+   */
+  public void add(Span span) {
+    add(span.getStart(), span.getEnd(), span.getType(), span.getProb());
+  }
+
+  /**
+   * Adds all {@link Span spans} of an array.
+   *
+   * @param spans The {@link Span spans} to add. Must not be {@code null}.
+   */
+  public void addAll(Span[] spans) {
+    for (Span span : spans) {
+      add(span);
+    }
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @return The start offset of the span.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public int getStart(int index) {
+    return starts[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @return The end offset of the span.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public int getEnd(int index) {
+    return ends[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @return The length of the span.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public int length(int index) {
+    return ends[Objects.checkIndex(index, size)] - starts[index];
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @return The type id of the span, or {@link #NO_TYPE}.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public int getTypeId(int index) {
+    return typeIds[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @return The type of the span, or {@code null} if it has none.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public String getType(int index) {
+    return getTypeName(getTypeId(index));
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @return The probability of the span.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public double getProb(int index) {
+    return probs[Objects.checkIndex(index, size)];
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @param prob The probability of the span.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public void setProb(int index, double prob) {
+    probs[Objects.checkIndex(index, size)] = prob;
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @param text The text the span offsets refer to.
+   * @return The part of {@code text} covered by the span.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range,
+   *         or the span is outside of {@code text}.
+   */
+  public CharSequence getCoveredText(int index, CharSequence text) {
+    return text.subSequence(getStart(index), ends[index]);
+  }
+
+  /**
+   * Retrieves the id of a type, and assigns the next id if the type was not seen before.
+   *
+   * @param type The type, may be {@code null}.
+   * @return The id of the {@code type}, or {@link #NO_TYPE} if it is {@code null}.
+   */
+  public int getTypeId(String type) {
+    if (type == null) {
+      return NO_TYPE;
+    }
+    final Integer id = typeIndex.get(type);
+    return id != null ? id : addType(type);
+  }
+
+  /**
+   * Retrieves the id of a type given by a region of a {@link CharSequence}, and assigns the
+   * next id if the type was not seen before. For a small number of types, the region is not
+   * copied into a {@link String}.
+   *
+   * @param text The text which contains the type.
+   * @param start The start offset of the type in {@code text}.
+   * @param end The end offset of the type in {@code text}.
+   * @return The id of the type.
+   * @throws IndexOutOfBoundsException Thrown if the region is outside of {@code text}.
+   */
+  public int getTypeId(CharSequence text, int start, int end) {
+    Objects.checkFromToIndex(start, end, text.length());
+    if (typeCount > MAX_LINEAR_TYPE_LOOKUP) {
+      return getTypeId(text.subSequence(start, end).toString());
+    }
+    final int length = end - start;
+    for (int id = 0; id < typeCount; id++) {
+      final String type = types[id];
+      if (type.length() == length && regionEquals(type, text, start)) {
+        return id;
+      }
+    }
+    return addType(text.subSequence(start, end).toString());
+  }
+
+  private static boolean regionEquals(String type, CharSequence text, int start) {
+    for (int i = 0; i < type.length(); i++) {
+      if (type.charAt(i) != text.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int addType(String type) {
+    if (typeCount == types.length) {
+      types = Arrays.copyOf(types, 2 * typeCount);
+    }
+    types[typeCount] = type;
+    typeIndex.put(type, typeCount);
+    return typeCount++;
+  }
+
+  /**
+   * @param typeId A type id of this buffer, or {@link #NO_TYPE}.
+   * @return The type with the id, or {@code null} for {@link #NO_TYPE}.
+   * @throws IndexOutOfBoundsException Thrown if {@code typeId} is unknown.
+   */
+  public String getTypeName(int typeId) {
+    return typeId == NO_TYPE ? null : types[Objects.checkIndex(typeId, typeCount)];
+  }
+
+  /**
+   * @return The number of distinct types which were assigned an id.
+   */
+  public int getTypeCount() {
+    return typeCount;
+  }
+
+  /**
+   * @param index The index of the span, between {@code 0} and {@link #size()} (exclusive).
+   * @return A {@link Span} with the offsets, type and probability of the span.
+   * @throws IndexOutOfBoundsException Thrown if {@code index} is out of range.
+   */
+  public Span getSpan(int index) {
+    return new Span(getStart(index), ends[index], getTypeName(typeIds[index]), probs[index]);
+  }
+
+  /**
+   * @return The spans of this buffer as {@link Span} array, the adapter to the
+   *         {@link Span}-based APIs.
+   */
+  public Span[] toSpans() {
+    final Span[] spans = new Span[size];
+    for (int i = 0; i < size; i++) {
+      spans[i] = getSpan(i);
+    }
+    return spans;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("[");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(getSpan(i));
+    }
+    return sb.append(']').toString();
+  }
+}
@@ -17,6 +17,7 @@
 
 package opennlp.tools.util;
 
+import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.monitoring.StopCriteria;
 import opennlp.tools.monitoring.TrainingProgressMonitor;
 
@@ -24,5 +25,19 @@ import opennlp.tools.monitoring.TrainingProgressMonitor;
  * Configuration used for model training.
  * @param progMon {@link TrainingProgressMonitor} used to monitor the training progress.
  * @param stopCriteria {@link StopCriteria} used to abort training when the criteria is met.
+ * @param initialModel An existing {@link MaxentModel} whose parameters are used as the starting point
+ *                     of the training, or {@code null} to start from zero weights.
  */
-public record TrainingConfiguration(TrainingProgressMonitor progMon, StopCriteria<Double> stopCriteria) {}
+public record TrainingConfiguration(TrainingProgressMonitor progMon, StopCriteria<Double> stopCriteria,
+                                    MaxentModel initialModel) {
+
+  /**
+   * Initializes a {@link TrainingConfiguration} without an initial model.
+   *
+   * @param progMon {@link TrainingProgressMonitor} used to monitor the training progress.
+   * @param stopCriteria {@link StopCriteria} used to abort training when the criteria is met.
+   */
+  public TrainingConfiguration(TrainingProgressMonitor progMon, StopCriteria<Double> stopCriteria) {
+    this(progMon, stopCriteria, null);
+  }
+}
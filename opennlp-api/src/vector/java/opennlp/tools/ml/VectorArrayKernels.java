@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link ArrayKernels} implemented on the incubating Vector API, using the preferred
+ * (widest) species of the running CPU. The remainder of each loop is computed scalar.
+ * The gain comes from the reductions and the exponentials, which the JIT compiler
+ * does not vectorize on its own, as doing so changes the order of floating point additions.
+ * <p>
+ * <b>Note:</b>
+ * This class must only be loaded if {@code jdk.incubator.vector} is present at runtime,
+ * see {@link ArrayKernels#create()}.
+ */
+final class VectorArrayKernels implements ArrayKernels {
+
+  private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+  @Override
+  public double innerProduct(double[] a, double[] b) {
+    final int bound = SPECIES.loopBound(a.length);
+    DoubleVector acc = DoubleVector.zero(SPECIES);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      acc = acc.add(DoubleVector.fromArray(SPECIES, a, i).mul(DoubleVector.fromArray(SPECIES, b, i)));
+    }
+    double product = acc.reduceLanes(VectorOperators.ADD);
+    for (; i < a.length; i++) {
+      product += a[i] * b[i];
+    }
+    return product;
+  }
+
+  @Override
+  public double l1norm(double[] v) {
+    final int bound = SPECIES.loopBound(v.length);
+    DoubleVector acc = DoubleVector.zero(SPECIES);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      acc = acc.add(DoubleVector.fromArray(SPECIES, v, i).abs());
+    }
+    double norm = acc.reduceLanes(VectorOperators.ADD);
+    for (; i < v.length; i++) {
+      norm += StrictMath.abs(v[i]);
+    }
+    return norm;
+  }
+
+  @Override
+  public void axpy(double a, double[] x, double[] y) {
+    // element-wise loops without reduction are auto-vectorized by C2 already,
+    // an explicit Vector API loop measured slower
+    for (int i = 0; i < x.length; i++) {
+      y[i] += a * x[i];
+    }
+  }
+
+  @Override
+  public double sumOfExps(double[] x, int length, double shift) {
+    final int bound = SPECIES.loopBound(length);
+    DoubleVector acc = DoubleVector.zero(SPECIES);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      acc = acc.add(DoubleVector.fromArray(SPECIES, x, i).sub(shift).lanewise(VectorOperators.EXP));
+    }
+    double sum = acc.reduceLanes(VectorOperators.ADD);
+    for (; i < length; i++) {
+      sum += StrictMath.exp(x[i] - shift);
+    }
+    return sum;
+  }
+
+  @Override
+  public double expInPlace(double[] x, int length, double shift) {
+    final int bound = SPECIES.loopBound(length);
+    DoubleVector acc = DoubleVector.zero(SPECIES);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      final DoubleVector e = DoubleVector.fromArray(SPECIES, x, i).sub(shift).lanewise(VectorOperators.EXP);
+      e.intoArray(x, i);
+      acc = acc.add(e);
+    }
+    double sum = acc.reduceLanes(VectorOperators.ADD);
+    for (; i < length; i++) {
+      x[i] = StrictMath.exp(x[i] - shift);
+      sum += x[i];
+    }
+    return sum;
+  }
+}
@@ -34,6 +34,8 @@ import opennlp.tools.cmdline.chunker.ChunkerEvaluatorTool;
 import opennlp.tools.cmdline.chunker.ChunkerMETool;
 import opennlp.tools.cmdline.chunker.ChunkerTrainerTool;
 import opennlp.tools.cmdline.dictionary.DictionaryBuilderTool;
+import opennlp.tools.cmdline.dictionary.DictionaryFromBinaryTool;
+import opennlp.tools.cmdline.dictionary.DictionaryToBinaryTool;
 import opennlp.tools.cmdline.doccat.DoccatConverterTool;
 import opennlp.tools.cmdline.doccat.DoccatCrossValidatorTool;
 import opennlp.tools.cmdline.doccat.DoccatEvaluatorTool;
@@ -120,6 +122,8 @@ public final class CLI {
 
     // Dictionary Builder
     tools.add(new DictionaryBuilderTool());
+    tools.add(new DictionaryToBinaryTool());
+    tools.add(new DictionaryFromBinaryTool());
 
     // Tokenizer
     tools.add(new SimpleTokenizerTool());
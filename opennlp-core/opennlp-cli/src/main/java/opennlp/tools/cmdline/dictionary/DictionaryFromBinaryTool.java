@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.cmdline.dictionary;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import opennlp.tools.cmdline.BasicCmdLineTool;
+import opennlp.tools.cmdline.CmdLineUtil;
+import opennlp.tools.cmdline.TerminateToolException;
+import opennlp.tools.dictionary.Dictionary;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat;
+import opennlp.tools.ngram.NGramModel;
+import opennlp.tools.postag.CompactTagDictionary;
+import opennlp.tools.postag.POSDictionary;
+
+/**
+ * Converts a binary dictionary, n-gram model or tag dictionary back into the XML format.
+ * The type of the dictionary is read from the header of the binary file, tag dictionaries
+ * are stored in the binary format of the {@link CompactTagDictionary}.
+ *
+ * @see DictionaryToBinaryTool
+ */
+public class DictionaryFromBinaryTool extends BasicCmdLineTool {
+
+  interface Params extends BinaryDictionaryParams {
+  }
+
+  @Override
+  public String getShortDescription() {
+    return "Converts a binary dictionary, n-gram model or tag dictionary into the XML format";
+  }
+
+  @Override
+  public String getHelp() {
+    return getBasicHelp(Params.class);
+  }
+
+  @Override
+  public void run(String[] args) {
+    Params params = validateAndParseParams(args, Params.class);
+
+    File dictInFile = params.getInputFile();
+    File dictOutFile = params.getOutputFile();
+
+    CmdLineUtil.checkInputFile("dictionary input file", dictInFile);
+    CmdLineUtil.checkOutputFile("dictionary output file", dictOutFile);
+
+    Path dictIn = dictInFile.toPath();
+
+    try {
+      final byte[] header;
+      try (InputStream in = Files.newInputStream(dictIn)) {
+        header = in.readNBytes(Integer.BYTES);
+      }
+
+      if (CompactTagDictionary.isCompactTagDictionary(header)) {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dictOutFile.toPath()))) {
+          POSDictionary.create(dictIn).serialize(out);
+        }
+        return;
+      }
+
+      BinaryDictionaryFormat.Kind kind = BinaryDictionaryFormat.readKind(dictIn);
+
+      try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dictOutFile.toPath()))) {
+        switch (kind) {
+          case DICTIONARY -> new Dictionary(dictIn).serialize(out);
+          case NGRAM_MODEL -> new NGramModel(dictIn).serialize(out);
+        }
+      }
+    } catch (IOException e) {
+      throw new TerminateToolException(-1, "IO error while converting the dictionary: "
+          + e.getMessage(), e);
+    }
+  }
+}
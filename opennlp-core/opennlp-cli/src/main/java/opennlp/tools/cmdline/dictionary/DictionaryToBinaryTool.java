@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.cmdline.dictionary;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import opennlp.tools.cmdline.ArgumentParser.OptionalParameter;
+import opennlp.tools.cmdline.ArgumentParser.ParameterDescription;
+import opennlp.tools.cmdline.BasicCmdLineTool;
+import opennlp.tools.cmdline.CmdLineUtil;
+import opennlp.tools.cmdline.TerminateToolException;
+import opennlp.tools.dictionary.Dictionary;
+import opennlp.tools.ngram.NGramModel;
+import opennlp.tools.postag.POSDictionary;
+
+/**
+ * Converts an XML dictionary, n-gram model or tag dictionary into the binary format.
+ *
+ * @see DictionaryFromBinaryTool
+ */
+public class DictionaryToBinaryTool extends BasicCmdLineTool {
+
+  interface Params extends BinaryDictionaryParams {
+
+    @ParameterDescription(valueName = "dictionary|ngram|tagdict",
+        description = "the type of the dictionary, default is dictionary.")
+    @OptionalParameter(defaultValue = "dictionary")
+    String getType();
+  }
+
+  @Override
+  public String getShortDescription() {
+    return "Converts an XML dictionary, n-gram model or tag dictionary into the binary format";
+  }
+
+  @Override
+  public String getHelp() {
+    return getBasicHelp(Params.class);
+  }
+
+  @Override
+  public void run(String[] args) {
+    Params params = validateAndParseParams(args, Params.class);
+
+    File dictInFile = params.getInputFile();
+    File dictOutFile = params.getOutputFile();
+
+    CmdLineUtil.checkInputFile("dictionary input file", dictInFile);
+    CmdLineUtil.checkOutputFile("dictionary output file", dictOutFile);
+
+    String type = params.getType();
+    if (!"dictionary".equals(type) && !"ngram".equals(type) && !"tagdict".equals(type)) {
+      throw new TerminateToolException(1, "Unknown dictionary type: " + type);
+    }
+
+    Path dictIn = dictInFile.toPath();
+
+    try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(dictOutFile.toPath()))) {
+      switch (type) {
+        case "ngram" -> new NGramModel(dictIn).serializeBinary(out);
+        case "tagdict" -> POSDictionary.create(dictIn).serializeBinary(out);
+        default -> new Dictionary(dictIn).serializeBinary(out);
+      }
+    } catch (IOException e) {
+      throw new TerminateToolException(-1, "IO error while converting the dictionary: "
+          + e.getMessage(), e);
+    }
+  }
+}
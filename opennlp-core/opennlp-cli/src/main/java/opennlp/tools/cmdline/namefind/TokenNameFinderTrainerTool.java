@@ -175,11 +175,19 @@ public final class TokenNameFinderTrainerTool
     NameSampleCountersStream counters = new NameSampleCountersStream(sampleStream);
     sampleStream = counters;
 
+    TokenNameFinderModel initialModel = null;
+    if (params.getInitialModel() != null) {
+      initialModel = new TokenNameFinderModelLoader().load(params.getInitialModel());
+    }
+
     TokenNameFinderModel model;
     try {
       model = opennlp.tools.namefind.NameFinderME.train(
           params.getLang(), params.getType(), sampleStream, mlParams,
-          nameFinderFactory);
+          nameFinderFactory, initialModel);
+    }
+    catch (IllegalArgumentException e) {
+      throw new TerminateToolException(1, e.getMessage(), e);
     }
     catch (IOException e) {
       throw createTerminationIOException(e);
@@ -55,4 +55,9 @@ interface TrainingParams extends BasicTrainingParams {
   @ParameterDescription(valueName = "factoryName", description = "A sub-class of TokenNameFinderFactory")
   @OptionalParameter
   String getFactory();
+
+  @ParameterDescription(valueName = "modelFile",
+      description = "An existing name finder model to continue the training from")
+  @OptionalParameter
+  File getInitialModel();
 }
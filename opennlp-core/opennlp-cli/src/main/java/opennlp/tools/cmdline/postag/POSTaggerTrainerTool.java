@@ -122,10 +122,18 @@ public final class POSTaggerTrainerTool
       }
     }
 
+    POSModel initialModel = null;
+    if (params.getInitialModel() != null) {
+      initialModel = new POSModelLoader().load(params.getInitialModel());
+    }
+
     POSModel model;
     try {
       model = opennlp.tools.postag.POSTaggerME.train(params.getLang(),
-          sampleStream, mlParams, postaggerFactory);
+          sampleStream, mlParams, postaggerFactory, initialModel);
+    }
+    catch (IllegalArgumentException e) {
+      throw new TerminateToolException(1, e.getMessage(), e);
     }
     catch (IOException e) {
       throw createTerminationIOException(e);
@@ -52,4 +52,9 @@ interface TrainingParams extends BasicTrainingParams {
       description = "A sub-class of POSTaggerFactory where to get implementation and resources.")
   @OptionalParameter
   String getFactory();
+
+  @ParameterDescription(valueName = "modelFile",
+      description = "An existing pos tagger model to continue the training from")
+  @OptionalParameter
+  File getInitialModel();
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.cmdline.dictionary;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import opennlp.tools.cmdline.TerminateToolException;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat;
+import opennlp.tools.ngram.NGramModel;
+import opennlp.tools.postag.CompactTagDictionary;
+import opennlp.tools.postag.POSDictionary;
+import opennlp.tools.util.StringList;
+
+/**
+ * Tests for the {@link DictionaryToBinaryTool} and {@link DictionaryFromBinaryTool} classes.
+ */
+public class DictionaryBinaryToolsTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  void testNGramModelRoundTrip() throws IOException {
+    NGramModel reference = new NGramModel();
+    reference.add(new StringList("the", "brown", "fox"), 1, 3);
+
+    Path xml = tempDir.resolve("ngram.xml");
+    try (OutputStream out = Files.newOutputStream(xml)) {
+      reference.serialize(out);
+    }
+
+    Path binary = tempDir.resolve("ngram.bin");
+    new DictionaryToBinaryTool().run(new String[] {"-type", "ngram",
+        "-inputFile", xml.toString(), "-outputFile", binary.toString()});
+
+    Assertions.assertEquals(BinaryDictionaryFormat.Kind.NGRAM_MODEL,
+        BinaryDictionaryFormat.readKind(binary));
+
+    Path converted = tempDir.resolve("converted.xml");
+    new DictionaryFromBinaryTool().run(new String[] {
+        "-inputFile", binary.toString(), "-outputFile", converted.toString()});
+
+    Assertions.assertFalse(BinaryDictionaryFormat.isBinaryDictionary(converted));
+    Assertions.assertEquals(reference, new NGramModel(converted));
+  }
+
+  @Test
+  void testTagDictionaryRoundTrip() throws IOException {
+    POSDictionary reference = new POSDictionary(false);
+    reference.put("Always", "RB", "NNP");
+    reference.put("fox", "NN");
+
+    Path xml = tempDir.resolve("tags.xml");
+    try (OutputStream out = Files.newOutputStream(xml)) {
+      reference.serialize(out);
+    }
+
+    Path binary = tempDir.resolve("tags.bin");
+    new DictionaryToBinaryTool().run(new String[] {"-type", "tagdict",
+        "-inputFile", xml.toString(), "-outputFile", binary.toString()});
+
+    Assertions.assertTrue(CompactTagDictionary.isCompactTagDictionary(Files.readAllBytes(binary)));
+
+    Path converted = tempDir.resolve("converted.xml");
+    new DictionaryFromBinaryTool().run(new String[] {
+        "-inputFile", binary.toString(), "-outputFile", converted.toString()});
+
+    POSDictionary recreated = POSDictionary.create(converted);
+    Assertions.assertFalse(recreated.isBinaryFormat());
+    Assertions.assertEquals(reference, recreated);
+  }
+
+  @Test
+  void testUnknownType() throws IOException {
+    Path xml = tempDir.resolve("dict.xml");
+    Files.writeString(xml, "<dictionary/>");
+
+    Assertions.assertThrows(TerminateToolException.class, () -> new DictionaryToBinaryTool().run(
+        new String[] {"-type", "unknown", "-inputFile", xml.toString(),
+            "-outputFile", tempDir.resolve("dict.bin").toString()}));
+  }
+}
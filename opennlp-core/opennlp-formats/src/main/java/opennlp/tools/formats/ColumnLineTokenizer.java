@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.formats;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import opennlp.tools.util.CharPoolIndex;
+import opennlp.tools.util.jvm.StringInterner;
+import opennlp.tools.util.jvm.StringInterners;
+
+/**
+ * Splits the lines of column based formats, such as CoNLL-U or CoNLL-X, into their fields.
+ * <p>
+ * A tokenizer is reused for all lines of a stream: it only records the bounds of the
+ * fields of the current line, and fields are materialized on request. Recurring values,
+ * e.g. tags or ids, can be retrieved with {@link #getInternedField(int)}, which returns
+ * the instance of a {@link StringInterner}. The tokenizer remembers the values it has seen,
+ * so that a value which recurs is returned without copying its characters.
+ * <p>
+ * The fields are the same as the ones of {@link String#split(String)} with the separator:
+ * empty fields are kept, except trailing ones.
+ * <p>
+ * <b>Note:</b> This class is not thread safe.
+ */
+public class ColumnLineTokenizer {
+
+  /**
+   * The component name to configure the {@link StringInterner} for the interned fields,
+   * see {@link StringInterners#getInterner(String)}.
+   */
+  public static final String INTERNER_COMPONENT = "formats.columns";
+
+  /**
+   * The maximum number of values the tokenizer remembers. Values beyond are still interned
+   * by the {@link StringInterner}, but their characters are copied on every occurrence.
+   */
+  private static final int MAX_INTERNED_VALUES = 1 << 16;
+
+  private final char separator;
+  private final StringInterner interner;
+
+  private String text;
+  private int lineStart;
+  private int lineEnd;
+
+  private int[] bounds = new int[32];
+  private int fieldCount;
+
+  private String[] internTable = new String[256];
+  private int internedValues;
+
+  /**
+   * Initializes a {@link ColumnLineTokenizer}.
+   *
+   * @param separator The character which separates the fields of a line.
+   */
+  public ColumnLineTokenizer(char separator) {
+    this(separator, StringInterners.getInterner(INTERNER_COMPONENT));
+  }
+
+  /**
+   * Initializes a {@link ColumnLineTokenizer}.
+   *
+   * @param separator The character which separates the fields of a line.
+   * @param interner The {@link StringInterner} for the interned fields. Must not be {@code null}.
+   */
+  public ColumnLineTokenizer(char separator, StringInterner interner) {
+    this.separator = separator;
+    this.interner = Objects.requireNonNull(interner, "interner must not be null");
+  }
+
+  /**
+   * Splits a line into its fields.
+   *
+   * @param line The line to split. Must not be {@code null}.
+   * @return The number of fields of the {@code line}.
+   */
+  public int tokenize(String line) {
+    return tokenize(line, 0, line.length());
+  }
+
+  /**
+   * Splits a region of a text, e.g. a line of a paragraph, into its fields.
+   *
+   * @param text The text which contains the line. Must not be {@code null}.
+   * @param start The start index of the line, inclusive.
+   * @param end The end index of the line, exclusive.
+   * @return The number of fields of the line.
+   * @throws IndexOutOfBoundsException Thrown if the region is not within {@code text}.
+   */
+  public int tokenize(String text, int start, int end) {
+    if (start < 0 || end > text.length() || start > end) {
+      throw new IndexOutOfBoundsException("Invalid line bounds [" + start + ", " + end + ")");
+    }
+
+    this.text = text;
+    this.lineStart = start;
+    this.lineEnd = end;
+
+    fieldCount = 0;
+    int fieldStart = start;
+    for (int i = start; i < end; i++) {
+      if (text.charAt(i) == separator) {
+        addField(fieldStart, i);
+        fieldStart = i + 1;
+      }
+    }
+    addField(fieldStart, end);
+
+    // like String.split, a line without a separator is a single field,
+    // otherwise trailing empty fields are removed
+    if (fieldCount > 1) {
+      while (fieldCount > 0 && bounds[2 * fieldCount - 2] == bounds[2 * fieldCount - 1]) {
+        fieldCount--;
+      }
+    }
+
+    return fieldCount;
+  }
+
+  private void addField(int start, int end) {
+    if (2 * fieldCount == bounds.length) {
+      bounds = Arrays.copyOf(bounds, 2 * bounds.length);
+    }
+    bounds[2 * fieldCount] = start;
+    bounds[2 * fieldCount + 1] = end;
+    fieldCount++;
+  }
+
+  /**
+   * @return Retrieves the number of fields of the current line.
+   */
+  public int getFieldCount() {
+    return fieldCount;
+  }
+
+  /**
+   * @return Retrieves the current line.
+   */
+  public String getLine() {
+    return text.substring(lineStart, lineEnd);
+  }
+
+  /**
+   * @param index The index of the field, starting at {@code 0}.
+   * @return Retrieves the field at {@code index} as a new {@link String}.
+   * @throws IndexOutOfBoundsException Thrown if the line has no field at {@code index}.
+   */
+  public String getField(int index) {
+    checkIndex(index);
+    return text.substring(bounds[2 * index], bounds[2 * index + 1]);
+  }
+
+  /**
+   * Retrieves the field at {@code index} as a shared instance. Use this method only for
+   * fields with a limited set of recurring values, such as tags, since the configured
+   * {@link StringInterner} may retain every value it is given.
+   *
+   * @param index The index of the field, starting at {@code 0}.
+   * @return Retrieves the field at {@code index}, equal to {@link #getField(int)}.
+   * @throws IndexOutOfBoundsException Thrown if the line has no field at {@code index}.
+   */
+  public String getInternedField(int index) {
+    checkIndex(index);
+
+    int start = bounds[2 * index];
+    int end = bounds[2 * index + 1];
+    int length = end - start;
+
+    int mask = internTable.length - 1;
+    int slot = CharPoolIndex.hash(text, start, end) & mask;
+    String value;
+    while ((value = internTable[slot]) != null) {
+      if (value.length() == length && text.regionMatches(start, value, 0, length)) {
+        return value;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    value = interner.intern(text.substring(start, end));
+    if (internedValues < MAX_INTERNED_VALUES) {
+      internTable[slot] = value;
+      if (++internedValues > internTable.length / 2) {
+        rehash();
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Tests if the field at {@code index} is equal to {@code value} without copying it.
+   *
+   * @param index The index of the field, starting at {@code 0}.
+   * @param value The value to compare with. Must not be {@code null}.
+   * @return {@code true} if the field is equal to {@code value}, {@code false} otherwise.
+   * @throws IndexOutOfBoundsException Thrown if the line has no field at {@code index}.
+   */
+  public boolean fieldEquals(int index, String value) {
+    checkIndex(index);
+    int start = bounds[2 * index];
+    int length = bounds[2 * index + 1] - start;
+    return value.length() == length && text.regionMatches(start, value, 0, length);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= fieldCount) {
+      throw new IndexOutOfBoundsException("Field " + index + " out of bounds for "
+          + fieldCount + " fields");
+    }
+  }
+
+  private void rehash() {
+    String[] oldTable = internTable;
+    internTable = new String[2 * oldTable.length];
+    int mask = internTable.length - 1;
+    for (String value : oldTable) {
+      if (value != null) {
+        int slot = CharPoolIndex.hash(value) & mask;
+        while (internTable[slot] != null) {
+          slot = (slot + 1) & mask;
+        }
+        internTable[slot] = value;
+      }
+    }
+  }
+}
@@ -64,6 +64,7 @@ public class Conll02NameSampleStream implements ObjectStream<NameSample> {
 
   private final LANGUAGE lang;
   private final ObjectStream<String> lineStream;
+  private final ColumnLineTokenizer fields = new ColumnLineTokenizer(' ');
 
   private final int types;
 
@@ -140,15 +141,15 @@ public class Conll02NameSampleStream implements ObjectStream<NameSample> {
         continue;
       }
 
-      String[] fields = line.split(" ");
+      int fieldCount = fields.tokenize(line);
 
-      if (fields.length == 3) {
-        sentence.add(fields[0]);
-        tags.add(fields[2]);
+      if (fieldCount == 3) {
+        sentence.add(fields.getField(0));
+        tags.add(fields.getInternedField(2));
       }
       else {
         throw new IOException("Expected three fields per line in training data, got " +
-            fields.length + " for line '" + line + "'!");
+            fieldCount + " for line '" + line + "'!");
       }
     }
 
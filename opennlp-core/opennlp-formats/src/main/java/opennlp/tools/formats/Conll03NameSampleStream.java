@@ -41,6 +41,7 @@ public class Conll03NameSampleStream implements ObjectStream<NameSample> {
 
   private final LANGUAGE lang;
   private final ObjectStream<String> lineStream;
+  private final ColumnLineTokenizer fields = new ColumnLineTokenizer(' ');
 
   private final int types;
 
@@ -94,17 +95,17 @@ public class Conll03NameSampleStream implements ObjectStream<NameSample> {
         continue;
       }
 
-      String[] fields = line.split(" ");
+      int fieldCount = fields.tokenize(line);
 
       // For English: WORD  POS-TAG SC-TAG NE-TAG
-      if (LANGUAGE.EN.equals(lang) && fields.length == 4) {
-        sentence.add(fields[0]);
-        tags.add(fields[3]); // 3 is NE-TAG
+      if (LANGUAGE.EN.equals(lang) && fieldCount == 4) {
+        sentence.add(fields.getField(0));
+        tags.add(fields.getInternedField(3)); // 3 is NE-TAG
       }
       // For German: WORD  LEMA-TAG POS-TAG SC-TAG NE-TAG
-      else if (LANGUAGE.DE.equals(lang) && fields.length == 5) {
-        sentence.add(fields[0]);
-        tags.add(fields[4]); // 4 is NE-TAG
+      else if (LANGUAGE.DE.equals(lang) && fieldCount == 5) {
+        sentence.add(fields.getField(0));
+        tags.add(fields.getInternedField(4)); // 4 is NE-TAG
       }
       else {
         throw new IOException("Incorrect number of fields per line for language: '" + line + "'!");
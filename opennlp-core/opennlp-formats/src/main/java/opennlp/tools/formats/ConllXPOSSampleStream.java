@@ -17,9 +17,7 @@
 
 package opennlp.tools.formats;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringReader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
@@ -45,6 +43,8 @@ import opennlp.tools.util.PlainTextByLineStream;
 @Internal
 public class ConllXPOSSampleStream extends FilterObjectStream<String, POSSample> {
 
+  private final ColumnLineTokenizer fields = new ColumnLineTokenizer('\t');
+
   /**
    * Initializes a {@link ConllXPOSSampleStream}.
    * 
@@ -82,27 +82,29 @@ public class ConllXPOSSampleStream extends FilterObjectStream<String, POSSample>
 
     if (paragraph != null) {
 
-      // paragraph get lines
-      BufferedReader reader = new BufferedReader(new StringReader(paragraph));
-
       List<String> tokens = new ArrayList<>(100);
       List<String> tags = new ArrayList<>(100);
 
-      String line;
-      while ((line = reader.readLine())  != null) {
+      // paragraph get lines
+      int lineStart = 0;
+      while (lineStart < paragraph.length()) {
+        int lineEnd = paragraph.indexOf('\n', lineStart);
+        if (lineEnd == -1) {
+          lineEnd = paragraph.length();
+        }
 
         final int minNumberOfFields = 5;
 
-        String[] parts = line.split("\t");
-
-        if (parts.length >= minNumberOfFields) {
-          tokens.add(parts[1]);
-          tags.add(parts[4]);
+        if (fields.tokenize(paragraph, lineStart, lineEnd) >= minNumberOfFields) {
+          tokens.add(fields.getField(1));
+          tags.add(fields.getInternedField(4));
         }
         else {
           throw new InvalidFormatException("Every non-empty line must have at least " +
-              minNumberOfFields + " fields: '" + line + "'!");
+              minNumberOfFields + " fields: '" + fields.getLine() + "'!");
         }
+
+        lineStart = lineEnd + 1;
       }
 
       // just skip empty samples and read next sample
@@ -20,17 +20,30 @@ package opennlp.tools.formats;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Stack;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import opennlp.tools.util.ObjectStream;
 
 /**
  * The directory sample stream allows for creating an {@link ObjectStream<File>}
  * from a directory listing of files.
+ * <p>
+ * The directories are traversed lazily: a directory is only listed once the files
+ * before it have been read. The files of a directory are returned before its
+ * subdirectories are visited, depth-first, and the input directories are read from
+ * last to first. By default files and subdirectories are sorted in reverse lexicographic
+ * order, other orders can be passed to
+ * {@link #DirectorySampleStream(File, FileFilter, boolean, Comparator, Comparator)}.
  */
 public class DirectorySampleStream implements ObjectStream<File> {
 
@@ -40,10 +53,20 @@ public class DirectorySampleStream implements ObjectStream<File> {
 
   private final FileFilter fileFilter;
 
-  private final Stack<File> directories = new Stack<>();
+  private final Comparator<File> fileOrder;
+
+  private final Comparator<File> directoryOrder;
+
+  private final Deque<DirectoryListing> listings = new ArrayDeque<>();
+
+  private Iterator<File> inputDirectoryIterator;
+
+  /**
+   * The files and subdirectories of a directory which are not read yet.
+   */
+  private record DirectoryListing(Iterator<File> files, Iterator<File> directories) {
+  }
 
-  private final Stack<File> textFiles = new Stack<>();
-  
   /**
    * Initializes a {@link DirectorySampleStream}.
    *
@@ -54,8 +77,26 @@ public class DirectorySampleStream implements ObjectStream<File> {
    * @throws IllegalArgumentException Thrown if one element in {@code dirs} is not a directory.
    */
   public DirectorySampleStream(File[] dirs, FileFilter fileFilter, boolean recursive) {
+    this(dirs, fileFilter, recursive, Collections.reverseOrder(), Collections.reverseOrder());
+  }
+
+  /**
+   * Initializes a {@link DirectorySampleStream}.
+   *
+   * @param dirs The {@link File directories} to read.
+   * @param fileFilter The {@link FileFilter filter} to apply while enumerating files.
+   * @param recursive Enables or disables recursive file listing.
+   * @param fileOrder The order in which the files of a directory are returned.
+   * @param directoryOrder The order in which the subdirectories of a directory are visited.
+   *
+   * @throws IllegalArgumentException Thrown if one element in {@code dirs} is not a directory.
+   */
+  public DirectorySampleStream(File[] dirs, FileFilter fileFilter, boolean recursive,
+                               Comparator<File> fileOrder, Comparator<File> directoryOrder) {
     this.fileFilter = fileFilter;
     this.recursive = recursive;
+    this.fileOrder = Objects.requireNonNull(fileOrder, "fileOrder must not be null");
+    this.directoryOrder = Objects.requireNonNull(directoryOrder, "directoryOrder must not be null");
 
     List<File> inputDirectoryList = new ArrayList<>(dirs.length);
 
@@ -69,8 +110,8 @@ public class DirectorySampleStream implements ObjectStream<File> {
       inputDirectoryList.add(dir);
     }
 
-    inputDirectories = Collections.unmodifiableList(inputDirectoryList);
-    directories.addAll(inputDirectories);
+    inputDirectories = Collections.unmodifiableList(inputDirectoryList.reversed());
+    inputDirectoryIterator = inputDirectories.iterator();
   }
 
   /**
@@ -86,47 +127,82 @@ public class DirectorySampleStream implements ObjectStream<File> {
     this(new File[]{dir}, fileFilter, recursive);
   }
 
+  /**
+   * Initializes a {@link DirectorySampleStream}.
+   *
+   * @param dir The {@link File directory} to read.
+   * @param fileFilter The {@link FileFilter filter} to apply while enumerating files.
+   * @param recursive Enables or disables recursive file listing.
+   * @param fileOrder The order in which the files of a directory are returned.
+   * @param directoryOrder The order in which the subdirectories of a directory are visited.
+   *
+   * @throws IllegalArgumentException Thrown if {@code dir} is not a directory.
+   */
+  public DirectorySampleStream(File dir, FileFilter fileFilter, boolean recursive,
+                               Comparator<File> fileOrder, Comparator<File> directoryOrder) {
+    this(new File[]{dir}, fileFilter, recursive, fileOrder, directoryOrder);
+  }
+
   @Override
   public File read() throws IOException {
 
-    while (textFiles.isEmpty() && !directories.isEmpty()) {
-      File dir = directories.pop();
-
-      File[] files;
+    while (true) {
+      DirectoryListing listing = listings.peek();
 
-      if (fileFilter != null) {
-        files = dir.listFiles(fileFilter);
+      if (listing == null) {
+        if (!inputDirectoryIterator.hasNext()) {
+          return null;
+        }
+        listings.push(list(inputDirectoryIterator.next()));
+      }
+      else if (listing.files().hasNext()) {
+        return listing.files().next();
+      }
+      else if (listing.directories().hasNext()) {
+        listings.push(list(listing.directories().next()));
       }
       else {
-        files = dir.listFiles();
+        listings.pop();
       }
+    }
+  }
+
+  /**
+   * Lists the files and, if the stream is recursive, the subdirectories of {@code dir}
+   * which are accepted by the {@link FileFilter}.
+   */
+  private DirectoryListing list(File dir) throws IOException {
+    List<File> files = new ArrayList<>();
+    List<File> directories = new ArrayList<>();
 
-      Arrays.sort(files);
+    try (Stream<Path> entries = Files.list(dir.toPath())) {
+      for (Iterator<Path> it = entries.iterator(); it.hasNext(); ) {
+        Path entry = it.next();
+        File file = entry.toFile();
 
-      for (File file : files) {
-        if (file.isFile()) {
-          textFiles.push(file);
+        if (fileFilter != null && !fileFilter.accept(file)) {
+          continue;
         }
-        else if (recursive && file.isDirectory()) {
-          directories.push(file);
+
+        if (Files.isRegularFile(entry)) {
+          files.add(file);
+        }
+        else if (recursive && Files.isDirectory(entry)) {
+          directories.add(file);
         }
       }
     }
 
-    if (!textFiles.isEmpty()) {
-      return textFiles.pop();
-    }
-    else {
-      return null;
-    }
+    files.sort(fileOrder);
+    directories.sort(directoryOrder);
+
+    return new DirectoryListing(files.iterator(), directories.iterator());
   }
 
   @Override
   public void reset() {
-    directories.clear();
-    textFiles.clear();
-
-    directories.addAll(inputDirectories);
+    listings.clear();
+    inputDirectoryIterator = inputDirectories.iterator();
   }
 
   /**
@@ -79,6 +79,7 @@ public class EvalitaNameSampleStream implements ObjectStream<NameSample> {
 
   private final LANGUAGE lang;
   private final ObjectStream<String> lineStream;
+  private final ColumnLineTokenizer fields = new ColumnLineTokenizer(' ');
 
   private final int types;
 
@@ -129,12 +130,10 @@ public class EvalitaNameSampleStream implements ObjectStream<NameSample> {
         continue;
       }
 
-      String[] fields = line.split(" ");
-
       // For Italian: WORD  POS-TAG SC-TAG NE-TAG
-      if (LANGUAGE.IT.equals(lang) && fields.length == 4) {
-        sentence.add(fields[0]);
-        tags.add(fields[3]); // 3 is NE-TAG
+      if (LANGUAGE.IT.equals(lang) && fields.tokenize(line) == 4) {
+        sentence.add(fields.getField(0));
+        tags.add(fields.getInternedField(3)); // 3 is NE-TAG
       }
       else {
         throw new IOException("Incorrect number of fields per line for language: '" + line + "'!");
@@ -77,6 +77,7 @@ public class GermEval2014NameSampleStream implements ObjectStream<NameSample> {
   public static final int GENERATE_MISC_ENTITIES = 0x01 << 3;
 
   private final ObjectStream<String> lineStream;
+  private final ColumnLineTokenizer fields = new ColumnLineTokenizer('\t');
   private final int types;
   private final NerLayer layer;
 
@@ -211,15 +212,15 @@ public class GermEval2014NameSampleStream implements ObjectStream<NameSample> {
         continue;
       }
 
-      final String[] fields = line.split("\t");
+      final int fieldCount = fields.tokenize(line);
 
-      if (fields.length >= 4) {
-        sentence.add(fields[1]);
-        outerTags.add(fields[2]);
-        innerTags.add(fields[3].trim());
+      if (fieldCount >= 4) {
+        sentence.add(fields.getField(1));
+        outerTags.add(fields.getInternedField(2));
+        innerTags.add(fields.getInternedField(3).trim());
       } else {
         throw new IOException("Expected at least four tab-separated fields per line "
-            + "in GermEval 2014 data, got " + fields.length + " for line '" + line + "'!");
+            + "in GermEval 2014 data, got " + fieldCount + " for line '" + line + "'!");
       }
     }
 
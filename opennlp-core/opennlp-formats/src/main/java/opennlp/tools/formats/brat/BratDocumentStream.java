@@ -23,22 +23,32 @@ import java.io.FileFilter;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Stack;
+import java.util.Collections;
+import java.util.Comparator;
 
+import opennlp.tools.formats.DirectorySampleStream;
 import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.ObjectStreamUtils;
 
+/**
+ * Reads the {@link BratDocument brat documents} of a corpus directory.
+ * <p>
+ * The directory is traversed lazily by a {@link DirectorySampleStream}, the files of a
+ * directory are read in ascending lexicographic order before the subdirectories are visited
+ * in descending order. The documents are parsed
+ * ahead of the caller on a bounded number of worker threads. Only a few documents are
+ * held in memory at a time, and they are returned in the order of their {@code .ann} files.
+ */
 public class BratDocumentStream implements ObjectStream<BratDocument> {
 
   private static final String SUFFIX_ANN = ".ann";
   private static final String SUFFIX_TXT = ".txt";
 
+  private static final int DEFAULT_THREADS =
+      Math.min(4, Runtime.getRuntime().availableProcessors());
+
   private final AnnotationConfiguration config;
-  private List<String> documentIds = new LinkedList<>();
-  private Iterator<String> documentIdIterator;
+  private ObjectStream<BratDocument> documents;
 
   /**
    * Creates a {@link BratDocumentStream} which reads the documents from the given input directory.
@@ -53,6 +63,24 @@ public class BratDocumentStream implements ObjectStream<BratDocument> {
    */
   public BratDocumentStream(AnnotationConfiguration config, File bratCorpusDirectory,
       boolean searchRecursive, FileFilter fileFilter) throws IOException {
+    this(config, bratCorpusDirectory, searchRecursive, fileFilter, DEFAULT_THREADS);
+  }
+
+  /**
+   * Creates a {@link BratDocumentStream} which reads the documents from the given input directory.
+   *
+   * @param config the annotation.conf from the brat project as an Annotation Configuration object
+   * @param bratCorpusDirectory the directory containing all the brat training data files
+   * @param searchRecursive specifies if the corpus directory should be traversed recursively
+   *     to find training data files.
+   * @param fileFilter  a custom file filter to filter out certain files or null to accept all files
+   * @param threads the number of threads which parse documents, must be greater than {@code 0}
+   *
+   * @throws IOException if reading from the brat directory fails in any way.
+   * @throws IllegalArgumentException if {@code threads} is not greater than {@code 0}.
+   */
+  public BratDocumentStream(AnnotationConfiguration config, File bratCorpusDirectory,
+      boolean searchRecursive, FileFilter fileFilter, int threads) throws IOException {
 
     if (!bratCorpusDirectory.isDirectory()) {
       throw new IOException("Input corpus directory must be a directory " +
@@ -60,53 +88,51 @@ public class BratDocumentStream implements ObjectStream<BratDocument> {
     }
     this.config = config;
 
-    Stack<File> directoryStack = new Stack<>();
-    directoryStack.add(bratCorpusDirectory);
-    while (!directoryStack.isEmpty()) {
-      final File[] files = directoryStack.pop().listFiles(fileFilter);
-      Arrays.sort(files);
-      for (File file : files) {
-        if (file.isFile()) {
-          String annFilePath = file.getAbsolutePath();
-          if (annFilePath.endsWith(SUFFIX_ANN)) {
-            // cutoff last 4 chars ...
-            String documentId = annFilePath.substring(0, annFilePath.length() - 4);
-            File txtFile = new File(documentId + SUFFIX_TXT);
-            if (txtFile.exists() && txtFile.isFile()) {
-              documentIds.add(documentId);
-            }
-          }
-        }
-        else if (searchRecursive && file.isDirectory()) {
-          directoryStack.push(file);
-        }
-      }
+    documents = ObjectStreamUtils.parallelMap(
+        new DirectorySampleStream(bratCorpusDirectory, fileFilter, searchRecursive,
+            Comparator.naturalOrder(), Collections.reverseOrder()),
+        this::parseDocument, threads);
+  }
+
+  /**
+   * Parses the document of an {@code .ann} file.
+   *
+   * @return The parsed document, or {@code null} if {@code file} is not an {@code .ann}
+   *     file or the corresponding {@code .txt} file does not exist.
+   */
+  private BratDocument parseDocument(File file) throws IOException {
+    String annFilePath = file.getAbsolutePath();
+    if (!annFilePath.endsWith(SUFFIX_ANN)) {
+      return null;
+    }
+
+    // cutoff last 4 chars ...
+    String id = annFilePath.substring(0, annFilePath.length() - 4);
+    File txtFile = new File(id + SUFFIX_TXT);
+    if (!(txtFile.exists() && txtFile.isFile())) {
+      return null;
+    }
+
+    try (InputStream txtIn = new BufferedInputStream(new FileInputStream(txtFile));
+         InputStream annIn = new BufferedInputStream(new FileInputStream(file))) {
+      return BratDocument.parseDocument(config, id, txtIn, annIn);
     }
-    reset();
   }
 
   @Override
   public BratDocument read() throws IOException {
-    BratDocument doc = null;
-    if (documentIdIterator.hasNext()) {
-      String id = documentIdIterator.next();
-      try (InputStream txtIn = new BufferedInputStream(new FileInputStream(id + SUFFIX_TXT));
-           InputStream annIn = new BufferedInputStream(new FileInputStream(id + SUFFIX_ANN))) {
-        doc = BratDocument.parseDocument(config, id, txtIn, annIn);
-      }
-    }
-    return doc;
+    return documents.read();
   }
 
   @Override
-  public void reset() {
-    documentIdIterator = documentIds.iterator();
+  public void reset() throws IOException {
+    documents.reset();
   }
 
   @Override
-  public void close() {
+  public void close() throws IOException {
     // No longer needed, make the object unusable
-    documentIds = null;
-    documentIdIterator = null;
+    documents.close();
+    documents = null;
   }
 }
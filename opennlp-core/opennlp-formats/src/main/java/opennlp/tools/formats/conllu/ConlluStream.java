@@ -17,9 +17,7 @@
 
 package opennlp.tools.formats.conllu;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,11 +25,9 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
+import opennlp.tools.formats.ColumnLineTokenizer;
 import opennlp.tools.util.InputStreamFactory;
 import opennlp.tools.util.InvalidFormatException;
 import opennlp.tools.util.ObjectStream;
@@ -45,7 +41,9 @@ import opennlp.tools.util.PlainTextByLineStream;
 public class ConlluStream implements ObjectStream<ConlluSentence> {
   private final ObjectStream<String> sentenceStream;
 
-  private static final Pattern regex = Pattern.compile("text_([a-z]{2,3})");
+  private static final String TEXT_LANG_PREFIX = "text_";
+
+  private final ColumnLineTokenizer fields = new ColumnLineTokenizer('\t');
 
   /**
    * Initializes a {@link ConlluStream}.
@@ -65,8 +63,6 @@ public class ConlluStream implements ObjectStream<ConlluSentence> {
     if (sentence != null) {
       List<ConlluWordLine> wordLines = new ArrayList<>();
 
-      BufferedReader reader = new BufferedReader(new StringReader(sentence));
-
       boolean newDocument = false;
       boolean newParagraph = false;
       String documentId = null;
@@ -76,11 +72,16 @@ public class ConlluStream implements ObjectStream<ConlluSentence> {
       Map<Locale, String> textLang = null;
       String translit = null;
 
-      String line;
-      while ((line = reader.readLine())  != null) {
+      int lineStart = 0;
+      while (lineStart < sentence.length()) {
+        int lineEnd = sentence.indexOf('\n', lineStart);
+        if (lineEnd == -1) {
+          lineEnd = sentence.length();
+        }
+
         // # indicates a comment line and contains additional data
-        if (line.trim().startsWith("#")) {
-          String commentLine = line.trim().substring(1);
+        if (isComment(sentence, lineStart, lineEnd)) {
+          String commentLine = sentence.substring(lineStart, lineEnd).trim().substring(1);
 
           int separator = commentLine.indexOf('=');
 
@@ -110,7 +111,7 @@ public class ConlluStream implements ObjectStream<ConlluSentence> {
               }
             }
 
-            if (firstPart.startsWith("text_")) {
+            if (firstPart.startsWith(TEXT_LANG_PREFIX)) {
               if (textLang == null) {
                 textLang = new HashMap<>();
               }
@@ -129,8 +130,11 @@ public class ConlluStream implements ObjectStream<ConlluSentence> {
           }
         }
         else {
-          wordLines.add(new ConlluWordLine(line));
+          fields.tokenize(sentence, lineStart, lineEnd);
+          wordLines.add(new ConlluWordLine(fields));
         }
+
+        lineStart = lineEnd + 1;
       }
 
       wordLines = postProcessContractions(wordLines);
@@ -142,6 +146,17 @@ public class ConlluStream implements ObjectStream<ConlluSentence> {
     return null;
   }
 
+  private static boolean isComment(String text, int start, int end) {
+    // the first character which String.trim would keep
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c > ' ') {
+        return c == '#';
+      }
+    }
+    return false;
+  }
+
   private List<ConlluWordLine> postProcessContractions(List<ConlluWordLine> lines) {
 
 
@@ -153,11 +168,13 @@ public class ConlluStream implements ObjectStream<ConlluSentence> {
     for (int i = 0; i < lines.size(); i++) {
       ConlluWordLine line = lines.get(i);
       index.put(line.getId(), i);
-      if (line.getId().contains("-")) {
+      String id = line.getId();
+      int separator = id.indexOf('-');
+      if (separator != -1) {
         List<String> expandedContractions = new ArrayList<>();
-        String[] ids = line.getId().split("-");
-        int start = Integer.parseInt(ids[0]);
-        int end = Integer.parseInt(ids[1]);
+        int endLimit = id.indexOf('-', separator + 1);
+        int start = Integer.parseInt(id, 0, separator, 10);
+        int end = Integer.parseInt(id, separator + 1, endLimit != -1 ? endLimit : id.length(), 10);
         for (int j = start; j <= end; j++) {
           String js = Integer.toString(j);
           expandedContractions.add(js);
@@ -230,15 +247,14 @@ public class ConlluStream implements ObjectStream<ConlluSentence> {
 
   private Map<Locale, String> addTextLang(String firstPart, String secondPart,
                                           Map<Locale, String> textLang) throws InvalidFormatException {
-    String lang = "";
-    try {
-      Matcher regexMatcher = regex.matcher(firstPart);
-      if (regexMatcher.find()) {
-        lang = regexMatcher.group(1);
-      }
-    } catch (PatternSyntaxException e) {
-      throw new InvalidFormatException(e);
+    // the language code is the two or three lower case letters after "text_"
+    int langStart = TEXT_LANG_PREFIX.length();
+    int langEnd = langStart;
+    while (langEnd < firstPart.length() && langEnd - langStart < 3
+        && firstPart.charAt(langEnd) >= 'a' && firstPart.charAt(langEnd) <= 'z') {
+      langEnd++;
     }
+    String lang = langEnd - langStart >= 2 ? firstPart.substring(langStart, langEnd) : "";
     if (!lang.isEmpty()) {
       textLang.put(Locale.of(lang), secondPart);
     }
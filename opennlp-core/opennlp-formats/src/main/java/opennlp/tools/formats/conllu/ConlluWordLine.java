@@ -17,6 +17,7 @@
 
 package opennlp.tools.formats.conllu;
 
+import opennlp.tools.formats.ColumnLineTokenizer;
 import opennlp.tools.util.InvalidFormatException;
 
 public class ConlluWordLine {
@@ -47,23 +48,39 @@ public class ConlluWordLine {
   }
 
   ConlluWordLine(String line) throws InvalidFormatException {
+    this(tokenize(line));
+  }
 
-    String[] fields = line.split("\t");
+  /**
+   * Initializes a {@link ConlluWordLine} from the fields of the current line of
+   * {@code fields}. Only the closed-vocabulary columns, i.e. ID, UPOS, XPOS, HEAD and DEPREL,
+   * are interned.
+   *
+   * @param fields The {@link ColumnLineTokenizer} which tokenized the line.
+   * @throws InvalidFormatException Thrown if the line does not have exactly 10 fields.
+   */
+  ConlluWordLine(ColumnLineTokenizer fields) throws InvalidFormatException {
 
-    if (fields.length != 10) {
-      throw new InvalidFormatException("Line [" + line + "] must have exactly 10 fields");
+    if (fields.getFieldCount() != 10) {
+      throw new InvalidFormatException("Line [" + fields.getLine() + "] must have exactly 10 fields");
     }
 
-    id = fields[0];
-    form = fields[1];
-    lemma = fields[2];
-    uPosTag = fields[3];
-    xPosTag = fields[4];
-    feats = fields[5];
-    head = fields[6];
-    deprel = fields[7];
-    deps = fields[8];
-    misc = fields[9];
+    id = fields.getInternedField(0);
+    form = fields.getField(1);
+    lemma = fields.getField(2);
+    uPosTag = fields.getInternedField(3);
+    xPosTag = fields.getInternedField(4);
+    feats = fields.getField(5);
+    head = fields.getInternedField(6);
+    deprel = fields.getInternedField(7);
+    deps = fields.getField(8);
+    misc = fields.getField(9);
+  }
+
+  private static ColumnLineTokenizer tokenize(String line) {
+    ColumnLineTokenizer fields = new ColumnLineTokenizer('\t');
+    fields.tokenize(line);
+    return fields;
   }
 
   /**
@@ -24,11 +24,8 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
-import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.xml.parsers.SAXParser;
 
 import org.slf4j.Logger;
@@ -37,9 +34,19 @@ import org.xml.sax.Attributes;
 import org.xml.sax.SAXException;
 import org.xml.sax.helpers.DefaultHandler;
 
+import opennlp.tools.formats.DirectorySampleStream;
 import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.ObjectStreamUtils;
 import opennlp.tools.util.XmlUtil;
 
+/**
+ * Reads the {@link MascDocument MASC documents} of a corpus directory.
+ * <p>
+ * The directory is traversed lazily in the order of {@link DirectorySampleStream}, and
+ * the documents are parsed ahead of the caller on a bounded number of worker threads.
+ * Only a few documents are held in memory at a time, and they are returned in the order
+ * of their header ({@code .hdr}) files.
+ */
 public class MascDocumentStream implements ObjectStream<MascDocument> {
 
   private static final Logger logger = LoggerFactory.getLogger(MascDocumentStream.class);
@@ -86,9 +93,12 @@ public class MascDocumentStream implements ObjectStream<MascDocument> {
     }
 
   }
-  private final List<MascDocument> documents = new LinkedList<>();
-  private Iterator<MascDocument> documentIterator;
-  private final SAXParser saxParser;
+  private static final int DEFAULT_THREADS =
+      Math.min(4, Runtime.getRuntime().availableProcessors());
+
+  private final AtomicInteger failedLoads = new AtomicInteger();
+  private ObjectStream<MascDocument> documents;
+  private int loadedDocuments;
 
   public MascDocumentStream(File mascCorpusDirectory) throws IOException {
     this(mascCorpusDirectory, true, pathname -> pathname.getName().contains(""));
@@ -106,59 +116,67 @@ public class MascDocumentStream implements ObjectStream<MascDocument> {
    */
   public MascDocumentStream(File mascCorpusDirectory,
                             boolean searchRecursive, FileFilter fileFilter) throws IOException {
+    this(mascCorpusDirectory, searchRecursive, fileFilter, DEFAULT_THREADS);
+  }
 
-    saxParser = XmlUtil.createSaxParser();
+  /**
+   * Creates a MascDocumentStream to read the documents from a given directory.
+   * Works iff all annotation files mentioned in the headers are present.
+   *
+   * @param mascCorpusDirectory the directory containing all the MASC files
+   * @param searchRecursive     whether the search should go through subdirectories
+   * @param fileFilter          a custom file filter to filter out some files or
+   *                            null to accept anything
+   * @param threads             the number of threads which parse documents,
+   *                            must be greater than {@code 0}
+   * @throws IOException if any stage of the stream creation fails
+   * @throws IllegalArgumentException if {@code threads} is not greater than {@code 0}
+   */
+  public MascDocumentStream(File mascCorpusDirectory, boolean searchRecursive,
+                            FileFilter fileFilter, int threads) throws IOException {
 
     if (!mascCorpusDirectory.isDirectory()) {
       throw new IOException("Input corpus directory must be a directory " +
           "according to File.isDirectory()!");
     }
 
-    int failedLoads = 0;
-    Stack<File> directoryStack = new Stack<>();
-    directoryStack.add(mascCorpusDirectory);
-
-    while (!directoryStack.isEmpty()) {
-      for (File file : directoryStack.pop().listFiles(fileFilter)) {
-        if (file.isFile()) {
-          String hdrFilePath = file.getAbsolutePath();
-
-          // look for the header files
-          if (hdrFilePath.endsWith(".hdr")) {
-
-            HashMap<String, File> fileGroup = checkAnnotations(hdrFilePath);
-            InputStream f_primary = new BufferedInputStream(
-                new FileInputStream(fileGroup.get("f.text")));
-            InputStream f_seg = (fileGroup.containsKey("f.seg")) ?
-                new BufferedInputStream(new FileInputStream(fileGroup.get("f.seg"))) : null;
-            InputStream f_penn = (fileGroup.containsKey("f.penn")) ?
-                new BufferedInputStream(new FileInputStream(fileGroup.get("f.penn"))) : null;
-            InputStream f_s = (fileGroup.containsKey("f.s")) ?
-                new BufferedInputStream(new FileInputStream(fileGroup.get("f.s"))) : null;
-            InputStream f_ne = (fileGroup.containsKey("f.ne")) ?
-                new BufferedInputStream(new FileInputStream(fileGroup.get("f.ne"))) : null;
-
-            try {
-              documents.add(MascDocument.parseDocument(hdrFilePath, f_primary, f_seg,
-                  f_penn, f_s, f_ne));
-            } catch (IOException e) {
-              logger.error("Failed to parse the file: {}", hdrFilePath, e);
-              failedLoads++;
-            }
-          }
-
-        } else if (searchRecursive && file.isDirectory()) {
-          directoryStack.push(file);
-        }
-      }
+    documents = ObjectStreamUtils.parallelMap(
+        new DirectorySampleStream(mascCorpusDirectory, fileFilter, searchRecursive),
+        this::parseDocument, threads);
+  }
+
+  /**
+   * Parses the document of a header file.
+   *
+   * @param file The file to parse.
+   * @return The document, or {@code null} if {@code file} is not a header file
+   *         or the document could not be parsed.
+   * @throws IOException If corpus integrity is violated
+   */
+  private MascDocument parseDocument(File file) throws IOException {
+    String hdrFilePath = file.getAbsolutePath();
+
+    // look for the header files
+    if (!hdrFilePath.endsWith(".hdr")) {
+      return null;
     }
 
-    logger.info("Documents loaded: {}", documents.size());
-    if (failedLoads > 0) {
-      logger.info("Failed loading {} documents.", failedLoads);
+    HashMap<String, File> fileGroup = checkAnnotations(hdrFilePath);
+    try (InputStream f_primary = open(fileGroup.get("f.text"));
+         InputStream f_seg = open(fileGroup.get("f.seg"));
+         InputStream f_penn = open(fileGroup.get("f.penn"));
+         InputStream f_s = open(fileGroup.get("f.s"));
+         InputStream f_ne = open(fileGroup.get("f.ne"))) {
+      return MascDocument.parseDocument(hdrFilePath, f_primary, f_seg, f_penn, f_s, f_ne);
+    } catch (IOException e) {
+      logger.error("Failed to parse the file: {}", hdrFilePath, e);
+      failedLoads.incrementAndGet();
+      return null;
     }
-    reset();
+  }
 
+  private static InputStream open(File file) throws IOException {
+    return file != null ? new BufferedInputStream(new FileInputStream(file)) : null;
   }
 
   /**
@@ -168,6 +186,7 @@ public class MascDocumentStream implements ObjectStream<MascDocument> {
    * @throws IOException If corpus integrity is violated
    */
   private HashMap<String, File> checkAnnotations(String path) throws IOException {
+    SAXParser saxParser = XmlUtil.createSaxParser();
     HeaderHandler handler = new HeaderHandler();
     HashMap<String, File> fileGroup = new HashMap<>();
     File hdrFile = new File(path);
@@ -196,15 +215,16 @@ public class MascDocumentStream implements ObjectStream<MascDocument> {
   }
 
   /**
-   * Reset the reading of all documents to the first sentence.
    * Reset the corpus to the first document.
+   * The documents are parsed again while they are read.
+   *
+   * @throws IOException if anything goes wrong.
    */
   @Override
-  public void reset() {
-    for (MascDocument doc : documents) {
-      doc.reset();
-    }
-    documentIterator = documents.iterator();
+  public void reset() throws IOException {
+    documents.reset();
+    failedLoads.set(0);
+    loadedDocuments = 0;
   }
 
   /**
@@ -216,10 +236,18 @@ public class MascDocumentStream implements ObjectStream<MascDocument> {
   @Override
   public MascDocument read() throws IOException {
 
-    MascDocument doc = null;
+    MascDocument doc = documents.read();
 
-    if (documentIterator.hasNext()) {
-      doc = documentIterator.next();
+    if (doc != null) {
+      loadedDocuments++;
+    } else if (loadedDocuments > 0 || failedLoads.get() > 0) {
+      logger.info("Documents loaded: {}", loadedDocuments);
+      if (failedLoads.get() > 0) {
+        logger.info("Failed loading {} documents.", failedLoads.get());
+      }
+      // log the summary only once per pass
+      failedLoads.set(0);
+      loadedDocuments = 0;
     }
 
     return doc;
@@ -229,9 +257,8 @@ public class MascDocumentStream implements ObjectStream<MascDocument> {
    * Remove the corpus from the memory.
    */
   @Override
-  public void close() {
-    documentIterator = null;
+  public void close() throws IOException {
+    documents.close();
   }
 
 }
-
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.formats;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.util.jvm.BoundedStringInterner;
+
+public class ColumnLineTokenizerTest {
+
+  @Test
+  void testTokenizeLikeSplit() {
+    ColumnLineTokenizer fields = new ColumnLineTokenizer('\t');
+
+    String[] lines = {"a\tb\tc", "a\t\tc", "\ta", "a\t\t", "a", "", "\t\t", "12\tHänden\t_\t"};
+    for (String line : lines) {
+      String[] expected = line.split("\t");
+      Assertions.assertEquals(expected.length, fields.tokenize(line), line);
+      for (int i = 0; i < expected.length; i++) {
+        Assertions.assertEquals(expected[i], fields.getField(i));
+        Assertions.assertEquals(expected[i], fields.getInternedField(i));
+        Assertions.assertTrue(fields.fieldEquals(i, expected[i]));
+      }
+      Assertions.assertEquals(line, fields.getLine());
+    }
+  }
+
+  @Test
+  void testTokenizeRegion() {
+    ColumnLineTokenizer fields = new ColumnLineTokenizer(' ');
+    String paragraph = "EU NNP B-NP B-ORG\nrejects VBZ B-VP O\n";
+
+    Assertions.assertEquals(4, fields.tokenize(paragraph, 18, 36));
+    Assertions.assertEquals("rejects", fields.getField(0));
+    Assertions.assertEquals("O", fields.getField(3));
+    Assertions.assertEquals("rejects VBZ B-VP O", fields.getLine());
+    Assertions.assertFalse(fields.fieldEquals(1, "VB"));
+  }
+
+  @Test
+  void testInternedFieldIsShared() {
+    ColumnLineTokenizer fields = new ColumnLineTokenizer('\t');
+
+    fields.tokenize("1\tthe\tDET");
+    String tag = fields.getInternedField(2);
+
+    // enough distinct values to grow the intern table
+    for (int i = 0; i < 1000; i++) {
+      fields.tokenize(i + "\tword\tTAG" + i);
+      Assertions.assertEquals("TAG" + i, fields.getInternedField(2));
+    }
+
+    fields.tokenize("2\tcat\tDET");
+    Assertions.assertSame(tag, fields.getInternedField(2));
+    Assertions.assertSame(fields.getInternedField(2), fields.getInternedField(2));
+    Assertions.assertNotSame(fields.getField(2), fields.getField(2));
+  }
+
+  @Test
+  void testInternedFieldUsesInterner() {
+    BoundedStringInterner interner = new BoundedStringInterner(16);
+    ColumnLineTokenizer fields = new ColumnLineTokenizer('\t', interner);
+    ColumnLineTokenizer other = new ColumnLineTokenizer('\t', interner);
+
+    fields.tokenize("1\tthe\tDET");
+    other.tokenize("5\ta\tDET");
+    Assertions.assertSame(fields.getInternedField(2), other.getInternedField(2));
+
+    // a value which was seen before is not passed to the interner again
+    fields.tokenize("2\tcat\tDET");
+    fields.getInternedField(2);
+    Assertions.assertEquals(1, interner.size());
+    Assertions.assertEquals(1, interner.getHits());
+    Assertions.assertEquals(1, interner.getMisses());
+  }
+
+  @Test
+  void testInvalidIndex() {
+    ColumnLineTokenizer fields = new ColumnLineTokenizer('\t');
+    fields.tokenize("a\tb");
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fields.getField(2));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fields.getInternedField(-1));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> fields.tokenize("a", 0, 2));
+  }
+}
@@ -23,6 +23,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 
@@ -151,6 +153,52 @@ public class DirectorySampleStreamTest extends AbstractTempDirTest {
     
   }
   
+  @Test
+  public void deterministicOrderTest() throws IOException {
+
+    File sub = createTempFolder("a");
+    File c = Files.createFile(sub.toPath().resolve("c.tmp")).toFile();
+    File b = Files.createFile(tempDir.resolve("b.tmp")).toFile();
+    File a = Files.createFile(tempDir.resolve("a.tmp")).toFile();
+
+    DirectorySampleStream stream = new DirectorySampleStream(tempDir.toFile(), filter, true);
+
+    for (int i = 0; i < 2; i++) {
+      Assertions.assertEquals(b, stream.read());
+      Assertions.assertEquals(a, stream.read());
+      Assertions.assertEquals(c, stream.read());
+      Assertions.assertNull(stream.read());
+
+      stream.reset();
+    }
+
+    stream.close();
+
+  }
+
+  @Test
+  public void customOrderTest() throws IOException {
+
+    File subA = createTempFolder("a");
+    File subB = createTempFolder("b");
+    File c = Files.createFile(subA.toPath().resolve("c.tmp")).toFile();
+    File d = Files.createFile(subB.toPath().resolve("d.tmp")).toFile();
+    File b = Files.createFile(tempDir.resolve("b.tmp")).toFile();
+    File a = Files.createFile(tempDir.resolve("a.tmp")).toFile();
+
+    DirectorySampleStream stream = new DirectorySampleStream(tempDir.toFile(), filter, true,
+        Comparator.naturalOrder(), Collections.reverseOrder());
+
+    Assertions.assertEquals(a, stream.read());
+    Assertions.assertEquals(b, stream.read());
+    Assertions.assertEquals(d, stream.read());
+    Assertions.assertEquals(c, stream.read());
+    Assertions.assertNull(stream.read());
+
+    stream.close();
+
+  }
+
   @Test
   public void emptyDirectoryTest() throws IOException {
 
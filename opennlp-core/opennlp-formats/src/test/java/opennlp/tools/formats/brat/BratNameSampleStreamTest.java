@@ -17,9 +17,12 @@
 
 package opennlp.tools.formats.brat;
 
+import java.io.File;
 import java.io.FileFilter;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -90,6 +93,34 @@ public class BratNameSampleStreamTest extends AbstractBratTest {
     assertEquals(8, count);
   }
 
+  @Test
+  void readDocumentsInOrder() throws IOException {
+    AnnotationConfiguration config = new AnnotationConfiguration(typeToClassMap);
+    FileFilter fileFilter = pathname -> pathname.getName().startsWith("voa-");
+
+    List<String> expectedIds = new ArrayList<>();
+    try (ObjectStream<BratDocument> documents =
+             new BratDocumentStream(config, directory, false, fileFilter, 1)) {
+      for (BratDocument doc = documents.read(); doc != null; doc = documents.read()) {
+        expectedIds.add(doc.getId());
+      }
+    }
+    assertEquals(List.of("voa-with-entities-overlapping", "voa-with-entities", "voa-with-relations"),
+        expectedIds.stream().map(id -> new File(id).getName()).toList());
+
+    try (ObjectStream<BratDocument> documents =
+             new BratDocumentStream(config, directory, false, fileFilter, 3)) {
+      for (int pass = 0; pass < 2; pass++) {
+        List<String> ids = new ArrayList<>();
+        for (BratDocument doc = documents.read(); doc != null; doc = documents.read()) {
+          ids.add(doc.getId());
+        }
+        assertEquals(expectedIds, ids);
+        documents.reset();
+      }
+    }
+  }
+
   private BratNameSampleStream createNameSampleWith(String nameContainsFilter,
                                                     Set<String> nameTypes) throws IOException {
     AnnotationConfiguration config = new AnnotationConfiguration(typeToClassMap);
@@ -21,16 +21,21 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
+import ai.onnxruntime.OnnxTensor;
 import ai.onnxruntime.OrtEnvironment;
 import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.tokenize.Tokenizer;
+import opennlp.tools.tokenize.WordpieceTokenizer;
+import opennlp.tools.tokenize.WordpieceVocabulary;
 
 /**
  * Base class for OpenNLP deep-learning classes using ONNX Runtime.
@@ -41,10 +46,13 @@ public abstract class AbstractDL implements AutoCloseable {
   public static final String ATTENTION_MASK = "attention_mask";
   public static final String TOKEN_TYPE_IDS = "token_type_ids";
 
+  private static final String UNKNOWN_TOKEN = "[UNK]";
+
   protected OrtEnvironment env;
   protected OrtSession session;
   protected Tokenizer tokenizer;
   protected Map<String, Integer> vocab;
+  protected WordpieceVocabulary vocabulary;
 
   /**
    * Loads a vocabulary {@link File} from disk.
@@ -54,6 +62,18 @@ public abstract class AbstractDL implements AutoCloseable {
    * @throws IOException Thrown if the vocabulary file cannot be opened or read.
    */
   public Map<String, Integer> loadVocab(final File vocabFile) throws IOException {
+    return readVocab(vocabFile);
+  }
+
+  /**
+   * Loads a vocabulary {@link File} from disk like {@link #loadVocab(File)}, but can
+   * be called safely from constructors.
+   *
+   * @param vocabFile The vocabulary file.
+   * @return A map of vocabulary words to integer IDs.
+   * @throws IOException Thrown if the vocabulary file cannot be opened or read.
+   */
+  protected static Map<String, Integer> readVocab(final File vocabFile) throws IOException {
 
     final Map<String, Integer> vocab = new HashMap<>();
     final AtomicInteger counter = new AtomicInteger(0);
@@ -66,6 +86,66 @@ public abstract class AbstractDL implements AutoCloseable {
     return vocab;
   }
 
+  /**
+   * Tokenizes {@code text} with the {@link #tokenizer} and maps the tokens to their
+   * IDs in the {@link #vocabulary}. A {@link WordpieceTokenizer} encodes the text
+   * directly into IDs, without creating the token strings.
+   *
+   * @param text The text to encode.
+   * @return The token IDs.
+   */
+  protected long[] encode(final String text) {
+
+    if (tokenizer instanceof WordpieceTokenizer wordpieceTokenizer) {
+      final long[] ids = new long[text.length() + 2];
+      return Arrays.copyOf(ids, wordpieceTokenizer.encode(text, ids));
+    }
+
+    final String[] tokens = tokenizer.tokenize(text);
+    final long[] ids = new long[tokens.length];
+    for (int x = 0; x < tokens.length; x++) {
+      ids[x] = getId(tokens[x]);
+    }
+    return ids;
+  }
+
+  /**
+   * Maps {@code token} to its ID in the {@link #vocabulary}. A token which is not in
+   * the vocabulary is mapped to the ID of the {@code [UNK]} token.
+   *
+   * @param token The token to look up.
+   * @return The ID of the token.
+   * @throws IllegalStateException Thrown if neither {@code token} nor the {@code [UNK]}
+   *                               token are in the vocabulary.
+   */
+  protected int getId(final String token) {
+    int id = vocabulary.getId(token);
+    if (id < 0) {
+      id = vocabulary.getId(UNKNOWN_TOKEN);
+      if (id < 0) {
+        throw new IllegalStateException("The token '" + token + "' is not in the vocabulary and "
+            + "the vocabulary does not contain the " + UNKNOWN_TOKEN + " token");
+      }
+    }
+    return id;
+  }
+
+  /**
+   * Runs the {@link #session} on the given {@code inputs} and records the
+   * elapsed time via {@link Instrumentation}.
+   *
+   * @param metric The metric name under which the session run is recorded.
+   * @param inputs The named input tensors of the model.
+   * @return The {@link OrtSession.Result} of the run.
+   * @throws OrtException Thrown if an error occurred during inference.
+   */
+  protected OrtSession.Result run(String metric, Map<String, OnnxTensor> inputs) throws OrtException {
+    final long start = Instrumentation.start();
+    final OrtSession.Result result = session.run(inputs);
+    Instrumentation.recordTime(metric, start);
+    return result;
+  }
+
   /**
    * Closes this resource, relinquishing any underlying resources.
    *
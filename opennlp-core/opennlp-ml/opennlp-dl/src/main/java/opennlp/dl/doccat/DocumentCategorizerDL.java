@@ -42,10 +42,11 @@ import org.slf4j.LoggerFactory;
 
 import opennlp.dl.AbstractDL;
 import opennlp.dl.InferenceOptions;
-import opennlp.dl.Tokens;
 import opennlp.dl.doccat.scoring.ClassificationScoringStrategy;
 import opennlp.tools.doccat.DocumentCategorizer;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.tokenize.WordpieceTokenizer;
+import opennlp.tools.tokenize.WordpieceVocabulary;
 
 /**
  * An implementation of {@link DocumentCategorizer} that performs document classification
@@ -59,6 +60,9 @@ public class DocumentCategorizerDL extends AbstractDL implements DocumentCategor
 
   private static final Logger logger = LoggerFactory.getLogger(DocumentCategorizerDL.class);
 
+  private static final String METRIC_SESSION_RUN =
+      Instrumentation.metric("dl.doccat", Instrumentation.SESSION_RUN);
+
   private final Map<Integer, String> categories;
   private final ClassificationScoringStrategy classificationScoringStrategy;
   private final InferenceOptions inferenceOptions;
@@ -89,8 +93,9 @@ public class DocumentCategorizerDL extends AbstractDL implements DocumentCategor
     }
 
     this.session = env.createSession(model.getPath(), sessionOptions);
-    this.vocab = loadVocab(vocabulary);
-    this.tokenizer = new WordpieceTokenizer(vocab.keySet());
+    this.vocab = readVocab(vocabulary);
+    this.vocabulary = new WordpieceVocabulary(this.vocab);
+    this.tokenizer = new WordpieceTokenizer(this.vocabulary);
     this.categories = categories;
     this.classificationScoringStrategy = classificationScoringStrategy;
     this.inferenceOptions = inferenceOptions;
@@ -124,8 +129,9 @@ public class DocumentCategorizerDL extends AbstractDL implements DocumentCategor
     }
 
     this.session = env.createSession(model.getPath(), sessionOptions);
-    this.vocab = loadVocab(vocabulary);
-    this.tokenizer = new WordpieceTokenizer(vocab.keySet());
+    this.vocab = readVocab(vocabulary);
+    this.vocabulary = new WordpieceVocabulary(this.vocab);
+    this.tokenizer = new WordpieceTokenizer(this.vocabulary);
     this.categories = readCategoriesFromFile(config);
     this.classificationScoringStrategy = classificationScoringStrategy;
     this.inferenceOptions = inferenceOptions;
@@ -137,29 +143,32 @@ public class DocumentCategorizerDL extends AbstractDL implements DocumentCategor
 
     try {
 
-      final List<Tokens> tokens = tokenize(strings[0]);
+      final List<long[]> tokens = tokenize(strings[0]);
 
       final List<double[]> scores = new LinkedList<>();
 
-      for (final Tokens t : tokens) {
+      for (final long[] ids : tokens) {
 
         final Map<String, OnnxTensor> inputs = new HashMap<>();
 
         inputs.put(INPUT_IDS, OnnxTensor.createTensor(env,
-            LongBuffer.wrap(t.ids()), new long[] {1, t.ids().length}));
+            LongBuffer.wrap(ids), new long[] {1, ids.length}));
 
         if (inferenceOptions.isIncludeAttentionMask()) {
+          final long[] mask = new long[ids.length];
+          Arrays.fill(mask, 1);
           inputs.put(ATTENTION_MASK, OnnxTensor.createTensor(env,
-              LongBuffer.wrap(t.mask()), new long[] {1, t.mask().length}));
+              LongBuffer.wrap(mask), new long[] {1, mask.length}));
         }
 
         if (inferenceOptions.isIncludeTokenTypeIds()) {
+          final long[] types = new long[ids.length];
           inputs.put(TOKEN_TYPE_IDS, OnnxTensor.createTensor(env,
-              LongBuffer.wrap(t.types()), new long[] {1, t.types().length}));
+              LongBuffer.wrap(types), new long[] {1, types.length}));
         }
 
         // The outputs from the model.
-        final float[][] v = (float[][]) session.run(inputs).get(0).getValue();
+        final float[][] v = (float[][]) run(METRIC_SESSION_RUN, inputs).get(0).getValue();
 
         // Keep track of all scores.
         final double[] categoryScoresForTokens = softmax(v[0]);
@@ -258,9 +267,9 @@ public class DocumentCategorizerDL extends AbstractDL implements DocumentCategor
 
   }
 
-  private List<Tokens> tokenize(final String text) {
+  private List<long[]> tokenize(final String text) {
 
-    final List<Tokens> t = new LinkedList<>();
+    final List<long[]> t = new LinkedList<>();
 
     // In this article as the paper suggests, we are going to segment the input into smaller text and feed
     // each of them into BERT, it means for each row, we will split the text in order to have some
@@ -286,24 +295,8 @@ public class DocumentCategorizerDL extends AbstractDL implements DocumentCategor
       // We want to overlap each chunk by 50 words so scoot back 50 words for the next iteration.
       start = start - inferenceOptions.getSplitOverlapSize();
 
-      // Now we can tokenize the group and continue.
-      final String[] tokens = tokenizer.tokenize(group);
-
-      final int[] ids = new int[tokens.length];
-
-      for (int x = 0; x < tokens.length; x++) {
-        ids[x] = vocab.get(tokens[x]);
-      }
-
-      final long[] lids = Arrays.stream(ids).mapToLong(i -> i).toArray();
-
-      final long[] mask = new long[ids.length];
-      Arrays.fill(mask, 1);
-
-      final long[] types = new long[ids.length];
-      Arrays.fill(types, 0);
-
-      t.add(new Tokens(tokens, lids, mask, types));
+      // Now we can encode the group into token ids and continue.
+      t.add(encode(group));
 
     }
 
@@ -37,9 +37,11 @@ import opennlp.dl.AbstractDL;
 import opennlp.dl.InferenceOptions;
 import opennlp.dl.SpanEnd;
 import opennlp.dl.Tokens;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.namefind.TokenNameFinder;
 import opennlp.tools.sentdetect.SentenceDetector;
 import opennlp.tools.tokenize.WordpieceTokenizer;
+import opennlp.tools.tokenize.WordpieceVocabulary;
 import opennlp.tools.util.Span;
 
 /**
@@ -56,6 +58,9 @@ public class NameFinderDL extends AbstractDL implements TokenNameFinder {
 
   private static final String CHARS_TO_REPLACE = "##";
 
+  private static final String METRIC_SESSION_RUN =
+      Instrumentation.metric("dl.namefinder", Instrumentation.SESSION_RUN);
+
   private final SentenceDetector sentenceDetector;
   private final Map<Integer, String> ids2Labels;
   private final InferenceOptions inferenceOptions;
@@ -103,8 +108,9 @@ public class NameFinderDL extends AbstractDL implements TokenNameFinder {
 
     this.session = env.createSession(model.getPath(), sessionOptions);
     this.ids2Labels = ids2Labels;
-    this.vocab = loadVocab(vocabulary);
-    this.tokenizer = new WordpieceTokenizer(vocab.keySet());
+    this.vocab = readVocab(vocabulary);
+    this.vocabulary = new WordpieceVocabulary(this.vocab);
+    this.tokenizer = new WordpieceTokenizer(this.vocabulary);
     this.inferenceOptions = inferenceOptions;
     this.sentenceDetector = sentenceDetector;
 
@@ -145,7 +151,7 @@ public class NameFinderDL extends AbstractDL implements TokenNameFinder {
           }
 
           // The outputs from the model.
-          final float[][][] v = (float[][][]) session.run(inputs).get(0).getValue();
+          final float[][][] v = (float[][][]) run(METRIC_SESSION_RUN, inputs).get(0).getValue();
 
           // Find consecutive B-PER and I-PER labels and combine the spans where necessary.
           // There are also B-LOC and I-LOC tags for locations that might be useful at some point.
@@ -377,21 +383,19 @@ public class NameFinderDL extends AbstractDL implements TokenNameFinder {
       // Now we can tokenize the group and continue.
       final String[] tokens = tokenizer.tokenize(group);
 
-      final int[] ids = new int[tokens.length];
+      final long[] ids = new long[tokens.length];
 
       for (int x = 0; x < tokens.length; x++) {
-        ids[x] = vocab.get(tokens[x]);
+        ids[x] = getId(tokens[x]);
       }
 
-      final long[] lids = Arrays.stream(ids).mapToLong(i -> i).toArray();
-
       final long[] mask = new long[ids.length];
       Arrays.fill(mask, 1);
 
       final long[] types = new long[ids.length];
       Arrays.fill(types, 0);
 
-      t.add(new Tokens(tokens, lids, mask, types));
+      t.add(new Tokens(tokens, ids, mask, types));
 
     }
 
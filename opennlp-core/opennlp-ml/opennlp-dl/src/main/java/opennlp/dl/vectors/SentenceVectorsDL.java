@@ -30,9 +30,9 @@ import ai.onnxruntime.OrtException;
 import ai.onnxruntime.OrtSession;
 
 import opennlp.dl.AbstractDL;
-import opennlp.dl.Tokens;
-import opennlp.tools.tokenize.Tokenizer;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.tokenize.WordpieceTokenizer;
+import opennlp.tools.tokenize.WordpieceVocabulary;
 
 /**
  * Facilitates the generation of sentence vectors using
@@ -40,6 +40,9 @@ import opennlp.tools.tokenize.WordpieceTokenizer;
  */
 public class SentenceVectorsDL extends AbstractDL {
 
+  private static final String METRIC_SESSION_RUN =
+      Instrumentation.metric("dl.vectors", Instrumentation.SESSION_RUN);
+
   /**
    * Instantiates a {@link SentenceVectorsDL sentence detector} using ONNX models.
    *
@@ -54,8 +57,9 @@ public class SentenceVectorsDL extends AbstractDL {
 
     env = OrtEnvironment.getEnvironment();
     session = env.createSession(model.getPath(), new OrtSession.SessionOptions());
-    vocab = loadVocab(new File(vocabulary.getPath()));
-    tokenizer = new WordpieceTokenizer(vocab.keySet());
+    this.vocab = readVocab(vocabulary);
+    this.vocabulary = new WordpieceVocabulary(this.vocab);
+    tokenizer = new WordpieceTokenizer(this.vocabulary);
 
   }
 
@@ -68,43 +72,26 @@ public class SentenceVectorsDL extends AbstractDL {
    */
   public float[] getVectors(final String sentence) throws OrtException {
 
-    final Tokens tokens = tokenize(sentence, tokenizer, vocab);
+    final long[] ids = encode(sentence);
+    final long[] mask = new long[ids.length];
+    final long[] types = new long[ids.length];
+    Arrays.fill(types, 1);
 
     final Map<String, OnnxTensor> inputs = new HashMap<>();
 
-    inputs.put(INPUT_IDS, OnnxTensor.createTensor(env, LongBuffer.wrap(tokens.ids()),
-        new long[] {1, tokens.ids().length}));
+    inputs.put(INPUT_IDS, OnnxTensor.createTensor(env, LongBuffer.wrap(ids),
+        new long[] {1, ids.length}));
 
     inputs.put(ATTENTION_MASK, OnnxTensor.createTensor(env,
-        LongBuffer.wrap(tokens.mask()), new long[] {1, tokens.mask().length}));
+        LongBuffer.wrap(mask), new long[] {1, mask.length}));
 
     inputs.put(TOKEN_TYPE_IDS, OnnxTensor.createTensor(env,
-        LongBuffer.wrap(tokens.types()), new long[] {1, tokens.types().length}));
+        LongBuffer.wrap(types), new long[] {1, types.length}));
 
-    final float[][][] v = (float[][][]) session.run(inputs).get(0).getValue();
+    final float[][][] v = (float[][][]) run(METRIC_SESSION_RUN, inputs).get(0).getValue();
 
     return v[0][0];
 
   }
 
-  private Tokens tokenize(final String text, Tokenizer tokenizer, Map<String, Integer> vocab) {
-
-    final String[] tokens = tokenizer.tokenize(text);
-
-    final int[] ids = new int[tokens.length];
-    final long[] mask = new long[ids.length];
-
-    for (int x = 0; x < tokens.length; x++) {
-      ids[x] = vocab.get(tokens[x]);
-    }
-
-    final long[] lids = Arrays.stream(ids).mapToLong(i -> i).toArray();
-
-    final long[] types = new long[ids.length];
-    Arrays.fill(types, 1);
-
-    return new Tokens(tokens, lids, mask, types);
-
-  }
-
 }
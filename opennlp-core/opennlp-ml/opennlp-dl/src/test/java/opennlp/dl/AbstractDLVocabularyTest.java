@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.dl;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import opennlp.tools.tokenize.WhitespaceTokenizer;
+import opennlp.tools.tokenize.WordpieceVocabulary;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AbstractDLVocabularyTest {
+
+  @TempDir
+  private Path tempDir;
+
+  @Test
+  public void testUnknownTokensAreMappedToUnk() throws IOException {
+    final TestDL dl = new TestDL(writeVocab("[PAD]", "[UNK]", "the", "dog"));
+
+    assertEquals(Map.of("[PAD]", 0, "[UNK]", 1, "the", 2, "dog", 3), dl.vocab);
+    assertArrayEquals(new long[] {2, 3, 1}, dl.encode("the dog barks"));
+  }
+
+  @Test
+  public void testUnknownTokenWithoutUnk() throws IOException {
+    final TestDL dl = new TestDL(writeVocab("the", "dog"));
+
+    assertArrayEquals(new long[] {0, 1}, dl.encode("the dog"));
+    assertThrows(IllegalStateException.class, () -> dl.encode("the dog barks"));
+  }
+
+  private File writeVocab(String... tokens) throws IOException {
+    return Files.write(tempDir.resolve("vocab.txt"), List.of(tokens)).toFile();
+  }
+
+  private static class TestDL extends AbstractDL {
+
+    private TestDL(File vocabFile) throws IOException {
+      this.vocab = readVocab(vocabFile);
+      this.vocabulary = new WordpieceVocabulary(this.vocab);
+      this.tokenizer = WhitespaceTokenizer.INSTANCE;
+    }
+  }
+}
@@ -18,10 +18,14 @@
 package opennlp.tools.ml;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.ml.model.Sequence;
 import opennlp.tools.ml.model.SequenceStream;
+import opennlp.tools.monitoring.TrainingProgressMonitor;
 import opennlp.tools.util.Parameters;
 
 /**
@@ -30,9 +34,57 @@ import opennlp.tools.util.Parameters;
 public abstract class AbstractEventModelSequenceTrainer<P extends Parameters>
     extends AbstractTrainer<P> implements EventModelSequenceTrainer<Event, P>  {
 
+  private HeldOutSequences<?> heldOutSequences;
+
   public AbstractEventModelSequenceTrainer() {
   }
 
+  /**
+   * Sets the held-out {@link Sequence sequences} the model is evaluated on during the training.
+   * If set, the training stops once the held-out accuracy did not improve for
+   * {@link Parameters#HELD_OUT_PATIENCE_PARAM} evaluations, and the model of the iteration
+   * with the best held-out accuracy is returned.
+   *
+   * @param sequences The held-out {@link SequenceStream}, or {@code null} to train without
+   *                  held-out data. The stream is read completely, but not closed, since it is
+   *                  used to tag the sequences during the training.
+   * @param <S> The type of the sequence sources.
+   * @throws IOException Thrown if IO errors occurred reading the {@code sequences}.
+   */
+  public <S> void setHeldOutSequences(SequenceStream<S> sequences) throws IOException {
+    if (sequences == null) {
+      heldOutSequences = null;
+      return;
+    }
+    List<Sequence<S>> sequenceList = new ArrayList<>();
+    Sequence<S> sequence;
+    while ((sequence = sequences.read()) != null) {
+      sequenceList.add(sequence);
+    }
+    heldOutSequences = new HeldOutSequences<>(sequences, sequenceList);
+  }
+
+  /**
+   * Creates a {@link HeldOutEvaluator} for the
+   * {@link #setHeldOutSequences(SequenceStream) held-out sequences}.
+   *
+   * @param progressMonitor The {@link TrainingProgressMonitor} to report the held-out accuracy to.
+   * @return A {@link HeldOutEvaluator}, or {@code null} if no held-out sequences were set.
+   */
+  protected <M extends MaxentModel> HeldOutEvaluator<M> createHeldOutEvaluator(
+      TrainingProgressMonitor progressMonitor) {
+    return heldOutSequences != null ?
+        heldOutSequences.createEvaluator(trainingParameters, progressMonitor) : null;
+  }
+
+  private record HeldOutSequences<S>(SequenceStream<S> sequenceStream, List<Sequence<S>> sequences) {
+
+    <M extends MaxentModel> HeldOutEvaluator<M> createEvaluator(
+        Parameters parameters, TrainingProgressMonitor progressMonitor) {
+      return HeldOutEvaluator.forSequences(sequences, sequenceStream, parameters, progressMonitor);
+    }
+  }
+
   public abstract MaxentModel doTrain(SequenceStream<Event> events) throws IOException;
 
   @Override
@@ -18,6 +18,8 @@
 package opennlp.tools.ml;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import opennlp.tools.ml.model.AbstractDataIndexer;
 import opennlp.tools.ml.model.ChecksumEventStream;
@@ -25,6 +27,7 @@ import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.DataIndexerFactory;
 import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.monitoring.TrainingProgressMonitor;
 import opennlp.tools.util.InsufficientTrainingDataException;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.Parameters;
@@ -40,6 +43,8 @@ public abstract class AbstractEventTrainer<P extends Parameters>
   public static final String DATA_INDEXER_TWO_PASS_VALUE = "TwoPass";
   public static final String DATA_INDEXER_ONE_PASS_REAL_VALUE = "OnePassRealValue";
 
+  private List<Event> heldOutEvents;
+
   public AbstractEventTrainer() {
   }
 
@@ -54,6 +59,41 @@ public abstract class AbstractEventTrainer<P extends Parameters>
 
   public abstract boolean isSortAndMerge();
 
+  /**
+   * Sets the held-out {@link Event events} the model is evaluated on during the training.
+   * If set, the training stops once the held-out accuracy did not improve for
+   * {@link Parameters#HELD_OUT_PATIENCE_PARAM} evaluations, and the model of the iteration
+   * with the best held-out accuracy is returned.
+   *
+   * @param events The held-out {@link Event events}, or {@code null} to train without held-out data.
+   *               The stream is read completely, but not closed.
+   * @throws IOException Thrown if IO errors occurred reading the {@code events}.
+   */
+  public void setHeldOutEvents(ObjectStream<Event> events) throws IOException {
+    if (events == null) {
+      heldOutEvents = null;
+      return;
+    }
+    List<Event> eventList = new ArrayList<>();
+    Event event;
+    while ((event = events.read()) != null) {
+      eventList.add(event);
+    }
+    heldOutEvents = eventList;
+  }
+
+  /**
+   * Creates a {@link HeldOutEvaluator} for the {@link #setHeldOutEvents(ObjectStream) held-out events}.
+   *
+   * @param progressMonitor The {@link TrainingProgressMonitor} to report the held-out accuracy to.
+   * @return A {@link HeldOutEvaluator}, or {@code null} if no held-out events were set.
+   */
+  protected <M extends MaxentModel> HeldOutEvaluator<M> createHeldOutEvaluator(
+      TrainingProgressMonitor progressMonitor) {
+    return heldOutEvents != null ?
+        HeldOutEvaluator.forEvents(heldOutEvents, trainingParameters, progressMonitor) : null;
+  }
+
   public DataIndexer<P> getDataIndexer(ObjectStream<Event> events) throws IOException {
 
     trainingParameters.put(AbstractDataIndexer.SORT_PARAM, isSortAndMerge());
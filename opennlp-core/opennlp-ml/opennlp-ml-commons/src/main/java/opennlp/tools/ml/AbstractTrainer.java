@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import opennlp.tools.commons.Trainer;
+import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.util.Parameters;
 import opennlp.tools.util.TrainingConfiguration;
 
@@ -83,11 +84,25 @@ public abstract class AbstractTrainer<P extends Parameters> implements Trainer<P
   }
 
   /**
-   * @return Retrieves the configured {@link Parameters#ITERATIONS_PARAM} value.
+   * @return Retrieves the configured {@link Parameters#ITERATIONS_PARAM} value. If the training
+   *         starts from an {@link #getInitialModel() initial model}, the
+   *         {@link Parameters#WARM_START_ITERATIONS_PARAM} value takes precedence.
    */
   public int getIterations() {
-    return trainingParameters.getIntParameter(Parameters.ITERATIONS_PARAM,
+    int iterations = trainingParameters.getIntParameter(Parameters.ITERATIONS_PARAM,
         Parameters.ITERATIONS_DEFAULT_VALUE);
+    if (getInitialModel() != null) {
+      iterations = trainingParameters.getIntParameter(Parameters.WARM_START_ITERATIONS_PARAM, iterations);
+    }
+    return iterations;
+  }
+
+  /**
+   * @return Retrieves the {@link TrainingConfiguration#initialModel() initial model} the training
+   *         continues from, or {@code null} if the training starts from zero weights.
+   */
+  public MaxentModel getInitialModel() {
+    return trainingConfiguration != null ? trainingConfiguration.initialModel() : null;
   }
 
   /**
@@ -105,6 +120,12 @@ public abstract class AbstractTrainer<P extends Parameters> implements Trainer<P
           Parameters.CUTOFF_DEFAULT_VALUE);
       trainingParameters.getIntParameter(Parameters.ITERATIONS_PARAM,
           Parameters.ITERATIONS_DEFAULT_VALUE);
+      trainingParameters.getIntParameter(Parameters.WARM_START_ITERATIONS_PARAM,
+          Parameters.ITERATIONS_DEFAULT_VALUE);
+      trainingParameters.getIntParameter(Parameters.HELD_OUT_INTERVAL_PARAM,
+          Parameters.HELD_OUT_INTERVAL_DEFAULT_VALUE);
+      trainingParameters.getIntParameter(Parameters.HELD_OUT_PATIENCE_PARAM,
+          Parameters.HELD_OUT_PATIENCE_DEFAULT_VALUE);
     } catch (NumberFormatException e) {
       throw new IllegalArgumentException(e);
     }
@@ -24,6 +24,7 @@ import java.util.Queue;
 
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.SequenceClassificationModel;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.util.BeamSearchContextGenerator;
 import opennlp.tools.util.Cache;
 import opennlp.tools.util.Sequence;
@@ -45,6 +46,16 @@ public class BeamSearch implements SequenceClassificationModel {
 
   private static final Object[] EMPTY_ADDITIONAL_CONTEXT = new Object[0];
 
+  private static final String METRIC_FEATURE_GENERATION =
+      Instrumentation.metric("beamsearch", Instrumentation.FEATURE_GENERATION);
+  private static final String METRIC_EVAL = Instrumentation.metric("beamsearch", Instrumentation.MODEL_EVAL);
+  private static final String METRIC_STEP =
+      Instrumentation.metric("beamsearch", Instrumentation.BEAM_SEARCH_STEP);
+  private static final String METRIC_CACHE_HIT =
+      Instrumentation.metric("beamsearch", Instrumentation.CACHE_HIT);
+  private static final String METRIC_CACHE_MISS =
+      Instrumentation.metric("beamsearch", Instrumentation.CACHE_MISS);
+
   protected final int size;
   protected final MaxentModel model;
 
@@ -111,18 +122,28 @@ public class BeamSearch implements SequenceClassificationModel {
     }
 
     for (int i = 0; i < sequence.length; i++) {
+      final long stepStart = Instrumentation.start();
       int sz = StrictMath.min(size, prev.size());
 
       for (int sc = 0; prev.size() > 0 && sc < sz; sc++) {
         Sequence top = prev.remove();
         List<String> tmpOutcomes = top.getOutcomes();
         String[] outcomes = tmpOutcomes.toArray(new String[0]);
+        final long featureStart = Instrumentation.start();
         String[] contexts = cg.getContext(i, sequence, outcomes, additionalContext);
+        Instrumentation.recordTime(METRIC_FEATURE_GENERATION, featureStart);
         double[] scores;
         if (contextsCache != null) {
-          scores = contextsCache.computeIfAbsent(contexts, c -> model.eval(c, probs));
+          scores = contextsCache.get(contexts);
+          if (scores != null) {
+            Instrumentation.increment(METRIC_CACHE_HIT);
+          } else {
+            Instrumentation.increment(METRIC_CACHE_MISS);
+            scores = eval(contexts);
+            contextsCache.put(contexts, scores);
+          }
         } else {
-          scores = model.eval(contexts, probs);
+          scores = eval(contexts);
         }
 
         double[] temp_scores = new double[scores.length];
@@ -162,6 +183,7 @@ public class BeamSearch implements SequenceClassificationModel {
       tmp = prev;
       prev = next;
       next = tmp;
+      Instrumentation.recordTime(METRIC_STEP, stepStart);
     }
 
     int numSeq = StrictMath.min(numSequences, prev.size());
@@ -174,6 +196,13 @@ public class BeamSearch implements SequenceClassificationModel {
     return topSequences;
   }
 
+  private double[] eval(String[] contexts) {
+    final long evalStart = Instrumentation.start();
+    final double[] scores = model.eval(contexts, probs);
+    Instrumentation.recordTime(METRIC_EVAL, evalStart);
+    return scores;
+  }
+
   /**
    * Computes the best sequence of outcomes based on the {@link MaxentModel}.
    *
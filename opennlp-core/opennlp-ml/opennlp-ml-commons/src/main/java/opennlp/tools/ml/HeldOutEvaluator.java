@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.ml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import opennlp.tools.ml.model.Event;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.ml.model.Sequence;
+import opennlp.tools.ml.model.SequenceStream;
+import opennlp.tools.monitoring.HeldOutPatienceExceeded;
+import opennlp.tools.monitoring.StopCriteria;
+import opennlp.tools.monitoring.TrainingMeasure;
+import opennlp.tools.monitoring.TrainingProgressMonitor;
+import opennlp.tools.util.Parameters;
+
+/**
+ * Evaluates the model under training on held-out data every
+ * {@link Parameters#HELD_OUT_INTERVAL_PARAM k} iterations.
+ * <p>
+ * The held-out accuracy of each evaluation is reported to the {@link TrainingProgressMonitor}
+ * as {@link TrainingMeasure#HELD_OUT_ACCURACY}. The evaluator keeps the snapshot of the model
+ * which scored best and tells the trainer to stop once the {@link HeldOutPatienceExceeded patience}
+ * is exceeded.
+ * <p>
+ * An evaluator belongs to a single training run. The threads which evaluate the held-out events
+ * are created once per evaluator and released by {@link #getBestModel(int, Supplier)}, which is
+ * called when the training finishes.
+ *
+ * @param <M> The type of the model snapshots.
+ */
+public class HeldOutEvaluator<M extends MaxentModel> {
+
+  private static final Logger logger = LoggerFactory.getLogger(HeldOutEvaluator.class);
+
+  private final ToIntFunction<MaxentModel> correctCounter;
+  private final int numEvents;
+  private final int interval;
+  private final TrainingProgressMonitor progressMonitor;
+  private final StopCriteria<Double> stopCriteria;
+  private final ExecutorService executor;
+
+  private M bestModel;
+  private int bestIteration;
+  private double bestAccuracy = -1;
+  private int lastEvaluatedIteration;
+
+  private HeldOutEvaluator(ToIntFunction<MaxentModel> correctCounter, int numEvents,
+                           Parameters parameters, TrainingProgressMonitor progressMonitor,
+                           ExecutorService executor) {
+    if (numEvents == 0) {
+      throw new IllegalArgumentException("The held-out data must not be empty");
+    }
+    this.correctCounter = correctCounter;
+    this.numEvents = numEvents;
+    this.interval = parameters.getIntParameter(Parameters.HELD_OUT_INTERVAL_PARAM,
+        Parameters.HELD_OUT_INTERVAL_DEFAULT_VALUE);
+    if (interval < 1) {
+      throw new IllegalArgumentException(Parameters.HELD_OUT_INTERVAL_PARAM + " must be positive");
+    }
+    this.progressMonitor = progressMonitor;
+    this.stopCriteria = new HeldOutPatienceExceeded(parameters);
+    this.executor = executor;
+  }
+
+  /**
+   * Creates a {@link HeldOutEvaluator} which evaluates single events. The events are split
+   * into {@link Parameters#THREADS_PARAM} chunks which are evaluated in parallel.
+   *
+   * @param events The held-out {@link Event events}. Must not be empty.
+   * @param parameters The {@link Parameters} of the training.
+   * @param progressMonitor The {@link TrainingProgressMonitor} to report the held-out accuracy to.
+   * @return A {@link HeldOutEvaluator} for the {@code events}.
+   * @throws IllegalArgumentException Thrown if {@code events} is empty or the parameters are invalid.
+   */
+  public static <M extends MaxentModel> HeldOutEvaluator<M> forEvents(
+      List<Event> events, Parameters parameters, TrainingProgressMonitor progressMonitor) {
+    final int threads = Math.max(1, Math.min(events.size(),
+        parameters.getIntParameter(Parameters.THREADS_PARAM, 1)));
+    if (events.isEmpty()) {
+      throw new IllegalArgumentException("The held-out data must not be empty");
+    }
+    final ExecutorService executor = threads > 1 ? createExecutor(threads) : null;
+    return new HeldOutEvaluator<>(model -> countCorrect(model, events, threads, executor),
+        events.size(), parameters, progressMonitor, executor);
+  }
+
+  /**
+   * Creates a {@link HeldOutEvaluator} which evaluates whole sequences. Each sequence is tagged
+   * via {@link SequenceStream#updateContext(Sequence, MaxentModel)}, so the model's own decisions
+   * form the history of the following events. Since the context generators of sequence streams are
+   * usually not thread-safe, the sequences are evaluated one after another.
+   *
+   * @param sequences The held-out {@link Sequence sequences}. Must not be empty.
+   * @param <S> The type of the sequence sources.
+   * @param sequenceStream The {@link SequenceStream} the {@code sequences} were read from.
+   * @param parameters The {@link Parameters} of the training.
+   * @param progressMonitor The {@link TrainingProgressMonitor} to report the held-out accuracy to.
+   * @return A {@link HeldOutEvaluator} for the {@code sequences}.
+   * @throws IllegalArgumentException Thrown if {@code sequences} is empty or the parameters are invalid.
+   */
+  public static <S, M extends MaxentModel> HeldOutEvaluator<M> forSequences(
+      List<Sequence<S>> sequences, SequenceStream<S> sequenceStream,
+      Parameters parameters, TrainingProgressMonitor progressMonitor) {
+    int numEvents = 0;
+    for (Sequence<S> sequence : sequences) {
+      numEvents += sequence.getEvents().length;
+    }
+    return new HeldOutEvaluator<>(model -> {
+      int numCorrect = 0;
+      for (Sequence<S> sequence : sequences) {
+        Event[] taggerEvents = sequenceStream.updateContext(sequence, model);
+        Event[] events = sequence.getEvents();
+        for (int ei = 0; ei < events.length; ei++) {
+          if (taggerEvents[ei].getOutcome().equals(events[ei].getOutcome())) {
+            numCorrect++;
+          }
+        }
+      }
+      return numCorrect;
+    }, numEvents, parameters, progressMonitor, null);
+  }
+
+  /**
+   * Creates the pool which evaluates the held-out events of one training run. Idle threads
+   * time out, so a training which fails before {@link #getBestModel(int, Supplier)} is called
+   * does not pin them.
+   */
+  private static ExecutorService createExecutor(int threads) {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads,
+        60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+          Thread thread = new Thread(runnable);
+          thread.setName("opennlp.tools.ml.HeldOutEvaluator.evaluate()");
+          thread.setDaemon(true);
+          return thread;
+        });
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static int countCorrect(MaxentModel model, List<Event> events, int threads,
+                                  ExecutorService executor) {
+    if (executor == null) {
+      return countCorrect(model, events, 0, events.size());
+    }
+
+    try {
+      List<Future<Integer>> futures = new ArrayList<>(threads);
+      for (int t = 0; t < threads; t++) {
+        final int from = (int) ((long) events.size() * t / threads);
+        final int to = (int) ((long) events.size() * (t + 1) / threads);
+        futures.add(executor.submit(() -> countCorrect(model, events, from, to)));
+      }
+      int numCorrect = 0;
+      for (Future<Integer> future : futures) {
+        numCorrect += future.get();
+      }
+      return numCorrect;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while evaluating the held-out data", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException(e.getCause());
+    }
+  }
+
+  private static int countCorrect(MaxentModel model, List<Event> events, int from, int to) {
+    int numCorrect = 0;
+    for (int ei = from; ei < to; ei++) {
+      Event event = events.get(ei);
+      double[] probs = model.eval(event.getContext(), event.getValues());
+      if (model.getBestOutcome(probs).equals(event.getOutcome())) {
+        numCorrect++;
+      }
+    }
+    return numCorrect;
+  }
+
+  /**
+   * Evaluates the model on the held-out data, if the {@code iteration} is due for an evaluation.
+   *
+   * @param iteration The iteration which was just completed.
+   * @param snapshot Supplies a snapshot of the current model. It is only called if the
+   *                 {@code iteration} is evaluated, and must not share mutable state with the
+   *                 trainer, since the snapshot may be retained as the best model.
+   * @return {@code true} if the training should stop, {@code false} otherwise.
+   */
+  public boolean evaluate(int iteration, Supplier<? extends M> snapshot) {
+    if (iteration % interval != 0) {
+      return false;
+    }
+    return evaluateNow(iteration, snapshot);
+  }
+
+  private boolean evaluateNow(int iteration, Supplier<? extends M> snapshot) {
+    M model = snapshot.get();
+    int numCorrect = correctCounter.applyAsInt(model);
+    double accuracy = (double) numCorrect / numEvents;
+    lastEvaluatedIteration = iteration;
+    progressMonitor.finishedIteration(iteration, numCorrect, numEvents,
+        TrainingMeasure.HELD_OUT_ACCURACY, accuracy);
+
+    if (accuracy > bestAccuracy) {
+      bestModel = model;
+      bestIteration = iteration;
+      bestAccuracy = accuracy;
+    }
+    return stopCriteria.test(accuracy);
+  }
+
+  /**
+   * Retrieves the model which scored best on the held-out data. If the last iteration of the
+   * training was not evaluated yet, it is evaluated first. Since this is the last step of the
+   * training, the evaluation threads are released afterward and the evaluator must not be
+   * used anymore.
+   *
+   * @param lastIteration The last completed iteration.
+   * @param lastModel Supplies the model of the last iteration.
+   * @return The model with the best held-out accuracy.
+   */
+  public M getBestModel(int lastIteration, Supplier<? extends M> lastModel) {
+    if (bestModel == null || lastEvaluatedIteration != lastIteration) {
+      evaluateNow(lastIteration, lastModel);
+    }
+    if (executor != null) {
+      executor.shutdown();
+    }
+    logger.info("Using the model of iteration {} with a held-out accuracy of {}.",
+        bestIteration, bestAccuracy);
+    return bestModel;
+  }
+
+  /**
+   * @return The patience based {@link StopCriteria} which decides when the training stops.
+   */
+  public StopCriteria<Double> getStopCriteria() {
+    return stopCriteria;
+  }
+
+  /**
+   * @return The iteration of the model with the best held-out accuracy so far,
+   *         {@code 0} if nothing was evaluated yet.
+   */
+  public int getBestIteration() {
+    return bestIteration;
+  }
+
+  /**
+   * @return The best held-out accuracy so far, {@code -1} if nothing was evaluated yet.
+   */
+  public double getBestAccuracy() {
+    return bestAccuracy;
+  }
+}
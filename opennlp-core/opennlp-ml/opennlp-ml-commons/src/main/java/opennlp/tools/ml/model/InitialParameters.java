@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The parameters of an existing {@link AbstractModel} aligned to the predicate and outcome
+ * indices of a new training run, used to warm-start a trainer.
+ * <p>
+ * Predicates and outcomes are matched by label. Parameters of predicates or outcomes which
+ * are unknown to the existing model are initialized to zero, parameters of predicates or
+ * outcomes which do not occur in the new training data are dropped.
+ *
+ * @see opennlp.tools.util.TrainingConfiguration#initialModel()
+ */
+public final class InitialParameters {
+
+  // per predicate the dense outcome parameters, or null if the predicate is unknown
+  private final double[][] parameters;
+  private final int numKnownPredicates;
+
+  private InitialParameters(double[][] parameters, int numKnownPredicates) {
+    this.parameters = parameters;
+    this.numKnownPredicates = numKnownPredicates;
+  }
+
+  /**
+   * Aligns the parameters of {@code model} to the given labels.
+   *
+   * @param model         The existing {@link MaxentModel}. It must be an {@link AbstractModel}.
+   * @param predLabels    The predicate labels of the new training run, indexed by predicate id.
+   * @param outcomeLabels The outcome labels of the new training run, indexed by outcome id.
+   * @return The aligned {@link InitialParameters}.
+   * @throws IllegalArgumentException Thrown if {@code model} is not an {@link AbstractModel}.
+   */
+  public static InitialParameters align(MaxentModel model, String[] predLabels, String[] outcomeLabels) {
+    if (!(model instanceof AbstractModel abstractModel)) {
+      throw new IllegalArgumentException("The initial model must be an AbstractModel, but is "
+          + (model == null ? null : model.getClass().getName()));
+    }
+
+    final Object[] data = abstractModel.getDataStructures();
+    @SuppressWarnings("unchecked")
+    final Map<String, Context> pmap = (Map<String, Context>) data[1];
+    final String[] modelOutcomes = (String[]) data[2];
+
+    // model outcome id -> outcome id of the new training run, or -1
+    final Map<String, Integer> outcomeIndex = new HashMap<>(outcomeLabels.length * 2);
+    for (int oi = 0; oi < outcomeLabels.length; oi++) {
+      outcomeIndex.put(outcomeLabels[oi], oi);
+    }
+    final int[] outcomeMap = new int[modelOutcomes.length];
+    for (int moi = 0; moi < modelOutcomes.length; moi++) {
+      outcomeMap[moi] = outcomeIndex.getOrDefault(modelOutcomes[moi], -1);
+    }
+
+    final double[][] parameters = new double[predLabels.length][];
+    int numKnownPredicates = 0;
+    for (int pi = 0; pi < predLabels.length; pi++) {
+      final Context context = pmap.get(predLabels[pi]);
+      if (context != null) {
+        final int[] outcomes = context.getOutcomes();
+        final double[] values = context.getParameters();
+        final double[] row = new double[outcomeLabels.length];
+        for (int i = 0; i < outcomes.length; i++) {
+          final int oi = outcomeMap[outcomes[i]];
+          if (oi >= 0) {
+            row[oi] = values[i];
+          }
+        }
+        parameters[pi] = row;
+        numKnownPredicates++;
+      }
+    }
+    return new InitialParameters(parameters, numKnownPredicates);
+  }
+
+  /**
+   * @param predicate The predicate id of the new training run.
+   * @param outcome   The outcome id of the new training run.
+   * @return The initial value of the parameter, {@code 0} if it is unknown to the existing model.
+   */
+  public double get(int predicate, int outcome) {
+    final double[] row = parameters[predicate];
+    return row != null ? row[outcome] : 0;
+  }
+
+  /**
+   * @return The number of predicates which are known to the existing model.
+   */
+  public int getNumKnownPredicates() {
+    return numKnownPredicates;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.monitoring;
+
+import opennlp.tools.util.Parameters;
+
+/**
+ * A {@link StopCriteria} implementation to identify whether the held-out accuracy
+ * did not improve on its best value for the configured number of evaluations.
+ * <p>
+ * In contrast to the other criteria, this one is stateful: it is tested with the held-out
+ * accuracy of each evaluation in turn and remembers the best accuracy seen so far.
+ */
+public class HeldOutPatienceExceeded implements StopCriteria<Double> {
+
+  public static final String STOP = "Stopping: held-out accuracy did not improve on %s" +
+      " for %s evaluations.";
+
+  private final Parameters trainingParameters;
+
+  private double bestAccuracy = Double.NEGATIVE_INFINITY;
+  private int evaluationsWithoutImprovement;
+
+  public HeldOutPatienceExceeded(Parameters trainingParameters) {
+    this.trainingParameters = trainingParameters;
+  }
+
+  @Override
+  public String getMessageIfSatisfied() {
+    return String.format(STOP, bestAccuracy, getPatience());
+  }
+
+  @Override
+  public boolean test(Double heldOutAccuracy) {
+    if (heldOutAccuracy > bestAccuracy) {
+      bestAccuracy = heldOutAccuracy;
+      evaluationsWithoutImprovement = 0;
+      return false;
+    }
+    return ++evaluationsWithoutImprovement >= getPatience();
+  }
+
+  private int getPatience() {
+    return trainingParameters != null ? trainingParameters.getIntParameter(
+        Parameters.HELD_OUT_PATIENCE_PARAM, Parameters.HELD_OUT_PATIENCE_DEFAULT_VALUE) :
+        Parameters.HELD_OUT_PATIENCE_DEFAULT_VALUE;
+  }
+
+}
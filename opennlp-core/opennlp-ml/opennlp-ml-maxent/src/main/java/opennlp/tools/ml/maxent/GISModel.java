@@ -193,11 +193,7 @@ public final class GISModel extends AbstractModel {
 
     ArrayMath.sumFeatures(context, values, prior);
 
-    double normal = 0.0;
-    for (int oid = 0; oid < model.getNumOutcomes(); oid++) {
-      prior[oid] = StrictMath.exp(prior[oid]);
-      normal += prior[oid];
-    }
+    double normal = ArrayMath.expInPlace(prior, model.getNumOutcomes(), 0);
 
     for (int oid = 0; oid < model.getNumOutcomes(); oid++) {
       prior[oid] /= normal;
@@ -18,6 +18,7 @@
 package opennlp.tools.ml.maxent;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -33,9 +34,12 @@ import org.slf4j.LoggerFactory;
 import opennlp.tools.commons.Trainer;
 import opennlp.tools.ml.AbstractEventTrainer;
 import opennlp.tools.ml.ArrayMath;
+import opennlp.tools.ml.HeldOutEvaluator;
+import opennlp.tools.ml.model.Context;
 import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.EvalParameters;
 import opennlp.tools.ml.model.Event;
+import opennlp.tools.ml.model.InitialParameters;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.MutableContext;
 import opennlp.tools.ml.model.OnePassDataIndexer;
@@ -428,6 +432,7 @@ public class GISTrainer extends AbstractEventTrainer<TrainingParameters> {
     // For compatibility reasons the model contains form now on a correction constant of 1,
     // and a correction param 0.
     evalParams = new EvalParameters(params, numOutcomes);
+    InitialParameters initialParams = createInitialParameters();
     int[] activeOutcomes = new int[numOutcomes];
     int[] outcomePattern;
     int[] allOutcomesPattern = new int[numOutcomes];
@@ -461,7 +466,7 @@ public class GISTrainer extends AbstractEventTrainer<TrainingParameters> {
       observedExpects[pi] = new MutableContext(outcomePattern, new double[numActiveOutcomes]);
       for (int aoi = 0; aoi < numActiveOutcomes; aoi++) {
         int oi = outcomePattern[aoi];
-        params[pi].setParameter(aoi, 0.0);
+        params[pi].setParameter(aoi, initialParams != null ? initialParams.get(pi, oi) : 0.0);
         for (MutableContext[] modelExpect : modelExpects) {
           modelExpect[pi].setParameter(aoi, 0.0);
         }
@@ -482,15 +487,28 @@ public class GISTrainer extends AbstractEventTrainer<TrainingParameters> {
       logger.info("Computing model parameters in {} threads...", threads);
     }
 
-    findParameters(iterations, correctionConstant);
+    // Find the parameters, create and return the model
+    return findParameters(iterations, correctionConstant);
 
-    // Create and return the model
-    return new GISModel(params, predLabels, outcomeLabels);
+  }
 
+  /**
+   * Aligns the parameters of the {@link #getInitialModel() initial model}, if any, to the
+   * predicates and outcomes of the current training data.
+   */
+  private InitialParameters createInitialParameters() {
+    MaxentModel initialModel = getInitialModel();
+    if (initialModel == null) {
+      return null;
+    }
+    InitialParameters initialParams = InitialParameters.align(initialModel, predLabels, outcomeLabels);
+    logger.info("Continuing training, {} of {} predicates are known to the initial model.",
+        initialParams.getNumKnownPredicates(), numPreds);
+    return initialParams;
   }
 
   /* Estimate and return the model parameters. */
-  private void findParameters(int iterations, double correctionConstant) {
+  private GISModel findParameters(int iterations, double correctionConstant) {
     int threads = modelExpects.length;
 
     ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
@@ -508,10 +526,20 @@ public class GISTrainer extends AbstractEventTrainer<TrainingParameters> {
     //Get the Training Progress Monitor and the StopCriteria.
     TrainingProgressMonitor progressMonitor = getTrainingProgressMonitor(trainingConfiguration);
     StopCriteria<Double> stopCriteria = getStopCriteria(trainingConfiguration);
+    HeldOutEvaluator<GISModel> heldOutEvaluator = createHeldOutEvaluator(progressMonitor);
 
     logger.info("Performing {} iterations.", iterations);
+    int lastIteration = 0;
     for (int i = 1; i <= iterations; i++) {
+      long start = System.nanoTime();
       currLL = nextIteration(correctionConstant, completionService, i);
+      progressMonitor.finishedIteration(i, Duration.ofNanos(System.nanoTime() - start));
+      lastIteration = i;
+
+      if (heldOutEvaluator != null && heldOutEvaluator.evaluate(i, this::createSnapshot)) {
+        progressMonitor.finishedTraining(iterations, heldOutEvaluator.getStopCriteria());
+        break;
+      }
       if (i > 1) {
         if (prevLL > currLL) {
           logger.warn("Model Diverging: loglikelihood decreased");
@@ -537,6 +565,22 @@ public class GISTrainer extends AbstractEventTrainer<TrainingParameters> {
     numTimesEventsSeen = null;
     contexts = null;
     executor.shutdown();
+
+    if (heldOutEvaluator != null) {
+      return heldOutEvaluator.getBestModel(lastIteration, this::createSnapshot);
+    }
+    return new GISModel(params, predLabels, outcomeLabels);
+  }
+
+  /**
+   * Creates a {@link GISModel} from a copy of the current parameters.
+   */
+  private GISModel createSnapshot() {
+    Context[] snapshot = new Context[params.length];
+    for (int pi = 0; pi < params.length; pi++) {
+      snapshot[pi] = new Context(params[pi].getOutcomes(), params[pi].getParameters().clone());
+    }
+    return new GISModel(snapshot, predLabels, outcomeLabels);
   }
 
   //modeled on implementation in  Zhang Le's maxent kit
@@ -259,9 +259,7 @@ public class ParallelNegLogLikelihood extends NegLogLikelihood {
 
         logSumOfExps = ArrayMath.logSumOfExps(expectation);
 
-        for (oi = 0; oi < numOutcomes; oi++) {
-          expectation[oi] = StrictMath.exp(expectation[oi] - logSumOfExps);
-        }
+        ArrayMath.expInPlace(expectation, numOutcomes, logSumOfExps);
 
         for (oi = 0; oi < numOutcomes; oi++) {
           empirical = outcomeList[ci] == oi ? 1 : 0;
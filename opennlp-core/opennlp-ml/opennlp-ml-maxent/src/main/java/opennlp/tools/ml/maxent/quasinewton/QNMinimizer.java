@@ -17,6 +17,8 @@
 
 package opennlp.tools.ml.maxent.quasinewton;
 
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -117,6 +119,10 @@ public class QNMinimizer {
   // This is optional and can be omitted.
   private Evaluator evaluator;
 
+  // For observing the progress of the minimization.
+  // This is optional and can be omitted.
+  private IterationListener iterationListener;
+
   /**
    * Initializes a {@link QNMinimizer} with default parameters
    * (see: {@link #L1COST_DEFAULT} and {@link #L2COST_DEFAULT}).
@@ -196,6 +202,14 @@ public class QNMinimizer {
     this.evaluator = evaluator;
   }
 
+  public IterationListener getIterationListener() {
+    return iterationListener;
+  }
+
+  public void setIterationListener(IterationListener iterationListener) {
+    this.iterationListener = iterationListener;
+  }
+
   /**
    * Finds the parameters that minimize the objective function.
    *
@@ -203,13 +217,34 @@ public class QNMinimizer {
    * @return The minimizing parameters.
    */
   public double[] minimize(Function function) {
+    return minimize(function, null);
+  }
+
+  /**
+   * Finds the parameters that minimize the objective function, starting the search
+   * at the specified point.
+   *
+   * @param function The objective {@link Function}.
+   * @param initialPoint The point to start from, or {@code null} to start at the origin.
+   * @return The minimizing parameters.
+   * @throws IllegalArgumentException Thrown if the dimension of {@code initialPoint} does not
+   *                                  match the dimension of {@code function}.
+   */
+  public double[] minimize(Function function, double[] initialPoint) {
 
     Function l2RegFunction = new L2RegFunction(function, l2Cost);
     this.dimension  = l2RegFunction.getDimension();
     this.updateInfo = new UpdateInfo(this.m, this.dimension);
 
-    // Current point is at the origin
+    // Current point is at the origin, unless an initial point is given
     double[] currPoint = new double[dimension];
+    if (initialPoint != null) {
+      if (initialPoint.length != dimension) {
+        throw new IllegalArgumentException("Initial point has dimension " + initialPoint.length
+            + ", but the function has dimension " + dimension);
+      }
+      System.arraycopy(initialPoint, 0, currPoint, 0, dimension);
+    }
 
     double currValue = l2RegFunction.valueAt(currPoint);
 
@@ -288,21 +323,16 @@ public class QNMinimizer {
           logger.debug("{}: \t {}\t{}\n", iter, lsr.getValueAtNext(), lsr.getFuncChangeRate());
         }
       }
+      if (iterationListener != null
+          && iterationListener.finishedIteration(iter, () -> getSolution(lsr))) {
+        break;
+      }
       if (isConverged(lsr))
         break;
 
       initialStepSize = INITIAL_STEP_SIZE;
     }
 
-    // Undo L2-shrinkage if Elastic Net is used (since
-    // in that case, the shrinkage is done twice)
-    if (l1Cost > 0 && l2Cost > 0) {
-      double[] x = lsr.getNextPoint();
-      for (int i = 0; i < dimension; i++) {
-        x[i] = StrictMath.sqrt(1 + l2Cost) * x[i];
-      }
-    }
-
     long endTime = System.currentTimeMillis();
     long duration = endTime - startTime;
     logger.info("Running time: {}s\n", (duration / 1000.));
@@ -311,11 +341,25 @@ public class QNMinimizer {
     this.updateInfo = null;
     System.gc();
 
+    return getSolution(lsr);
+  }
+
+  /**
+   * Copies the current point, so that it can be returned as solution.
+   */
+  private double[] getSolution(LineSearchResult lsr) {
     // Avoid returning the reference to LineSearchResult's member so that GC can
     // collect memory occupied by lsr after this function completes (is it necessary?)
     double[] parameters = new double[dimension];
     System.arraycopy(lsr.getNextPoint(), 0, parameters, 0, dimension);
 
+    // Undo L2-shrinkage if Elastic Net is used (since
+    // in that case, the shrinkage is done twice)
+    if (l1Cost > 0 && l2Cost > 0) {
+      for (int i = 0; i < dimension; i++) {
+        parameters[i] = StrictMath.sqrt(1 + l2Cost) * parameters[i];
+      }
+    }
     return parameters;
   }
 
@@ -370,17 +414,13 @@ public class QNMinimizer {
     // First loop
     for (int i = k - 1; i >= 0; i--) {
       alpha[i] = rho[i] * ArrayMath.innerProduct(S[i], direction);
-      for (int j = 0; j < dimension; j++) {
-        direction[j] = direction[j] - alpha[i] * Y[i][j];
-      }
+      ArrayMath.axpy(-alpha[i], Y[i], direction);
     }
 
     // Second loop
     for (int i = 0; i < k; i++) {
       double beta = rho[i] * ArrayMath.innerProduct(Y[i], direction);
-      for (int j = 0; j < dimension; j++) {
-        direction[j] = direction[j] + S[i][j] * (alpha[i] - beta);
-      }
+      ArrayMath.axpy(alpha[i] - beta, S[i], direction);
     }
 
     for (int i = 0; i < dimension; i++) {
@@ -456,17 +496,14 @@ public class QNMinimizer {
       double[] nextPoint  = lsr.getNextPoint();
       double[] gradAtNext = lsr.getGradAtNext();
 
-      // Inner product of S_k and Y_k
-      double SYk = 0.0;
-
       // Add new ones.
       if (kCounter < m) {
         for (int j = 0; j < dimension; j++) {
           S[kCounter][j] = nextPoint[j] - currPoint[j];
           Y[kCounter][j] = gradAtNext[j] - gradAtCurr[j];
-          SYk += S[kCounter][j] * Y[kCounter][j];
         }
-        rho[kCounter] = 1.0 / SYk;
+        // Inner product of S_k and Y_k
+        rho[kCounter] = 1.0 / ArrayMath.innerProduct(S[kCounter], Y[kCounter]);
       }
       else {
         // Discard oldest vectors and add new ones.
@@ -478,9 +515,8 @@ public class QNMinimizer {
         for (int j = 0; j < dimension; j++) {
           S[m - 1][j] = nextPoint[j] - currPoint[j];
           Y[m - 1][j] = gradAtNext[j] - gradAtCurr[j];
-          SYk += S[m - 1][j] * Y[m - 1][j];
         }
-        rho[m - 1] = 1.0 / SYk;
+        rho[m - 1] = 1.0 / ArrayMath.innerProduct(S[m - 1], Y[m - 1]);
       }
 
       if (kCounter < m)
@@ -520,9 +556,7 @@ public class QNMinimizer {
       checkDimension(x);
       double[] gradient = f.gradientAt(x);
       if (l2Cost > 0) {
-        for (int i = 0; i < x.length; i++) {
-          gradient[i] += 2 * l2Cost * x[i];
-        }
+        ArrayMath.axpy(2 * l2Cost, x, gradient);
       }
       return gradient;
     }
@@ -548,4 +582,18 @@ public class QNMinimizer {
      */
     double evaluate(double[] parameters);
   }
+
+  /**
+   * Observes the progress of the minimization.
+   */
+  public interface IterationListener {
+    /**
+     * Is called after each iteration of the minimization.
+     *
+     * @param iteration The completed iteration.
+     * @param solution Supplies a copy of the solution after the {@code iteration}.
+     * @return {@code true} to stop the minimization, {@code false} to continue.
+     */
+    boolean finishedIteration(int iteration, Supplier<double[]> solution);
+  }
 }
@@ -18,9 +18,11 @@
 package opennlp.tools.ml.maxent.quasinewton;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,10 +30,17 @@ import org.slf4j.LoggerFactory;
 import opennlp.tools.commons.Trainer;
 import opennlp.tools.ml.AbstractEventTrainer;
 import opennlp.tools.ml.ArrayMath;
+import opennlp.tools.ml.HeldOutEvaluator;
 import opennlp.tools.ml.maxent.quasinewton.QNMinimizer.Evaluator;
+import opennlp.tools.ml.maxent.quasinewton.QNMinimizer.IterationListener;
 import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.Context;
 import opennlp.tools.ml.model.DataIndexer;
+import opennlp.tools.ml.model.InitialParameters;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.monitoring.DefaultTrainingProgressMonitor;
+import opennlp.tools.monitoring.TrainingProgressMonitor;
+import opennlp.tools.util.TrainingConfiguration;
 import opennlp.tools.util.TrainingParameters;
 
 /**
@@ -212,15 +221,63 @@ public class QNTrainer extends AbstractEventTrainer<TrainingParameters> {
         l1Cost, l2Cost, iterations, m, maxFctEval);
     minimizer.setEvaluator(new ModelEvaluator(indexer));
 
-    double[] parameters = minimizer.minimize(objectiveFunction);
-
-    // Construct model with trained parameters
     String[] predLabels = indexer.getPredLabels();
     int nPredLabels = predLabels.length;
 
     String[] outcomeNames = indexer.getOutcomeLabels();
     int nOutcomes = outcomeNames.length;
 
+    // Only report progress if a monitor was configured or held-out data needs to be evaluated
+    TrainingProgressMonitor configuredMonitor = getTrainingProgressMonitor(trainingConfiguration);
+    TrainingProgressMonitor progressMonitor = configuredMonitor != null ?
+        configuredMonitor : new DefaultTrainingProgressMonitor();
+    HeldOutEvaluator<QNModel> heldOutEvaluator = createHeldOutEvaluator(progressMonitor);
+    ProgressListener listener = null;
+    if (configuredMonitor != null || heldOutEvaluator != null) {
+      listener = new ProgressListener(iterations, progressMonitor, heldOutEvaluator,
+          predLabels, outcomeNames);
+      minimizer.setIterationListener(listener);
+    }
+
+    double[] initialPoint = null;
+    MaxentModel initialModel = getInitialModel();
+    if (initialModel != null) {
+      InitialParameters initialParams = InitialParameters.align(initialModel, predLabels, outcomeNames);
+      logger.info("Continuing training, {} of {} predicates are known to the initial model.",
+          initialParams.getNumKnownPredicates(), nPredLabels);
+      initialPoint = new double[nOutcomes * nPredLabels];
+      for (int oi = 0; oi < nOutcomes; oi++) {
+        for (int ci = 0; ci < nPredLabels; ci++) {
+          initialPoint[oi * nPredLabels + ci] = initialParams.get(ci, oi);
+        }
+      }
+    }
+
+    double[] parameters = minimizer.minimize(objectiveFunction, initialPoint);
+
+    //At this point, all iterations have finished successfully.
+    if (listener != null) {
+      if (!progressMonitor.isTrainingFinished()) {
+        progressMonitor.finishedTraining(iterations, null);
+      }
+      progressMonitor.display(true);
+    }
+
+    if (heldOutEvaluator != null) {
+      return heldOutEvaluator.getBestModel(listener.lastIteration, () ->
+          createModel(parameters, predLabels, outcomeNames));
+    }
+    return createModel(parameters, predLabels, outcomeNames);
+  }
+
+  /**
+   * Constructs a {@link QNModel} with the given outcome-major parameters.
+   */
+  private static QNModel createModel(double[] parameters, String[] predLabels,
+                                     String[] outcomeNames) {
+    int nPredLabels = predLabels.length;
+    int nOutcomes = outcomeNames.length;
+
     Context[] params = new Context[nPredLabels];
     for (int ci = 0; ci < params.length; ci++) {
       List<Integer> outcomePattern = new ArrayList<>(nOutcomes);
@@ -237,6 +294,57 @@ public class QNTrainer extends AbstractEventTrainer<TrainingParameters> {
     return new QNModel(params, predLabels, outcomeNames);
   }
 
+  /**
+   * Get the {@link TrainingProgressMonitor} associated with this {@link Trainer}.
+   *
+   * @param trainingConfig {@link TrainingConfiguration}.
+   * @return {@link TrainingProgressMonitor}, or {@code null} if {@link TrainingConfiguration}
+   * is {@code null} or {@link TrainingConfiguration#progMon()} is {@code null}.
+   */
+  private TrainingProgressMonitor getTrainingProgressMonitor(TrainingConfiguration trainingConfig) {
+    return trainingConfig != null ? trainingConfig.progMon() : null;
+  }
+
+  /**
+   * Reports the duration of each iteration and evaluates the held-out data, if any.
+   */
+  private static final class ProgressListener implements IterationListener {
+
+    private final int iterations;
+    private final TrainingProgressMonitor progressMonitor;
+    private final HeldOutEvaluator<QNModel> heldOutEvaluator;
+    private final String[] predLabels;
+    private final String[] outcomeNames;
+
+    private long lastTime = System.nanoTime();
+    private int lastIteration;
+
+    private ProgressListener(int iterations, TrainingProgressMonitor progressMonitor,
+                             HeldOutEvaluator<QNModel> heldOutEvaluator,
+                             String[] predLabels, String[] outcomeNames) {
+      this.iterations = iterations;
+      this.progressMonitor = progressMonitor;
+      this.heldOutEvaluator = heldOutEvaluator;
+      this.predLabels = predLabels;
+      this.outcomeNames = outcomeNames;
+    }
+
+    @Override
+    public boolean finishedIteration(int iteration, Supplier<double[]> solution) {
+      progressMonitor.finishedIteration(iteration, Duration.ofNanos(System.nanoTime() - lastTime));
+      lastIteration = iteration;
+
+      boolean stop = false;
+      if (heldOutEvaluator != null && heldOutEvaluator.evaluate(iteration, () ->
+          createModel(solution.get(), predLabels, outcomeNames))) {
+        progressMonitor.finishedTraining(iterations, heldOutEvaluator.getStopCriteria());
+        stop = true;
+      }
+      lastTime = System.nanoTime();
+      return stop;
+    }
+  }
+
   /**
    * For measuring model's training accuracy.
    *
@@ -0,0 +1,279 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml.maxent.sgd;
+
+import java.util.Arrays;
+
+import opennlp.tools.ml.maxent.sgd.SGDTrainer.Updater;
+
+/**
+ * Performs mini-batch updates of a maxent parameter vector over a slice of the training events.
+ * <p>
+ * Parameters are stored predicate-major, i.e. the weight of predicate {@code p} for outcome
+ * {@code o} is located at {@code p * numOutcomes + o}. Gradients are accumulated sparsely for the
+ * predicates active in the current batch only. L1 and L2 regularization is applied lazily:
+ * a predicate catches up on the regularization steps it missed, in closed form, whenever it is
+ * read or updated, and all predicates are caught up by {@link #flush()}.
+ * <p>
+ * Instances are not thread-safe, each shard of a parallel training owns a separate worker.
+ */
+final class MiniBatchWorker {
+
+  private static final double EPSILON = 1e-8;
+  private static final double ADAM_BETA1 = 0.9;
+  private static final double ADAM_BETA2 = 0.999;
+
+  // training data, shared between workers
+  private final int[][] contexts;
+  private final float[][] values;
+  private final int[] outcomeList;
+  private final int[] numTimesEventsSeen;
+  private final int numOutcomes;
+
+  // settings
+  private final Updater updater;
+  private final double learningRate;
+  private final double l1Cost;
+  private final double l2Cost;
+  private final int batchSize;
+
+  // model and optimizer state
+  final double[] parameters;
+  private final double[] gradient;
+  private final double[] firstMoments;
+  private final double[] secondMoments;
+  private final int[] lastStep;
+  private int step;
+
+  // per batch bookkeeping
+  private final int[] batchStamp;
+  private int[] batchPredicates = new int[64];
+  private int numBatchPredicates;
+  private final double[] probs;
+
+  // progress of the current epoch, measured before each event's update
+  double logLikelihood;
+  int numCorrect;
+  int numEvents;
+
+  MiniBatchWorker(int[][] contexts, float[][] values, int[] outcomeList, int[] numTimesEventsSeen,
+                  int numPredicates, int numOutcomes, Updater updater, double learningRate,
+                  double l1Cost, double l2Cost, int batchSize) {
+    this.contexts = contexts;
+    this.values = values;
+    this.outcomeList = outcomeList;
+    this.numTimesEventsSeen = numTimesEventsSeen;
+    this.numOutcomes = numOutcomes;
+    this.updater = updater;
+    this.learningRate = learningRate;
+    this.l1Cost = l1Cost;
+    this.l2Cost = l2Cost;
+    this.batchSize = batchSize;
+
+    final int dimension = numPredicates * numOutcomes;
+    this.parameters = new double[dimension];
+    this.gradient = new double[dimension];
+    this.firstMoments = updater == Updater.ADAM ? new double[dimension] : null;
+    this.secondMoments = updater != Updater.SGD ? new double[dimension] : null;
+    this.lastStep = new int[numPredicates];
+    this.batchStamp = new int[numPredicates];
+    this.probs = new double[numOutcomes];
+  }
+
+  /**
+   * Trains on the events {@code order[from]} to {@code order[to - 1]} in mini-batches and
+   * records the progressive log-likelihood and accuracy of the epoch.
+   */
+  void epoch(int[] order, int from, int to) {
+    logLikelihood = 0;
+    numCorrect = 0;
+    numEvents = 0;
+
+    for (int start = from; start < to; start += batchSize) {
+      final int end = Math.min(start + batchSize, to);
+      step++;
+      numBatchPredicates = 0;
+      double batchWeight = 0;
+      for (int i = start; i < end; i++) {
+        batchWeight += accumulate(order[i]);
+      }
+      update(batchWeight);
+    }
+  }
+
+  /**
+   * Adds the gradient of the negative log-likelihood of event {@code ei} to the batch gradient.
+   *
+   * @return The weight of the event, i.e. the number of times it was seen.
+   */
+  private int accumulate(int ei) {
+    final int[] context = contexts[ei];
+    final float[] value = values != null ? values[ei] : null;
+    final int count = numTimesEventsSeen[ei];
+    final int outcome = outcomeList[ei];
+
+    Arrays.fill(probs, 0);
+    for (int ci = 0; ci < context.length; ci++) {
+      final int pred = context[ci];
+      catchUp(pred, step - 1);
+      if (batchStamp[pred] != step) {
+        batchStamp[pred] = step;
+        if (numBatchPredicates == batchPredicates.length) {
+          batchPredicates = Arrays.copyOf(batchPredicates, numBatchPredicates * 2);
+        }
+        batchPredicates[numBatchPredicates++] = pred;
+      }
+      final double v = value != null ? value[ci] : 1;
+      final int offset = pred * numOutcomes;
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        probs[oi] += v * parameters[offset + oi];
+      }
+    }
+
+    // softmax with the maximum trick
+    int best = 0;
+    for (int oi = 1; oi < numOutcomes; oi++) {
+      if (probs[oi] > probs[best]) {
+        best = oi;
+      }
+    }
+    final double max = probs[best];
+    double sum = 0;
+    for (int oi = 0; oi < numOutcomes; oi++) {
+      probs[oi] = StrictMath.exp(probs[oi] - max);
+      sum += probs[oi];
+    }
+    for (int oi = 0; oi < numOutcomes; oi++) {
+      probs[oi] /= sum;
+    }
+
+    logLikelihood += count * StrictMath.log(probs[outcome]);
+    if (best == outcome) {
+      numCorrect += count;
+    }
+    numEvents += count;
+
+    for (int ci = 0; ci < context.length; ci++) {
+      final double v = (value != null ? value[ci] : 1) * count;
+      final int offset = context[ci] * numOutcomes;
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        gradient[offset + oi] += v * (oi == outcome ? probs[oi] - 1 : probs[oi]);
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Applies the accumulated batch gradient to the predicates active in the batch.
+   */
+  private void update(double batchWeight) {
+    final double scale = 1 / batchWeight;
+    final double biasCorrection1 = 1 - StrictMath.pow(ADAM_BETA1, step);
+    final double biasCorrection2 = 1 - StrictMath.pow(ADAM_BETA2, step);
+
+    for (int bi = 0; bi < numBatchPredicates; bi++) {
+      final int pred = batchPredicates[bi];
+      final int offset = pred * numOutcomes;
+      for (int k = offset; k < offset + numOutcomes; k++) {
+        final double g = gradient[k] * scale;
+        gradient[k] = 0;
+        final double rate;
+        switch (updater) {
+          case ADAGRAD -> {
+            secondMoments[k] += g * g;
+            rate = learningRate / (StrictMath.sqrt(secondMoments[k]) + EPSILON);
+            parameters[k] -= rate * g;
+          }
+          case ADAM -> {
+            firstMoments[k] = ADAM_BETA1 * firstMoments[k] + (1 - ADAM_BETA1) * g;
+            secondMoments[k] = ADAM_BETA2 * secondMoments[k] + (1 - ADAM_BETA2) * g * g;
+            rate = learningRate;
+            parameters[k] -= learningRate * (firstMoments[k] / biasCorrection1)
+                / (StrictMath.sqrt(secondMoments[k] / biasCorrection2) + EPSILON);
+          }
+          default -> {
+            rate = learningRate;
+            parameters[k] -= rate * g;
+          }
+        }
+        regularize(k, 1, rate);
+      }
+      lastStep[pred] = step;
+    }
+  }
+
+  /**
+   * Applies the regularization steps predicate {@code pred} missed up to step {@code upTo}.
+   */
+  private void catchUp(int pred, int upTo) {
+    final int missed = upTo - lastStep[pred];
+    if (missed > 0 && (l1Cost > 0 || l2Cost > 0)) {
+      final int offset = pred * numOutcomes;
+      for (int k = offset; k < offset + numOutcomes; k++) {
+        regularize(k, missed, currentRate(k));
+      }
+    }
+    if (missed > 0) {
+      lastStep[pred] = upTo;
+    }
+  }
+
+  /**
+   * @return The step size a parameter would be updated with, without a new gradient.
+   */
+  private double currentRate(int k) {
+    if (updater == Updater.ADAGRAD) {
+      return learningRate / (StrictMath.sqrt(secondMoments[k]) + EPSILON);
+    }
+    return learningRate;
+  }
+
+  /**
+   * Applies {@code steps} regularization steps with the given step size to parameter {@code k},
+   * as L2 weight decay followed by L1 soft-thresholding.
+   */
+  private void regularize(int k, int steps, double rate) {
+    double w = parameters[k];
+    if (l2Cost > 0) {
+      final double decay = 1 - rate * l2Cost;
+      w = decay <= 0 ? 0 : w * (steps == 1 ? decay : StrictMath.pow(decay, steps));
+    }
+    if (l1Cost > 0) {
+      final double shrink = steps * rate * l1Cost;
+      w = w > 0 ? Math.max(0, w - shrink) : Math.min(0, w + shrink);
+    }
+    parameters[k] = w;
+  }
+
+  /**
+   * Brings all predicates up to date with the current step.
+   */
+  void flush() {
+    for (int pred = 0; pred < lastStep.length; pred++) {
+      catchUp(pred, step);
+    }
+  }
+
+  /**
+   * Replaces the parameters with the specified ones, e.g. the average of all shards.
+   */
+  void setParameters(double[] newParameters) {
+    System.arraycopy(newParameters, 0, parameters, 0, parameters.length);
+  }
+}
@@ -0,0 +1,456 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml.maxent.sgd;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import opennlp.tools.commons.Trainer;
+import opennlp.tools.ml.AbstractEventTrainer;
+import opennlp.tools.ml.HeldOutEvaluator;
+import opennlp.tools.ml.maxent.GISModel;
+import opennlp.tools.ml.model.Context;
+import opennlp.tools.ml.model.DataIndexer;
+import opennlp.tools.ml.model.InitialParameters;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.monitoring.DefaultTrainingProgressMonitor;
+import opennlp.tools.monitoring.LogLikelihoodThresholdBreached;
+import opennlp.tools.monitoring.StopCriteria;
+import opennlp.tools.monitoring.TrainingMeasure;
+import opennlp.tools.monitoring.TrainingProgressMonitor;
+import opennlp.tools.util.TrainingConfiguration;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * A Maxent model {@link Trainer trainer} using stochastic mini-batch gradient descent.
+ * <p>
+ * In contrast to {@link opennlp.tools.ml.maxent.GISTrainer GIS} and
+ * {@link opennlp.tools.ml.maxent.quasinewton.QNTrainer L-BFGS}, which need a full pass over
+ * the training data for every parameter update, this trainer updates the parameters after each
+ * mini-batch of shuffled events. Every iteration is one epoch over the training data, so only a
+ * few iterations are usually required, which makes it suited for very large corpora.
+ * <p>
+ * The step size is controlled by the {@link Updater}, plain {@link Updater#SGD SGD},
+ * {@link Updater#ADAGRAD AdaGrad} or {@link Updater#ADAM Adam}. Updates are sparse, only the
+ * parameters of predicates active in a batch are touched, and L1 and L2 regularization
+ * are applied lazily. With more than one {@link #THREADS_PARAM thread} each thread trains on a
+ * shard of the events and the shard parameters are averaged after every epoch.
+ * <p>
+ * The progressive log-likelihood of each epoch, i.e. the log-likelihood of every event before
+ * the model was updated with it, is reported to the {@link TrainingProgressMonitor}. Unlike the
+ * log-likelihood of GIS it is noisy and may drop from one epoch to the next, therefore the
+ * {@link StopCriteria} is checked against the absolute change between two epochs.
+ * The trained model is a regular {@link GISModel}.
+ *
+ * @see AbstractEventTrainer
+ * @see GISModel
+ * @see Trainer
+ */
+public class SGDTrainer extends AbstractEventTrainer<TrainingParameters> {
+
+  private static final Logger logger = LoggerFactory.getLogger(SGDTrainer.class);
+
+  public static final String MAXENT_SGD_VALUE = "MAXENT_SGD";
+
+  /**
+   * The rule used to compute the step size of each parameter update.
+   */
+  public enum Updater {
+    /** A constant step size for all parameters. */
+    SGD(0.1),
+    /** A per-parameter step size that decreases with the sum of the squared gradients. */
+    ADAGRAD(0.1),
+    /** A per-parameter step size derived from moving averages of the gradient and its square. */
+    ADAM(0.01);
+
+    private final double defaultLearningRate;
+
+    Updater(double defaultLearningRate) {
+      this.defaultLearningRate = defaultLearningRate;
+    }
+
+    /**
+     * @return The learning rate used if {@link #LEARNING_RATE_PARAM} is not set.
+     */
+    public double getDefaultLearningRate() {
+      return defaultLearningRate;
+    }
+  }
+
+  public static final String UPDATER_PARAM = "Updater";
+  public static final Updater UPDATER_DEFAULT = Updater.ADAGRAD;
+
+  public static final String LEARNING_RATE_PARAM = "LearningRate";
+
+  public static final String BATCH_SIZE_PARAM = "BatchSize";
+
+  /** The default number of events per mini-batch is {@code 32}. */
+  public static final int BATCH_SIZE_DEFAULT = 32;
+
+  public static final String THREADS_PARAM = "Threads";
+  public static final int THREADS_DEFAULT = 1;
+
+  public static final String L1COST_PARAM = "L1Cost";
+
+  /** The default L1-cost value is {@code 0}. */
+  public static final double L1COST_DEFAULT = 0;
+
+  public static final String L2COST_PARAM = "L2Cost";
+
+  /** The default L2-cost value is {@code 0}. */
+  public static final double L2COST_DEFAULT = 0;
+
+  public static final String SHUFFLE_SEED_PARAM = "ShuffleSeed";
+
+  /** The default seed of the random event order is {@code 0}. */
+  public static final long SHUFFLE_SEED_DEFAULT = 0;
+
+  private Updater updater;
+  private double learningRate;
+  private int batchSize;
+  private int threads;
+  private double l1Cost;
+  private double l2Cost;
+  private long shuffleSeed;
+
+  /**
+   * Initializes a {@link SGDTrainer} with default settings.
+   */
+  public SGDTrainer() {
+    this.updater = UPDATER_DEFAULT;
+    this.learningRate = UPDATER_DEFAULT.getDefaultLearningRate();
+    this.batchSize = BATCH_SIZE_DEFAULT;
+    this.threads = THREADS_DEFAULT;
+    this.l1Cost = L1COST_DEFAULT;
+    this.l2Cost = L2COST_DEFAULT;
+    this.shuffleSeed = SHUFFLE_SEED_DEFAULT;
+  }
+
+  /**
+   * Initializes a {@link SGDTrainer} with the specified {@code parameters}.
+   *
+   * @param parameters The {@link TrainingParameters} to use.
+   */
+  public SGDTrainer(TrainingParameters parameters) {
+    super(parameters);
+  }
+
+  // >> Members related to AbstractEventTrainer
+  @Override
+  public void init(TrainingParameters trainingParameters, Map<String, String> reportMap) {
+    super.init(trainingParameters, reportMap);
+    String updaterName = trainingParameters.getStringParameter(UPDATER_PARAM, UPDATER_DEFAULT.name());
+    try {
+      this.updater = Updater.valueOf(updaterName.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown updater: " + updaterName);
+    }
+    this.learningRate = trainingParameters.getDoubleParameter(LEARNING_RATE_PARAM,
+        updater.getDefaultLearningRate());
+    this.batchSize = trainingParameters.getIntParameter(BATCH_SIZE_PARAM, BATCH_SIZE_DEFAULT);
+    this.threads = trainingParameters.getIntParameter(THREADS_PARAM, THREADS_DEFAULT);
+    this.l1Cost = trainingParameters.getDoubleParameter(L1COST_PARAM, L1COST_DEFAULT);
+    this.l2Cost = trainingParameters.getDoubleParameter(L2COST_PARAM, L2COST_DEFAULT);
+    this.shuffleSeed = Long.parseLong(trainingParameters.getStringParameter(SHUFFLE_SEED_PARAM,
+        Long.toString(SHUFFLE_SEED_DEFAULT)));
+  }
+
+  @Override
+  public void validate() {
+    super.validate();
+
+    String algorithmName = getAlgorithm();
+    if (algorithmName != null && !(MAXENT_SGD_VALUE.equals(algorithmName))) {
+      throw new IllegalArgumentException("algorithmName must be " + MAXENT_SGD_VALUE);
+    }
+
+    if (learningRate <= 0) {
+      throw new IllegalArgumentException("Learning rate must be > 0");
+    }
+
+    if (batchSize < 1) {
+      throw new IllegalArgumentException("Batch size must be >= 1");
+    }
+
+    // Number of threads must be >= 1
+    if (threads < 1) {
+      throw new IllegalArgumentException("Number of threads must be >= 1");
+    }
+
+    // Regularization costs must be >= 0
+    if (l1Cost < 0) {
+      throw new IllegalArgumentException("Regularization costs must be >= 0");
+    }
+
+    if (l2Cost < 0) {
+      throw new IllegalArgumentException("Regularization costs must be >= 0");
+    }
+  }
+
+  @Override
+  public boolean isSortAndMerge() {
+    return true;
+  }
+
+  @Override
+  public GISModel doTrain(DataIndexer<TrainingParameters> indexer) throws IOException {
+    int iterations = getIterations();
+    return trainModel(iterations, indexer);
+  }
+
+  /**
+   * Trains a {@link GISModel model} with mini-batch gradient descent.
+   *
+   * @param iterations The maximum number of epochs to perform.
+   * @param indexer    The {@link DataIndexer} used to compress events in memory.
+   *
+   * @return A trained {@link GISModel} which can be used immediately or saved to
+   *         disk using an {@link opennlp.tools.ml.maxent.io.GISModelWriter}.
+   * @throws IllegalArgumentException Thrown if parameters were invalid.
+   */
+  public GISModel trainModel(int iterations, DataIndexer<TrainingParameters> indexer) {
+    final int[][] contexts = indexer.getContexts();
+    final String[] predLabels = indexer.getPredLabels();
+    final String[] outcomeNames = indexer.getOutcomeLabels();
+    final int numUniqueEvents = contexts.length;
+    final int numShards = Math.max(1, Math.min(threads, numUniqueEvents));
+
+    final MiniBatchWorker[] workers = new MiniBatchWorker[numShards];
+    for (int i = 0; i < numShards; i++) {
+      workers[i] = new MiniBatchWorker(contexts, indexer.getValues(), indexer.getOutcomeList(),
+          indexer.getNumTimesEventsSeen(), predLabels.length, outcomeNames.length,
+          updater, learningRate, l1Cost, l2Cost, batchSize);
+    }
+
+    final MaxentModel initialModel = getInitialModel();
+    if (initialModel != null) {
+      InitialParameters initialParams = InitialParameters.align(initialModel, predLabels, outcomeNames);
+      logger.info("Continuing training, {} of {} predicates are known to the initial model.",
+          initialParams.getNumKnownPredicates(), predLabels.length);
+      final double[] initialPoint = new double[predLabels.length * outcomeNames.length];
+      for (int pi = 0; pi < predLabels.length; pi++) {
+        for (int oi = 0; oi < outcomeNames.length; oi++) {
+          initialPoint[pi * outcomeNames.length + oi] = initialParams.get(pi, oi);
+        }
+      }
+      for (MiniBatchWorker worker : workers) {
+        worker.setParameters(initialPoint);
+      }
+    }
+
+    final int[] order = new int[numUniqueEvents];
+    for (int i = 0; i < numUniqueEvents; i++) {
+      order[i] = i;
+    }
+    final Random random = new Random(shuffleSeed);
+
+    ExecutorService executor = numShards > 1 ? Executors.newFixedThreadPool(numShards, runnable -> {
+      Thread thread = new Thread(runnable);
+      thread.setName("opennlp.tools.ml.maxent.sgd.SGDTrainer.trainModel()");
+      thread.setDaemon(true);
+      return thread;
+    }) : null;
+
+    TrainingProgressMonitor progressMonitor = getTrainingProgressMonitor(trainingConfiguration);
+    StopCriteria<Double> stopCriteria = getStopCriteria(trainingConfiguration);
+    HeldOutEvaluator<GISModel> heldOutEvaluator = createHeldOutEvaluator(progressMonitor);
+
+    logger.info("Performing {} epochs with {} in batches of {} events, {} thread(s).",
+        iterations, updater, batchSize, numShards);
+    int lastIteration = 0;
+    try {
+      double prevLL = 0.0;
+      for (int i = 1; i <= iterations; i++) {
+        long start = System.nanoTime();
+        shuffle(order, random);
+        epoch(workers, order, executor);
+        progressMonitor.finishedIteration(i, Duration.ofNanos(System.nanoTime() - start));
+        lastIteration = i;
+
+        double currLL = 0;
+        int numCorrect = 0;
+        int numEvents = 0;
+        for (MiniBatchWorker worker : workers) {
+          currLL += worker.logLikelihood;
+          numCorrect += worker.numCorrect;
+          numEvents += worker.numEvents;
+        }
+        progressMonitor.finishedIteration(i, numCorrect, numEvents,
+            TrainingMeasure.LOG_LIKELIHOOD, currLL);
+
+        if (heldOutEvaluator != null && heldOutEvaluator.evaluate(i, () ->
+            createModel(workers[0].parameters, predLabels, outcomeNames))) {
+          progressMonitor.finishedTraining(iterations, heldOutEvaluator.getStopCriteria());
+          break;
+        }
+        if (i > 1 && stopCriteria.test(Math.abs(currLL - prevLL))) {
+          progressMonitor.finishedTraining(iterations, stopCriteria);
+          break;
+        }
+        prevLL = currLL;
+      }
+    } finally {
+      if (executor != null) {
+        executor.shutdown();
+      }
+    }
+
+    //At this point, all iterations have finished successfully.
+    if (!progressMonitor.isTrainingFinished()) {
+      progressMonitor.finishedTraining(iterations, null);
+    }
+    progressMonitor.display(true);
+
+    if (heldOutEvaluator != null) {
+      return heldOutEvaluator.getBestModel(lastIteration, () ->
+          createModel(workers[0].parameters, predLabels, outcomeNames));
+    }
+    return createModel(workers[0].parameters, predLabels, outcomeNames);
+  }
+
+  /**
+   * Runs one epoch on all shards and mixes their parameters afterward.
+   */
+  private void epoch(MiniBatchWorker[] workers, int[] order, ExecutorService executor) {
+    final int numShards = workers.length;
+    if (numShards == 1) {
+      workers[0].epoch(order, 0, order.length);
+      workers[0].flush();
+      return;
+    }
+
+    List<Future<?>> futures = new ArrayList<>(numShards);
+    for (int s = 0; s < numShards; s++) {
+      final MiniBatchWorker worker = workers[s];
+      final int from = (int) ((long) order.length * s / numShards);
+      final int to = (int) ((long) order.length * (s + 1) / numShards);
+      futures.add(executor.submit(() -> {
+        worker.epoch(order, from, to);
+        worker.flush();
+      }));
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while training", e);
+      } catch (ExecutionException e) {
+        throw new IllegalStateException(e.getCause());
+      }
+    }
+
+    // iterative parameter mixing, every shard continues from the average
+    final double[] average = new double[workers[0].parameters.length];
+    for (MiniBatchWorker worker : workers) {
+      final double[] parameters = worker.parameters;
+      for (int k = 0; k < average.length; k++) {
+        average[k] += parameters[k];
+      }
+    }
+    for (int k = 0; k < average.length; k++) {
+      average[k] /= numShards;
+    }
+    for (MiniBatchWorker worker : workers) {
+      worker.setParameters(average);
+    }
+  }
+
+  private static void shuffle(int[] order, Random random) {
+    for (int i = order.length - 1; i > 0; i--) {
+      final int j = random.nextInt(i + 1);
+      final int tmp = order[i];
+      order[i] = order[j];
+      order[j] = tmp;
+    }
+  }
+
+  /**
+   * Converts the predicate-major parameters into a {@link GISModel}. Parameters which are zero,
+   * e.g. due to L1 regularization, are omitted, and so are predicates without any parameter.
+   */
+  private static GISModel createModel(double[] parameters, String[] predLabels,
+                                      String[] outcomeNames) {
+    final int numOutcomes = outcomeNames.length;
+    final List<String> activeLabels = new ArrayList<>(predLabels.length);
+    final List<Context> params = new ArrayList<>(predLabels.length);
+    final int[] outcomes = new int[numOutcomes];
+    final double[] alpha = new double[numOutcomes];
+
+    for (int pi = 0; pi < predLabels.length; pi++) {
+      int numActive = 0;
+      for (int oi = 0; oi < numOutcomes; oi++) {
+        final double value = parameters[pi * numOutcomes + oi];
+        if (value != 0) {
+          outcomes[numActive] = oi;
+          alpha[numActive] = value;
+          numActive++;
+        }
+      }
+      if (numActive > 0) {
+        activeLabels.add(predLabels[pi]);
+        params.add(new Context(Arrays.copyOf(outcomes, numActive),
+            Arrays.copyOf(alpha, numActive)));
+      }
+    }
+    logger.info("{} of {} predicates have non-zero parameters.", activeLabels.size(), predLabels.length);
+
+    return new GISModel(params.toArray(new Context[0]), activeLabels.toArray(new String[0]),
+        outcomeNames);
+  }
+
+  /**
+   * Get the {@link StopCriteria} associated with this {@link Trainer}.
+   *
+   * @param trainingConfig {@link TrainingConfiguration}
+   * @return {@link StopCriteria}. If {@link TrainingConfiguration} is {@code null} or
+   *     {@link TrainingConfiguration#stopCriteria()} is {@code null},
+   *     then return the default {@link StopCriteria}.
+   */
+  private StopCriteria<Double> getStopCriteria(TrainingConfiguration trainingConfig) {
+    return trainingConfig != null && trainingConfig.stopCriteria() != null
+        ? trainingConfig.stopCriteria() : new LogLikelihoodThresholdBreached(trainingParameters);
+  }
+
+  /**
+   * Get the {@link TrainingProgressMonitor} associated with this {@link Trainer}.
+   *
+   * @param trainingConfig {@link TrainingConfiguration}.
+   * @return {@link TrainingProgressMonitor}. If {@link TrainingConfiguration} is {@code null} or
+   *     {@link TrainingConfiguration#progMon()} is {@code null},
+   *     then return the default {@link TrainingProgressMonitor}.
+   */
+  private TrainingProgressMonitor getTrainingProgressMonitor(TrainingConfiguration trainingConfig) {
+    return trainingConfig != null && trainingConfig.progMon() != null ?
+        trainingConfig.progMon() : new DefaultTrainingProgressMonitor();
+  }
+}
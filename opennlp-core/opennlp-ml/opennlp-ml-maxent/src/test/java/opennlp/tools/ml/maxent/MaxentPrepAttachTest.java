@@ -18,8 +18,12 @@
 package opennlp.tools.ml.maxent;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -32,7 +36,12 @@ import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.TwoPassDataIndexer;
 import opennlp.tools.ml.model.UniformPrior;
+import opennlp.tools.monitoring.HeldOutPatienceExceeded;
+import opennlp.tools.monitoring.StopCriteria;
+import opennlp.tools.monitoring.TrainingMeasure;
+import opennlp.tools.monitoring.TrainingProgressMonitor;
 import opennlp.tools.util.Parameters;
+import opennlp.tools.util.TrainingConfiguration;
 import opennlp.tools.util.TrainingParameters;
 
 public class MaxentPrepAttachTest {
@@ -109,4 +118,105 @@ public class MaxentPrepAttachTest {
 
     PrepAttachDataUtil.testModel(model, 0.8103490963109681);
   }
+
+  @Test
+  void testMaxentOnPrepAttachDataWarmStart() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, Parameters.ALGORITHM_DEFAULT_VALUE);
+    trainParams.put(Parameters.ITERATIONS_PARAM, 20);
+
+    GISTrainer trainer = new GISTrainer();
+    trainer.init(trainParams, null);
+    MaxentModel initialModel = trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(initialModel, 0.8078732359494925);
+
+    trainParams.put(Parameters.WARM_START_ITERATIONS_PARAM, 80);
+    GISTrainer warmStartTrainer = new GISTrainer();
+    warmStartTrainer.init(trainParams, null, new TrainingConfiguration(null, null, initialModel));
+    Assertions.assertEquals(80, warmStartTrainer.getIterations());
+    MaxentModel model = warmStartTrainer.train(PrepAttachDataUtil.createTrainingStream());
+    // 20 + 80 iterations end up where 100 iterations in one run do
+    PrepAttachDataUtil.testModel(model, 0.8086159940579352);
+  }
+
+  @Test
+  void testMaxentOnPrepAttachDataWithHeldOutData() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, Parameters.ALGORITHM_DEFAULT_VALUE);
+    trainParams.put(Parameters.HELD_OUT_PATIENCE_PARAM, 3);
+
+    RecordingProgressMonitor progressMonitor = new RecordingProgressMonitor();
+    GISTrainer trainer = new GISTrainer();
+    trainer.init(trainParams, null, new TrainingConfiguration(progressMonitor, null));
+    trainer.setHeldOutEvents(PrepAttachDataUtil.createDevStream());
+    MaxentModel model = trainer.train(PrepAttachDataUtil.createTrainingStream());
+
+    // the held-out accuracy stops improving long before the 100 iterations are done
+    Assertions.assertTrue(progressMonitor.heldOutAccuracies.size() < 100);
+    Assertions.assertEquals(progressMonitor.heldOutAccuracies.size(), progressMonitor.durations.size());
+    Assertions.assertInstanceOf(HeldOutPatienceExceeded.class, progressMonitor.stopCriteria);
+
+    // the devset is the held-out data, so the returned model scores the best held-out accuracy
+    double bestAccuracy = progressMonitor.heldOutAccuracies.stream()
+        .mapToDouble(Double::doubleValue).max().orElseThrow();
+    PrepAttachDataUtil.testModel(model, bestAccuracy);
+    PrepAttachDataUtil.testModel(model, 0.8093587521663779);
+  }
+
+  @Test
+  void testMaxentOnPrepAttachDataWithHeldOutInterval() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, Parameters.ALGORITHM_DEFAULT_VALUE);
+    trainParams.put(Parameters.HELD_OUT_INTERVAL_PARAM, 10);
+    trainParams.put(Parameters.HELD_OUT_PATIENCE_PARAM, 20);
+
+    RecordingProgressMonitor progressMonitor = new RecordingProgressMonitor();
+    GISTrainer trainer = new GISTrainer();
+    trainer.init(trainParams, null, new TrainingConfiguration(progressMonitor, null));
+    trainer.setHeldOutEvents(PrepAttachDataUtil.createDevStream());
+    MaxentModel model = trainer.train(PrepAttachDataUtil.createTrainingStream());
+
+    Assertions.assertEquals(10, progressMonitor.heldOutAccuracies.size());
+    Assertions.assertEquals(100, progressMonitor.durations.size());
+    PrepAttachDataUtil.testModel(model, 0.8108442683832632);
+  }
+
+  /**
+   * Records the held-out accuracies and iteration durations reported during training.
+   */
+  private static class RecordingProgressMonitor implements TrainingProgressMonitor {
+
+    private final List<Double> heldOutAccuracies = new ArrayList<>();
+    private final List<Duration> durations = new ArrayList<>();
+    private StopCriteria<?> stopCriteria;
+    private boolean finished;
+
+    @Override
+    public void finishedIteration(int iteration, int numberCorrectEvents, int totalEvents,
+                                  TrainingMeasure measure, double measureValue) {
+      if (measure == TrainingMeasure.HELD_OUT_ACCURACY) {
+        heldOutAccuracies.add(measureValue);
+      }
+    }
+
+    @Override
+    public void finishedIteration(int iteration, Duration duration) {
+      durations.add(duration);
+    }
+
+    @Override
+    public void finishedTraining(int iterations, StopCriteria<?> stopCriteria) {
+      this.stopCriteria = stopCriteria;
+      finished = true;
+    }
+
+    @Override
+    public boolean isTrainingFinished() {
+      return finished;
+    }
+
+    @Override
+    public void display(boolean clear) {
+    }
+  }
 }
@@ -30,6 +30,7 @@ import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.TwoPassDataIndexer;
 import opennlp.tools.util.Parameters;
+import opennlp.tools.util.TrainingConfiguration;
 import opennlp.tools.util.TrainingParameters;
 
 public class QNPrepAttachTest {
@@ -118,5 +119,37 @@ public class QNPrepAttachTest {
     MaxentModel model = trainer.train(PrepAttachDataUtil.createTrainingStream());
     PrepAttachDataUtil.testModel(model, 0.8115870264917059);
   }
+
+  @Test
+  void testQNOnPrepAttachDataWarmStart() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, QNTrainer.MAXENT_QN_VALUE);
+    trainParams.put(Parameters.ITERATIONS_PARAM, 10);
+
+    QNTrainer trainer = new QNTrainer();
+    trainer.init(trainParams, null);
+    MaxentModel initialModel = trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(initialModel, 0.814310472889329);
+
+    QNTrainer warmStartTrainer = new QNTrainer();
+    warmStartTrainer.init(trainParams, null, new TrainingConfiguration(null, null, initialModel));
+    MaxentModel model = warmStartTrainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(model, 0.8150532309977717);
+  }
+
+  @Test
+  void testQNOnPrepAttachDataWithHeldOutData() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, QNTrainer.MAXENT_QN_VALUE);
+    trainParams.put(Parameters.HELD_OUT_PATIENCE_PARAM, 3);
+    // evaluates the held-out data in parallel, too
+    trainParams.put(QNTrainer.THREADS_PARAM, 2);
+
+    QNTrainer trainer = new QNTrainer();
+    trainer.init(trainParams, null);
+    trainer.setHeldOutEvents(PrepAttachDataUtil.createDevStream());
+    MaxentModel model = trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(model, 0.8044070314434266);
+  }
 }
 
@@ -0,0 +1,185 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml.maxent.sgd;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.ml.AbstractEventTrainer;
+import opennlp.tools.ml.PrepAttachDataUtil;
+import opennlp.tools.ml.maxent.GISModel;
+import opennlp.tools.ml.maxent.io.BinaryGISModelReader;
+import opennlp.tools.ml.maxent.io.BinaryGISModelWriter;
+import opennlp.tools.ml.model.AbstractDataIndexer;
+import opennlp.tools.ml.model.AbstractModel;
+import opennlp.tools.ml.model.DataIndexer;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.ml.model.TwoPassDataIndexer;
+import opennlp.tools.monitoring.StopCriteria;
+import opennlp.tools.util.Parameters;
+import opennlp.tools.util.TrainingConfiguration;
+import opennlp.tools.util.TrainingParameters;
+
+public class SGDPrepAttachTest {
+
+  private static MaxentModel train(TrainingParameters trainParams) throws IOException {
+    trainParams.put(Parameters.ALGORITHM_PARAM, SGDTrainer.MAXENT_SGD_VALUE);
+    trainParams.put(AbstractEventTrainer.DATA_INDEXER_PARAM,
+        AbstractEventTrainer.DATA_INDEXER_TWO_PASS_VALUE);
+    trainParams.put(Parameters.CUTOFF_PARAM, 1);
+    trainParams.put(Parameters.ITERATIONS_PARAM, 30);
+
+    SGDTrainer trainer = new SGDTrainer();
+    trainer.init(trainParams, null);
+    return trainer.train(PrepAttachDataUtil.createTrainingStream());
+  }
+
+  @Test
+  void testSGDOnPrepAttachData() throws IOException {
+    DataIndexer<TrainingParameters> indexer = new TwoPassDataIndexer();
+    TrainingParameters indexingParameters = new TrainingParameters();
+    indexingParameters.put(Parameters.CUTOFF_PARAM, 1);
+    indexingParameters.put(AbstractDataIndexer.SORT_PARAM, false);
+    indexer.init(indexingParameters, new HashMap<>());
+    indexer.index(PrepAttachDataUtil.createTrainingStream());
+
+    AbstractModel model = new SGDTrainer().trainModel(30, indexer);
+    Assertions.assertInstanceOf(GISModel.class, model);
+    PrepAttachDataUtil.testModel(model, 0.8113394404555583);
+  }
+
+  @Test
+  void testSGDOnPrepAttachDataWithPlainUpdater() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(SGDTrainer.UPDATER_PARAM, SGDTrainer.Updater.SGD.name());
+    PrepAttachDataUtil.testModel(train(trainParams), 0.81827184946769);
+  }
+
+  @Test
+  void testSGDOnPrepAttachDataWithAdam() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(SGDTrainer.UPDATER_PARAM, SGDTrainer.Updater.ADAM.name());
+    PrepAttachDataUtil.testModel(train(trainParams), 0.8058925476603119);
+  }
+
+  @Test
+  void testSGDOnPrepAttachDataWithElasticNetParams() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(SGDTrainer.L1COST_PARAM, 0.0001);
+    trainParams.put(SGDTrainer.L2COST_PARAM, 0.001);
+    PrepAttachDataUtil.testModel(train(trainParams), 0.7972270363951474);
+  }
+
+  @Test
+  void testSGDOnPrepAttachDataInParallel() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(SGDTrainer.THREADS_PARAM, 2);
+    PrepAttachDataUtil.testModel(train(trainParams), 0.8162911611785095);
+  }
+
+  @Test
+  void testSGDOnPrepAttachDataWarmStart() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ITERATIONS_PARAM, 1);
+    MaxentModel initialModel = train(trainParams);
+    PrepAttachDataUtil.testModel(initialModel, 0.812082198564001);
+
+    SGDTrainer trainer = new SGDTrainer();
+    trainer.init(trainParams, null, new TrainingConfiguration(null, null, initialModel));
+    MaxentModel model = trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(model, 0.8024263431542461);
+  }
+
+  @Test
+  void testSGDOnPrepAttachDataWithHeldOutData() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, SGDTrainer.MAXENT_SGD_VALUE);
+    trainParams.put(Parameters.CUTOFF_PARAM, 1);
+    trainParams.put(Parameters.ITERATIONS_PARAM, 30);
+    trainParams.put(Parameters.HELD_OUT_PATIENCE_PARAM, 2);
+
+    SGDTrainer trainer = new SGDTrainer();
+    trainer.init(trainParams, null);
+    trainer.setHeldOutEvents(PrepAttachDataUtil.createDevStream());
+    MaxentModel model = trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(model, 0.822233226046051);
+  }
+
+  @Test
+  void testSGDStopCriteriaSeesAbsoluteChange() throws IOException {
+    List<Double> changes = new ArrayList<>();
+    StopCriteria<Double> stopCriteria = new StopCriteria<>() {
+      @Override
+      public String getMessageIfSatisfied() {
+        return "never";
+      }
+
+      @Override
+      public boolean test(Double change) {
+        changes.add(change);
+        return false;
+      }
+    };
+
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, SGDTrainer.MAXENT_SGD_VALUE);
+    trainParams.put(Parameters.CUTOFF_PARAM, 1);
+    trainParams.put(Parameters.ITERATIONS_PARAM, 10);
+    SGDTrainer trainer = new SGDTrainer();
+    trainer.init(trainParams, null, new TrainingConfiguration(null, stopCriteria));
+    trainer.train(PrepAttachDataUtil.createTrainingStream());
+
+    // The progressive log-likelihood is noisy, a drop must not look like convergence
+    Assertions.assertEquals(9, changes.size());
+    for (double change : changes) {
+      Assertions.assertTrue(change >= 0);
+    }
+  }
+
+  @Test
+  void testSGDModelRoundTrip() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(SGDTrainer.L1COST_PARAM, 0.0001);
+    AbstractModel model = (AbstractModel) train(trainParams);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    new BinaryGISModelWriter(model, new DataOutputStream(bytes)).persist();
+    AbstractModel readModel = new BinaryGISModelReader(
+        new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))).getModel();
+
+    Assertions.assertEquals(model, readModel);
+  }
+
+  @Test
+  void testInvalidUpdater() {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(SGDTrainer.UPDATER_PARAM, "RMSPROP");
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new SGDTrainer().init(trainParams, null));
+  }
+}
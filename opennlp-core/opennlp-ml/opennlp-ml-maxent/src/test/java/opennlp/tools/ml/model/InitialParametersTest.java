@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.ml.maxent.GISModel;
+
+public class InitialParametersTest {
+
+  private static GISModel createModel() {
+    Context[] params = {
+        new Context(new int[] {0, 1}, new double[] {1.0, -1.0}),
+        new Context(new int[] {2}, new double[] {0.5})};
+    return new GISModel(params, new String[] {"a", "b"}, new String[] {"x", "y", "z"});
+  }
+
+  @Test
+  void testAlignByLabel() {
+    InitialParameters initialParams = InitialParameters.align(createModel(),
+        new String[] {"b", "c", "a"}, new String[] {"z", "x", "w"});
+
+    Assertions.assertEquals(2, initialParams.getNumKnownPredicates());
+    // predicate b, outcome z
+    Assertions.assertEquals(0.5, initialParams.get(0, 0));
+    Assertions.assertEquals(0.0, initialParams.get(0, 1));
+    // predicate c is unknown
+    Assertions.assertEquals(0.0, initialParams.get(1, 0));
+    Assertions.assertEquals(0.0, initialParams.get(1, 1));
+    // predicate a, outcome x, outcome y is dropped and w is unknown
+    Assertions.assertEquals(1.0, initialParams.get(2, 1));
+    Assertions.assertEquals(0.0, initialParams.get(2, 0));
+    Assertions.assertEquals(0.0, initialParams.get(2, 2));
+  }
+
+  @Test
+  void testAlignRequiresAbstractModel() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> InitialParameters.align(null, new String[] {"a"}, new String[] {"x"}));
+  }
+}
@@ -18,6 +18,7 @@
 package opennlp.tools.ml.perceptron;
 
 import java.io.IOException;
+import java.time.Duration;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,9 +26,13 @@ import org.slf4j.LoggerFactory;
 import opennlp.tools.commons.Trainer;
 import opennlp.tools.ml.AbstractEventTrainer;
 import opennlp.tools.ml.ArrayMath;
+import opennlp.tools.ml.HeldOutEvaluator;
 import opennlp.tools.ml.model.AbstractModel;
+import opennlp.tools.ml.model.Context;
 import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.EvalParameters;
+import opennlp.tools.ml.model.InitialParameters;
+import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.MutableContext;
 import opennlp.tools.monitoring.DefaultTrainingProgressMonitor;
 import opennlp.tools.monitoring.IterDeltaAccuracyUnderTolerance;
@@ -266,15 +271,15 @@ public class PerceptronTrainer extends AbstractEventTrainer<TrainingParameters>
 
     logger.info("Computing model parameters...");
 
-    MutableContext[] finalParameters = findParameters(iterations, useAverage);
+    /* Find the parameters, create and return the model *************/
+    PerceptronModel model = findParameters(iterations, useAverage);
 
     logger.info("...done.");
 
-    /* Create and return the model *************/
-    return new PerceptronModel(finalParameters, predLabels, outcomeLabels);
+    return model;
   }
 
-  private MutableContext[] findParameters(int iterations, boolean useAverage) {
+  private PerceptronModel findParameters(int iterations, boolean useAverage) {
 
     logger.info("Performing {} iterations.", iterations);
 
@@ -282,12 +287,21 @@ public class PerceptronTrainer extends AbstractEventTrainer<TrainingParameters>
     for (int oi = 0; oi < numOutcomes; oi++)
       allOutcomesPattern[oi] = oi;
 
+    /* The parameters of the initial model, if training continues from an existing model. */
+    InitialParameters initialParams = null;
+    MaxentModel initialModel = getInitialModel();
+    if (initialModel != null) {
+      initialParams = InitialParameters.align(initialModel, predLabels, outcomeLabels);
+      logger.info("Continuing training, {} of {} predicates are known to the initial model.",
+          initialParams.getNumKnownPredicates(), numPreds);
+    }
+
     /* Stores the estimated parameter value of each predicate during iteration. */
     MutableContext[] params = new MutableContext[numPreds];
     for (int pi = 0; pi < numPreds; pi++) {
       params[pi] = new MutableContext(allOutcomesPattern,new double[numOutcomes]);
       for (int aoi = 0; aoi < numOutcomes; aoi++)
-        params[pi].setParameter(aoi, 0.0);
+        params[pi].setParameter(aoi, initialParams != null ? initialParams.get(pi, aoi) : 0.0);
     }
 
     EvalParameters evalParams = new EvalParameters(params, numOutcomes);
@@ -305,6 +319,7 @@ public class PerceptronTrainer extends AbstractEventTrainer<TrainingParameters>
     //Get the Training Progress Monitor and the StopCriteria.
     TrainingProgressMonitor progressMonitor = getTrainingProgressMonitor(trainingConfiguration);
     StopCriteria<Double> stopCriteria = getStopCriteria(trainingConfiguration);
+    HeldOutEvaluator<PerceptronModel> heldOutEvaluator = createHeldOutEvaluator(progressMonitor);
 
     // Keep track of the previous three accuracies. The difference of
     // the mean of these and the current training set accuracy is used
@@ -317,7 +332,9 @@ public class PerceptronTrainer extends AbstractEventTrainer<TrainingParameters>
     int numTimesSummed = 0;
 
     double stepsize = 1;
+    int lastIteration = 0;
     for (int i = 1; i <= iterations; i++) {
+      long start = System.nanoTime();
 
       // Decrease the stepsize by a small amount.
       if (stepSizeDecrease != null)
@@ -381,6 +398,17 @@ public class PerceptronTrainer extends AbstractEventTrainer<TrainingParameters>
           for (int aoi = 0; aoi < numOutcomes; aoi++)
             summedParams[pi].updateParameter(aoi, params[pi].getParameters()[aoi]);
       }
+      progressMonitor.finishedIteration(i, Duration.ofNanos(System.nanoTime() - start));
+      lastIteration = i;
+
+      if (heldOutEvaluator != null) {
+        final int timesSummed = numTimesSummed;
+        if (heldOutEvaluator.evaluate(i, () ->
+            createSnapshot(useAverage ? summedParams : params, useAverage ? timesSummed : 1))) {
+          progressMonitor.finishedTraining(iterations, heldOutEvaluator.getStopCriteria());
+          break;
+        }
+      }
 
       // If the tolerance is greater than the difference between the
       // current training accuracy and all of the previous three
@@ -407,22 +435,44 @@ public class PerceptronTrainer extends AbstractEventTrainer<TrainingParameters>
     // Output the final training stats.
     trainingStats(evalParams);
 
+    if (heldOutEvaluator != null) {
+      final int timesSummed = numTimesSummed;
+      return heldOutEvaluator.getBestModel(lastIteration, () ->
+          createSnapshot(useAverage ? summedParams : params, useAverage ? timesSummed : 1));
+    }
+
     // Create averaged parameters
     if (useAverage) {
       for (int pi = 0; pi < numPreds; pi++)
         for (int aoi = 0; aoi < numOutcomes; aoi++)
           summedParams[pi].setParameter(aoi, summedParams[pi].getParameters()[aoi] / numTimesSummed);
 
-      return summedParams;
+      return new PerceptronModel(summedParams, predLabels, outcomeLabels);
 
     } else {
 
-      return params;
+      return new PerceptronModel(params, predLabels, outcomeLabels);
 
     }
 
   }
 
+  /**
+   * Creates a {@link PerceptronModel} from a copy of the given parameters,
+   * divided by {@code divisor} to average summed parameters.
+   */
+  private PerceptronModel createSnapshot(MutableContext[] parameters, int divisor) {
+    Context[] snapshot = new Context[numPreds];
+    for (int pi = 0; pi < numPreds; pi++) {
+      double[] values = parameters[pi].getParameters().clone();
+      for (int aoi = 0; aoi < values.length; aoi++) {
+        values[aoi] /= divisor;
+      }
+      snapshot[pi] = new Context(parameters[pi].getOutcomes(), values);
+    }
+    return new PerceptronModel(snapshot, predLabels, outcomeLabels);
+  }
+
   private double trainingStats(EvalParameters evalParams) {
     int numCorrect = 0;
 
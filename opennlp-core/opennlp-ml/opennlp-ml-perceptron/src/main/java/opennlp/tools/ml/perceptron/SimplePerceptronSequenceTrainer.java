@@ -18,6 +18,7 @@
 package opennlp.tools.ml.perceptron;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -27,8 +28,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import opennlp.tools.ml.AbstractEventModelSequenceTrainer;
+import opennlp.tools.ml.HeldOutEvaluator;
 import opennlp.tools.ml.model.AbstractDataIndexer;
 import opennlp.tools.ml.model.AbstractModel;
+import opennlp.tools.ml.model.Context;
 import opennlp.tools.ml.model.DataIndexer;
 import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MutableContext;
@@ -36,7 +39,10 @@ import opennlp.tools.ml.model.OnePassDataIndexer;
 import opennlp.tools.ml.model.Sequence;
 import opennlp.tools.ml.model.SequenceStream;
 import opennlp.tools.ml.model.SequenceStreamEventStream;
+import opennlp.tools.monitoring.DefaultTrainingProgressMonitor;
+import opennlp.tools.monitoring.TrainingProgressMonitor;
 import opennlp.tools.util.Parameters;
+import opennlp.tools.util.TrainingConfiguration;
 import opennlp.tools.util.TrainingParameters;
 
 /**
@@ -225,29 +231,75 @@ public class SimplePerceptronSequenceTrainer extends AbstractEventModelSequenceT
     }
 
     logger.info("Computing model parameters...");
-    findParameters(iterations);
+    PerceptronModel model = findParameters(iterations);
     logger.info("...done.");
 
-    /* Create and return the model ****/
-    String[] updatedPredLabels = predLabels;
-
-    if (useAverage) {
-      return new PerceptronModel(averageParams, updatedPredLabels, outcomeLabels);
-    } else {
-      return new PerceptronModel(params, updatedPredLabels, outcomeLabels);
-    }
+    return model;
   }
 
-  private void findParameters(int iterations) throws IOException {
+  private PerceptronModel findParameters(int iterations) throws IOException {
+    TrainingProgressMonitor progressMonitor = getTrainingProgressMonitor(trainingConfiguration);
+    HeldOutEvaluator<PerceptronModel> heldOutEvaluator = createHeldOutEvaluator(progressMonitor);
+
     logger.info("Performing {} iterations.\n", iterations);
+    int lastIteration = 0;
     for (int i = 1; i <= iterations; i++) {
+      long start = System.nanoTime();
       nextIteration(i);
+      progressMonitor.finishedIteration(i, Duration.ofNanos(System.nanoTime() - start));
+      lastIteration = i;
+
+      final int iteration = i;
+      if (heldOutEvaluator != null && heldOutEvaluator.evaluate(i, () -> createSnapshot(iteration))) {
+        progressMonitor.finishedTraining(iterations, heldOutEvaluator.getStopCriteria());
+        break;
+      }
     }
-    if (useAverage) {
-      trainingStats(averageParams);
-    } else {
-      trainingStats(params);
+
+    //At this point, all iterations have finished successfully.
+    if (!progressMonitor.isTrainingFinished()) {
+      progressMonitor.finishedTraining(iterations, null);
+    }
+    progressMonitor.display(true);
+
+    if (heldOutEvaluator != null) {
+      final int iteration = lastIteration;
+      PerceptronModel model = heldOutEvaluator.getBestModel(lastIteration, () -> createSnapshot(iteration));
+      trainingStats(model);
+      return model;
+    }
+
+    /* Create and return the model ****/
+    PerceptronModel model = new PerceptronModel(useAverage ? averageParams : params,
+        predLabels, outcomeLabels);
+    trainingStats(model);
+    return model;
+  }
+
+  /**
+   * Creates a {@link PerceptronModel} from a copy of the parameters after the given
+   * {@code iteration}. Before the last iteration, the pending contributions of the lazily
+   * updated average are added to the copy.
+   */
+  private PerceptronModel createSnapshot(int iteration) {
+    Context[] snapshot = new Context[numPreds];
+    for (int pi = 0; pi < numPreds; pi++) {
+      double[] values;
+      if (useAverage && iteration < iterations) {
+        values = averageParams[pi].getParameters().clone();
+        for (int oi = 0; oi < numOutcomes; oi++) {
+          if (updates[pi][oi][VALUE] != 0) {
+            values[oi] += updates[pi][oi][VALUE] * (numSequences
+                * (iteration - updates[pi][oi][ITER]) - updates[pi][oi][EVENT]);
+          }
+          values[oi] /= (double) iteration * numSequences;
+        }
+      } else {
+        values = (useAverage ? averageParams : params)[pi].getParameters().clone();
+      }
+      snapshot[pi] = new Context(params[pi].getOutcomes(), values);
     }
+    return new PerceptronModel(snapshot, predLabels, outcomeLabels);
   }
 
   public void nextIteration(int iteration) throws IOException {
@@ -396,7 +448,7 @@ public class SimplePerceptronSequenceTrainer extends AbstractEventModelSequenceT
         numEvents, ((double) numCorrect / numEvents));
   }
 
-  private void trainingStats(MutableContext[] params) throws IOException {
+  private void trainingStats(PerceptronModel model) throws IOException {
     int numCorrect = 0;
     int oei = 0;
 
@@ -404,8 +456,7 @@ public class SimplePerceptronSequenceTrainer extends AbstractEventModelSequenceT
 
     Sequence<Event> sequence;
     while ((sequence = sequenceStream.read()) != null) {
-      Event[] taggerEvents = sequenceStream.updateContext(sequence,
-          new PerceptronModel(params, predLabels, outcomeLabels));
+      Event[] taggerEvents = sequenceStream.updateContext(sequence, model);
       for (int ei = 0; ei < taggerEvents.length; ei++, oei++) {
         int max = omap.get(taggerEvents[ei].getOutcome());
         if (max == outcomeList[oei]) {
@@ -415,4 +466,17 @@ public class SimplePerceptronSequenceTrainer extends AbstractEventModelSequenceT
     }
     logger.info(". ({}/{}) {}", numCorrect, numEvents, ((double) numCorrect / numEvents));
   }
+
+  /**
+   * Get the {@link TrainingProgressMonitor} associated with this trainer.
+   *
+   * @param trainingConfig {@link TrainingConfiguration}.
+   * @return {@link TrainingProgressMonitor}. If {@link TrainingConfiguration} is {@code null} or
+   * {@link TrainingConfiguration#progMon()} is {@code null},
+   * then return the default {@link TrainingProgressMonitor}.
+   */
+  private TrainingProgressMonitor getTrainingProgressMonitor(TrainingConfiguration trainingConfig) {
+    return trainingConfig != null && trainingConfig.progMon() != null ?
+        trainingConfig.progMon() : new DefaultTrainingProgressMonitor();
+  }
 }
@@ -35,6 +35,7 @@ import opennlp.tools.ml.model.AbstractModel;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.TwoPassDataIndexer;
 import opennlp.tools.util.Parameters;
+import opennlp.tools.util.TrainingConfiguration;
 import opennlp.tools.util.TrainingParameters;
 
 /**
@@ -140,6 +141,38 @@ public class PerceptronPrepAttachTest {
     Assertions.assertEquals(modelA.hashCode(), modelB.hashCode());
   }
 
+  @Test
+  void testPerceptronOnPrepAttachDataWarmStart() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, PerceptronTrainer.PERCEPTRON_VALUE);
+    trainParams.put(Parameters.CUTOFF_PARAM, 1);
+    trainParams.put(Parameters.ITERATIONS_PARAM, 10);
+
+    EventTrainer<TrainingParameters> trainer = new PerceptronTrainer();
+    trainer.init(trainParams, null);
+    MaxentModel initialModel = trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(initialModel, 0.7789056697202278);
+
+    EventTrainer<TrainingParameters> warmStartTrainer = new PerceptronTrainer();
+    warmStartTrainer.init(trainParams, null, new TrainingConfiguration(null, null, initialModel));
+    MaxentModel model = warmStartTrainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(model, 0.7803911859371131);
+  }
+
+  @Test
+  void testPerceptronOnPrepAttachDataWithHeldOutData() throws IOException {
+    TrainingParameters trainParams = new TrainingParameters();
+    trainParams.put(Parameters.ALGORITHM_PARAM, PerceptronTrainer.PERCEPTRON_VALUE);
+    trainParams.put(Parameters.CUTOFF_PARAM, 1);
+    trainParams.put(Parameters.HELD_OUT_PATIENCE_PARAM, 5);
+
+    PerceptronTrainer trainer = new PerceptronTrainer();
+    trainer.init(trainParams, null);
+    trainer.setHeldOutEvents(PrepAttachDataUtil.createDevStream());
+    MaxentModel model = trainer.train(PrepAttachDataUtil.createTrainingStream());
+    PrepAttachDataUtil.testModel(model, 0.7796484278286705);
+  }
+
   @Test
   void verifyReportMap() throws IOException {
     TrainingParameters trainParams = new TrainingParameters();
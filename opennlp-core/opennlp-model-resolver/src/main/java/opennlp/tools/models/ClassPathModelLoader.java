@@ -17,7 +17,6 @@
 package opennlp.tools.models;
 
 import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.InvocationTargetException;
@@ -31,6 +30,10 @@ import opennlp.tools.util.model.BaseModel;
  * Responsible for loading OpenNLP models from the classpath via {@link ClassPathModelEntry entries}.
  * If models could be loaded successfully, those are provided as {@link ClassPathModel model references}
  * or as instances of the specified {@link ModelType}.
+ * <p>
+ * When a model instance is requested, only the {@code model.properties} of each candidate are read
+ * to select a match. The selected model is then streamed directly from its classpath location
+ * into the model constructor without buffering the whole binary in memory first.
  *
  * @see ClassPathModel
  * @see ClassPathModelEntry
@@ -47,6 +50,26 @@ public class ClassPathModelLoader {
    * @throws IOException Thrown if something went wrong during reading resources from the classpath.
    */
   public ClassPathModel load(ClassPathModelEntry entry) throws IOException {
+    final Properties properties = loadProperties(entry);
+
+    final byte[] model;
+    try (InputStream inputStream = entry.model().toURL().openStream()) {
+      model = inputStream.readAllBytes();
+    }
+
+    return new ClassPathModel(properties, model);
+  }
+
+  /**
+   * Loads the meta-data of a {@link ClassPathModelEntry} without reading its binary model data.
+   *
+   * @param entry A valid {@link ClassPathModelEntry}, it must not be {@code null}.
+   *              Moreover, it is validated that the {@link ClassPathModelEntry#model() binary data}
+   *              and {@link ClassPathModelEntry#properties() meta-data} are not {@code null}.
+   * @return The {@link Properties} of the entry. They are empty if the entry has no properties.
+   * @throws IOException Thrown if something went wrong during reading resources from the classpath.
+   */
+  public Properties loadProperties(ClassPathModelEntry entry) throws IOException {
     Objects.requireNonNull(entry, "entry must not be null");
     Objects.requireNonNull(entry.properties(), "entry.properties() must not be null");
     Objects.requireNonNull(entry.model(), "entry.model() must not be null");
@@ -58,13 +81,32 @@ public class ClassPathModelLoader {
         properties.load(inputStream);
       }
     }
+    return properties;
+  }
 
-    final byte[] model;
-    try (InputStream inputStream = entry.model().toURL().openStream()) {
-      model = inputStream.readAllBytes();
-    }
+  /**
+   * Restores a {@link T model} from a {@link ClassPathModelEntry} by streaming its binary data
+   * directly into the constructor of {@code modelType}.
+   *
+   * @param entry     A valid {@link ClassPathModelEntry}, it must not be {@code null}.
+   * @param modelType The class of model type parameter {@link T} to create an instance of.
+   *                  It must not be {@code null}.
+   * @return A model instance of type {@link T}.
+   * @throws ClassPathLoaderException Thrown if {@link T} could not be instantiated correctly.
+   * @throws IOException Thrown if something went wrong during reading resources from the classpath.
+   */
+  public <T extends BaseModel> T loadModel(ClassPathModelEntry entry, Class<T> modelType)
+      throws IOException {
+    Objects.requireNonNull(entry, "entry must not be null");
+    Objects.requireNonNull(entry.model(), "entry.model() must not be null");
+    Objects.requireNonNull(modelType, "modelType must not be null");
 
-    return new ClassPathModel(properties, model);
+    try (InputStream is = new BufferedInputStream(entry.model().toURL().openStream())) {
+      return modelType.getConstructor(InputStream.class).newInstance(is);
+    } catch (InstantiationException | IllegalAccessException |
+             InvocationTargetException | NoSuchMethodException e) {
+      throw new ClassPathLoaderException(e);
+    }
   }
 
   /**
@@ -127,24 +169,13 @@ public class ClassPathModelLoader {
     if (type == null) {
       throw new IllegalArgumentException("The provided ModelType must not be null!");
     }
-    T result = null;
-    if (classPathEntries.isEmpty()) {
-      return result;
-    }
-    try {
-      for (ClassPathModelEntry entry : classPathEntries) {
-        final ClassPathModel cpm = load(entry);
-        if (cpm != null && cpm.getModelLanguage().equals(lang) && cpm.getModelName().contains(type)) {
-          try (InputStream is = new BufferedInputStream(new ByteArrayInputStream(cpm.model()))) {
-            result = modelType.getConstructor(InputStream.class).newInstance(is);
-            break; // found a match
-          }
-        }
+    for (ClassPathModelEntry entry : classPathEntries) {
+      // only the meta-data is needed to select a candidate, the binary is streamed afterward
+      final ClassPathModel cpm = new ClassPathModel(loadProperties(entry), null);
+      if (cpm.getModelLanguage().equals(lang) && cpm.getModelName().contains(type)) {
+        return loadModel(entry, modelType);
       }
-    } catch (InstantiationException | IllegalAccessException |
-             InvocationTargetException | NoSuchMethodException e) {
-      throw new ClassPathLoaderException(e);
     }
-    return result;
+    return null;
   }
 }
@@ -18,6 +18,8 @@
 package opennlp.tools.models;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import opennlp.tools.models.simple.SimpleClassPathModelFinder;
 import opennlp.tools.util.model.BaseModel;
@@ -25,6 +27,10 @@ import opennlp.tools.util.model.BaseModel;
 /**
  * A default implementation of {@link ClassPathModelProvider} which by default relies on
  * {@link SimpleClassPathModelFinder} to scan for models in the current classpath.
+ * <p>
+ * Loaded models are cached per language, {@link ModelType} and model class, so that repeated
+ * requests share a single model instance. Requesting a model with {@code reloadCache} set to
+ * {@code true} discards all cached models and rescans the classpath.
  *
  * @see ClassPathModelFinder
  * @see ClassPathModelLoader
@@ -33,6 +39,7 @@ public class DefaultClassPathModelProvider implements ClassPathModelProvider {
 
   private final ClassPathModelFinder finder;
   private final ClassPathModelLoader loader;
+  private final Map<ModelKey, BaseModel> models = new ConcurrentHashMap<>();
 
   /**
    * Instantiates a {@link DefaultClassPathModelProvider} with a {@link SimpleClassPathModelFinder}
@@ -85,6 +92,24 @@ public class DefaultClassPathModelProvider implements ClassPathModelProvider {
   @Override
   public <T extends BaseModel> T load(String lang, ModelType type, Class<T> modelType,
                                       boolean reloadCache) throws IOException {
-    return loader.load(finder.findModels(reloadCache), lang, type, modelType);
+    if (reloadCache) {
+      models.clear();
+    }
+    final ModelKey key = new ModelKey(lang, type, modelType);
+    final BaseModel cached = models.get(key);
+    if (cached != null) {
+      return modelType.cast(cached);
+    }
+
+    final T model = loader.load(finder.findModels(reloadCache), lang, type, modelType);
+    if (model == null) {
+      return null;
+    }
+    // a concurrent request might have been faster, in that case hand out its instance
+    final BaseModel existing = models.putIfAbsent(key, model);
+    return existing != null ? modelType.cast(existing) : model;
+  }
+
+  private record ModelKey(String lang, ModelType type, Class<?> modelType) {
   }
 }
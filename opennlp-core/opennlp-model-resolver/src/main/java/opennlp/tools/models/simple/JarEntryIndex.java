@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.models.simple;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Remembers the file entries of scanned model JAR files, keyed by the location of each JAR.
+ * An entry is only considered valid as long as the last modification time and the size
+ * of its JAR file did not change.
+ * <p>
+ * If an index file is configured, the index is restored from it on creation and can be
+ * {@link #store() persisted} after a scan, so that subsequent application starts do not need to
+ * open unchanged JAR files again. A missing, outdated or unreadable index file is simply ignored.
+ * <p>
+ * This class is thread-safe.
+ */
+final class JarEntryIndex {
+
+  private static final Logger logger = LoggerFactory.getLogger(JarEntryIndex.class);
+
+  private static final int MAGIC = 0x4F4E4C49; // "ONLI"
+  private static final int VERSION = 1;
+
+  // The minimal number of bytes of a JAR record and of an entry name, used to detect
+  // corrupt counts before anything is allocated for them
+  private static final int MIN_JAR_BYTES = 2 + 8 + 8 + 4;
+  private static final int MIN_ENTRY_BYTES = 2;
+
+  private final Path indexFile;
+  private final Map<String, Listing> listings = new ConcurrentHashMap<>();
+  private volatile boolean dirty;
+
+  /**
+   * @param indexFile The file to restore the index from and to persist it to.
+   *                  If {@code null}, the index is kept in memory only.
+   */
+  JarEntryIndex(Path indexFile) {
+    this.indexFile = indexFile;
+    if (indexFile != null && Files.isRegularFile(indexFile)) {
+      try {
+        read(indexFile);
+      } catch (IOException | RuntimeException e) {
+        logger.warn("Cannot read model index file {}, it will be rebuilt.", indexFile, e);
+        listings.clear();
+      }
+    }
+  }
+
+  /**
+   * @param jar          The location of a JAR file. It must not be {@code null}.
+   * @param lastModified The current last modification time of the JAR file.
+   * @param size         The current size of the JAR file in bytes.
+   * @return The known entry names of the JAR file, or {@code null} if it was not indexed yet
+   *         or has changed since.
+   */
+  List<String> get(String jar, long lastModified, long size) {
+    final Listing listing = listings.get(jar);
+    if (listing != null && listing.lastModified() == lastModified && listing.size() == size) {
+      return listing.entries();
+    }
+    return null;
+  }
+
+  /**
+   * Records the entry names of a JAR file.
+   *
+   * @param jar          The location of a JAR file. It must not be {@code null}.
+   * @param lastModified The last modification time of the JAR file.
+   * @param size         The size of the JAR file in bytes.
+   * @param entries      The names of all file entries. It must not be {@code null}.
+   */
+  void put(String jar, long lastModified, long size, List<String> entries) {
+    listings.put(jar, new Listing(lastModified, size, List.copyOf(entries)));
+    dirty = true;
+  }
+
+  /**
+   * Forgets the JAR files in {@code scope} which are not contained in {@code jars},
+   * e.g. because they were removed from the classpath.
+   *
+   * @param jars  The locations of the JAR files to keep. It must not be {@code null}.
+   * @param scope Selects the locations the caller is responsible for, other JAR files are kept.
+   */
+  void retainAll(Collection<String> jars, Predicate<String> scope) {
+    if (listings.keySet().removeIf(jar -> scope.test(jar) && !jars.contains(jar))) {
+      dirty = true;
+    }
+  }
+
+  /**
+   * @return The number of indexed JAR files.
+   */
+  int size() {
+    return listings.size();
+  }
+
+  /**
+   * Writes the index to its index file, if one is configured and the index has changed.
+   * Failures are logged and otherwise ignored, as the index is a pure optimization.
+   */
+  synchronized void store() {
+    if (indexFile == null || !dirty) {
+      return;
+    }
+    dirty = false;
+    try {
+      final Path parent = indexFile.toAbsolutePath().getParent();
+      if (parent != null) {
+        Files.createDirectories(parent);
+      }
+      final Path tmp = Files.createTempFile(parent, indexFile.getFileName().toString(), ".tmp");
+      try {
+        write(tmp);
+        try {
+          Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+          Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      logger.warn("Cannot write model index file {}.", indexFile, e);
+    }
+  }
+
+  private void read(Path file) throws IOException {
+    final long length = Files.size(file);
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        logger.debug("Ignoring model index file {} with unknown format.", file);
+        return;
+      }
+      final int jars = in.readInt();
+      checkCount(jars, length / MIN_JAR_BYTES);
+      for (int i = 0; i < jars; i++) {
+        final String jar = in.readUTF();
+        final long lastModified = in.readLong();
+        final long size = in.readLong();
+        final int count = in.readInt();
+        checkCount(count, length / MIN_ENTRY_BYTES);
+        final List<String> entries = new ArrayList<>(count);
+        for (int j = 0; j < count; j++) {
+          entries.add(in.readUTF());
+        }
+        listings.put(jar, new Listing(lastModified, size, List.copyOf(entries)));
+      }
+    }
+  }
+
+  private static void checkCount(int count, long max) throws IOException {
+    if (count < 0 || count > max) {
+      throw new IOException("Invalid count " + count + " in model index file");
+    }
+  }
+
+  private void write(Path file) throws IOException {
+    try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+      final Map<String, Listing> snapshot = Map.copyOf(listings);
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      out.writeInt(snapshot.size());
+      for (Map.Entry<String, Listing> e : snapshot.entrySet()) {
+        final Listing listing = e.getValue();
+        out.writeUTF(e.getKey());
+        out.writeLong(listing.lastModified());
+        out.writeLong(listing.size());
+        out.writeInt(listing.entries().size());
+        for (String entry : listing.entries()) {
+          out.writeUTF(entry);
+        }
+      }
+    }
+  }
+
+  private record Listing(long lastModified, long size, List<String> entries) {
+  }
+}
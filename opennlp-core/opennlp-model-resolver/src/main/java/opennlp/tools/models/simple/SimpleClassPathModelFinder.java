@@ -25,13 +25,17 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
@@ -61,6 +65,13 @@ import opennlp.tools.models.ClassPathModelFinder;
  * </ol>
  *
  * <p>
+ * Matching JAR files are scanned in parallel. Their entries are remembered in a {@link JarEntryIndex}
+ * keyed by location, last modification time and size, so that unchanged JAR files are opened only once.
+ * If an index file is configured, either via
+ * {@link #SimpleClassPathModelFinder(String, Path) constructor} or via the system property
+ * {@value #INDEX_FILE_PROPERTY}, the index is persisted and re-used on subsequent (warm) starts.
+ *
+ * <p>
  * If you need a more sophisticated implementation,
  * use {@link opennlp.tools.models.classgraph.ClassgraphModelFinder}.
  *
@@ -73,6 +84,14 @@ public class SimpleClassPathModelFinder extends AbstractClassPathModelFinder imp
   private static final Pattern CLASSPATH_SEPARATOR_PATTERN_UNIX = Pattern.compile(":");
   // ; for Windows, : for Linux/OSX
 
+  /**
+   * The system property to configure the location of a persistent model index file,
+   * used if no index file is specified explicitly.
+   */
+  public static final String INDEX_FILE_PROPERTY = "opennlp.models.index";
+
+  private final JarEntryIndex index;
+
   /**
    * By default, it scans for {@link #OPENNLP_MODEL_JAR_PREFIX}.
    */
@@ -85,7 +104,23 @@ public class SimpleClassPathModelFinder extends AbstractClassPathModelFinder imp
    *                       May contain a wildcard glob ("opennlp-*.jar"). It must not be {@code null}.
    */
   public SimpleClassPathModelFinder(String modelJarPrefix) {
+    this(modelJarPrefix, getIndexFileFromSystemProperty());
+  }
+
+  /**
+   * @param modelJarPrefix The leafnames of the jars that should be canned (e.g. "opennlp.jar").
+   *                       May contain a wildcard glob ("opennlp-*.jar"). It must not be {@code null}.
+   * @param indexFile      The file to persist the scanned JAR entries to and to restore them from.
+   *                       If {@code null}, scan results are only kept in memory.
+   */
+  public SimpleClassPathModelFinder(String modelJarPrefix, Path indexFile) {
     super(modelJarPrefix);
+    this.index = new JarEntryIndex(indexFile);
+  }
+
+  private static Path getIndexFileFromSystemProperty() {
+    final String location = System.getProperty(INDEX_FILE_PROPERTY);
+    return location == null || location.isBlank() ? null : Path.of(location);
   }
 
   /**
@@ -114,16 +149,28 @@ public class SimpleClassPathModelFinder extends AbstractClassPathModelFinder imp
     final Pattern jarPattern = Pattern.compile(asRegex("*" + getJarModelPrefix()));
     final Pattern filePattern = Pattern.compile(asRegex("*" + wildcardPattern));
 
-    for (URL url : cp) {
-      if (matchesPattern(url, jarPattern)) {
-        try {
-          for (URI u : getURIsFromJar(url, isWindows)) {
-            if (matchesPattern(u.toURL(), filePattern)) {
-              cpu.add(u);
-            }
+    final List<URL> jars = cp.stream()
+        .filter(url -> matchesPattern(url, jarPattern))
+        .toList();
+    final List<List<URI>> jarContents = jars.parallelStream()
+        .map(url -> {
+          try {
+            return getURIsFromJar(url, isWindows);
+          } catch (IOException e) {
+            logger.warn("Cannot read content of {}.", url, e);
+            return Collections.<URI>emptyList();
           }
-        } catch (IOException e) {
-          logger.warn("Cannot read content of {}.", url, e);
+        })
+        .toList();
+    // forget indexed JAR files of this finder which are no longer on the classpath
+    index.retainAll(getIndexKeys(jars),
+        jar -> jarPattern.matcher(jar.replace('\\', '/')).matches());
+    index.store();
+
+    for (List<URI> uris : jarContents) {
+      for (URI u : uris) {
+        if (matchesPattern(u, filePattern)) {
+          cpu.add(u);
         }
       }
     }
@@ -148,6 +195,13 @@ public class SimpleClassPathModelFinder extends AbstractClassPathModelFinder imp
     return pattern.matcher(url.getFile()).matches();
   }
 
+  private boolean matchesPattern(URI uri, Pattern pattern) {
+    // equivalent to URL#getFile() of jar URIs, without the cost of creating a URL
+    final String ssp = uri.getRawSchemeSpecificPart();
+    final int query = ssp.indexOf('?');
+    return pattern.matcher(query < 0 ? ssp : ssp.substring(0, query)).matches();
+  }
+
   private static URL toURL(String location) throws IOException {
     try {
       return new URI(location).toURL();
@@ -162,22 +216,75 @@ public class SimpleClassPathModelFinder extends AbstractClassPathModelFinder imp
         (isWindows ? fileUrl.toString().replace("\\", "/")
             : fileUrl.toString()) + "!/";
     final URL jarUrl = toURL(location);
+    for (String name : getJarEntryNames(fileUrl, jarUrl)) {
+      try {
+        uris.add(new URI(jarUrl + name));
+      } catch (URISyntaxException ignored) {
+        //if we cannot convert to URI here, we ignore that entry.
+      }
+    }
+
+    return uris;
+  }
+
+  private static Set<String> getIndexKeys(List<URL> jars) {
+    final Set<String> keys = new HashSet<>();
+    for (URL url : jars) {
+      final Path jarPath = toLocalPath(url);
+      if (jarPath != null) {
+        keys.add(jarPath.toString());
+      }
+    }
+    return keys;
+  }
+
+  /**
+   * Obtains the names of all file entries of a JAR, preferably from the {@link JarEntryIndex}.
+   * Only JAR files in the local file system are indexed, as those can be checked for changes.
+   */
+  private List<String> getJarEntryNames(URL fileUrl, URL jarUrl) throws IOException {
+    final Path jarPath = toLocalPath(fileUrl);
+    if (jarPath == null) {
+      return readJarEntryNames(jarUrl);
+    }
+    final String key = jarPath.toString();
+    final BasicFileAttributes attributes = Files.readAttributes(jarPath, BasicFileAttributes.class);
+    final long lastModified = attributes.lastModifiedTime().toMillis();
+    final long size = attributes.size();
+
+    List<String> names = index.get(key, lastModified, size);
+    if (names == null) {
+      names = readJarEntryNames(jarUrl);
+      index.put(key, lastModified, size, names);
+    }
+    return names;
+  }
+
+  private List<String> readJarEntryNames(URL jarUrl) throws IOException {
+    final List<String> names = new ArrayList<>();
     final JarURLConnection jarConnection = (JarURLConnection) jarUrl.openConnection();
     try (JarFile jarFile = jarConnection.getJarFile()) {
       final Enumeration<JarEntry> entries = jarFile.entries();
       while (entries.hasMoreElements()) {
         final JarEntry entry = entries.nextElement();
         if (!entry.isDirectory()) {
-          try {
-            uris.add(new URI(jarUrl + entry.getName()));
-          } catch (URISyntaxException ignored) {
-            //if we cannot convert to URI here, we ignore that entry.
-          }
+          names.add(entry.getName());
         }
       }
     }
+    return names;
+  }
 
-    return uris;
+  private static Path toLocalPath(URL url) {
+    if (!"file".equals(url.getProtocol())) {
+      return null;
+    }
+    try {
+      final Path path = Path.of(url.toURI());
+      return Files.isRegularFile(path) ? path : null;
+    } catch (URISyntaxException | IllegalArgumentException e) {
+      return null;
+    }
   }
 
   private boolean isWindows() {
@@ -19,14 +19,18 @@ package opennlp.tools.models;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Properties;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import opennlp.tools.langdetect.LanguageDetectorModel;
 import opennlp.tools.models.simple.SimpleClassPathModelFinder;
 import opennlp.tools.postag.POSModel;
 import opennlp.tools.tokenize.TokenizerModel;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -63,6 +67,19 @@ public class ClassPathModelLoaderTest {
             loader.load(finder.findModels(true), "en", "pos", TokenizerModel.class));
   }
 
+  @Test
+  void testLoadPropertiesAndStreamModel() throws IOException {
+    SimpleClassPathModelFinder finder = new SimpleClassPathModelFinder("opennlp-models-langdetect-*.jar");
+    ClassPathModelEntry entry = finder.findModels(false).iterator().next();
+
+    Properties properties = loader.loadProperties(entry);
+    assertEquals("langdetect-183.bin", properties.getProperty("model.name"));
+
+    LanguageDetectorModel model = loader.loadModel(entry, LanguageDetectorModel.class);
+    assertNotNull(model);
+    assertNotNull(loader.load(finder.findModels(false), "root", "langdetect", LanguageDetectorModel.class));
+  }
+
   @Test
   void testLoadModelWithIllegalArguments1() {
     assertThrows(IllegalArgumentException.class, ()
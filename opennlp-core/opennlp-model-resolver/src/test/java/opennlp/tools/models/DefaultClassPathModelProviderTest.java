@@ -29,6 +29,9 @@ import opennlp.tools.sentdetect.SentenceModel;
 import opennlp.tools.tokenize.TokenizerModel;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -73,6 +76,23 @@ public class DefaultClassPathModelProviderTest {
     assertTrue(m.isLoadedFromSerialized());
   }
 
+  @Test
+  void testLoadedModelsAreCached() throws IOException {
+    SentenceModel m1 = provider.load("en", ModelType.SENTENCE_DETECTOR, SentenceModel.class);
+    SentenceModel m2 = provider.load("en", ModelType.SENTENCE_DETECTOR, SentenceModel.class);
+    assertNotNull(m1);
+    assertSame(m1, m2);
+
+    SentenceModel m3 = provider.load("en", ModelType.SENTENCE_DETECTOR, SentenceModel.class, true);
+    assertNotNull(m3);
+    assertNotSame(m1, m3);
+  }
+
+  @Test
+  void testLoadUnknownLanguageReturnsNull() throws IOException {
+    assertNull(provider.load("xy", ModelType.SENTENCE_DETECTOR, SentenceModel.class));
+  }
+
   @Test
   void testCreateInstance() {
     try {
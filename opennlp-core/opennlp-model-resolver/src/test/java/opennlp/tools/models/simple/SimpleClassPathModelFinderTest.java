@@ -16,11 +16,104 @@
  */
 package opennlp.tools.models.simple;
 
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
 import opennlp.tools.models.AbstractClassPathFinderTest;
+import opennlp.tools.models.ClassPathModelEntry;
 import opennlp.tools.models.ClassPathModelFinder;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 public class SimpleClassPathModelFinderTest extends AbstractClassPathFinderTest {
 
+  @TempDir
+  Path tempDir;
+
+  private static SimpleClassPathModelFinder indexedFinder(Path indexFile) {
+    return new SimpleClassPathModelFinder(ClassPathModelFinder.OPENNLP_MODEL_JAR_PREFIX, indexFile);
+  }
+
+  @Test
+  void testFindModelsWithIndexFile() {
+    final Path indexFile = tempDir.resolve("models.idx");
+    final Set<ClassPathModelEntry> expected = new SimpleClassPathModelFinder().findModels(false);
+
+    final Set<ClassPathModelEntry> cold =
+        indexedFinder(indexFile).findModels(false);
+    assertTrue(Files.isRegularFile(indexFile));
+    assertEquals(expected, cold);
+
+    // a warm start restores the jar entries from the index file
+    final JarEntryIndex index = new JarEntryIndex(indexFile);
+    assertEquals(4, index.size());
+    final Set<ClassPathModelEntry> warm =
+        indexedFinder(indexFile).findModels(false);
+    assertEquals(expected, warm);
+  }
+
+  @Test
+  void testFindModelsWithCorruptIndexFile() throws IOException {
+    final Path indexFile = tempDir.resolve("models.idx");
+    Files.writeString(indexFile, "not an index", StandardCharsets.UTF_8);
+
+    final Set<ClassPathModelEntry> models =
+        indexedFinder(indexFile).findModels(false);
+    assertEquals(new SimpleClassPathModelFinder().findModels(false), models);
+    // the index file was rebuilt
+    assertEquals(4, new JarEntryIndex(indexFile).size());
+  }
+
+  @Test
+  void testJarEntryIndexDetectsChanges() {
+    final JarEntryIndex index = new JarEntryIndex(null);
+    index.put("a.jar", 1L, 2L, List.of("model.bin", "model.properties"));
+
+    assertEquals(2, index.get("a.jar", 1L, 2L).size());
+    assertNull(index.get("a.jar", 3L, 2L));
+    assertNull(index.get("a.jar", 1L, 4L));
+    assertNull(index.get("b.jar", 1L, 2L));
+  }
+
+  @Test
+  void testJarEntryIndexForgetsRemovedJars() {
+    final JarEntryIndex index = new JarEntryIndex(null);
+    index.put("/a/opennlp-models-a.jar", 1L, 2L, List.of("model.bin"));
+    index.put("/a/opennlp-models-b.jar", 1L, 2L, List.of("model.bin"));
+    index.put("/a/other.jar", 1L, 2L, List.of("model.bin"));
+
+    index.retainAll(Set.of("/a/opennlp-models-a.jar"), jar -> jar.contains("opennlp-models-"));
+    assertEquals(2, index.size());
+    assertNull(index.get("/a/opennlp-models-b.jar", 1L, 2L));
+    assertEquals(1, index.get("/a/other.jar", 1L, 2L).size());
+  }
+
+  @Test
+  void testJarEntryIndexRejectsCorruptCount() throws IOException {
+    final Path indexFile = tempDir.resolve("models.idx");
+    try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(indexFile))) {
+      out.writeInt(0x4F4E4C49);
+      out.writeInt(1);
+      out.writeInt(1);
+      out.writeUTF("a.jar");
+      out.writeLong(1L);
+      out.writeLong(2L);
+      out.writeInt(Integer.MAX_VALUE);
+    }
+
+    assertEquals(0, new JarEntryIndex(indexFile).size());
+  }
+
 
   @Override
   protected ClassPathModelFinder getModelFinder() {
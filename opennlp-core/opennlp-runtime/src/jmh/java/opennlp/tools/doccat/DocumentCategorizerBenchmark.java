@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.doccat;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.jmh.TrainedModels;
+
+/**
+ * Benchmarks {@link DocumentCategorizerME} on the documents of the doccat training data,
+ * single-threaded and with a dedicated instance for each of four threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentCategorizerBenchmark {
+
+  private List<DocumentSample> samples;
+
+  @State(Scope.Thread)
+  public static class PerThread {
+    private DocumentCategorizerME categorizer;
+
+    @Setup
+    public void setup() throws IOException {
+      categorizer = new DocumentCategorizerME(TrainedModels.doccatModel());
+    }
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    samples = TrainedModels.documentSamples();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void categorize(PerThread state, Blackhole bh) {
+    for (DocumentSample sample : samples) {
+      bh.consume(state.categorizer.categorize(sample.getText()));
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void categorizeMultiThreaded(PerThread state, Blackhole bh) {
+    categorize(state, bh);
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import opennlp.tools.util.Version;
+
+/**
+ * Runs the component benchmarks with the {@link GCProfiler} attached, so that the
+ * allocation rate is reported next to the throughput, and writes the results as JSON.
+ * <p>
+ * Usage: {@code BenchmarkSuite [include-regex] [result-file]}.
+ * By default, all benchmarks are run and the results are written to
+ * {@code target/jmh-result-<opennlp-version>.json}, so that the files of different
+ * releases can be compared side by side.
+ * <p>
+ * The suite is compiled with the {@code jmh} Maven profile, e.g.
+ * {@code mvn -Pjmh test-compile} in the {@code opennlp-runtime} module.
+ */
+public class BenchmarkSuite {
+
+  private static final String DEFAULT_INCLUDE = "opennlp\\.tools\\..*Benchmark";
+
+  public static void main(String[] args) throws RunnerException {
+    final String include = args.length > 0 ? args[0] : DEFAULT_INCLUDE;
+    final String result = args.length > 1 ? args[1]
+        : "target/jmh-result-" + Version.currentVersion() + ".json";
+
+    final Options options = new OptionsBuilder()
+        .include(include)
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result(result)
+        .build();
+
+    new Runner(options).run();
+  }
+}
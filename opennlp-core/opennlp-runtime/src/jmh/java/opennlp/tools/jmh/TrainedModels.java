@@ -0,0 +1,353 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.jmh;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import opennlp.tools.chunker.ChunkSample;
+import opennlp.tools.chunker.ChunkSampleStream;
+import opennlp.tools.chunker.ChunkerFactory;
+import opennlp.tools.chunker.ChunkerME;
+import opennlp.tools.chunker.ChunkerModel;
+import opennlp.tools.dictionary.Dictionary;
+import opennlp.tools.doccat.DoccatFactory;
+import opennlp.tools.doccat.DoccatModel;
+import opennlp.tools.doccat.DocumentCategorizerME;
+import opennlp.tools.doccat.DocumentSample;
+import opennlp.tools.doccat.DocumentSampleStream;
+import opennlp.tools.formats.ResourceAsStreamFactory;
+import opennlp.tools.langdetect.LanguageDetectorFactory;
+import opennlp.tools.langdetect.LanguageDetectorME;
+import opennlp.tools.langdetect.LanguageDetectorModel;
+import opennlp.tools.langdetect.LanguageDetectorSampleStream;
+import opennlp.tools.lemmatizer.LemmaSample;
+import opennlp.tools.lemmatizer.LemmaSampleStream;
+import opennlp.tools.lemmatizer.LemmatizerFactory;
+import opennlp.tools.lemmatizer.LemmatizerME;
+import opennlp.tools.lemmatizer.LemmatizerModel;
+import opennlp.tools.namefind.NameFinderME;
+import opennlp.tools.namefind.NameSample;
+import opennlp.tools.namefind.NameSampleDataStream;
+import opennlp.tools.namefind.TokenNameFinderFactory;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.parser.AbstractBottomUpParser;
+import opennlp.tools.parser.Parse;
+import opennlp.tools.parser.ParseSampleStream;
+import opennlp.tools.parser.ParserModel;
+import opennlp.tools.parser.chunking.Parser;
+import opennlp.tools.parser.lang.en.HeadRules;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.postag.POSSample;
+import opennlp.tools.postag.POSTaggerFactory;
+import opennlp.tools.postag.POSTaggerME;
+import opennlp.tools.postag.WordTagSampleStream;
+import opennlp.tools.sentdetect.SentenceDetectorFactory;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.sentdetect.SentenceSample;
+import opennlp.tools.sentdetect.SentenceSampleStream;
+import opennlp.tools.tokenize.TokenSample;
+import opennlp.tools.tokenize.TokenSampleStream;
+import opennlp.tools.tokenize.TokenizerFactory;
+import opennlp.tools.tokenize.TokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.InputStreamFactory;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.Parameters;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.StringList;
+import opennlp.tools.util.TrainingParameters;
+import opennlp.tools.util.model.BaseModel;
+
+/**
+ * Trains small models from the test resources bundled with this module and provides
+ * matching input data for the benchmarks.
+ * <p>
+ * The models are not meant to be accurate, they only exercise the same code paths
+ * as production models do. Each model is trained once per JVM and shared between
+ * all benchmarks of a fork.
+ */
+public final class TrainedModels {
+
+  private static SentenceModel sentenceModel;
+  private static TokenizerModel tokenizerModel;
+  private static POSModel posModel;
+  private static ChunkerModel chunkerModel;
+  private static TokenNameFinderModel nameFinderModel;
+  private static LemmatizerModel lemmatizerModel;
+  private static DoccatModel doccatModel;
+  private static LanguageDetectorModel languageDetectorModel;
+  private static ParserModel parserModel;
+
+  private TrainedModels() {
+  }
+
+  private static TrainingParameters params(int cutoff) {
+    TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ITERATIONS_PARAM, 100);
+    params.put(Parameters.CUTOFF_PARAM, cutoff);
+    return params;
+  }
+
+  private static ObjectStream<String> lines(String resource) throws IOException {
+    InputStreamFactory in = new ResourceAsStreamFactory(TrainedModels.class, resource);
+    return new PlainTextByLineStream(in, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * @return The raw text of the sentence detector training data.
+   */
+  public static String text() throws IOException {
+    StringBuilder text = new StringBuilder();
+    try (ObjectStream<SentenceSample> samples = new SentenceSampleStream(
+        lines("/opennlp/tools/sentdetect/Sentences.txt"))) {
+      SentenceSample sample;
+      while ((sample = samples.read()) != null) {
+        text.append(sample.getDocument()).append(' ');
+      }
+    }
+    return text.toString();
+  }
+
+  /**
+   * @return The whitespace separated sentences of the tokenizer training data.
+   */
+  public static List<String> tokenizerSentences() throws IOException {
+    List<String> sentences = new ArrayList<>();
+    try (ObjectStream<TokenSample> samples = new TokenSampleStream(
+        lines("/opennlp/tools/tokenize/token.train"))) {
+      TokenSample sample;
+      while ((sample = samples.read()) != null) {
+        sentences.add(sample.getText());
+      }
+    }
+    return sentences;
+  }
+
+  /**
+   * @return The tagged sentences of the POS tagger training data.
+   */
+  public static List<POSSample> posSamples() throws IOException {
+    List<POSSample> result = new ArrayList<>();
+    try (ObjectStream<POSSample> samples = new WordTagSampleStream(
+        lines("/opennlp/tools/postag/AnnotatedSentences.txt"))) {
+      POSSample sample;
+      while ((sample = samples.read()) != null) {
+        result.add(sample);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return The chunked sentences of the chunker training data.
+   */
+  public static List<ChunkSample> chunkSamples() throws IOException {
+    List<ChunkSample> result = new ArrayList<>();
+    try (ObjectStream<ChunkSample> samples = new ChunkSampleStream(
+        lines("/opennlp/tools/chunker/test.txt"))) {
+      ChunkSample sample;
+      while ((sample = samples.read()) != null) {
+        result.add(sample);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return The annotated sentences of the name finder training data.
+   */
+  public static List<NameSample> nameSamples() throws IOException {
+    List<NameSample> result = new ArrayList<>();
+    try (ObjectStream<NameSample> samples = new NameSampleDataStream(
+        lines("/opennlp/tools/namefind/AnnotatedSentences.txt"))) {
+      NameSample sample;
+      while ((sample = samples.read()) != null) {
+        result.add(sample);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return The sentences of the lemmatizer training data.
+   */
+  public static List<LemmaSample> lemmaSamples() throws IOException {
+    List<LemmaSample> result = new ArrayList<>();
+    try (ObjectStream<LemmaSample> samples = new LemmaSampleStream(
+        lines("/opennlp/tools/lemmatizer/trial.old.tsv"))) {
+      LemmaSample sample;
+      while ((sample = samples.read()) != null) {
+        result.add(sample);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return The documents of the doccat and language detector training data.
+   */
+  public static List<DocumentSample> documentSamples() throws IOException {
+    List<DocumentSample> result = new ArrayList<>();
+    try (ObjectStream<DocumentSample> samples = new DocumentSampleStream(
+        lines("/opennlp/tools/doccat/DoccatSample.txt"))) {
+      DocumentSample sample;
+      while ((sample = samples.read()) != null) {
+        result.add(sample);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return A case-sensitive {@link Dictionary} of all names annotated in {@link #nameSamples()}.
+   */
+  public static Dictionary nameDictionary() throws IOException {
+    Dictionary dictionary = new Dictionary(true);
+    for (NameSample sample : nameSamples()) {
+      for (Span name : sample.getNames()) {
+        dictionary.put(new StringList(Span.spansToStrings(
+            new Span[] {name}, sample.getSentence())[0].split(" ")));
+      }
+    }
+    return dictionary;
+  }
+
+  /**
+   * Creates an incomplete {@link Parse} for the given tokens, suitable as parser input.
+   *
+   * @param tokens The tokens of a sentence.
+   * @return A {@link Parse} containing only token nodes.
+   */
+  public static Parse toParse(String[] tokens) {
+    String text = String.join(" ", tokens);
+    Parse p = new Parse(text, new Span(0, text.length()), AbstractBottomUpParser.INC_NODE, 0, 0);
+    int start = 0;
+    for (int i = 0; i < tokens.length; i++) {
+      p.insert(new Parse(text, new Span(start, start + tokens[i].length()),
+          AbstractBottomUpParser.TOK_NODE, 0, i));
+      start += tokens[i].length() + 1;
+    }
+    return p;
+  }
+
+  public static synchronized SentenceModel sentenceModel() throws IOException {
+    if (sentenceModel == null) {
+      sentenceModel = SentenceDetectorME.train("eng",
+          new SentenceSampleStream(lines("/opennlp/tools/sentdetect/Sentences.txt")),
+          new SentenceDetectorFactory("eng", true, null, null), params(0));
+    }
+    return sentenceModel;
+  }
+
+  public static synchronized TokenizerModel tokenizerModel() throws IOException {
+    if (tokenizerModel == null) {
+      tokenizerModel = TokenizerME.train(
+          new TokenSampleStream(lines("/opennlp/tools/tokenize/token.train")),
+          TokenizerFactory.create(null, "eng", null, true, null), params(5));
+    }
+    return tokenizerModel;
+  }
+
+  public static synchronized POSModel posModel() throws IOException {
+    if (posModel == null) {
+      posModel = POSTaggerME.train("eng",
+          new WordTagSampleStream(lines("/opennlp/tools/postag/AnnotatedSentences.txt")),
+          params(5), new POSTaggerFactory());
+    }
+    return posModel;
+  }
+
+  public static synchronized ChunkerModel chunkerModel() throws IOException {
+    if (chunkerModel == null) {
+      chunkerModel = ChunkerME.train("eng",
+          new ChunkSampleStream(lines("/opennlp/tools/chunker/test.txt")),
+          params(1), new ChunkerFactory());
+    }
+    return chunkerModel;
+  }
+
+  public static synchronized TokenNameFinderModel nameFinderModel() throws IOException {
+    if (nameFinderModel == null) {
+      nameFinderModel = NameFinderME.train("eng", null,
+          new NameSampleDataStream(lines("/opennlp/tools/namefind/AnnotatedSentences.txt")),
+          params(1), new TokenNameFinderFactory());
+    }
+    return nameFinderModel;
+  }
+
+  public static synchronized LemmatizerModel lemmatizerModel() throws IOException {
+    if (lemmatizerModel == null) {
+      lemmatizerModel = LemmatizerME.train("eng",
+          new LemmaSampleStream(lines("/opennlp/tools/lemmatizer/trial.old.tsv")),
+          params(5), new LemmatizerFactory());
+    }
+    return lemmatizerModel;
+  }
+
+  public static synchronized DoccatModel doccatModel() throws IOException {
+    if (doccatModel == null) {
+      doccatModel = DocumentCategorizerME.train("x-unspecified",
+          new DocumentSampleStream(lines("/opennlp/tools/doccat/DoccatSample.txt")),
+          params(5), new DoccatFactory());
+    }
+    return doccatModel;
+  }
+
+  public static synchronized LanguageDetectorModel languageDetectorModel() throws IOException {
+    if (languageDetectorModel == null) {
+      TrainingParameters params = params(5);
+      params.put(Parameters.ALGORITHM_PARAM, "NAIVEBAYES");
+      languageDetectorModel = LanguageDetectorME.train(
+          new LanguageDetectorSampleStream(lines("/opennlp/tools/doccat/DoccatSample.txt")),
+          params, new LanguageDetectorFactory());
+    }
+    return languageDetectorModel;
+  }
+
+  public static synchronized ParserModel parserModel() throws IOException {
+    if (parserModel == null) {
+      HeadRules headRules;
+      try (InputStream in = TrainedModels.class.getResourceAsStream("/opennlp/tools/parser/en_head_rules");
+           Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+        headRules = new HeadRules(reader);
+      }
+      parserModel = Parser.train("eng",
+          new ParseSampleStream(lines("/opennlp/tools/parser/parser.train")), headRules, params(1));
+    }
+    return parserModel;
+  }
+
+  /**
+   * @param model The {@link BaseModel} to serialize.
+   * @return The serialized form of {@code model}.
+   */
+  public static byte[] serialize(BaseModel model) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    model.serialize(out);
+    return out.toByteArray();
+  }
+}
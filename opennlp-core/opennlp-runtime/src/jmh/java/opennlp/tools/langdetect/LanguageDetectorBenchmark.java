@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.langdetect;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.doccat.DocumentSample;
+import opennlp.tools.jmh.TrainedModels;
+
+/**
+ * Benchmarks {@link LanguageDetectorME} on the documents of the doccat training data,
+ * once with a dedicated instance per thread and once through a shared
+ * {@link ThreadSafeLanguageDetectorME}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LanguageDetectorBenchmark {
+
+  private List<String> documents;
+  private ThreadSafeLanguageDetectorME threadSafeDetector;
+
+  @State(Scope.Thread)
+  public static class PerThread {
+    private LanguageDetectorME detector;
+
+    @Setup
+    public void setup() throws IOException {
+      detector = new LanguageDetectorME(TrainedModels.languageDetectorModel());
+    }
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    documents = new ArrayList<>();
+    for (DocumentSample sample : TrainedModels.documentSamples()) {
+      documents.add(String.join(" ", sample.getText()));
+    }
+    threadSafeDetector = new ThreadSafeLanguageDetectorME(TrainedModels.languageDetectorModel());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void predictLanguages(PerThread state, Blackhole bh) {
+    for (String document : documents) {
+      bh.consume(state.detector.predictLanguages(document));
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void predictLanguagesThreadSafe(Blackhole bh) {
+    for (String document : documents) {
+      bh.consume(threadSafeDetector.predictLanguages(document));
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.jmh.TrainedModels;
+import opennlp.tools.ml.maxent.GISModel;
+import opennlp.tools.ml.maxent.quasinewton.QNTrainer;
+import opennlp.tools.ml.model.Context;
+import opennlp.tools.postag.POSSample;
+import opennlp.tools.postag.POSTaggerFactory;
+import opennlp.tools.postag.POSTaggerME;
+import opennlp.tools.util.CollectionObjectStream;
+import opennlp.tools.util.Parameters;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Compares the scalar and the vectorized kernels of {@link ArrayMath}: the raw kernels on dense
+ * vectors, the scoring of a {@link GISModel} with many outcomes and L-BFGS training of a POS model.
+ * <p>
+ * Each {@code kernels} value runs in its own fork, started with {@code jdk.incubator.vector};
+ * the scalar kernels are selected via the {@code opennlp.ml.vector} system property.
+ * The vectorized kernels are only available if opennlp-api was built with the {@code vector-api}
+ * profile, otherwise both values measure the scalar kernels.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class ArrayMathBenchmark {
+
+  private static final int NUM_OUTCOMES = 512;
+  private static final int NUM_PREDICATES = 64;
+
+  @Param({"vector", "scalar"})
+  private String kernels;
+
+  private GISModel model;
+  private String[] context;
+  private double[] outsums;
+  private List<POSSample> posSamples;
+
+  @Setup
+  public void setup() throws IOException {
+    // must happen before ArrayMath is initialized in this fork
+    System.setProperty(ArrayKernels.VECTOR_PROPERTY, String.valueOf("vector".equals(kernels)));
+    if (ArrayMath.isVectorized() != "vector".equals(kernels)) {
+      throw new IllegalStateException("Cannot select the " + kernels + " kernels");
+    }
+
+    final Random rnd = new Random(42);
+    final int[] outcomes = new int[NUM_OUTCOMES];
+    final String[] outcomeNames = new String[NUM_OUTCOMES];
+    for (int oi = 0; oi < NUM_OUTCOMES; oi++) {
+      outcomes[oi] = oi;
+      outcomeNames[oi] = "o" + oi;
+    }
+    final Context[] params = new Context[NUM_PREDICATES];
+    final String[] predLabels = new String[NUM_PREDICATES];
+    for (int pi = 0; pi < NUM_PREDICATES; pi++) {
+      final double[] parameters = new double[NUM_OUTCOMES];
+      for (int oi = 0; oi < NUM_OUTCOMES; oi++) {
+        parameters[oi] = rnd.nextGaussian() * 0.1;
+      }
+      params[pi] = new Context(outcomes, parameters);
+      predLabels[pi] = "p" + pi;
+    }
+    model = new GISModel(params, predLabels, outcomeNames);
+    context = new String[] {"p1", "p7", "p13", "p21", "p34", "p55"};
+    outsums = new double[NUM_OUTCOMES];
+
+    posSamples = TrainedModels.posSamples();
+  }
+
+  /**
+   * Dense vectors of the dimensions typical for L-BFGS updates.
+   */
+  @State(Scope.Benchmark)
+  public static class Vectors {
+
+    @Param({"1024", "65536"})
+    private int dimension;
+
+    private double[] a;
+    private double[] b;
+
+    @Setup
+    public void setup() {
+      final Random rnd = new Random(42);
+      a = new double[dimension];
+      b = new double[dimension];
+      for (int i = 0; i < dimension; i++) {
+        a[i] = rnd.nextGaussian();
+        b[i] = rnd.nextGaussian();
+      }
+    }
+  }
+
+  @Benchmark
+  public double innerProduct(Vectors v) {
+    return ArrayMath.innerProduct(v.a, v.b);
+  }
+
+  @Benchmark
+  public double logSumOfExps(Vectors v) {
+    return ArrayMath.logSumOfExps(v.a);
+  }
+
+  @Benchmark
+  public double[] axpy(Vectors v) {
+    ArrayMath.axpy(1e-9, v.a, v.b);
+    return v.b;
+  }
+
+  @Benchmark
+  public double[] evalDenseOutcomes() {
+    return model.eval(context, outsums);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @OutputTimeUnit(TimeUnit.MILLISECONDS)
+  @Warmup(iterations = 2)
+  @Measurement(iterations = 3)
+  public void trainLbfgs(Blackhole bh) throws IOException {
+    final TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ALGORITHM_PARAM, QNTrainer.MAXENT_QN_VALUE);
+    params.put(Parameters.ITERATIONS_PARAM, 50);
+    params.put(Parameters.CUTOFF_PARAM, 1);
+    bh.consume(POSTaggerME.train("eng", new CollectionObjectStream<>(posSamples),
+        params, new POSTaggerFactory()));
+  }
+}
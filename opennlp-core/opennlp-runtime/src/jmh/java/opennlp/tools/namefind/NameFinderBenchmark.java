@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.namefind;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.jmh.TrainedModels;
+
+/**
+ * Benchmarks {@link NameFinderME} and {@link DictionaryNameFinder} on the sentences
+ * of the name finder training data. The {@link NameFinderME} is measured once with
+ * a dedicated instance per thread and once through a shared {@link ThreadSafeNameFinderME}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NameFinderBenchmark {
+
+  private List<NameSample> samples;
+  private ThreadSafeNameFinderME threadSafeNameFinder;
+  private DictionaryNameFinder dictionaryNameFinder;
+
+  @State(Scope.Thread)
+  public static class PerThread {
+    private NameFinderME nameFinder;
+
+    @Setup
+    public void setup() throws IOException {
+      nameFinder = new NameFinderME(TrainedModels.nameFinderModel());
+    }
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    samples = TrainedModels.nameSamples();
+    threadSafeNameFinder = new ThreadSafeNameFinderME(TrainedModels.nameFinderModel());
+    dictionaryNameFinder = new DictionaryNameFinder(TrainedModels.nameDictionary());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void find(PerThread state, Blackhole bh) {
+    for (NameSample sample : samples) {
+      bh.consume(state.nameFinder.find(sample.getSentence()));
+    }
+    state.nameFinder.clearAdaptiveData();
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void findThreadSafe(Blackhole bh) {
+    for (NameSample sample : samples) {
+      bh.consume(threadSafeNameFinder.find(sample.getSentence()));
+    }
+    threadSafeNameFinder.clearAdaptiveData();
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void findWithDictionary(Blackhole bh) {
+    for (NameSample sample : samples) {
+      bh.consume(dictionaryNameFinder.find(sample.getSentence()));
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.sentdetect;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import opennlp.tools.jmh.TrainedModels;
+import opennlp.tools.util.Span;
+
+/**
+ * Benchmarks {@link SentenceDetectorME} on the sentence detector training text,
+ * once with a dedicated instance per thread, once through a shared
+ * {@link ThreadSafeSentenceDetectorME} and once incrementally through a
+ * {@link SentenceDetectorStream}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SentenceDetectorBenchmark {
+
+  private String text;
+  private ThreadSafeSentenceDetectorME threadSafeDetector;
+
+  @State(Scope.Thread)
+  public static class PerThread {
+    private SentenceDetectorME detector;
+
+    @Setup
+    public void setup() throws IOException {
+      detector = new SentenceDetectorME(TrainedModels.sentenceModel());
+    }
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    text = TrainedModels.text();
+    threadSafeDetector = new ThreadSafeSentenceDetectorME(TrainedModels.sentenceModel());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Span[] sentPosDetect(PerThread state) {
+    return state.detector.sentPosDetect(text);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Span[] sentPosDetectThreadSafe() {
+    return threadSafeDetector.sentPosDetect(text);
+  }
+
+  @Benchmark
+  @Threads(1)
+  public int sentenceDetectorStream(PerThread state) throws IOException {
+    int count = 0;
+    try (SentenceDetectorStream stream =
+             new SentenceDetectorStream(state.detector, new StringReader(text))) {
+      while (stream.read() != null) {
+        count++;
+      }
+    }
+    return count;
+  }
+}
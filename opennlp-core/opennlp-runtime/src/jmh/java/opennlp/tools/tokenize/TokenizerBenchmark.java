@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.tokenize;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.jmh.TrainedModels;
+import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.util.Span;
+
+/**
+ * Benchmarks {@link TokenizerME} on the sentences of the tokenizer training data,
+ * once with a dedicated instance per thread and once through a shared
+ * {@link ThreadSafeTokenizerME}. The span-only {@link TokenizerME#tokenizeOffsets(CharSequence)}
+ * and a copy of the former substring and regex based implementation are measured for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenizerBenchmark {
+
+  private List<String> sentences;
+  private ThreadSafeTokenizerME threadSafeTokenizer;
+
+  @State(Scope.Thread)
+  public static class PerThread {
+    private TokenizerME tokenizer;
+    private ReferenceTokenizer referenceTokenizer;
+
+    @Setup
+    public void setup() throws IOException {
+      tokenizer = new TokenizerME(TrainedModels.tokenizerModel());
+      referenceTokenizer = new ReferenceTokenizer(TrainedModels.tokenizerModel());
+    }
+  }
+
+  /*
+   * The TokenizerME#tokenizePos implementation before the character class table,
+   * the reused buffers and the offset based whitespace splitting were introduced.
+   */
+  private static class ReferenceTokenizer {
+
+    private final MaxentModel model;
+    private final TokenContextGenerator cg;
+    private final Pattern alphanumeric;
+    private final boolean useAlphaNumericOptimization;
+
+    ReferenceTokenizer(TokenizerModel model) {
+      this.model = model.getMaxentModel();
+      this.cg = model.getFactory().getContextGenerator();
+      this.alphanumeric = model.getFactory().getAlphaNumericPattern();
+      this.useAlphaNumericOptimization = model.getFactory().isUseAlphaNumericOptimization();
+    }
+
+    Span[] tokenizePos(String d) {
+      Span[] tokens = WhitespaceTokenizer.INSTANCE.tokenizePos(d);
+      List<Span> newTokens = new ArrayList<>();
+      List<Double> tokProbs = new ArrayList<>();
+      for (Span s : tokens) {
+        String tok = d.substring(s.getStart(), s.getEnd());
+        if (tok.length() < 2) {
+          newTokens.add(s);
+          tokProbs.add(1d);
+        } else if (useAlphaNumericOptimization && alphanumeric.matcher(tok).matches()) {
+          newTokens.add(s);
+          tokProbs.add(1d);
+        } else {
+          int start = s.getStart();
+          int end = s.getEnd();
+          final int origStart = s.getStart();
+          double tokenProb = 1.0;
+          for (int j = origStart + 1; j < end; j++) {
+            double[] probs = model.eval(cg.getContext(tok, j - origStart));
+            String best = model.getBestOutcome(probs);
+            tokenProb *= probs[model.getIndex(best)];
+            if (best.equals(TokenizerME.SPLIT)) {
+              newTokens.add(new Span(start, j));
+              tokProbs.add(tokenProb);
+              start = j;
+              tokenProb = 1.0;
+            }
+          }
+          if (start < end) {
+            newTokens.add(new Span(start, end));
+            tokProbs.add(tokenProb);
+          }
+        }
+      }
+      return newTokens.toArray(new Span[0]);
+    }
+  }
+
+  @Setup
+  public void setup() throws IOException {
+    sentences = TrainedModels.tokenizerSentences();
+    threadSafeTokenizer = new ThreadSafeTokenizerME(TrainedModels.tokenizerModel());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void tokenizePos(PerThread state, Blackhole bh) {
+    for (String sentence : sentences) {
+      bh.consume(state.tokenizer.tokenizePos(sentence));
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void tokenizeOffsets(PerThread state, Blackhole bh) {
+    for (String sentence : sentences) {
+      bh.consume(state.tokenizer.tokenizeOffsets(sentence));
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public void tokenizePosReference(PerThread state, Blackhole bh) {
+    for (String sentence : sentences) {
+      bh.consume(state.referenceTokenizer.tokenizePos(sentence));
+    }
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void tokenizePosThreadSafe(Blackhole bh) {
+    for (String sentence : sentences) {
+      bh.consume(threadSafeTokenizer.tokenizePos(sentence));
+    }
+  }
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.tokenize;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.jmh.TrainedModels;
+
+/**
+ * Benchmarks {@link WordpieceTokenizer} on the sentences of the tokenizer training data
+ * with a vocabulary which contains every second word and the word pieces of all words.
+ * The token strings mapped to ids, as the DL components did, are compared with the direct
+ * {@link WordpieceTokenizer#encode(CharSequence, long[]) encoding} into ids, and with a copy
+ * of the former substring and {@link java.util.Set} based implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordpieceTokenizerBenchmark {
+
+  private static final String[] SPECIAL_TOKENS = {"[PAD]", "[UNK]", "[CLS]", "[SEP]"};
+
+  private List<String> sentences;
+  private Map<String, Integer> vocab;
+  private WordpieceVocabulary vocabulary;
+  private WordpieceTokenizer tokenizer;
+  private long[] ids;
+
+  @Setup
+  public void setup() throws IOException {
+    sentences = TrainedModels.tokenizerSentences();
+
+    vocab = new HashMap<>();
+    for (String token : SPECIAL_TOKENS) {
+      vocab.put(token, vocab.size());
+    }
+    int words = 0;
+    int maxLength = 0;
+    for (String sentence : sentences) {
+      maxLength = Math.max(maxLength, sentence.length());
+      for (String word : WhitespaceTokenizer.INSTANCE.tokenize(sentence.toLowerCase(Locale.ROOT))) {
+        if (words++ % 2 == 0) {
+          vocab.putIfAbsent(word, vocab.size());
+        }
+        vocab.putIfAbsent(word.substring(0, Math.min(3, word.length())), vocab.size());
+        for (int i = 3; i < word.length(); i += 2) {
+          vocab.putIfAbsent("##" + word.substring(i, Math.min(i + 2, word.length())), vocab.size());
+        }
+      }
+    }
+
+    vocabulary = new WordpieceVocabulary(vocab);
+    tokenizer = new WordpieceTokenizer(vocabulary);
+    ids = new long[maxLength + 2];
+  }
+
+  @Benchmark
+  public void tokenize(Blackhole bh) {
+    for (String sentence : sentences) {
+      final String[] tokens = tokenizer.tokenize(sentence);
+      final long[] tokenIds = new long[tokens.length];
+      for (int i = 0; i < tokens.length; i++) {
+        tokenIds[i] = vocabulary.getId(tokens[i]);
+      }
+      bh.consume(tokenIds);
+    }
+  }
+
+  @Benchmark
+  public void encode(Blackhole bh) {
+    for (String sentence : sentences) {
+      bh.consume(tokenizer.encode(sentence, ids));
+    }
+  }
+
+  @Benchmark
+  public void tokenizeReference(Blackhole bh) {
+    for (String sentence : sentences) {
+      final String[] tokens = tokenizeReference(sentence);
+      final long[] tokenIds = new long[tokens.length];
+      for (int i = 0; i < tokens.length; i++) {
+        tokenIds[i] = vocab.get(tokens[i]);
+      }
+      bh.consume(tokenIds);
+    }
+  }
+
+  /*
+   * The WordpieceTokenizer#tokenize implementation before the vocabulary trie was introduced.
+   */
+  private String[] tokenizeReference(String text) {
+    final List<String> tokens = new ArrayList<>();
+    tokens.add("[CLS]");
+
+    final String spacedPunctuation = text.replaceAll("\\p{Punct}+", " $0 ");
+    for (final String token : WhitespaceTokenizer.INSTANCE.tokenize(spacedPunctuation)) {
+      final char[] characters = token.toCharArray();
+      if (characters.length <= tokenizer.getMaxTokenLength()) {
+        int start = 0;
+        int end;
+        while (start < characters.length) {
+          end = characters.length;
+          boolean found = false;
+          while (start < end) {
+            String substring = String.valueOf(characters, start, end - start);
+            if (start > 0) {
+              substring = "##" + substring;
+            }
+            if (vocab.containsKey(substring)) {
+              tokens.add(substring);
+              start = end;
+              found = true;
+              break;
+            }
+            end--;
+          }
+          if (!found) {
+            tokens.add("[UNK]");
+            break;
+          }
+          start = end;
+        }
+      } else {
+        tokens.add("[UNK]");
+      }
+    }
+
+    tokens.add("[SEP]");
+    return tokens.toArray(new String[0]);
+  }
+}
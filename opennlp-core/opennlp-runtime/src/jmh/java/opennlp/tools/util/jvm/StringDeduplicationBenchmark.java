@@ -34,6 +34,10 @@ import org.openjdk.jmh.infra.Blackhole;
  * <p>
  * His conclusion:<br>
  * "Do not use String.intern() without thinking very hard about it, okay?"
+ * <p>
+ * The {@link BoundedStringInterner}, {@link WeakStringInterner} and
+ * {@link StripedStringInterner} are measured in addition, also with strings which are
+ * requested repeatedly.
  */
 @State(Scope.Benchmark)
 public class StringDeduplicationBenchmark {
@@ -46,6 +50,10 @@ public class StringDeduplicationBenchmark {
   private HMStringInterner hm;
   private CHMStringDeduplicator chmd05;
   private NoOpStringInterner noop;
+  private BoundedStringInterner bounded;
+  private WeakStringInterner weak;
+  private StripedStringInterner striped;
+  private String[] repeated;
 
   @Setup
   public void setup() {
@@ -54,6 +62,15 @@ public class StringDeduplicationBenchmark {
     hm = new HMStringInterner();
     chmd05 = new CHMStringDeduplicator();
     noop = new NoOpStringInterner();
+    bounded = new BoundedStringInterner();
+    weak = new WeakStringInterner();
+    striped = new StripedStringInterner();
+
+    // strings with a skewed frequency distribution, like words in natural language text
+    repeated = new String[size];
+    for (int c = 0; c < size; c++) {
+      repeated[c] = "String" + (1000 / (c % 1000 + 1));
+    }
   }
 
   @Benchmark
@@ -90,4 +107,53 @@ public class StringDeduplicationBenchmark {
       bh.consume(noop.intern("String" + c));
     }
   }
+
+  @Benchmark
+  public void bounded(Blackhole bh) {
+    for (int c = 0; c < size; c++) {
+      bh.consume(bounded.intern("String" + c));
+    }
+  }
+
+  @Benchmark
+  public void weak(Blackhole bh) {
+    for (int c = 0; c < size; c++) {
+      bh.consume(weak.intern("String" + c));
+    }
+  }
+
+  @Benchmark
+  public void striped(Blackhole bh) {
+    for (int c = 0; c < size; c++) {
+      bh.consume(striped.intern("String" + c));
+    }
+  }
+
+  @Benchmark
+  public void chmRepeated(Blackhole bh) {
+    for (int c = 0; c < size; c++) {
+      bh.consume(chm.intern(new String(repeated[c])));
+    }
+  }
+
+  @Benchmark
+  public void boundedRepeated(Blackhole bh) {
+    for (int c = 0; c < size; c++) {
+      bh.consume(bounded.intern(new String(repeated[c])));
+    }
+  }
+
+  @Benchmark
+  public void weakRepeated(Blackhole bh) {
+    for (int c = 0; c < size; c++) {
+      bh.consume(weak.intern(new String(repeated[c])));
+    }
+  }
+
+  @Benchmark
+  public void stripedRepeated(Blackhole bh) {
+    for (int c = 0; c < size; c++) {
+      bh.consume(striped.intern(new String(repeated[c])));
+    }
+  }
 }
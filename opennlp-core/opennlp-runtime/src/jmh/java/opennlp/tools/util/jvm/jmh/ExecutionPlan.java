@@ -37,7 +37,10 @@ public class ExecutionPlan {
       "opennlp.tools.util.jvm.CHMStringInterner",
       "opennlp.tools.util.jvm.HMStringInterner",
       "opennlp.tools.util.jvm.JvmStringInterner",
-      "opennlp.tools.util.jvm.NoOpStringInterner"})
+      "opennlp.tools.util.jvm.NoOpStringInterner",
+      "opennlp.tools.util.jvm.BoundedStringInterner",
+      "opennlp.tools.util.jvm.WeakStringInterner",
+      "opennlp.tools.util.jvm.StripedStringInterner"})
   private String internerClazz;
 
   public String[] strings;
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.model;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import opennlp.tools.chunker.ChunkerModel;
+import opennlp.tools.doccat.DoccatModel;
+import opennlp.tools.jmh.TrainedModels;
+import opennlp.tools.langdetect.LanguageDetectorModel;
+import opennlp.tools.lemmatizer.LemmatizerModel;
+import opennlp.tools.namefind.TokenNameFinderModel;
+import opennlp.tools.parser.ParserModel;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.tokenize.TokenizerModel;
+
+/**
+ * Benchmarks the de-serialization of the different {@link BaseModel} types
+ * from their in-memory serialized form.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ModelLoadingBenchmark {
+
+  @Param({"sentdetect", "tokenizer", "postag", "chunker", "namefind",
+      "lemmatizer", "doccat", "langdetect", "parser"})
+  private String type;
+
+  private byte[] model;
+
+  @Setup
+  public void setup() throws IOException {
+    model = TrainedModels.serialize(switch (type) {
+      case "sentdetect" -> TrainedModels.sentenceModel();
+      case "tokenizer" -> TrainedModels.tokenizerModel();
+      case "postag" -> TrainedModels.posModel();
+      case "chunker" -> TrainedModels.chunkerModel();
+      case "namefind" -> TrainedModels.nameFinderModel();
+      case "lemmatizer" -> TrainedModels.lemmatizerModel();
+      case "doccat" -> TrainedModels.doccatModel();
+      case "langdetect" -> TrainedModels.languageDetectorModel();
+      case "parser" -> TrainedModels.parserModel();
+      default -> throw new IllegalArgumentException("Unknown model type: " + type);
+    });
+  }
+
+  @Benchmark
+  public BaseModel load() throws IOException {
+    ByteArrayInputStream in = new ByteArrayInputStream(model);
+    return switch (type) {
+      case "sentdetect" -> new SentenceModel(in);
+      case "tokenizer" -> new TokenizerModel(in);
+      case "postag" -> new POSModel(in);
+      case "chunker" -> new ChunkerModel(in);
+      case "namefind" -> new TokenNameFinderModel(in);
+      case "lemmatizer" -> new LemmatizerModel(in);
+      case "doccat" -> new DoccatModel(in);
+      case "langdetect" -> new LanguageDetectorModel(in);
+      case "parser" -> new ParserModel(in);
+      default -> throw new IllegalArgumentException("Unknown model type: " + type);
+    };
+  }
+}
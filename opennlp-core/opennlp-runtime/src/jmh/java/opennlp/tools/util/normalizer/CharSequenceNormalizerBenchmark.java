@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.normalizer;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import opennlp.tools.jmh.TrainedModels;
+
+/**
+ * Benchmarks the normalizers of the language detector, applied one after the other by an
+ * {@link AggregateCharSequenceNormalizer} and in a single pass by a
+ * {@link FusedCharSequenceNormalizer}, on tweet-sized inputs and on a multi-KB document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CharSequenceNormalizerBenchmark {
+
+  private static final String[] TWEETS = {
+      "RT @opennlp: Apache OpenNLP 2.5.4 released!!! https://opennlp.apache.org #nlp 😀",
+      "hahahaha sooooo good :-) mail me at user@example.org or see www.apache.org   ok?",
+      "rt: 3 new models for 12 languages, thanks @all ;) jajaja #opensource #java",
+      "Das ist   soooo   gut!!! 👍 100% empfohlen, siehe http://example.com/a?b=1"
+  };
+
+  @Param({"tweet", "document"})
+  private String input;
+
+  private String[] texts;
+  private CharSequenceNormalizer aggregate;
+  private FusedCharSequenceNormalizer fused;
+  private StringBuilder out;
+
+  @Setup
+  public void setup() throws IOException {
+    if ("tweet".equals(input)) {
+      texts = TWEETS;
+    } else {
+      StringBuilder document = new StringBuilder();
+      int i = 0;
+      for (String sentence : TrainedModels.text().split("(?<=\\. )")) {
+        document.append(sentence);
+        if (i++ % 8 == 0) {
+          document.append(TWEETS[i % TWEETS.length]).append(' ');
+        }
+      }
+      texts = new String[] {document.toString()};
+    }
+
+    final CharSequenceNormalizer[] normalizers = {
+        EmojiCharSequenceNormalizer.getInstance(),
+        UrlCharSequenceNormalizer.getInstance(),
+        TwitterCharSequenceNormalizer.getInstance(),
+        NumberCharSequenceNormalizer.getInstance(),
+        ShrinkCharSequenceNormalizer.getInstance()};
+    aggregate = new AggregateCharSequenceNormalizer(normalizers);
+    fused = new FusedCharSequenceNormalizer(normalizers);
+    out = new StringBuilder();
+  }
+
+  @Benchmark
+  public void aggregate(Blackhole bh) {
+    for (String text : texts) {
+      bh.consume(aggregate.normalize(text));
+    }
+  }
+
+  @Benchmark
+  public void fused(Blackhole bh) {
+    for (String text : texts) {
+      bh.consume(fused.normalize(text));
+    }
+  }
+
+  @Benchmark
+  public void fusedInto(Blackhole bh) {
+    for (String text : texts) {
+      out.setLength(0);
+      fused.normalize(text, out);
+      bh.consume(out);
+    }
+  }
+}
@@ -64,19 +64,44 @@ public class ChunkerCrossValidator {
     CrossValidationPartitioner<ChunkSample> partitioner = new CrossValidationPartitioner<>(samples, nFolds);
 
     while (partitioner.hasNext()) {
+      fmeasure.mergeInto(evaluateFold(partitioner.next()));
+    }
+  }
 
-      CrossValidationPartitioner.TrainingSampleStream<ChunkSample> trainingSampleStream = partitioner.next();
-      ChunkerModel model = ChunkerME.train(languageCode, trainingSampleStream,
-          params, chunkerFactory);
-
-      // do testing
-      ChunkerEvaluator evaluator = new ChunkerEvaluator(new ChunkerME(model), listeners);
-      evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+  /**
+   * Starts the evaluation and runs up to {@code threads} folds concurrently.
+   * <p>
+   * The samples are read once into memory. The per-fold results are merged in fold order,
+   * hence the resulting {@link FMeasure} equals the one of {@link #evaluate(ObjectStream, int)}.
+   * The configured {@link ChunkerEvaluationMonitor listeners} are called from several threads
+   * and must be thread-safe.
+   *
+   * @param samples The {@link ObjectStream} of {@link ChunkSample samples} to train and test with.
+   * @param nFolds Number of folds. It must be greater than zero.
+   * @param threads The maximum number of folds to run concurrently. It must be greater than zero.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void evaluate(ObjectStream<ChunkSample> samples, int nFolds, int threads) throws IOException {
+    CrossValidationPartitioner<ChunkSample> partitioner = new CrossValidationPartitioner<>(samples, nFolds);
 
-      fmeasure.mergeInto(evaluator.getFMeasure());
+    for (FMeasure foldMeasure : partitioner.evaluateFolds(threads, this::evaluateFold)) {
+      fmeasure.mergeInto(foldMeasure);
     }
   }
 
+  private FMeasure evaluateFold(CrossValidationPartitioner.TrainingSampleStream<ChunkSample>
+                                    trainingSampleStream) throws IOException {
+    ChunkerModel model = ChunkerME.train(languageCode, trainingSampleStream,
+        params, chunkerFactory);
+
+    // do testing
+    ChunkerEvaluator evaluator = new ChunkerEvaluator(new ChunkerME(model), listeners);
+    evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+
+    return evaluator.getFMeasure();
+  }
+
   public FMeasure getFMeasure() {
     return fmeasure;
   }
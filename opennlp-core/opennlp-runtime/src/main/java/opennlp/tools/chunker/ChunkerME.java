@@ -32,11 +32,13 @@ import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.SequenceClassificationModel;
 import opennlp.tools.models.ModelType;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.util.DownloadUtil;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.Sequence;
 import opennlp.tools.util.SequenceValidator;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 import opennlp.tools.util.TokenTag;
 import opennlp.tools.util.TrainingParameters;
 
@@ -51,6 +53,8 @@ public class ChunkerME implements Chunker, Probabilistic {
 
   public static final int DEFAULT_BEAM_SIZE = 10;
 
+  private static final String METRIC_CHUNK = Instrumentation.metric("chunker", "chunk");
+
   private Sequence bestSequence;
 
   /**
@@ -92,8 +96,10 @@ public class ChunkerME implements Chunker, Probabilistic {
 
   @Override
   public String[] chunk(String[] toks, String[] tags) {
+    final long start = Instrumentation.start();
     TokenTag[] tuples = TokenTag.create(toks, tags);
     bestSequence = model.bestSequence(tuples, new Object[] {}, contextGenerator, sequenceValidator);
+    Instrumentation.recordTime(METRIC_CHUNK, start);
     List<String> c = bestSequence.getOutcomes();
     return c.toArray(new String[0]);
   }
@@ -104,6 +110,74 @@ public class ChunkerME implements Chunker, Probabilistic {
     return ChunkSample.phrasesAsSpanList(toks, tags, preds);
   }
 
+  /**
+   * {@inheritDoc}
+   * The chunks are decoded like {@link ChunkSample#phrasesAsSpanList(String[], String[], String[])}
+   * does, and the probability of each chunk is the arithmetic mean of the probabilities
+   * of its chunk tags.
+   */
+  @Override
+  public void chunkAsSpans(String[] toks, String[] tags, SpanBuffer spans) {
+    final String[] preds = chunk(toks, tags);
+    if (toks.length != tags.length || tags.length != preds.length) {
+      throw new IllegalArgumentException("All arrays must have the same length: "
+          + "sentenceSize: " + toks.length + ", tagsSize: " + tags.length
+          + ", predsSize: " + preds.length + "!");
+    }
+
+    decodePhrases(preds, spans);
+
+    final double[] probs = bestSequence.getProbs();
+    for (int si = 0; si < spans.size(); si++) {
+      double p = 0;
+      for (int oi = spans.getStart(si), end = spans.getEnd(si); oi < end; oi++) {
+        p += probs[oi];
+      }
+      spans.setProb(si, p / spans.length(si));
+    }
+  }
+
+  /*
+   * Writes the phrases of the chunk tags into the buffer, like ChunkSample.phrasesAsSpanList,
+   * without creating a String per phrase type.
+   */
+  static void decodePhrases(String[] preds, SpanBuffer spans) {
+    spans.clear();
+    // the chunk tag which started the current phrase, its type follows the "B-" or "I-" prefix
+    String startPred = null;
+    int startIndex = 0;
+    for (int ci = 0; ci < preds.length; ci++) {
+      final String pred = preds[ci];
+      final boolean inside = isInside(pred, startPred);
+      if (pred.startsWith("B-") || !inside && !pred.equals("O")) { // start
+        if (startPred != null) { // handle the last
+          addChunk(startIndex, ci, startPred, spans);
+        }
+        startIndex = ci;
+        startPred = pred;
+      } else if (!inside && startPred != null) { // end
+        addChunk(startIndex, ci, startPred, spans);
+        startPred = null;
+      }
+    }
+    if (startPred != null) { // leftover
+      addChunk(startIndex, preds.length, startPred, spans);
+    }
+  }
+
+  /*
+   * Checks if pred equals "I-" followed by the type of startPred, or "I-" if there is no phrase.
+   */
+  private static boolean isInside(String pred, String startPred) {
+    final int typeLength = startPred == null ? 0 : startPred.length() - 2;
+    return pred.length() == typeLength + 2 && pred.startsWith("I-")
+        && (startPred == null || pred.regionMatches(2, startPred, 2, typeLength));
+  }
+
+  private static void addChunk(int start, int end, String startPred, SpanBuffer spans) {
+    spans.add(start, end, spans.getTypeId(startPred, 2, startPred.length()), 0d);
+  }
+
   @Override
   public Sequence[] topKSequences(String[] sentence, String[] tags) {
     TokenTag[] tuples = TokenTag.create(sentence, tags);
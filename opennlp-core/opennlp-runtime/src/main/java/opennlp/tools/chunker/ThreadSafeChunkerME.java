@@ -21,6 +21,7 @@ import opennlp.tools.commons.ThreadSafe;
 import opennlp.tools.ml.Probabilistic;
 import opennlp.tools.util.Sequence;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * A thread-safe version of the {@link ChunkerME}. Using it is completely transparent.
@@ -76,6 +77,11 @@ public class ThreadSafeChunkerME implements Chunker, Probabilistic, AutoCloseabl
     return getChunker().chunkAsSpans(toks, tags);
   }
 
+  @Override
+  public void chunkAsSpans(String[] toks, String[] tags, SpanBuffer spans) {
+    getChunker().chunkAsSpans(toks, tags, spans);
+  }
+
   @Override
   public Sequence[] topKSequences(String[] sentence, String[] tags) {
     return getChunker().topKSequences(sentence, tags);
@@ -17,11 +17,14 @@
 
 package opennlp.tools.dictionary;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.AbstractSet;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -29,9 +32,14 @@ import java.util.Set;
 import java.util.StringTokenizer;
 
 import opennlp.tools.dictionary.serializer.Attributes;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryReader;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryWriter;
 import opennlp.tools.dictionary.serializer.DictionaryEntryPersistor;
 import opennlp.tools.dictionary.serializer.Entry;
 import opennlp.tools.util.StringList;
+import opennlp.tools.util.jvm.StringInterner;
+import opennlp.tools.util.model.BinaryDictionarySerializer;
 import opennlp.tools.util.model.DictionarySerializer;
 import opennlp.tools.util.model.SerializableArtifact;
 
@@ -42,10 +50,15 @@ import opennlp.tools.util.model.SerializableArtifact;
  * @see Iterable
  */
 public class Dictionary implements Iterable<StringList>, SerializableArtifact {
-  private final Set<StringList> entrySet = new HashSet<>();
+
+  // tokens of the binary format come from its string table and are unique already
+  private static final StringInterner STRING_TABLE = token -> token;
+
+  private final Set<StringList> entrySet;
   private final boolean isCaseSensitive;
   private int minTokenCount = 99999;
   private int maxTokenCount = 0;
+  private boolean binaryFormat;
 
   /**
    * Initializes an empty {@link Dictionary}.
@@ -61,18 +74,84 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
    * @param caseSensitive Whether the new instance will operate case-sensitive, or not.
    */
   public Dictionary(boolean caseSensitive) {
+    entrySet = new HashSet<>();
     isCaseSensitive = caseSensitive;
   }
 
   /**
    * Initializes the {@link Dictionary} from an existing dictionary resource.
+   * <p>
+   * The resource may either be in the XML format or in the {@link BinaryDictionaryFormat
+   * binary format}, which is detected by its leading magic number.
    *
    * @param in The {@link InputStream} that references the dictionary content.
    *           
    * @throws IOException Thrown if IO errors occurred.
    */
   public Dictionary(InputStream in) throws IOException {
-    isCaseSensitive = DictionaryEntryPersistor.create(in, entry -> put(entry.tokens()));
+    final InputStream dictIn = in.markSupported() ? in : new BufferedInputStream(in);
+
+    if (BinaryDictionaryFormat.isBinaryDictionary(dictIn)) {
+      final BinaryDictionaryReader reader =
+          BinaryDictionaryReader.open(dictIn, BinaryDictionaryFormat.Kind.DICTIONARY);
+      entrySet = HashSet.newHashSet(reader.getEntryCount());
+      isCaseSensitive = reader.isCaseSensitive();
+      putAll(reader);
+    }
+    else {
+      entrySet = new HashSet<>();
+      isCaseSensitive = DictionaryEntryPersistor.create(dictIn, entry -> put(entry.tokens()));
+    }
+  }
+
+  /**
+   * Initializes the {@link Dictionary} from an existing dictionary file.
+   * <p>
+   * A file in the {@link BinaryDictionaryFormat binary format} is memory-mapped,
+   * other files are parsed as XML.
+   *
+   * @param path The {@link Path} of the dictionary file.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public Dictionary(Path path) throws IOException {
+    if (BinaryDictionaryFormat.isBinaryDictionary(path)) {
+      final BinaryDictionaryReader reader =
+          BinaryDictionaryReader.open(path, BinaryDictionaryFormat.Kind.DICTIONARY);
+      entrySet = HashSet.newHashSet(reader.getEntryCount());
+      isCaseSensitive = reader.isCaseSensitive();
+      putAll(reader);
+    }
+    else {
+      entrySet = new HashSet<>();
+      try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+        isCaseSensitive = readEntries(in, entrySet);
+      }
+      for (StringList tokens : entrySet) {
+        minTokenCount = StrictMath.min(minTokenCount, tokens.size());
+        maxTokenCount = StrictMath.max(maxTokenCount, tokens.size());
+      }
+    }
+  }
+
+  /**
+   * Reads the entries of an XML dictionary into {@code entries}. Like {@link #put(StringList)}
+   * while the case sensitivity is not yet known, the entries are added case-insensitive.
+   *
+   * @return {@code true} if the dictionary is case-sensitive, {@code false} otherwise.
+   */
+  private static boolean readEntries(InputStream in, Set<StringList> entries) throws IOException {
+    return DictionaryEntryPersistor.create(in, entry -> entries.add(entry.tokens().toCaseInsensitive()));
+  }
+
+  private void putAll(BinaryDictionaryReader reader) throws IOException {
+    while (reader.next()) {
+      final StringList tokens = new StringList(STRING_TABLE, isCaseSensitive, reader.getTokens());
+      entrySet.add(tokens);
+      minTokenCount = StrictMath.min(minTokenCount, tokens.size());
+      maxTokenCount = StrictMath.max(maxTokenCount, tokens.size());
+    }
+    binaryFormat = true;
   }
 
   /**
@@ -180,6 +259,41 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
     DictionaryEntryPersistor.serialize(out, entryIterator, isCaseSensitive);
   }
 
+  /**
+   * Writes the current instance in the {@link BinaryDictionaryFormat binary format}
+   * to the given {@link OutputStream}.
+   *
+   * @param out A valid {@link OutputStream}, ready for serialization.
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void serializeBinary(OutputStream out) throws IOException {
+    final BinaryDictionaryWriter writer =
+        new BinaryDictionaryWriter(BinaryDictionaryFormat.Kind.DICTIONARY, isCaseSensitive);
+    for (StringList tokens : entrySet) {
+      writer.add(tokens);
+    }
+    writer.write(out);
+  }
+
+  /**
+   * @return {@code true} if this {@link Dictionary} is written in the binary format
+   *         when it is part of a model package, {@code false} for the XML format.
+   */
+  public boolean isBinaryFormat() {
+    return binaryFormat;
+  }
+
+  /**
+   * Selects the format which is used when this {@link Dictionary} is written as part of
+   * a model package. Dictionaries loaded from the binary format use it by default.
+   *
+   * @param binaryFormat {@code true} for the {@link BinaryDictionaryFormat binary format},
+   *                     {@code false} for the XML format.
+   */
+  public void setBinaryFormat(boolean binaryFormat) {
+    this.binaryFormat = binaryFormat;
+  }
+
   @Override
   public boolean equals(Object obj) {
 
@@ -325,13 +439,15 @@ public class Dictionary implements Iterable<StringList>, SerializableArtifact {
   }
 
   /**
-   * @return Retrieves the serializer class for {@link Dictionary}
+   * @return Retrieves the serializer class for {@link Dictionary}, depending on
+   *         {@link #isBinaryFormat()}.
    *
    * @see DictionarySerializer
+   * @see BinaryDictionarySerializer
    */
   @Override
   public Class<?> getArtifactSerializerClass() {
-    return DictionarySerializer.class;
+    return binaryFormat ? BinaryDictionarySerializer.class : DictionarySerializer.class;
   }
 
   /**
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.dictionary.serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * Describes the versioned binary format of dictionaries and n-gram models,
+ * which is written by the {@link BinaryDictionaryWriter} and read by the
+ * {@link BinaryDictionaryReader}.
+ * <p>
+ * A file starts with a header of the magic number {@code ONBD}, a version byte, the
+ * {@link Kind} and a flags byte whose lowest bit marks a case sensitive dictionary.
+ * The header is followed by a string table which stores every distinct token
+ * once as UTF-8 bytes, and by the entries, which refer to the string table with
+ * variable length token ids. An entry of a {@link Kind#NGRAM_MODEL} is followed by its
+ * count. All lengths, ids and counts are unsigned variable length integers with seven
+ * bits per byte.
+ * <p>
+ * Tag dictionaries have their own binary format, see
+ * {@link opennlp.tools.postag.CompactTagDictionary}.
+ *
+ * @see DictionaryEntryPersistor
+ */
+public final class BinaryDictionaryFormat {
+
+  static final int MAGIC = 0x4F4E4244;
+  static final int VERSION = 1;
+  static final int HEADER_LENGTH = Integer.BYTES + 3;
+
+  static final int FLAG_CASE_SENSITIVE = 1;
+
+  /**
+   * The type of artifact stored in a binary dictionary.
+   */
+  public enum Kind {
+    /** A {@code Dictionary}, entries are token sequences only. */
+    DICTIONARY,
+    /** A {@code NGramModel}, every entry has a count. */
+    NGRAM_MODEL
+  }
+
+  private BinaryDictionaryFormat() {
+  }
+
+  /**
+   * @param header The first bytes of a stream.
+   * @return {@code true} if {@code header} starts with the magic number of the binary format.
+   */
+  public static boolean isBinaryDictionary(byte[] header) {
+    return header.length >= Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  /**
+   * Checks whether the given stream contains a binary dictionary without consuming it.
+   *
+   * @param in The {@link InputStream} to check. It must support {@link InputStream#mark(int)}.
+   * @return {@code true} if the stream starts with the magic number of the binary format.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws IllegalArgumentException Thrown if the stream does not support mark and reset.
+   */
+  public static boolean isBinaryDictionary(InputStream in) throws IOException {
+    if (!in.markSupported()) {
+      throw new IllegalArgumentException("The stream must support mark and reset!");
+    }
+    in.mark(Integer.BYTES);
+    final byte[] header = in.readNBytes(Integer.BYTES);
+    in.reset();
+    return isBinaryDictionary(header);
+  }
+
+  /**
+   * @param path The {@link Path} of a file.
+   * @return {@code true} if the file starts with the magic number of the binary format.
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public static boolean isBinaryDictionary(Path path) throws IOException {
+    try (InputStream in = Files.newInputStream(path)) {
+      return isBinaryDictionary(in.readNBytes(Integer.BYTES));
+    }
+  }
+
+  /**
+   * Reads the {@link Kind} from the header of a binary dictionary file.
+   *
+   * @param path The {@link Path} of a binary dictionary file.
+   * @return The {@link Kind} of the stored artifact.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the file is not a binary dictionary.
+   */
+  public static Kind readKind(Path path) throws IOException {
+    try (InputStream in = Files.newInputStream(path)) {
+      return checkHeader(ByteBuffer.wrap(in.readNBytes(HEADER_LENGTH))).kind;
+    }
+  }
+
+  static Header checkHeader(ByteBuffer header) throws InvalidFormatException {
+    if (header.remaining() < HEADER_LENGTH || header.getInt() != MAGIC) {
+      throw new InvalidFormatException("Not a binary dictionary!");
+    }
+    final int version = header.get() & 0xFF;
+    if (version != VERSION) {
+      throw new InvalidFormatException("Unsupported binary dictionary version: " + version);
+    }
+    final int kind = header.get() & 0xFF;
+    if (kind >= Kind.values().length) {
+      throw new InvalidFormatException("Unknown binary dictionary kind: " + kind);
+    }
+    final int flags = header.get() & 0xFF;
+    return new Header(Kind.values()[kind], (flags & FLAG_CASE_SENSITIVE) != 0);
+  }
+
+  record Header(Kind kind, boolean caseSensitive) {
+  }
+}
@@ -0,0 +1,328 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.dictionary.serializer;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat.Header;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat.Kind;
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * Reads the entries of the {@link BinaryDictionaryFormat binary format} one after another.
+ * <p>
+ * The string table is decoded once when the reader is opened, so all entries share the
+ * same {@link String} instances for equal tokens and no interning is needed.
+ * Files are memory-mapped via {@link #open(Path)}, streams are read through an internal
+ * buffer via {@link #open(InputStream)}.
+ * <p>
+ * Typical usage:
+ * <pre>{@code
+ * BinaryDictionaryReader reader = BinaryDictionaryReader.open(path);
+ * while (reader.next()) {
+ *   String[] tokens = reader.getTokens();
+ *   ...
+ * }
+ * }</pre>
+ * This class is not thread safe.
+ *
+ * @see BinaryDictionaryWriter
+ */
+public final class BinaryDictionaryReader {
+
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final Kind kind;
+  private final boolean caseSensitive;
+  private final String[] strings;
+  private final int entryCount;
+
+  // either the mapped file, or a stream with a buffer
+  private final ByteBuffer mapped;
+  private final InputStream in;
+  private final boolean ownsStream;
+  private final byte[] buffer;
+  private int position;
+  private int limit;
+
+  private int entry;
+  private String[] tokens;
+  private int count;
+
+  private BinaryDictionaryReader(ByteBuffer mapped, InputStream in, boolean ownsStream)
+      throws IOException {
+    this.mapped = mapped;
+    this.in = in;
+    this.ownsStream = ownsStream;
+    this.buffer = in != null ? new byte[BUFFER_SIZE] : null;
+
+    final byte[] header = new byte[BinaryDictionaryFormat.HEADER_LENGTH];
+    readFully(header, header.length);
+    final Header checked = BinaryDictionaryFormat.checkHeader(ByteBuffer.wrap(header));
+    this.kind = checked.kind();
+    this.caseSensitive = checked.caseSensitive();
+
+    this.strings = new String[readVarInt()];
+    byte[] scratch = new byte[64];
+    for (int i = 0; i < strings.length; i++) {
+      final int length = readVarInt();
+      if (length > scratch.length) {
+        scratch = new byte[Math.max(length, scratch.length * 2)];
+      }
+      readFully(scratch, length);
+      strings[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    this.entryCount = readVarInt();
+  }
+
+  /**
+   * Opens a binary dictionary stream.
+   * <p>
+   * <b>Note:</b> The {@link InputStream} remains open, it is read ahead up to the
+   * size of the internal buffer.
+   *
+   * @param in The {@link InputStream} to read from.
+   * @return A {@link BinaryDictionaryReader} positioned before the first entry.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the stream is not a binary dictionary.
+   */
+  public static BinaryDictionaryReader open(InputStream in) throws IOException {
+    return new BinaryDictionaryReader(null, in, false);
+  }
+
+  /**
+   * Opens a binary dictionary file by memory-mapping it. Files which are too large
+   * to be mapped into a single buffer are read as a stream.
+   *
+   * @param path The {@link Path} of the file to read.
+   * @return A {@link BinaryDictionaryReader} positioned before the first entry.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the file is not a binary dictionary.
+   */
+  public static BinaryDictionaryReader open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      if (channel.size() <= Integer.MAX_VALUE) {
+        return new BinaryDictionaryReader(
+            channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), null, false);
+      }
+    }
+
+    // the stream is closed after the last entry was read, see next()
+    final InputStream in = Files.newInputStream(path);
+    try {
+      return new BinaryDictionaryReader(null, in, true);
+    } catch (IOException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Opens a binary dictionary and checks that it stores the expected {@link Kind}.
+   *
+   * @param in The {@link InputStream} to read from.
+   * @param expected The expected {@link Kind}.
+   * @return A {@link BinaryDictionaryReader} positioned before the first entry.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the stream is not a binary dictionary
+   *                                of the {@code expected} kind.
+   */
+  public static BinaryDictionaryReader open(InputStream in, Kind expected) throws IOException {
+    return checkKind(open(in), expected);
+  }
+
+  /**
+   * Opens a binary dictionary file and checks that it stores the expected {@link Kind}.
+   *
+   * @param path The {@link Path} of the file to read.
+   * @param expected The expected {@link Kind}.
+   * @return A {@link BinaryDictionaryReader} positioned before the first entry.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the file is not a binary dictionary
+   *                                of the {@code expected} kind.
+   */
+  public static BinaryDictionaryReader open(Path path, Kind expected) throws IOException {
+    return checkKind(open(path), expected);
+  }
+
+  private static BinaryDictionaryReader checkKind(BinaryDictionaryReader reader, Kind expected)
+      throws IOException {
+    if (reader.kind != expected) {
+      reader.closeFileStream();
+      throw new InvalidFormatException("Expected a binary " + expected + " but found a " + reader.kind);
+    }
+    return reader;
+  }
+
+  /**
+   * @return The {@link Kind} of the stored artifact.
+   */
+  public Kind getKind() {
+    return kind;
+  }
+
+  /**
+   * @return {@code true} if the stored dictionary is case sensitive, {@code false} otherwise.
+   */
+  public boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  /**
+   * @return The number of entries, can be used to presize the target collection.
+   */
+  public int getEntryCount() {
+    return entryCount;
+  }
+
+  /**
+   * Advances to the next entry.
+   *
+   * @return {@code true} if the reader is positioned on a new entry, {@code false}
+   *         if all entries have been read.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if an entry is corrupt.
+   */
+  public boolean next() throws IOException {
+    if (entry == entryCount) {
+      tokens = null;
+      closeFileStream();
+      return false;
+    }
+
+    tokens = readStrings();
+    if (tokens.length == 0) {
+      throw new InvalidFormatException("Entry " + entry + " has no tokens!");
+    }
+    if (kind == Kind.NGRAM_MODEL) {
+      count = readVarInt();
+    }
+
+    entry++;
+    return true;
+  }
+
+  /**
+   * @return The tokens of the current entry, a new array which the caller may keep.
+   * @throws NoSuchElementException Thrown if the reader is not positioned on an entry.
+   */
+  public String[] getTokens() {
+    if (tokens == null) {
+      throw new NoSuchElementException();
+    }
+    return tokens;
+  }
+
+  /**
+   * @return The count of the current entry of a {@link Kind#NGRAM_MODEL}.
+   * @throws IllegalStateException Thrown if the artifact is not a {@link Kind#NGRAM_MODEL}.
+   */
+  public int getCount() {
+    if (kind != Kind.NGRAM_MODEL) {
+      throw new IllegalStateException("Entries of a " + kind + " have no count!");
+    }
+    getTokens();
+    return count;
+  }
+
+  private String[] readStrings() throws IOException {
+    final String[] values = new String[readVarInt()];
+    for (int i = 0; i < values.length; i++) {
+      final int id = readVarInt();
+      if (id >= strings.length) {
+        throw new InvalidFormatException("Invalid string id " + id + " in entry " + entry);
+      }
+      values[i] = strings[id];
+    }
+    return values;
+  }
+
+  private int readVarInt() throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+      final int b = readByte();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        if (value < 0) {
+          throw new InvalidFormatException("Invalid variable length integer: " + value);
+        }
+        return value;
+      }
+    }
+    throw new InvalidFormatException("Variable length integer is too long!");
+  }
+
+  private int readByte() throws IOException {
+    if (mapped != null) {
+      if (!mapped.hasRemaining()) {
+        throw new EOFException("Unexpected end of binary dictionary!");
+      }
+      return mapped.get() & 0xFF;
+    }
+    if (position == limit) {
+      fill();
+    }
+    return buffer[position++] & 0xFF;
+  }
+
+  private void readFully(byte[] target, int length) throws IOException {
+    if (mapped != null) {
+      if (mapped.remaining() < length) {
+        throw new EOFException("Unexpected end of binary dictionary!");
+      }
+      mapped.get(target, 0, length);
+      return;
+    }
+    int offset = 0;
+    while (offset < length) {
+      if (position == limit) {
+        fill();
+      }
+      final int n = Math.min(length - offset, limit - position);
+      System.arraycopy(buffer, position, target, offset, n);
+      position += n;
+      offset += n;
+    }
+  }
+
+  private void fill() throws IOException {
+    final int n = in.read(buffer, 0, buffer.length);
+    if (n <= 0) {
+      throw new EOFException("Unexpected end of binary dictionary!");
+    }
+    position = 0;
+    limit = n;
+  }
+
+  private void closeFileStream() throws IOException {
+    if (ownsStream) {
+      in.close();
+    }
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.dictionary.serializer;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat.Kind;
+import opennlp.tools.util.StringList;
+
+/**
+ * Collects the entries of a dictionary or n-gram model and writes them
+ * in the {@link BinaryDictionaryFormat binary format}.
+ * <p>
+ * Tokens are mapped to ids of a shared string table while entries are added,
+ * the entries themselves are buffered as {@code int} values only.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @see BinaryDictionaryReader
+ */
+public final class BinaryDictionaryWriter {
+
+  private final Kind kind;
+  private final boolean caseSensitive;
+
+  private final Map<String, Integer> ids = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+
+  private int[] entries = new int[1024];
+  private int length;
+  private int entryCount;
+
+  /**
+   * Initializes an empty {@link BinaryDictionaryWriter}.
+   *
+   * @param kind The {@link Kind} of the artifact to write. Must not be {@code null}.
+   * @param caseSensitive Whether the dictionary is case sensitive.
+   */
+  public BinaryDictionaryWriter(Kind kind, boolean caseSensitive) {
+    this.kind = Objects.requireNonNull(kind, "kind must not be null");
+    this.caseSensitive = caseSensitive;
+  }
+
+  /**
+   * Adds an entry of a {@link Kind#DICTIONARY}.
+   *
+   * @param tokens The tokens of the entry. Must not be {@code null}.
+   * @throws IllegalStateException Thrown if the writer is not for a {@link Kind#DICTIONARY}.
+   */
+  public void add(StringList tokens) {
+    checkKind(Kind.DICTIONARY);
+    addTokens(tokens);
+    entryCount++;
+  }
+
+  /**
+   * Adds an entry of a {@link Kind#NGRAM_MODEL}.
+   *
+   * @param tokens The tokens of the n-gram. Must not be {@code null}.
+   * @param count The count of the n-gram. Must not be negative.
+   * @throws IllegalStateException Thrown if the writer is not for a {@link Kind#NGRAM_MODEL}.
+   * @throws IllegalArgumentException Thrown if {@code count} is negative.
+   */
+  public void add(StringList tokens, int count) {
+    checkKind(Kind.NGRAM_MODEL);
+    if (count < 0) {
+      throw new IllegalArgumentException("count must not be negative: " + count);
+    }
+    addTokens(tokens);
+    append(count);
+    entryCount++;
+  }
+
+  /**
+   * @return Retrieves the number of entries added so far.
+   */
+  public int size() {
+    return entryCount;
+  }
+
+  /**
+   * Writes all entries added so far to the given {@link OutputStream}.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out The {@link OutputStream} to write to.
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void write(OutputStream out) throws IOException {
+    final BufferedOutputStream data = new BufferedOutputStream(out, 1 << 16);
+
+    data.write(BinaryDictionaryFormat.MAGIC >>> 24);
+    data.write(BinaryDictionaryFormat.MAGIC >>> 16);
+    data.write(BinaryDictionaryFormat.MAGIC >>> 8);
+    data.write(BinaryDictionaryFormat.MAGIC);
+    data.write(BinaryDictionaryFormat.VERSION);
+    data.write(kind.ordinal());
+    data.write(caseSensitive ? BinaryDictionaryFormat.FLAG_CASE_SENSITIVE : 0);
+
+    writeVarInt(data, strings.size());
+    for (String string : strings) {
+      final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+      writeVarInt(data, bytes.length);
+      data.write(bytes);
+    }
+
+    writeVarInt(data, entryCount);
+    for (int i = 0; i < length; i++) {
+      writeVarInt(data, entries[i]);
+    }
+
+    data.flush();
+  }
+
+  private void checkKind(Kind expected) {
+    if (kind != expected) {
+      throw new IllegalStateException("Cannot add an entry of a " + expected + " to a " + kind);
+    }
+  }
+
+  private void addTokens(StringList tokens) {
+    Objects.requireNonNull(tokens, "tokens must not be null");
+    append(tokens.size());
+    for (int i = 0; i < tokens.size(); i++) {
+      append(id(tokens.getToken(i)));
+    }
+  }
+
+  private int id(String string) {
+    Integer id = ids.get(string);
+    if (id == null) {
+      id = strings.size();
+      ids.put(string, id);
+      strings.add(string);
+    }
+    return id;
+  }
+
+  private void append(int value) {
+    if (length == entries.length) {
+      entries = Arrays.copyOf(entries, entries.length * 2);
+    }
+    entries[length++] = value;
+  }
+
+  private static void writeVarInt(OutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.write((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.write(value);
+  }
+}
@@ -72,24 +72,54 @@ public class DoccatCrossValidator {
         samples, nFolds);
 
     while (partitioner.hasNext()) {
+      DocumentCategorizerEvaluator evaluator = evaluateFold(partitioner.next());
 
-      CrossValidationPartitioner.TrainingSampleStream<DocumentSample> trainingSampleStream = partitioner
-          .next();
-
-      DoccatModel model = DocumentCategorizerME.train(languageCode,
-          trainingSampleStream, params, factory);
+      documentAccuracy.add(evaluator.getAccuracy(),
+          evaluator.getDocumentCount());
+    }
+  }
 
-      DocumentCategorizerEvaluator evaluator = new DocumentCategorizerEvaluator(
-          new DocumentCategorizerME(model), listeners);
+  /**
+   * Starts the evaluation and runs up to {@code threads} folds concurrently.
+   * <p>
+   * The samples are read once into memory. The per-fold results are merged in fold order,
+   * hence the resulting document accuracy equals the one of {@link #evaluate(ObjectStream, int)}.
+   * The configured {@link DoccatEvaluationMonitor listeners} are called from several threads
+   * and must be thread-safe.
+   *
+   * @param samples The {@link ObjectStream} of {@link DocumentSample samples} to train and test with.
+   * @param nFolds Number of folds. It must be greater than zero.
+   * @param threads The maximum number of folds to run concurrently. It must be greater than zero.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void evaluate(ObjectStream<DocumentSample> samples, int nFolds, int threads)
+      throws IOException {
 
-      evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+    CrossValidationPartitioner<DocumentSample> partitioner = new CrossValidationPartitioner<>(
+        samples, nFolds);
 
+    for (DocumentCategorizerEvaluator evaluator : partitioner.evaluateFolds(threads, this::evaluateFold)) {
       documentAccuracy.add(evaluator.getAccuracy(),
           evaluator.getDocumentCount());
-
     }
   }
 
+  private DocumentCategorizerEvaluator evaluateFold(
+      CrossValidationPartitioner.TrainingSampleStream<DocumentSample> trainingSampleStream)
+      throws IOException {
+
+    DoccatModel model = DocumentCategorizerME.train(languageCode,
+        trainingSampleStream, params, factory);
+
+    DocumentCategorizerEvaluator evaluator = new DocumentCategorizerEvaluator(
+        new DocumentCategorizerME(model), listeners);
+
+    evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+
+    return evaluator;
+  }
+
   /**
    * @return Retrieves the accuracy for all iterations.
    */
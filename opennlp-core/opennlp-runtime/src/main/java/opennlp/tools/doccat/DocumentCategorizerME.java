@@ -29,6 +29,7 @@ import java.util.TreeMap;
 import opennlp.tools.ml.EventTrainer;
 import opennlp.tools.ml.TrainerFactory;
 import opennlp.tools.ml.model.MaxentModel;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.TrainingParameters;
 
@@ -36,7 +37,11 @@ import opennlp.tools.util.TrainingParameters;
  * A Max-Ent based implementation of {@link DocumentCategorizer}.
  */
 public class DocumentCategorizerME implements DocumentCategorizer {
-  
+
+  private static final String METRIC_FEATURE_GENERATION =
+      Instrumentation.metric("doccat", Instrumentation.FEATURE_GENERATION);
+  private static final String METRIC_EVAL = Instrumentation.metric("doccat", Instrumentation.MODEL_EVAL);
+
   private final DoccatModel model;
   private final DocumentCategorizerContextGenerator mContextGenerator;
 
@@ -62,8 +67,14 @@ public class DocumentCategorizerME implements DocumentCategorizer {
    */
   @Override
   public double[] categorize(String[] text, Map<String, Object> extraInformation) {
-    return model.getMaxentModel().eval(
-        mContextGenerator.getContext(text, extraInformation));
+    final long featureStart = Instrumentation.start();
+    final String[] context = mContextGenerator.getContext(text, extraInformation);
+    Instrumentation.recordTime(METRIC_FEATURE_GENERATION, featureStart);
+
+    final long evalStart = Instrumentation.start();
+    final double[] probs = model.getMaxentModel().eval(context);
+    Instrumentation.recordTime(METRIC_EVAL, evalStart);
+    return probs;
   }
   
   @Override
@@ -22,8 +22,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 
 import opennlp.tools.ngram.NGramCharModel;
-import opennlp.tools.util.normalizer.AggregateCharSequenceNormalizer;
 import opennlp.tools.util.normalizer.CharSequenceNormalizer;
+import opennlp.tools.util.normalizer.FusedCharSequenceNormalizer;
 
 /**
  * A context generator for {@link LanguageDetectorContextGenerator language detector}.
@@ -50,7 +50,7 @@ public class DefaultLanguageDetectorContextGenerator implements LanguageDetector
     this.minLength = minLength;
     this.maxLength = maxLength;
 
-    this.normalizer = new AggregateCharSequenceNormalizer(normalizers);
+    this.normalizer = new FusedCharSequenceNormalizer(normalizers);
   }
 
   @Override
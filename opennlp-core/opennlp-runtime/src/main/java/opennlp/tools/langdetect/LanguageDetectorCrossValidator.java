@@ -69,24 +69,54 @@ public class LanguageDetectorCrossValidator {
         new CrossValidationPartitioner<>(samples, nFolds);
 
     while (partitioner.hasNext()) {
+      LanguageDetectorEvaluator evaluator = evaluateFold(partitioner.next());
 
-      CrossValidationPartitioner.TrainingSampleStream<LanguageSample> trainingSampleStream =
-          partitioner.next();
-
-      LanguageDetectorModel model = LanguageDetectorME.train(
-          trainingSampleStream, params, factory);
+      documentAccuracy.add(evaluator.getAccuracy(),
+          evaluator.getDocumentCount());
+    }
+  }
 
-      LanguageDetectorEvaluator evaluator = new LanguageDetectorEvaluator(
-          new LanguageDetectorME(model), listeners);
+  /**
+   * Starts the evaluation and runs up to {@code threads} folds concurrently.
+   * <p>
+   * The samples are read once into memory. The per-fold results are merged in fold order,
+   * hence the resulting document accuracy equals the one of {@link #evaluate(ObjectStream, int)}.
+   * The configured {@link LanguageDetectorEvaluationMonitor listeners} are called from several threads
+   * and must be thread-safe.
+   *
+   * @param samples The {@link ObjectStream} of {@link LanguageSample samples} to train and test with.
+   * @param nFolds Number of folds. It must be greater than zero.
+   * @param threads The maximum number of folds to run concurrently. It must be greater than zero.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void evaluate(ObjectStream<LanguageSample> samples, int nFolds, int threads)
+      throws IOException {
 
-      evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+    CrossValidationPartitioner<LanguageSample> partitioner =
+        new CrossValidationPartitioner<>(samples, nFolds);
 
+    for (LanguageDetectorEvaluator evaluator : partitioner.evaluateFolds(threads, this::evaluateFold)) {
       documentAccuracy.add(evaluator.getAccuracy(),
           evaluator.getDocumentCount());
-
     }
   }
 
+  private LanguageDetectorEvaluator evaluateFold(
+      CrossValidationPartitioner.TrainingSampleStream<LanguageSample> trainingSampleStream)
+      throws IOException {
+
+    LanguageDetectorModel model = LanguageDetectorME.train(
+        trainingSampleStream, params, factory);
+
+    LanguageDetectorEvaluator evaluator = new LanguageDetectorEvaluator(
+        new LanguageDetectorME(model), listeners);
+
+    evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+
+    return evaluator;
+  }
+
   /**
    * @return Retrieves the word accuracy for all iterations.
    */
@@ -24,31 +24,44 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * A {@link Lemmatizer} implementation that works by simple dictionary lookup into
- * a {@link Map} built from a file containing, for each line:
+ * a table built from a file containing, for each line:
  * <p>
  * {@code word\tabpostag\tablemma}.
+ * <p>
+ * The dictionary is stored in a compact, immutable table: the words share a single
+ * character pool, and every distinct tag and lemma is stored once. Lookups do not
+ * allocate objects, and an instance can be shared between threads.
+ * The dictionary can be saved in a binary format with {@link #serializeBinary(OutputStream)},
+ * which is detected and loaded without parsing by the {@link InputStream}, {@link File}
+ * and {@link Path} based constructors.
  */
 public class DictionaryLemmatizer implements Lemmatizer {
 
   /*
-   * The hashmap containing the dictionary.
+   * The table containing the dictionary.
+   */
+  private final LemmaTable table;
+
+  /*
+   * The map view of the table, created on the first call of getDictMap().
    */
-  private final Map<List<String>, List<String>> dictMap = new HashMap<>();
+  private volatile Map<List<String>, List<String>> dictMap;
 
   /**
-   * Initializes a {@link DictionaryLemmatizer} and related {@link HashMap}
+   * Initializes a {@link DictionaryLemmatizer} and related table
    * from the input tab separated dictionary.
    * <p>
    * The input file should have, for each line, {@code word\tabpostag\tablemma}.
@@ -63,11 +76,11 @@ public class DictionaryLemmatizer implements Lemmatizer {
    */
   public DictionaryLemmatizer(final InputStream dictionaryStream, Charset charset)
           throws IOException {
-    init(dictionaryStream, charset);
+    table = init(dictionaryStream, charset);
   }
 
   /**
-   * Initializes a {@link DictionaryLemmatizer} and related {@link HashMap}
+   * Initializes a {@link DictionaryLemmatizer} and related table
    * from the input tab separated dictionary.
    * <p>
    * The input file should have, for each line, {@code word\tabpostag\tablemma}.
@@ -84,7 +97,7 @@ public class DictionaryLemmatizer implements Lemmatizer {
   }
 
   /**
-   * Initializes a {@link DictionaryLemmatizer} and related {@link HashMap}
+   * Initializes a {@link DictionaryLemmatizer} and related table
    * from the input tab separated dictionary.
    * <p>
    * The input file should have, for each line, {@code word\tabpostag\tablemma}.
@@ -101,7 +114,7 @@ public class DictionaryLemmatizer implements Lemmatizer {
   }
 
   /**
-   * Initializes a {@link DictionaryLemmatizer} and related {@link HashMap}
+   * Initializes a {@link DictionaryLemmatizer} and related table
    * from the input tab separated dictionary.
    * <p>
    * The input file should have, for each line, {@code word\tabpostag\tablemma}.
@@ -115,13 +128,13 @@ public class DictionaryLemmatizer implements Lemmatizer {
    *                     {@code dictionaryFile}.
    */
   public DictionaryLemmatizer(File dictionaryFile, Charset charset) throws IOException {
-    try (InputStream in = new BufferedInputStream(new FileInputStream(dictionaryFile))) {
-      init(in, charset);
+    try (InputStream in = new FileInputStream(dictionaryFile)) {
+      table = init(in, charset);
     }
   }
 
   /**
-   * Initializes a {@link DictionaryLemmatizer} and related {@link HashMap}
+   * Initializes a {@link DictionaryLemmatizer} and related table
    * from the input tab separated dictionary.
    * <p>
    * The input file should have, for each line, {@code word\tabpostag\tablemma}.
@@ -134,49 +147,88 @@ public class DictionaryLemmatizer implements Lemmatizer {
    *                     {@code dictionaryPath}.
    */
   public DictionaryLemmatizer(Path dictionaryPath) throws IOException {
-    init(Files.newInputStream(dictionaryPath), StandardCharsets.UTF_8);
+    try (InputStream in = Files.newInputStream(dictionaryPath)) {
+      table = init(in, StandardCharsets.UTF_8);
+    }
   }
 
-  private void init(InputStream dictionary, Charset charset) throws IOException {
-    final BufferedReader breader = new BufferedReader(
-        new InputStreamReader(dictionary, charset));
+  private static LemmaTable init(InputStream dictionary, Charset charset) throws IOException {
+    final InputStream in = new BufferedInputStream(dictionary);
+    in.mark(Integer.BYTES);
+    final byte[] header = in.readNBytes(Integer.BYTES);
+    in.reset();
+
+    if (LemmaTable.isLemmaTable(header)) {
+      return LemmaTable.create(in);
+    }
+
+    final LemmaTable.Builder builder = new LemmaTable.Builder();
+    final BufferedReader breader = new BufferedReader(new InputStreamReader(in, charset));
     String line;
     while ((line = breader.readLine()) != null) {
       final String[] elems = line.split("\t");
       final String[] lemmas = elems[2].split("#");
-      this.dictMap.put(Arrays.asList(elems[0], elems[1]), Arrays.asList(lemmas));
+      builder.add(elems[0], elems[1], lemmas);
     }
+    return builder.build();
   }
+
   /**
-   * @return Retrieves the {@link Map} containing the dictionary.
+   * Serializes the dictionary in the binary format, which can be loaded faster than
+   * the tab separated format and is detected by the constructors.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out The {@link OutputStream} to write the dictionary into.
+   * @throws IOException Thrown if writing to the {@link OutputStream} fails.
    */
-  public Map<List<String>, List<String>> getDictMap() {
-    return this.dictMap;
+  public void serializeBinary(OutputStream out) throws IOException {
+    table.serialize(out);
   }
 
   /**
-   * @param word The surface form word.
-   * @param postag The assigned postag.
-   *               
-   * @return Retrieves the dictionary keys (word and postag).
+   * Retrieves a {@link Map} from (word, postag) keys to their lemmas.
+   * <p>
+   * Since the dictionary is stored in a compact table, the map is built on the first call
+   * and duplicates the dictionary in memory. It is unmodifiable: before 3.0.0 this method
+   * returned the live map of the lemmatizer, now attempts to modify it throw an
+   * {@link UnsupportedOperationException}.
+   *
+   * @return Retrieves an unmodifiable {@link Map} containing the dictionary.
+   * @deprecated Use {@link #lemmatize(String[], String[])} or
+   *     {@link #lemmatize(List, List)} to look up lemmas.
    */
-  private List<String> getDictKeys(final String word, final String postag) {
-    return new ArrayList<>(Arrays.asList(word.toLowerCase(), postag));
+  @Deprecated(since = "3.0.0")
+  public Map<List<String>, List<String>> getDictMap() {
+    Map<List<String>, List<String>> map = dictMap;
+    if (map == null) {
+      final Map<List<String>, List<String>> entries = new HashMap<>(table.size() * 2);
+      for (int entry = 0; entry < table.size(); entry++) {
+        final String[] lemmas = new String[table.getLemmaCount(entry)];
+        for (int i = 0; i < lemmas.length; i++) {
+          lemmas[i] = table.getLemma(entry, i);
+        }
+        entries.put(List.of(table.getWord(entry), table.getTag(entry)), List.of(lemmas));
+      }
+      map = Collections.unmodifiableMap(entries);
+      dictMap = map;
+    }
+    return map;
   }
 
 
   @Override
   public String[] lemmatize(final String[] tokens, final String[] postags) {
-    List<String> lemmas = new ArrayList<>();
+    String[] lemmas = new String[tokens.length];
     for (int i = 0; i < tokens.length; i++) {
-      lemmas.add(this.lemmatize(tokens[i], postags[i]));
+      lemmas[i] = this.lemmatize(tokens[i], postags[i]);
     }
-    return lemmas.toArray(new String[0]);
+    return lemmas;
   }
 
   @Override
   public List<List<String>> lemmatize(final List<String> tokens, final List<String> posTags) {
-    List<List<String>> allLemmas = new ArrayList<>();
+    List<List<String>> allLemmas = new ArrayList<>(tokens.size());
     for (int i = 0; i < tokens.size(); i++) {
       allLemmas.add(this.getAllLemmas(tokens.get(i), posTags.get(i)));
     }
@@ -195,11 +247,10 @@ public class DictionaryLemmatizer implements Lemmatizer {
    */
   private String lemmatize(final String word, final String postag) {
     String lemma;
-    final List<String> keys = this.getDictKeys(word, postag);
-    // lookup lemma as value of the map
-    final List<String> keyValues = this.dictMap.get(keys);
-    if ( keyValues != null && !keyValues.isEmpty()) {
-      lemma = keyValues.get(0);
+    // toLowerCase returns the word itself if it is lower case already
+    final int entry = table.lookup(word.toLowerCase(), postag);
+    if (entry >= 0 && table.getLemmaCount(entry) > 0) {
+      lemma = table.getLemma(entry, 0);
     } else {
       lemma = "O";
     }
@@ -217,11 +268,11 @@ public class DictionaryLemmatizer implements Lemmatizer {
    */
   private List<String> getAllLemmas(final String word, final String postag) {
     List<String> lemmasList = new ArrayList<>();
-    final List<String> keys = this.getDictKeys(word, postag);
-    // lookup lemma as value of the map
-    final List<String> keyValues = this.dictMap.get(keys);
-    if (keyValues != null && !keyValues.isEmpty()) {
-      lemmasList.addAll(keyValues);
+    final int entry = table.lookup(word.toLowerCase(), postag);
+    if (entry >= 0 && table.getLemmaCount(entry) > 0) {
+      for (int i = 0; i < table.getLemmaCount(entry); i++) {
+        lemmasList.add(table.getLemma(entry, i));
+      }
     } else {
       lemmasList.add("O");
     }
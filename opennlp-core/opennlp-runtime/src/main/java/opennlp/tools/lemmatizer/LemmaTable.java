@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.lemmatizer;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import opennlp.tools.util.CharPoolIndex;
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * A compact, immutable mapping of (word, tag) pairs to lemmas, used by
+ * {@link DictionaryLemmatizer}.
+ * <p>
+ * The words of all entries are packed into a single {@code char} pool which is indexed
+ * by an open addressing hash table. Every distinct tag and lemma is stored once and
+ * referenced by its id, so an entry costs its characters plus a few {@code int} values.
+ * Lookups do not allocate objects, and the table can be shared between threads.
+ * <p>
+ * The table has a binary format, see {@link #serialize(OutputStream)} and
+ * {@link #create(InputStream)}, which loads without parsing.
+ */
+final class LemmaTable {
+
+  private static final int MAGIC = 0x4F4E4C4D;
+  private static final int VERSION = 1;
+
+  private final String[] tags;
+  private final Map<String, Integer> tagIds;
+  private final String[] lemmas;
+  private final char[] chars;
+  private final int[] offsets;
+  private final int[] entryTags;
+  private final int[] lemmaOffsets;
+  private final int[] lemmaIds;
+  private final int[] slots;
+
+  private LemmaTable(String[] tags, String[] lemmas, char[] chars, int[] offsets, int[] entryTags,
+                     int[] lemmaOffsets, int[] lemmaIds, int[] slots) {
+    this.tags = tags;
+    this.lemmas = lemmas;
+    this.chars = chars;
+    this.offsets = offsets;
+    this.entryTags = entryTags;
+    this.lemmaOffsets = lemmaOffsets;
+    this.lemmaIds = lemmaIds;
+    this.slots = slots;
+
+    tagIds = new HashMap<>(tags.length * 2);
+    for (int i = 0; i < tags.length; i++) {
+      tagIds.put(tags[i], i);
+    }
+  }
+
+  /**
+   * @param header The first bytes of a stream.
+   * @return {@code true} if {@code header} starts with the magic number of the binary format.
+   */
+  static boolean isLemmaTable(byte[] header) {
+    return header.length >= Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  /**
+   * Reads a {@link LemmaTable} in the binary format.
+   * <p>
+   * <b>Note:</b> The {@link InputStream} remains open.
+   *
+   * @param in The {@link InputStream} to read from.
+   * @return A valid {@link LemmaTable} instance.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the stream is not a lemma table.
+   */
+  static LemmaTable create(InputStream in) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+
+    if (data.readInt() != MAGIC) {
+      throw new InvalidFormatException("Not a binary lemma dictionary!");
+    }
+    final int version = data.readInt();
+    if (version != VERSION) {
+      throw new InvalidFormatException("Unsupported lemma dictionary version: " + version);
+    }
+
+    final String[] tags = CharPoolIndex.readStrings(data);
+    final String[] lemmas = CharPoolIndex.readStrings(data);
+
+    final int entries = CharPoolIndex.checkLength(data.readInt());
+    final int[] entryTags = CharPoolIndex.readInts(data, entries);
+    final int[] offsets = CharPoolIndex.readInts(data, entries + 1);
+    final char[] chars = CharPoolIndex.readChars(data, offsets[entries]);
+    final int[] lemmaOffsets = CharPoolIndex.readInts(data, entries + 1);
+    final int[] lemmaIds = CharPoolIndex.readInts(data, lemmaOffsets[entries]);
+
+    for (int i = 0; i < entries; i++) {
+      if (entryTags[i] < 0 || entryTags[i] >= tags.length
+          || offsets[i] < 0 || offsets[i] > offsets[i + 1]
+          || lemmaOffsets[i] < 0 || lemmaOffsets[i] > lemmaOffsets[i + 1]) {
+        throw new InvalidFormatException("Invalid entry: " + i);
+      }
+    }
+    for (int lemmaId : lemmaIds) {
+      if (lemmaId < 0 || lemmaId >= lemmas.length) {
+        throw new InvalidFormatException("Invalid lemma id: " + lemmaId);
+      }
+    }
+
+    final int[] slots = CharPoolIndex.createSlots(entries);
+    for (int entry = 0; entry < entries; entry++) {
+      if (CharPoolIndex.insert(slots, chars, offsets, entryTags, entry) >= 0) {
+        throw new InvalidFormatException("Duplicate entry: " + entry);
+      }
+    }
+
+    return new LemmaTable(tags, lemmas, chars, offsets, entryTags, lemmaOffsets, lemmaIds, slots);
+  }
+
+  /**
+   * Writes the binary representation of this table to the given {@link OutputStream}.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out The {@link OutputStream} to write the table into.
+   * @throws IOException Thrown if writing to the {@link OutputStream} fails.
+   */
+  void serialize(OutputStream out) throws IOException {
+    final DataOutputStream data = new DataOutputStream(out);
+
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+
+    CharPoolIndex.writeStrings(data, tags);
+    CharPoolIndex.writeStrings(data, lemmas);
+
+    data.writeInt(entryTags.length);
+    CharPoolIndex.writeInts(data, entryTags);
+    CharPoolIndex.writeInts(data, offsets);
+    CharPoolIndex.writeChars(data, chars);
+    CharPoolIndex.writeInts(data, lemmaOffsets);
+    CharPoolIndex.writeInts(data, lemmaIds);
+
+    data.flush();
+  }
+
+  /**
+   * @param word The word to look up.
+   * @param tag The tag of the {@code word}.
+   * @return The index of the entry of {@code word} and {@code tag},
+   *         or {@code -1} if there is no such entry.
+   */
+  int lookup(String word, String tag) {
+    final Integer tagId = tagIds.get(tag);
+    if (tagId == null) {
+      return -1;
+    }
+
+    return CharPoolIndex.indexOf(slots, chars, offsets, entryTags, word, tagId);
+  }
+
+  /**
+   * @return The number of entries.
+   */
+  int size() {
+    return entryTags.length;
+  }
+
+  /**
+   * @param entry An entry index, between {@code 0} and {@link #size()}.
+   * @return The word of the entry.
+   */
+  String getWord(int entry) {
+    return new String(chars, offsets[entry], offsets[entry + 1] - offsets[entry]);
+  }
+
+  /**
+   * @param entry An entry index, between {@code 0} and {@link #size()}.
+   * @return The tag of the entry.
+   */
+  String getTag(int entry) {
+    return tags[entryTags[entry]];
+  }
+
+  /**
+   * @param entry An entry index, between {@code 0} and {@link #size()}.
+   * @return The number of lemmas of the entry.
+   */
+  int getLemmaCount(int entry) {
+    return lemmaOffsets[entry + 1] - lemmaOffsets[entry];
+  }
+
+  /**
+   * @param entry An entry index, between {@code 0} and {@link #size()}.
+   * @param index A lemma index, between {@code 0} and {@link #getLemmaCount(int)}.
+   * @return The lemma of the entry.
+   */
+  String getLemma(int entry, int index) {
+    return lemmas[lemmaIds[lemmaOffsets[entry] + index]];
+  }
+
+  /**
+   * Collects (word, tag) pairs and their lemmas and builds a {@link LemmaTable}.
+   * <p>
+   * If a pair is added more than once, the lemmas added last win.
+   */
+  static final class Builder {
+
+    private final Map<String, Integer> tagIds = new HashMap<>();
+    private final List<String> tags = new ArrayList<>();
+    private final Map<String, Integer> lemmaIds = new HashMap<>();
+    private final List<String> lemmas = new ArrayList<>();
+
+    private char[] chars = new char[4096];
+    private int charLength;
+    private int[] offsets = new int[1025];
+    private int[] entryTags = new int[1024];
+    private int[] lemmaOffsets = new int[1025];
+    private int[] entryLemmas = new int[1024];
+    private int entries;
+
+    /**
+     * Adds the lemmas of a word and its tag.
+     */
+    void add(String word, String tag, String[] wordLemmas) {
+      if (entries == entryTags.length) {
+        entryTags = Arrays.copyOf(entryTags, entries * 2);
+        offsets = Arrays.copyOf(offsets, entries * 2 + 1);
+        lemmaOffsets = Arrays.copyOf(lemmaOffsets, entries * 2 + 1);
+      }
+      final int length = word.length();
+      if (charLength + length > chars.length) {
+        chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charLength + length));
+      }
+      word.getChars(0, length, chars, charLength);
+      charLength += length;
+
+      final int lemmaStart = lemmaOffsets[entries];
+      if (lemmaStart + wordLemmas.length > entryLemmas.length) {
+        entryLemmas = Arrays.copyOf(entryLemmas,
+            Math.max(entryLemmas.length * 2, lemmaStart + wordLemmas.length));
+      }
+      for (int i = 0; i < wordLemmas.length; i++) {
+        entryLemmas[lemmaStart + i] = id(lemmaIds, lemmas, wordLemmas[i]);
+      }
+
+      entryTags[entries++] = id(tagIds, tags, tag);
+      offsets[entries] = charLength;
+      lemmaOffsets[entries] = lemmaStart + wordLemmas.length;
+    }
+
+    private static int id(Map<String, Integer> ids, List<String> values, String value) {
+      Integer id = ids.get(value);
+      if (id == null) {
+        id = values.size();
+        ids.put(value, id);
+        values.add(value);
+      }
+      return id;
+    }
+
+    LemmaTable build() {
+      int[] slots = CharPoolIndex.createSlots(entries);
+
+      // a repeated pair keeps its first position but takes the lemmas added last
+      int[] latest = null;
+      for (int entry = 0; entry < entries; entry++) {
+        final int existing = CharPoolIndex.insert(slots, chars, offsets, entryTags, entry);
+        if (existing >= 0) {
+          if (latest == null) {
+            latest = new int[entries];
+            for (int i = 0; i < entries; i++) {
+              latest[i] = i;
+            }
+          }
+          latest[existing] = entry;
+          latest[entry] = -1;
+        }
+      }
+
+      final String[] tagArray = tags.toArray(new String[0]);
+      final String[] lemmaArray = lemmas.toArray(new String[0]);
+
+      if (latest == null) {
+        return new LemmaTable(tagArray, lemmaArray, Arrays.copyOf(chars, charLength),
+            Arrays.copyOf(offsets, entries + 1), Arrays.copyOf(entryTags, entries),
+            Arrays.copyOf(lemmaOffsets, entries + 1),
+            Arrays.copyOf(entryLemmas, lemmaOffsets[entries]), slots);
+      }
+
+      // remove the duplicates and index the remaining entries again
+      int unique = 0;
+      for (int entry = 0; entry < entries; entry++) {
+        if (latest[entry] >= 0) {
+          unique++;
+        }
+      }
+
+      final int[] uniqueOffsets = new int[unique + 1];
+      final int[] uniqueTags = new int[unique];
+      final int[] uniqueLemmaOffsets = new int[unique + 1];
+      final char[] uniqueChars = new char[charLength];
+      final int[] uniqueLemmas = new int[lemmaOffsets[entries]];
+
+      int u = 0;
+      for (int entry = 0; entry < entries; entry++) {
+        final int source = latest[entry];
+        if (source >= 0) {
+          final int start = offsets[entry];
+          final int length = offsets[entry + 1] - start;
+          System.arraycopy(chars, start, uniqueChars, uniqueOffsets[u], length);
+          uniqueOffsets[u + 1] = uniqueOffsets[u] + length;
+
+          final int lemmaStart = lemmaOffsets[source];
+          final int lemmaCount = lemmaOffsets[source + 1] - lemmaStart;
+          System.arraycopy(entryLemmas, lemmaStart, uniqueLemmas, uniqueLemmaOffsets[u], lemmaCount);
+          uniqueLemmaOffsets[u + 1] = uniqueLemmaOffsets[u] + lemmaCount;
+
+          uniqueTags[u] = entryTags[entry];
+          u++;
+        }
+      }
+
+      final char[] uniqueCharPool = Arrays.copyOf(uniqueChars, uniqueOffsets[unique]);
+      slots = CharPoolIndex.createSlots(unique);
+      for (int entry = 0; entry < unique; entry++) {
+        CharPoolIndex.insert(slots, uniqueCharPool, uniqueOffsets, uniqueTags, entry);
+      }
+
+      return new LemmaTable(tagArray, lemmaArray, uniqueCharPool, uniqueOffsets, uniqueTags,
+          uniqueLemmaOffsets, Arrays.copyOf(uniqueLemmas, uniqueLemmaOffsets[unique]), slots);
+    }
+  }
+}
@@ -241,6 +241,12 @@ public class TrainerFactory {
           Parameters.CUTOFF_DEFAULT_VALUE);
       trainParams.getIntParameter(Parameters.ITERATIONS_PARAM,
           Parameters.ITERATIONS_DEFAULT_VALUE);
+      trainParams.getIntParameter(Parameters.WARM_START_ITERATIONS_PARAM,
+          Parameters.ITERATIONS_DEFAULT_VALUE);
+      trainParams.getIntParameter(Parameters.HELD_OUT_INTERVAL_PARAM,
+          Parameters.HELD_OUT_INTERVAL_DEFAULT_VALUE);
+      trainParams.getIntParameter(Parameters.HELD_OUT_PATIENCE_PARAM,
+          Parameters.HELD_OUT_PATIENCE_DEFAULT_VALUE);
     } catch (NumberFormatException e) {
       return false;
     }
@@ -26,6 +26,7 @@ import java.util.Set;
 import opennlp.tools.util.SequenceCodec;
 import opennlp.tools.util.SequenceValidator;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * The default {@link SequenceCodec} implementation according to the {@code BILOU} scheme.
@@ -81,6 +82,33 @@ public class BilouCodec implements SequenceCodec<String> {
     return spans.toArray(new Span[0]);
   }
 
+  @Override
+  public void decode(List<String> c, SpanBuffer spans) {
+    spans.clear();
+    int start = -1;
+    int end = -1;
+    for (int li = 0; li < c.size(); li++) {
+      String chunkTag = c.get(li);
+      if (chunkTag.endsWith(BilouCodec.START)) {
+        start = li;
+        end = li + 1;
+      }
+      else if (chunkTag.endsWith(BilouCodec.CONTINUE)) {
+        end = li + 1;
+      }
+      else if (chunkTag.endsWith(LAST)) {
+        if (start != -1) {
+          spans.add(start, end + 1, BioCodec.extractNameTypeId(c.get(li - 1), spans), 0d);
+          start = -1;
+          end = -1;
+        }
+      }
+      else if (chunkTag.endsWith(UNIT)) {
+        spans.add(li, li + 1, BioCodec.extractNameTypeId(c.get(li), spans), 0d);
+      }
+    }
+  }
+
   @Override
   public String[] encode(Span[] names, int length) {
     String[] outcomes = new String[length];
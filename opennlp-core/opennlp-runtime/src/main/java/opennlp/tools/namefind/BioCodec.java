@@ -25,6 +25,7 @@ import java.util.regex.Pattern;
 
 import opennlp.tools.util.SequenceCodec;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * The default {@link SequenceCodec} implementation according to the {@code BIO} scheme:
@@ -49,6 +50,30 @@ public class BioCodec implements SequenceCodec<String> {
 
   private static final Pattern TYPED_OUTCOME_PATTERN = Pattern.compile("(.+)-\\w+");
 
+  /*
+   * Resolves the type of extractNameType(outcome) to its id in the buffer,
+   * without matching the pattern and creating a String for the type.
+   */
+  static int extractNameTypeId(String outcome, SpanBuffer spans) {
+    final int dash = outcome.lastIndexOf('-');
+    if (dash < 1 || dash == outcome.length() - 1) {
+      return SpanBuffer.NO_TYPE;
+    }
+    for (int i = dash + 1; i < outcome.length(); i++) {
+      final char c = outcome.charAt(i);
+      if (!(c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_')) {
+        return SpanBuffer.NO_TYPE;
+      }
+    }
+    for (int i = 0; i < dash; i++) {
+      final char c = outcome.charAt(i);
+      if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+        return SpanBuffer.NO_TYPE;
+      }
+    }
+    return spans.getTypeId(outcome, 0, dash);
+  }
+
   static String extractNameType(String outcome) {
     Matcher matcher = TYPED_OUTCOME_PATTERN.matcher(outcome);
     if (matcher.matches()) {
@@ -93,6 +118,39 @@ public class BioCodec implements SequenceCodec<String> {
     return spans.toArray(new Span[0]);
   }
 
+  @Override
+  public void decode(List<String> c, SpanBuffer spans) {
+    spans.clear();
+    int start = -1;
+    int end = -1;
+    for (int li = 0; li < c.size(); li++) {
+      String chunkTag = c.get(li);
+      if (chunkTag.endsWith(BioCodec.START)) {
+        if (start != -1) {
+          spans.add(start, end, extractNameTypeId(c.get(li - 1), spans), 0d);
+        }
+
+        start = li;
+        end = li + 1;
+
+      }
+      else if (chunkTag.endsWith(BioCodec.CONTINUE)) {
+        end = li + 1;
+      }
+      else if (chunkTag.endsWith(BioCodec.OTHER)) {
+        if (start != -1) {
+          spans.add(start, end, extractNameTypeId(c.get(li - 1), spans), 0d);
+          start = -1;
+          end = -1;
+        }
+      }
+    }
+
+    if (start != -1) {
+      spans.add(start, end, extractNameTypeId(c.get(c.size() - 1), spans), 0d);
+    }
+  }
+
   @Override
   public String[] encode(Span[] names, int length) {
     String[] outcomes = new String[length];
@@ -24,6 +24,8 @@ import java.util.Objects;
 import opennlp.tools.dictionary.Dictionary;
 import opennlp.tools.util.Span;
 import opennlp.tools.util.StringList;
+import opennlp.tools.util.jvm.StringInterner;
+import opennlp.tools.util.jvm.StringInterners;
 
 /**
  * This is a {@link Dictionary} based {@link TokenNameFinder name finder}.
@@ -31,10 +33,17 @@ import opennlp.tools.util.StringList;
  */
 public class DictionaryNameFinder implements TokenNameFinder {
 
+  /**
+   * The component name to configure the {@link StringInterner} for the token windows
+   * looked up in the dictionary, see {@link StringInterners#getInterner(String)}.
+   */
+  public static final String INTERNER_COMPONENT = "namefind.dictionary";
+
   private static final String DEFAULT_TYPE = "default";
 
   private final Dictionary mDictionary;
   private final String type;
+  private final StringInterner interner;
 
   /**
    * Initializes a {@link DictionaryNameFinder} with the provided {@link Dictionary}
@@ -44,8 +53,21 @@ public class DictionaryNameFinder implements TokenNameFinder {
    * @param type the name type used for the produced spans. Must not be {@code null}.
    */
   public DictionaryNameFinder(Dictionary dictionary, String type) {
+    this(dictionary, type, StringInterners.getInterner(INTERNER_COMPONENT));
+  }
+
+  /**
+   * Initializes a {@link DictionaryNameFinder} with the provided {@link Dictionary},
+   * a {@code type} and the {@link StringInterner} for the searched tokens.
+   *
+   * @param dictionary The {@link Dictionary} to use. Must not be {@code null}.
+   * @param type the name type used for the produced spans. Must not be {@code null}.
+   * @param interner The {@link StringInterner} to use. Must not be {@code null}.
+   */
+  public DictionaryNameFinder(Dictionary dictionary, String type, StringInterner interner) {
     this.mDictionary = Objects.requireNonNull(dictionary, "dictionary must not be null");
     this.type = Objects.requireNonNull(type, "type must not be null");
+    this.interner = Objects.requireNonNull(interner, "interner must not be null");
   }
 
   /**
@@ -77,7 +99,7 @@ public class DictionaryNameFinder implements TokenNameFinder {
           System.arraycopy(textTokenized, offsetFrom, tokensSearching, 0,
               lengthSearching);
 
-          StringList entryForSearch = new StringList(caseSensitive, tokensSearching);
+          StringList entryForSearch = new StringList(interner, caseSensitive, tokensSearching);
 
           if (mDictionary.contains(entryForSearch)) {
             nameFound = new Span(offsetFrom, offsetTo + 1, type);
@@ -38,12 +38,16 @@ import opennlp.tools.ml.TrainerFactory.TrainerType;
 import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.SequenceClassificationModel;
+import opennlp.tools.monitoring.DefaultTrainingProgressMonitor;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.Parameters;
 import opennlp.tools.util.Sequence;
 import opennlp.tools.util.SequenceCodec;
 import opennlp.tools.util.SequenceValidator;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
+import opennlp.tools.util.TrainingConfiguration;
 import opennlp.tools.util.TrainingParameters;
 import opennlp.tools.util.featuregen.AdditionalContextFeatureGenerator;
 import opennlp.tools.util.featuregen.WindowFeatureGenerator;
@@ -58,6 +62,8 @@ public class NameFinderME implements TokenNameFinder, Probabilistic {
 
   private static final String[][] EMPTY = new String[0][0];
   public static final int DEFAULT_BEAM_SIZE = 3;
+
+  private static final String METRIC_FIND = Instrumentation.metric("namefind", "find");
   private static final Pattern typedOutcomePattern = Pattern.compile("(.+)-\\w+");
 
   public static final String START = "start";
@@ -75,6 +81,12 @@ public class NameFinderME implements TokenNameFinder, Probabilistic {
           new AdditionalContextFeatureGenerator();
   private final SequenceValidator<String> sequenceValidator;
 
+  /*
+   * Reused buffers for the names of find(String[], String[][]) and the outcome probabilities.
+   */
+  private final SpanBuffer spanBuffer = new SpanBuffer();
+  private double[] outcomeProbs = new double[0];
+
   /**
    * Initializes a {@link NameFinderME} with a {@link TokenNameFinderModel}.
    * 
@@ -110,16 +122,43 @@ public class NameFinderME implements TokenNameFinder, Probabilistic {
    * @return An array of {@link Span token spans} for each of the names identified.
    */
   public Span[] find(String[] tokens, String[][] additionalContext) {
+    find(tokens, additionalContext, spanBuffer);
+    return spanBuffer.toSpans();
+  }
+
+  /**
+   * {@inheritDoc}
+   * The probability of each name is the arithmetic mean of the probabilities of
+   * its outcomes, as computed by {@link #probs(Span[])}.
+   */
+  @Override
+  public void find(String[] tokens, SpanBuffer spans) {
+    find(tokens, EMPTY, spans);
+  }
+
+  /**
+   * Generates name tags for the given sequence, typically a sentence, and writes the
+   * {@link Span token spans} for any identified names into a reusable {@link SpanBuffer}.
+   * The probability of each name is the arithmetic mean of the probabilities of
+   * its outcomes, as computed by {@link #probs(Span[])}.
+   *
+   * @param tokens An array of the tokens or words of a sequence, typically a sentence.
+   * @param additionalContext Features which are based on context outside of the
+   *                          sentence but which should also be used.
+   * @param spans The {@link SpanBuffer} to receive the names, it is cleared first.
+   */
+  public void find(String[] tokens, String[][] additionalContext, SpanBuffer spans) {
 
+    final long start = Instrumentation.start();
     additionalContextFeatureGenerator.setCurrentContext(additionalContext);
     bestSequence = model.bestSequence(tokens, additionalContext, contextGenerator, sequenceValidator);
+    Instrumentation.recordTime(METRIC_FIND, start);
 
     List<String> c = bestSequence.getOutcomes();
 
     contextGenerator.updateAdaptiveData(tokens, c.toArray(new String[0]));
-    Span[] spans = seqCodec.decode(c);
-    spans = setProbs(spans);
-    return spans;
+    seqCodec.decode(c, spans);
+    setProbs(spans);
   }
   
   @Override
@@ -153,22 +192,29 @@ public class NameFinderME implements TokenNameFinder, Probabilistic {
   }
 
   /**
-   * Sets probabilities for the spans.
+   * Sets probabilities for the spans, in place.
    *
-   * @param spans The {@link Span spans} to set probabilities.
-   *              
-   * @return The {@link Span spans} with populated values.
+   * @param spans The {@link SpanBuffer spans} to set probabilities.
    */
-  private Span[] setProbs(Span[] spans) {
-    double[] probs = probs(spans);
-    if (probs != null) {
+  private void setProbs(SpanBuffer spans) {
+    final int length = bestSequence.getOutcomes().size();
+    if (outcomeProbs.length < length) {
+      outcomeProbs = new double[length];
+    }
+    bestSequence.getProbs(outcomeProbs);
+
+    for (int si = 0; si < spans.size(); si++) {
 
-      for (int i = 0; i < probs.length; i++) {
-        double prob = probs[i];
-        spans[i] = new Span(spans[i], prob);
+      double p = 0;
+
+      for (int oi = spans.getStart(si), end = spans.getEnd(si); oi < end; oi++) {
+        p += outcomeProbs[oi];
       }
+
+      p /= spans.length(si);
+
+      spans.setProb(si, p);
     }
-    return spans;
   }
 
   /**
@@ -218,6 +264,33 @@ public class NameFinderME implements TokenNameFinder, Probabilistic {
   public static TokenNameFinderModel train(String languageCode, String type,
                                            ObjectStream<NameSample> samples, TrainingParameters params,
                                            TokenNameFinderFactory factory) throws IOException {
+    return train(languageCode, type, samples, params, factory, null);
+  }
+
+  /**
+   * Starts a training of a {@link TokenNameFinderModel} which continues from the parameters
+   * of an existing model. Features and outcomes of the existing model are matched by name,
+   * new features start with zero weights. The number of iterations can be set via
+   * {@link Parameters#WARM_START_ITERATIONS_PARAM}.
+   *
+   * @param languageCode The ISO conform language code.
+   * @param type The type to use.
+   * @param samples The {@link ObjectStream} of {@link NameSample} used as input for training.
+   * @param params The {@link TrainingParameters} for the context of the training.
+   * @param factory The {@link TokenNameFinderFactory} for creating related objects defined
+   *                via {@code params}.
+   * @param initialModel The {@link TokenNameFinderModel} to continue from,
+   *                     or {@code null} to train from scratch.
+   *
+   * @return A valid, trained {@link TokenNameFinderModel} instance.
+   * @throws IOException Thrown if IO errors occurred during training.
+   * @throws IllegalArgumentException Thrown if {@code initialModel} is not a maxent model, or
+   *                                  the configured trainer does not support warm-starts.
+   */
+  public static TokenNameFinderModel train(String languageCode, String type,
+                                           ObjectStream<NameSample> samples, TrainingParameters params,
+                                           TokenNameFinderFactory factory,
+                                           TokenNameFinderModel initialModel) throws IOException {
 
     //FIXME OPENNLP-1742
     params.putIfAbsent(Parameters.ALGORITHM_PARAM, AlgorithmType.PERCEPTRON.getAlgorithmType());
@@ -233,12 +306,24 @@ public class NameFinderME implements TokenNameFinder, Probabilistic {
 
     TrainerType trainerType = TrainerFactory.getTrainerType(params);
 
+    MaxentModel initialMaxentModel = null;
+    if (initialModel != null) {
+      initialMaxentModel = initialModel.getMaxentModel();
+      if (initialMaxentModel == null) {
+        throw new IllegalArgumentException("The initial model must be a maxent name finder model!");
+      }
+      if (!TrainerType.EVENT_MODEL_TRAINER.equals(trainerType)) {
+        throw new IllegalArgumentException("Continuing from an initial model is not supported by "
+            + params.algorithm() + "!");
+      }
+    }
+
     if (TrainerType.EVENT_MODEL_TRAINER.equals(trainerType)) {
       ObjectStream<Event> eventStream = new NameFinderEventStream(samples, type,
               factory.createContextGenerator(), factory.createSequenceCodec());
 
-      EventTrainer<TrainingParameters> trainer =
-          TrainerFactory.getEventTrainer(params, manifestInfoEntries);
+      EventTrainer<TrainingParameters> trainer = TrainerFactory.getEventTrainer(params, manifestInfoEntries,
+          new TrainingConfiguration(new DefaultTrainingProgressMonitor(), null, initialMaxentModel));
       nameFinderModel = trainer.train(eventStream);
     } // TODO: Maybe it is not a good idea, that these two don't use the context generator ?!
     // These also don't use the sequence codec ?!
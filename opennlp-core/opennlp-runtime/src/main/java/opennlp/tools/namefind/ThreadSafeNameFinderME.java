@@ -20,6 +20,7 @@ package opennlp.tools.namefind;
 import opennlp.tools.commons.ThreadSafe;
 import opennlp.tools.ml.Probabilistic;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * A thread-safe version of {@link NameFinderME}. Using it is completely transparent.
@@ -70,6 +71,11 @@ public class ThreadSafeNameFinderME implements TokenNameFinder, Probabilistic, A
     return getNameFinder().find(tokens);
   }
 
+  @Override
+  public void find(String[] tokens, SpanBuffer spans) {
+    getNameFinder().find(tokens, spans);
+  }
+
   @Override
   public double[] probs() {
     return getNameFinder().probs();
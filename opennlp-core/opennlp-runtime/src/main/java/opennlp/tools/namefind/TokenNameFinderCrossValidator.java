@@ -215,28 +215,57 @@ public class TokenNameFinderCrossValidator {
         new NameToDocumentSampleStream(samples), nFolds);
 
     while (partitioner.hasNext()) {
+      fmeasure.mergeInto(evaluateFold(partitioner.next()));
+    }
+  }
 
-      CrossValidationPartitioner.TrainingSampleStream<DocumentSample> trainingSampleStream =
-          partitioner.next();
+  /**
+   * Starts the evaluation and runs up to {@code threads} folds concurrently.
+   * <p>
+   * The samples are read once into memory. The per-fold results are merged in fold order,
+   * hence the resulting {@link FMeasure} equals the one of {@link #evaluate(ObjectStream, int)}.
+   * <p>
+   * Note:
+   * The name samples need to be grouped on a document basis. The configured
+   * {@link TokenNameFinderEvaluationMonitor listeners} are called from several
+   * threads and must be thread-safe.
+   *
+   * @param samples The {@link ObjectStream} of {@link NameSample samples} to train and test with.
+   * @param nFolds Number of folds. It must be greater than zero.
+   * @param threads The maximum number of folds to run concurrently. It must be greater than zero.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void evaluate(ObjectStream<NameSample> samples, int nFolds, int threads) throws IOException {
 
-      TokenNameFinderModel model;
-      if (factory != null) {
-        model = NameFinderME.train(languageCode, type, new DocumentToNameSampleStream(trainingSampleStream),
-            params, factory);
-      }
-      else {
-        model = NameFinderME.train(languageCode, type, new DocumentToNameSampleStream(trainingSampleStream),
-            params, TokenNameFinderFactory.create(null, featureGeneratorBytes, resources, new BioCodec()));
-      }
+    CrossValidationPartitioner<DocumentSample> partitioner = new CrossValidationPartitioner<>(
+        new NameToDocumentSampleStream(samples), nFolds);
 
-      // do testing
-      TokenNameFinderEvaluator evaluator = new TokenNameFinderEvaluator(
-          new NameFinderME(model), listeners);
+    for (FMeasure foldMeasure : partitioner.evaluateFolds(threads, this::evaluateFold)) {
+      fmeasure.mergeInto(foldMeasure);
+    }
+  }
 
-      evaluator.evaluate(new DocumentToNameSampleStream(trainingSampleStream.getTestSampleStream()));
+  private FMeasure evaluateFold(CrossValidationPartitioner.TrainingSampleStream<DocumentSample>
+                                    trainingSampleStream) throws IOException {
 
-      fmeasure.mergeInto(evaluator.getFMeasure());
+    TokenNameFinderModel model;
+    if (factory != null) {
+      model = NameFinderME.train(languageCode, type, new DocumentToNameSampleStream(trainingSampleStream),
+          params, factory);
+    }
+    else {
+      model = NameFinderME.train(languageCode, type, new DocumentToNameSampleStream(trainingSampleStream),
+          params, TokenNameFinderFactory.create(null, featureGeneratorBytes, resources, new BioCodec()));
     }
+
+    // do testing
+    TokenNameFinderEvaluator evaluator = new TokenNameFinderEvaluator(
+        new NameFinderME(model), listeners);
+
+    evaluator.evaluate(new DocumentToNameSampleStream(trainingSampleStream.getTestSampleStream()));
+
+    return evaluator.getFMeasure();
   }
 
   public FMeasure getFMeasure() {
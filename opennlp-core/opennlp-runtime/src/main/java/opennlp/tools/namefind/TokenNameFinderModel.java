@@ -278,6 +278,17 @@ public class TokenNameFinderModel extends BaseModel {
     }
   }
 
+  /**
+   * @return Retrieves the {@link MaxentModel} of the name finder, or {@code null} if the
+   *         name finder uses a {@link SequenceClassificationModel} instead.
+   */
+  public MaxentModel getMaxentModel() {
+    if (artifactMap.get(MAXENT_MODEL_ENTRY_NAME) instanceof MaxentModel maxentModel) {
+      return maxentModel;
+    }
+    return null;
+  }
+
   @Override
   protected Class<? extends BaseToolFactory> getDefaultFactory() {
     return TokenNameFinderFactory.class;
@@ -17,10 +17,13 @@
 
 package opennlp.tools.ngram;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -28,6 +31,9 @@ import java.util.NoSuchElementException;
 
 import opennlp.tools.dictionary.Dictionary;
 import opennlp.tools.dictionary.serializer.Attributes;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryReader;
+import opennlp.tools.dictionary.serializer.BinaryDictionaryWriter;
 import opennlp.tools.dictionary.serializer.DictionaryEntryPersistor;
 import opennlp.tools.dictionary.serializer.Entry;
 import opennlp.tools.util.InvalidFormatException;
@@ -43,21 +49,76 @@ public class NGramModel implements Iterable<StringList> {
 
   protected static final String COUNT = "count";
 
-  private final Map<StringList, Integer> mNGrams = new LinkedHashMap<>();
+  private final Map<StringList, Integer> mNGrams;
 
   /**
    * Instantiates an empty {@link NGramModel} instance.
    */
   public NGramModel() {
+    mNGrams = new LinkedHashMap<>();
   }
 
   /**
    * Instantiates a {@link NGramModel} via an {@link InputStream} reference.
+   * <p>
+   * The stream may either be in the XML format or in the {@link BinaryDictionaryFormat
+   * binary format}, which is detected by its leading magic number.
    *
    * @param in the serialized model stream
    * @throws IOException Thrown if errors occurred reading from {@code in}.
    */
   public NGramModel(InputStream in) throws IOException {
+    final InputStream modelIn = in.markSupported() ? in : new BufferedInputStream(in);
+
+    if (BinaryDictionaryFormat.isBinaryDictionary(modelIn)) {
+      final BinaryDictionaryReader reader =
+          BinaryDictionaryReader.open(modelIn, BinaryDictionaryFormat.Kind.NGRAM_MODEL);
+      mNGrams = LinkedHashMap.newLinkedHashMap(reader.getEntryCount());
+      putAll(reader, mNGrams);
+    }
+    else {
+      mNGrams = new LinkedHashMap<>();
+      readXml(modelIn, mNGrams);
+    }
+  }
+
+  /**
+   * Instantiates a {@link NGramModel} from a file. A file in the
+   * {@link BinaryDictionaryFormat binary format} is memory-mapped,
+   * other files are parsed as XML.
+   *
+   * @param path the {@link Path} of the serialized model
+   * @throws IOException Thrown if errors occurred reading from {@code path}.
+   */
+  public NGramModel(Path path) throws IOException {
+    if (BinaryDictionaryFormat.isBinaryDictionary(path)) {
+      final BinaryDictionaryReader reader =
+          BinaryDictionaryReader.open(path, BinaryDictionaryFormat.Kind.NGRAM_MODEL);
+      mNGrams = LinkedHashMap.newLinkedHashMap(reader.getEntryCount());
+      putAll(reader, mNGrams);
+    }
+    else {
+      mNGrams = new LinkedHashMap<>();
+      try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+        readXml(in, mNGrams);
+      }
+    }
+  }
+
+  /*
+   * The entries are read into the map directly, static so that no overridable method
+   * is called on the instance under construction.
+   */
+  private static void putAll(BinaryDictionaryReader reader, Map<StringList, Integer> ngrams)
+      throws IOException {
+    while (reader.next()) {
+      // the tokens come from the string table of the binary format and are unique already
+      ngrams.put(new StringList(token -> token, true, reader.getTokens()), reader.getCount());
+    }
+  }
+
+  private static void readXml(InputStream in, Map<StringList, Integer> ngrams)
+      throws IOException {
     DictionaryEntryPersistor.create(in, entry -> {
 
       int count;
@@ -76,8 +137,8 @@ public class NGramModel implements Iterable<StringList> {
             + "' must be a number!", e);
       }
 
-      add(entry.tokens());
-      setCount(entry.tokens(), count);
+      // a repeated entry takes the count given last
+      ngrams.put(entry.tokens(), count);
     });
   }
 
@@ -327,6 +388,23 @@ public class NGramModel implements Iterable<StringList> {
     DictionaryEntryPersistor.serialize(out, entryIterator, false);
   }
 
+  /**
+   * Writes the ngram instance in the {@link BinaryDictionaryFormat binary format}
+   * to the given {@link OutputStream}.
+   *
+   * @param out The {@link OutputStream} to write to.
+   *
+   * @throws IOException if an I/O Error during writing occurs
+   */
+  public void serializeBinary(OutputStream out) throws IOException {
+    final BinaryDictionaryWriter writer =
+        new BinaryDictionaryWriter(BinaryDictionaryFormat.Kind.NGRAM_MODEL, false);
+    for (Map.Entry<StringList, Integer> ngram : mNGrams.entrySet()) {
+      writer.add(ngram.getKey(), ngram.getValue());
+    }
+    writer.write(out);
+  }
+
   @Override
   public boolean equals(Object obj) {
     boolean result;
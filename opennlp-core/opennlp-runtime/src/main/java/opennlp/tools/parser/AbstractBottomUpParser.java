@@ -30,6 +30,7 @@ import org.slf4j.LoggerFactory;
 
 import opennlp.tools.chunker.Chunker;
 import opennlp.tools.dictionary.Dictionary;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.ngram.NGramModel;
 import opennlp.tools.parser.chunking.ParserEventStream;
 import opennlp.tools.postag.POSTagger;
@@ -54,6 +55,10 @@ public abstract class AbstractBottomUpParser implements Parser {
 
   private static final Logger logger = LoggerFactory.getLogger(AbstractBottomUpParser.class);
 
+  private static final String METRIC_PARSE = Instrumentation.metric("parser", "parse");
+  private static final String METRIC_STEP =
+      Instrumentation.metric("parser", Instrumentation.BEAM_SEARCH_STEP);
+
   /**
    * The maximum number of parses advanced from all preceding
    * parses at each derivation step.
@@ -252,6 +257,15 @@ public abstract class AbstractBottomUpParser implements Parser {
 
   @Override
   public Parse[] parse(Parse tokens, int numParses) {
+    final long start = Instrumentation.start();
+    try {
+      return parseInternal(tokens, numParses);
+    } finally {
+      Instrumentation.recordTime(METRIC_PARSE, start);
+    }
+  }
+
+  private Parse[] parseInternal(Parse tokens, int numParses) {
     if (createDerivationString) tokens.setDerivation(new StringBuffer(100));
     odh.clear();
     ndh.clear();
@@ -264,6 +278,7 @@ public abstract class AbstractBottomUpParser implements Parser {
     double bestComplete = -100000; //approximating -infinity/0 in ln domain
     while (odh.size() > 0 && (completeParses.size() < M || (odh.first()).getProb() < minComplete)
         && derivationStage < maxDerivationLength) {
+      final long stepStart = Instrumentation.start();
       ndh = new TreeSet<>();
 
       int derivationRank = 0;
@@ -322,6 +337,7 @@ public abstract class AbstractBottomUpParser implements Parser {
       }
       derivationStage++;
       odh = ndh;
+      Instrumentation.recordTime(METRIC_STEP, stepStart);
     }
     if (completeParses.size() == 0) {
       if (guess != null) {
@@ -0,0 +1,483 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.postag;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import opennlp.tools.util.CharPoolIndex;
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.StringUtil;
+import opennlp.tools.util.model.SerializableArtifact;
+
+/**
+ * An immutable, memory efficient {@link TagDictionary}.
+ * <p>
+ * All words are packed into a single {@code char} pool which is indexed by an open
+ * addressing hash table, and every distinct combination of tags is stored only once
+ * as a {@link TagSet} of interned tag ids. Large morphological dictionaries typically
+ * have millions of words but only a few thousand distinct tag combinations, therefore
+ * a word costs its characters plus three {@code int} values instead of a {@link String},
+ * a {@link String} array and a map entry.
+ * <p>
+ * The dictionary has a compact binary format, see {@link #serialize(OutputStream)}
+ * and {@link #create(InputStream)}, which loads considerably faster than the XML format
+ * of the {@link POSDictionary}. An existing {@link POSDictionary} can be converted
+ * with {@link #from(POSDictionary)}.
+ *
+ * @see POSDictionary
+ */
+public final class CompactTagDictionary implements TagDictionary, Iterable<String>,
+    SerializableArtifact {
+
+  private static final int MAGIC = 0x4F544443;
+  private static final int VERSION = 1;
+
+  private final boolean caseSensitive;
+
+  private final String[] tags;
+  private final Map<String, Integer> tagIds;
+  private final TagSet[] tagSets;
+
+  private final char[] chars;
+  private final int[] offsets;
+  private final int[] wordTagSets;
+  private final int[] slots;
+
+  private CompactTagDictionary(boolean caseSensitive, String[] tags, int[][] tagSetIds,
+                               char[] chars, int[] offsets, int[] wordTagSets) {
+    this.caseSensitive = caseSensitive;
+    this.tags = tags;
+    this.tagIds = new HashMap<>();
+    for (int i = 0; i < tags.length; i++) {
+      tagIds.put(tags[i], i);
+    }
+
+    this.tagSets = new TagSet[tagSetIds.length];
+    for (int i = 0; i < tagSetIds.length; i++) {
+      String[] setTags = new String[tagSetIds[i].length];
+      for (int j = 0; j < setTags.length; j++) {
+        setTags[j] = tags[tagSetIds[i][j]];
+      }
+      tagSets[i] = new TagSet(tagSetIds[i], setTags);
+    }
+
+    this.chars = chars;
+    this.offsets = offsets;
+    this.wordTagSets = wordTagSets;
+
+    this.slots = CharPoolIndex.createSlots(wordTagSets.length);
+    for (int word = 0; word < wordTagSets.length; word++) {
+      CharPoolIndex.insert(slots, chars, offsets, word);
+    }
+  }
+
+  /**
+   * Initializes a {@link CompactTagDictionary} from the given {@code entries}.
+   *
+   * @param entries The words and their tags. The order of the tags of a word is retained.
+   * @param caseSensitive {@code true} if the dictionary is case sensitive, {@code false}
+   *                      if words should be looked up in lower case.
+   * @return A new {@link CompactTagDictionary}.
+   * @throws IllegalArgumentException Thrown if a word has {@code null} or no tags, or if
+   *                                  two words collide after lower casing.
+   */
+  public static CompactTagDictionary create(Map<String, String[]> entries, boolean caseSensitive) {
+    Objects.requireNonNull(entries, "entries must not be null");
+
+    final Map<String, Integer> tagIds = new HashMap<>();
+    final List<String> tags = new ArrayList<>();
+    final Map<List<Integer>, Integer> tagSetIds = new HashMap<>();
+    final List<int[]> tagSets = new ArrayList<>();
+    final Map<String, Integer> words = new HashMap<>();
+
+    final StringBuilder pool = new StringBuilder();
+    final int[] offsets = new int[entries.size() + 1];
+    final int[] wordTagSets = new int[entries.size()];
+
+    int word = 0;
+    for (Map.Entry<String, String[]> entry : entries.entrySet()) {
+      final String[] wordTags = entry.getValue();
+      if (wordTags == null || wordTags.length == 0) {
+        throw new IllegalArgumentException("No tags for word: " + entry.getKey());
+      }
+
+      final String key = caseSensitive ? entry.getKey() : StringUtil.toLowerCase(entry.getKey());
+      if (words.put(key, word) != null) {
+        throw new IllegalArgumentException("Duplicate word: " + key);
+      }
+
+      final List<Integer> ids = new ArrayList<>(wordTags.length);
+      for (String tag : wordTags) {
+        ids.add(tagIds.computeIfAbsent(Objects.requireNonNull(tag, "tag must not be null"), t -> {
+          tags.add(t);
+          return tags.size() - 1;
+        }));
+      }
+      wordTagSets[word] = tagSetIds.computeIfAbsent(ids, k -> {
+        tagSets.add(k.stream().mapToInt(Integer::intValue).toArray());
+        return tagSets.size() - 1;
+      });
+
+      pool.append(key);
+      offsets[++word] = pool.length();
+    }
+
+    final char[] chars = new char[pool.length()];
+    pool.getChars(0, chars.length, chars, 0);
+
+    return new CompactTagDictionary(caseSensitive, tags.toArray(new String[0]),
+        tagSets.toArray(new int[0][]), chars, offsets, wordTagSets);
+  }
+
+  /**
+   * Converts a {@link POSDictionary} into a {@link CompactTagDictionary}.
+   *
+   * @param dictionary The {@link POSDictionary} to convert.
+   * @return A new {@link CompactTagDictionary} with the same entries.
+   */
+  public static CompactTagDictionary from(POSDictionary dictionary) {
+    final Map<String, String[]> entries = new HashMap<>();
+    for (String word : dictionary) {
+      entries.put(word, dictionary.getTags(word));
+    }
+    return create(entries, dictionary.isCaseSensitive());
+  }
+
+  /**
+   * Creates a {@link CompactTagDictionary} from its binary representation,
+   * as written by {@link #serialize(OutputStream)}.
+   * <p>
+   * The provided {@link InputStream} is not closed.
+   *
+   * @param in The {@link InputStream} to read from.
+   * @return A valid {@link CompactTagDictionary} instance.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the stream is not a compact tag dictionary.
+   */
+  public static CompactTagDictionary create(InputStream in) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+
+    if (data.readInt() != MAGIC) {
+      throw new InvalidFormatException("Not a compact tag dictionary!");
+    }
+    final int version = data.readInt();
+    if (version != VERSION) {
+      throw new InvalidFormatException("Unsupported compact tag dictionary version: " + version);
+    }
+
+    final boolean caseSensitive = data.readBoolean();
+
+    final String[] tags = CharPoolIndex.readStrings(data);
+
+    final int[][] tagSets = new int[CharPoolIndex.checkLength(data.readInt())][];
+    for (int i = 0; i < tagSets.length; i++) {
+      tagSets[i] = CharPoolIndex.readInts(data, data.readInt());
+      for (int id : tagSets[i]) {
+        if (id < 0 || id >= tags.length) {
+          throw new InvalidFormatException("Invalid tag id: " + id);
+        }
+      }
+    }
+
+    final int words = data.readInt();
+    final int[] wordTagSets = CharPoolIndex.readInts(data, words);
+    final int[] offsets = CharPoolIndex.readInts(data, words + 1);
+    final char[] chars = CharPoolIndex.readChars(data, offsets[words]);
+
+    for (int i = 0; i < words; i++) {
+      if (wordTagSets[i] < 0 || wordTagSets[i] >= tagSets.length
+          || offsets[i] < 0 || offsets[i] > offsets[i + 1]) {
+        throw new InvalidFormatException("Invalid entry for word: " + i);
+      }
+    }
+
+    return new CompactTagDictionary(caseSensitive, tags, tagSets, chars, offsets, wordTagSets);
+  }
+
+  /**
+   * @param header The first bytes of a stream.
+   * @return {@code true} if {@code header} starts with the magic number of the
+   *         binary format of a {@link CompactTagDictionary}.
+   */
+  public static boolean isCompactTagDictionary(byte[] header) {
+    return header.length >= Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  /**
+   * Writes the binary representation of this dictionary to the given {@link OutputStream}.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out The {@link OutputStream} to write the dictionary into.
+   * @throws IOException Thrown if writing to the {@link OutputStream} fails.
+   */
+  public void serialize(OutputStream out) throws IOException {
+    final DataOutputStream data = new DataOutputStream(out);
+
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeBoolean(caseSensitive);
+
+    CharPoolIndex.writeStrings(data, tags);
+
+    data.writeInt(tagSets.length);
+    for (TagSet tagSet : tagSets) {
+      data.writeInt(tagSet.ids.length);
+      CharPoolIndex.writeInts(data, tagSet.ids);
+    }
+
+    data.writeInt(wordTagSets.length);
+    CharPoolIndex.writeInts(data, wordTagSets);
+    CharPoolIndex.writeInts(data, offsets);
+    CharPoolIndex.writeChars(data, chars);
+
+    data.flush();
+  }
+
+  private int indexOf(String word) {
+    final String key = caseSensitive ? word : StringUtil.toLowerCase(word);
+    return CharPoolIndex.indexOf(slots, chars, offsets, key);
+  }
+
+  /**
+   * Retrieves the shared {@link TagSet} of the specified {@code word}.
+   * <p>
+   * Words with the same tags share the same {@link TagSet} instance, no
+   * objects are allocated by the lookup of a case-sensitive dictionary.
+   *
+   * @param word The word.
+   * @return The {@link TagSet} of {@code word} or {@code null} if no information is
+   *         available for that word.
+   */
+  public TagSet getTagSet(String word) {
+    final int index = indexOf(word);
+    return index < 0 ? null : tagSets[wordTagSets[index]];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * The returned array is a copy, use {@link #getTagSet(String)} to avoid the allocation.
+   */
+  @Override
+  public String[] getTags(String word) {
+    final TagSet tagSet = getTagSet(word);
+    return tagSet == null ? null : tagSet.toArray();
+  }
+
+  @Override
+  public boolean isCaseSensitive() {
+    return caseSensitive;
+  }
+
+  /**
+   * @param tag The tag.
+   * @return The id of {@code tag}, or {@code -1} if the tag is not used in this dictionary.
+   */
+  public int getTagId(String tag) {
+    final Integer id = tagIds.get(tag);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * @param id A tag id in the range {@code [0, getTagCount())}.
+   * @return The tag with the given {@code id}.
+   */
+  public String getTag(int id) {
+    return tags[id];
+  }
+
+  /**
+   * @return The number of distinct tags in this dictionary.
+   */
+  public int getTagCount() {
+    return tags.length;
+  }
+
+  /**
+   * @return The number of distinct {@link TagSet tag sets} in this dictionary.
+   */
+  public int getTagSetCount() {
+    return tagSets.length;
+  }
+
+  /**
+   * @return The number of words in this dictionary.
+   */
+  public int size() {
+    return wordTagSets.length;
+  }
+
+  /**
+   * Retrieves an {@link Iterator} over all words in the dictionary.
+   */
+  @Override
+  public Iterator<String> iterator() {
+    return new Iterator<>() {
+
+      private int word;
+
+      @Override
+      public boolean hasNext() {
+        return word < wordTagSets.length;
+      }
+
+      @Override
+      public String next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        final int start = offsets[word];
+        return new String(chars, start, offsets[++word] - start);
+      }
+    };
+  }
+
+  @Override
+  public int hashCode() {
+    int h = Boolean.hashCode(caseSensitive);
+    for (int word = 0; word < wordTagSets.length; word++) {
+      // order independent, the word order depends on the source map
+      h += CharPoolIndex.hash(chars, offsets[word], offsets[word + 1])
+          ^ Arrays.hashCode(tagSets[wordTagSets[word]].tags);
+    }
+    return h;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) {
+      return true;
+    }
+
+    if (obj instanceof CompactTagDictionary other) {
+      if (caseSensitive != other.caseSensitive || size() != other.size()) {
+        return false;
+      }
+      for (String word : this) {
+        final TagSet tagSet = other.getTagSet(word);
+        if (tagSet == null || !Arrays.equals(getTagSet(word).tags, tagSet.tags)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return "CompactTagDictionary{size=" + size() + ", tags=" + tags.length
+        + ", tagSets=" + tagSets.length + ", caseSensitive=" + caseSensitive + "}";
+  }
+
+  @Override
+  public Class<?> getArtifactSerializerClass() {
+    return POSTaggerFactory.CompactTagDictionarySerializer.class;
+  }
+
+  /**
+   * An immutable set of tags which is shared by all words with the same tags.
+   * The tags are kept in the order in which they were given for the first of these words.
+   */
+  public static final class TagSet {
+
+    private final int[] ids;
+    private final String[] tags;
+
+    private TagSet(int[] ids, String[] tags) {
+      this.ids = ids;
+      this.tags = tags;
+    }
+
+    /**
+     * @return The number of tags in this set.
+     */
+    public int size() {
+      return ids.length;
+    }
+
+    /**
+     * @param index The index of the tag in the range {@code [0, size())}.
+     * @return The id of the tag at {@code index}.
+     */
+    public int getId(int index) {
+      return ids[index];
+    }
+
+    /**
+     * @param index The index of the tag in the range {@code [0, size())}.
+     * @return The tag at {@code index}.
+     */
+    public String getTag(int index) {
+      return tags[index];
+    }
+
+    /**
+     * @param id A tag id.
+     * @return {@code true} if this set contains the tag with the given {@code id}.
+     */
+    public boolean contains(int id) {
+      for (int tagId : ids) {
+        if (tagId == id) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * @param tag A tag.
+     * @return {@code true} if this set contains {@code tag}.
+     */
+    public boolean contains(String tag) {
+      for (String t : tags) {
+        if (t.equals(tag)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    /**
+     * @return A new array with the tags of this set.
+     */
+    public String[] toArray() {
+      return tags.clone();
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(tags);
+    }
+  }
+}
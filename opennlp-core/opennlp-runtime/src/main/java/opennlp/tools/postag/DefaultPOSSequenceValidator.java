@@ -17,8 +17,6 @@
 
 package opennlp.tools.postag;
 
-import java.util.Arrays;
-
 import opennlp.tools.util.SequenceValidator;
 
 /**
@@ -40,9 +38,21 @@ public class DefaultPOSSequenceValidator implements SequenceValidator<String> {
       String[] outcomesSequence, String outcome) {
     if (tagDictionary == null) {
       return true;
+    } else if (tagDictionary instanceof CompactTagDictionary compactDictionary) {
+      // the shared tag set avoids copying the tags for every word and outcome
+      CompactTagDictionary.TagSet tags = compactDictionary.getTagSet(inputSequence[i]);
+      return tags == null || tags.contains(outcome);
     } else {
       String[] tags = tagDictionary.getTags(inputSequence[i]);
-      return tags == null || Arrays.asList(tags).contains(outcome);
+      if (tags == null) {
+        return true;
+      }
+      for (String tag : tags) {
+        if (tag.equals(outcome)) {
+          return true;
+        }
+      }
+      return false;
     }
   }
 }
@@ -17,9 +17,12 @@
 
 package opennlp.tools.postag;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -44,6 +47,8 @@ public class POSDictionary implements Iterable<String>, MutableTagDictionary, Se
 
   private boolean caseSensitive = true;
 
+  private boolean binaryFormat;
+
   /**
    * Initializes an empty case sensitive {@link POSDictionary}.
    */
@@ -142,6 +147,42 @@ public class POSDictionary implements Iterable<String>, MutableTagDictionary, Se
     DictionaryEntryPersistor.serialize(out, entries, caseSensitive);
   }
 
+  /**
+   * Writes the {@link POSDictionary} in the binary format of the {@link CompactTagDictionary}
+   * to the given {@link OutputStream}.
+   * <p>
+   * After the serialization is finished the provided
+   * {@link OutputStream} remains open.
+   *
+   * @param out
+   *            the {@link OutputStream} to write the dictionary into.
+   *
+   * @throws IOException
+   *             Throw if writing to the {@link OutputStream} fails
+   */
+  public void serializeBinary(OutputStream out) throws IOException {
+    CompactTagDictionary.create(dictionary, caseSensitive).serialize(out);
+  }
+
+  /**
+   * @return {@code true} if this {@link POSDictionary} is written in the binary format
+   *         when it is part of a model package, {@code false} for the XML format.
+   */
+  public boolean isBinaryFormat() {
+    return binaryFormat;
+  }
+
+  /**
+   * Selects the format which is used when this {@link POSDictionary} is written as part
+   * of a model package. Dictionaries loaded from the binary format use it by default.
+   *
+   * @param binaryFormat {@code true} for the binary format of the {@link CompactTagDictionary},
+   *                     {@code false} for the XML format.
+   */
+  public void setBinaryFormat(boolean binaryFormat) {
+    this.binaryFormat = binaryFormat;
+  }
+
   @Override
   public int hashCode() {
 
@@ -198,6 +239,9 @@ public class POSDictionary implements Iterable<String>, MutableTagDictionary, Se
    * Creates a new {@link POSDictionary} from an {@link InputStream}.
    * <p>
    * After creation is finished the provided {@link InputStream} is closed.
+   * <p>
+   * The stream may either be in the XML format or in the binary format of the
+   * {@link CompactTagDictionary}, which is detected by its leading magic number.
    *
    * @param in The {@link InputStream} used for creating the {@link POSDictionary}.
    *           The stream must be open and have bytes available to read from.
@@ -208,6 +252,47 @@ public class POSDictionary implements Iterable<String>, MutableTagDictionary, Se
    * @throws InvalidFormatException Thrown if the entries don't have exactly one token.
    */
   public static POSDictionary create(InputStream in) throws IOException {
+    final InputStream dictIn = in.markSupported() ? in : new BufferedInputStream(in);
+    dictIn.mark(Integer.BYTES);
+    final byte[] header = dictIn.readNBytes(Integer.BYTES);
+    dictIn.reset();
+
+    if (CompactTagDictionary.isCompactTagDictionary(header)) {
+      return create(CompactTagDictionary.create(dictIn));
+    }
+    return createFromXml(dictIn);
+  }
+
+  /**
+   * Creates a new {@link POSDictionary} from a file in the XML format or in the
+   * binary format of the {@link CompactTagDictionary}.
+   *
+   * @param path The {@link Path} of the dictionary file.
+   *
+   * @return A valid {@link POSDictionary} instance.
+   *
+   * @throws IOException Thrown if IO errors occurred during creation.
+   * @throws InvalidFormatException Thrown if the entries don't have exactly one token.
+   */
+  public static POSDictionary create(Path path) throws IOException {
+    try (InputStream in = new BufferedInputStream(Files.newInputStream(path))) {
+      return create(in);
+    }
+  }
+
+  private static POSDictionary create(CompactTagDictionary compact) {
+    final POSDictionary newPosDict = new POSDictionary(compact.isCaseSensitive());
+    newPosDict.dictionary = HashMap.newHashMap(compact.size());
+
+    for (String word : compact) {
+      newPosDict.dictionary.put(word, compact.getTags(word));
+    }
+
+    newPosDict.binaryFormat = true;
+    return newPosDict;
+  }
+
+  private static POSDictionary createFromXml(InputStream in) throws IOException {
 
     final POSDictionary newPosDict = new POSDictionary();
 
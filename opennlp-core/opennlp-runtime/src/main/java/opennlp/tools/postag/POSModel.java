@@ -205,6 +205,17 @@ public final class POSModel extends BaseModel implements SerializableArtifact {
     }
   }
 
+  /**
+   * @return Retrieves the {@link MaxentModel} of the tagger, or {@code null} if the
+   *         tagger uses a {@link SequenceClassificationModel} instead.
+   */
+  public MaxentModel getMaxentModel() {
+    if (artifactMap.get(POS_MODEL_ENTRY_NAME) instanceof MaxentModel maxentModel) {
+      return maxentModel;
+    }
+    return null;
+  }
+
   /**
    * @return Retrieves the active {@link POSTaggerFactory}.
    */
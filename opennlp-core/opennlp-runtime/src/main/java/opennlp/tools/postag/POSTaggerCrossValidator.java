@@ -196,6 +196,65 @@ public class POSTaggerCrossValidator {
     }
   }
 
+  /**
+   * Starts the evaluation and runs up to {@code threads} folds concurrently.
+   * <p>
+   * The samples are read once into memory. Every fold works on its own
+   * {@link POSTaggerFactory} instance and, if a tag dictionary cutoff is configured,
+   * on its own {@link TagDictionary}. The per-fold results are merged in fold order,
+   * hence the resulting word accuracy equals the one of {@link #evaluate(ObjectStream, int)}.
+   * The configured {@link POSTaggerEvaluationMonitor listeners} are called from several
+   * threads and must be thread-safe.
+   *
+   * @param samples The {@link ObjectStream} of {@link POSSample samples} to train and test with.
+   * @param nFolds Number of folds. It must be greater than zero.
+   * @param threads The maximum number of folds to run concurrently. It must be greater than zero.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void evaluate(ObjectStream<POSSample> samples, int nFolds, int threads) throws IOException {
+
+    CrossValidationPartitioner<POSSample> partitioner = new CrossValidationPartitioner<>(
+        samples, nFolds);
+
+    for (POSEvaluator evaluator : partitioner.evaluateFolds(threads, this::evaluateFold)) {
+      wordAccuracy.add(evaluator.getWordAccuracy(), evaluator.getWordCount());
+    }
+  }
+
+  private POSEvaluator evaluateFold(
+      CrossValidationPartitioner.TrainingSampleStream<POSSample> trainingSampleStream)
+      throws IOException {
+
+    String foldFactoryClassName = this.factory != null ? this.factory.getClass().getName() :
+        this.factoryClassName;
+    POSTaggerFactory foldFactory = POSTaggerFactory.create(foldFactoryClassName,
+        featureGeneratorBytes, resources, null);
+
+    if (this.tagdicCutoff != null) {
+      TagDictionary dict = this.tagDictionaryFile != null ?
+          foldFactory.createTagDictionary(tagDictionaryFile) : foldFactory.createEmptyTagDictionary();
+      if (dict instanceof MutableTagDictionary) {
+        POSTaggerME.populatePOSDictionary(trainingSampleStream, (MutableTagDictionary) dict,
+            this.tagdicCutoff);
+      } else {
+        throw new IllegalArgumentException(
+            "Can't extend a TagDictionary that does not implement MutableTagDictionary.");
+      }
+      trainingSampleStream.reset();
+      foldFactory.setTagDictionary(dict);
+    }
+
+    POSModel model = POSTaggerME.train(languageCode, trainingSampleStream,
+        params, foldFactory);
+
+    POSEvaluator evaluator = new POSEvaluator(new POSTaggerME(model, posTagFormat), listeners);
+
+    evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+
+    return evaluator;
+  }
+
   /**
    * @return Retrieves the accuracy for all iterations.
    */
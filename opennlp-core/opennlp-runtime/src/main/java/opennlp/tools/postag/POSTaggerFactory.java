@@ -189,6 +189,7 @@ public class POSTaggerFactory extends BaseToolFactory {
 
     // NOTE: This is only needed for old models and this if can be removed if support is dropped
     POSDictionarySerializer.register(serializers);
+    CompactTagDictionarySerializer.register(serializers);
 
     return serializers;
   }
@@ -217,11 +218,19 @@ public class POSTaggerFactory extends BaseToolFactory {
    */
   public TagDictionary createTagDictionary(File dictionary)
       throws IOException {
-    return createTagDictionary(new BufferedInputStream(new FileInputStream(dictionary)));
+    try (InputStream in = new BufferedInputStream(new FileInputStream(dictionary))) {
+      return createTagDictionary(in);
+    }
   }
 
   /**
    * Initializes a {@link TagDictionary} from a {@link InputStream dictionary stream}.
+   * <p>
+   * The stream may either contain an XML {@link POSDictionary} or the binary format
+   * of a {@link CompactTagDictionary}, which is detected by its leading magic number.
+   * <p>
+   * <b>Note:</b> The provided {@link InputStream} remains open for both formats,
+   * closing it is the responsibility of the caller.
    *
    * @param in The {@link InputStream} used for creating the dictionary.
    * @return A valid {@link TagDictionary} ready for use.
@@ -229,7 +238,15 @@ public class POSTaggerFactory extends BaseToolFactory {
    */
   public TagDictionary createTagDictionary(InputStream in)
       throws IOException {
-    return POSDictionary.create(in);
+    final InputStream dictIn = in.markSupported() ? in : new BufferedInputStream(in);
+    dictIn.mark(4);
+    final byte[] magic = dictIn.readNBytes(4);
+    dictIn.reset();
+
+    if (CompactTagDictionary.isCompactTagDictionary(magic)) {
+      return CompactTagDictionary.create(dictIn);
+    }
+    return POSDictionary.create(new UncloseableInputStream(dictIn));
   }
 
   public void setTagDictionary(TagDictionary dictionary) {
@@ -322,7 +339,11 @@ public class POSTaggerFactory extends BaseToolFactory {
     @Override
     public void serialize(POSDictionary artifact, OutputStream out)
         throws IOException {
-      artifact.serialize(out);
+      if (artifact.isBinaryFormat()) {
+        artifact.serializeBinary(out);
+      } else {
+        artifact.serialize(out);
+      }
     }
 
     static void register(Map<String, ArtifactSerializer<?>> factories) {
@@ -330,6 +351,25 @@ public class POSTaggerFactory extends BaseToolFactory {
     }
   }
 
+  public static class CompactTagDictionarySerializer
+      implements ArtifactSerializer<CompactTagDictionary> {
+
+    @Override
+    public CompactTagDictionary create(InputStream in) throws IOException {
+      return CompactTagDictionary.create(in);
+    }
+
+    @Override
+    public void serialize(CompactTagDictionary artifact, OutputStream out)
+        throws IOException {
+      artifact.serialize(out);
+    }
+
+    static void register(Map<String, ArtifactSerializer<?>> factories) {
+      factories.put("ctagdict", new CompactTagDictionarySerializer());
+    }
+  }
+
   protected void validatePOSDictionary(POSDictionary posDict, AbstractModel posModel)
       throws InvalidFormatException {
     Set<String> dictTags = new HashSet<>();
@@ -338,6 +378,11 @@ public class POSTaggerFactory extends BaseToolFactory {
       Collections.addAll(dictTags, posDict.getTags(word));
     }
 
+    validateTags(dictTags, posModel);
+  }
+
+  private static void validateTags(Set<String> dictTags, AbstractModel posModel)
+      throws InvalidFormatException {
     Set<String> modelTags = new HashSet<>();
 
     for (int i = 0; i < posModel.getNumOutcomes(); i++) {
@@ -373,6 +418,16 @@ public class POSTaggerFactory extends BaseToolFactory {
           POSDictionary posDict = (POSDictionary) tagdictEntry;
           validatePOSDictionary(posDict, posModel);
         }
+      } else if (tagdictEntry instanceof CompactTagDictionary compactDict) {
+        if (!this.artifactProvider.isLoadedFromSerialized()) {
+          AbstractModel posModel = this.artifactProvider
+              .getArtifact(POSModel.POS_MODEL_ENTRY_NAME);
+          Set<String> dictTags = new HashSet<>();
+          for (int i = 0; i < compactDict.getTagCount(); i++) {
+            dictTags.add(compactDict.getTag(i));
+          }
+          validateTags(dictTags, posModel);
+        }
       } else {
         throw new InvalidFormatException(
             "POSTag dictionary has wrong type!");
@@ -41,6 +41,8 @@ import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.ml.model.SequenceClassificationModel;
 import opennlp.tools.models.ModelType;
+import opennlp.tools.monitoring.DefaultTrainingProgressMonitor;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.ngram.NGramModel;
 import opennlp.tools.util.DownloadUtil;
 import opennlp.tools.util.ObjectStream;
@@ -48,6 +50,7 @@ import opennlp.tools.util.Sequence;
 import opennlp.tools.util.SequenceValidator;
 import opennlp.tools.util.StringList;
 import opennlp.tools.util.StringUtil;
+import opennlp.tools.util.TrainingConfiguration;
 import opennlp.tools.util.TrainingParameters;
 import opennlp.tools.util.featuregen.StringPattern;
 
@@ -71,6 +74,8 @@ public class POSTaggerME implements POSTagger, Probabilistic {
    */
   public static final int DEFAULT_BEAM_SIZE = 3;
 
+  private static final String METRIC_TAG = Instrumentation.metric("postag", "tag");
+
   private final POSModel modelPackage;
 
   /**
@@ -188,7 +193,9 @@ public class POSTaggerME implements POSTagger, Probabilistic {
    */
   @Override
   public String[] tag(String[] sentence, Object[] additionalContext) {
+    final long start = Instrumentation.start();
     bestSequence = model.bestSequence(sentence, additionalContext, cg, sequenceValidator);
+    Instrumentation.recordTime(METRIC_TAG, start);
     final List<String> t = bestSequence.getOutcomes();
     return convertTags(t);
   }
@@ -307,6 +314,30 @@ public class POSTaggerME implements POSTagger, Probabilistic {
   public static POSModel train(String languageCode, ObjectStream<POSSample> samples,
                                TrainingParameters mlParams, POSTaggerFactory posFactory)
       throws IOException {
+    return train(languageCode, samples, mlParams, posFactory, null);
+  }
+
+  /**
+   * Starts a training of a {@link POSModel} which continues from the parameters of an
+   * existing model. Features and tags of the existing model are matched by name, new
+   * features start with zero weights. The number of iterations can be set via
+   * {@link opennlp.tools.util.Parameters#WARM_START_ITERATIONS_PARAM}.
+   *
+   * @param languageCode  The ISO language code to train the model. Must not be {@code null}.
+   * @param samples       The {@link ObjectStream} of {@link POSSample} used as input for training.
+   * @param mlParams      The {@link TrainingParameters} for the context of the training process.
+   * @param posFactory    The {@link POSTaggerFactory} for creating related objects as defined
+   *                      via {@code mlParams}.
+   * @param initialModel  The {@link POSModel} to continue from, or {@code null} to train from scratch.
+   *
+   * @return A valid, trained {@link POSModel} instance.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws IllegalArgumentException Thrown if {@code initialModel} is not a maxent model, or
+   *                                  the configured trainer does not support warm-starts.
+   */
+  public static POSModel train(String languageCode, ObjectStream<POSSample> samples,
+                               TrainingParameters mlParams, POSTaggerFactory posFactory,
+                               POSModel initialModel) throws IOException {
 
     final int beamSize = mlParams.getIntParameter(
             BeamSearch.BEAM_SIZE_PARAMETER, POSTaggerME.DEFAULT_BEAM_SIZE);
@@ -315,13 +346,25 @@ public class POSTaggerME implements POSTagger, Probabilistic {
     final TrainerType trainerType = TrainerFactory.getTrainerType(mlParams);
     final Map<String, String> manifestInfoEntries = new HashMap<>();
 
+    MaxentModel initialMaxentModel = null;
+    if (initialModel != null) {
+      initialMaxentModel = initialModel.getMaxentModel();
+      if (initialMaxentModel == null) {
+        throw new IllegalArgumentException("The initial model must be a maxent POS model!");
+      }
+      if (!TrainerType.EVENT_MODEL_TRAINER.equals(trainerType)) {
+        throw new IllegalArgumentException("Continuing from an initial model is not supported by "
+            + mlParams.algorithm() + "!");
+      }
+    }
+
     MaxentModel posModel = null;
     SequenceClassificationModel seqPosModel = null;
     if (TrainerType.EVENT_MODEL_TRAINER.equals(trainerType)) {
       ObjectStream<Event> es = new POSSampleEventStream(samples, contextGenerator);
 
-      EventTrainer<TrainingParameters> trainer =
-          TrainerFactory.getEventTrainer(mlParams, manifestInfoEntries);
+      EventTrainer<TrainingParameters> trainer = TrainerFactory.getEventTrainer(mlParams, manifestInfoEntries,
+          new TrainingConfiguration(new DefaultTrainingProgressMonitor(), null, initialMaxentModel));
       posModel = trainer.train(es);
     } else if (TrainerType.EVENT_MODEL_SEQUENCE_TRAINER.equals(trainerType)) {
       POSSampleSequenceStream ss = new POSSampleSequenceStream(samples, contextGenerator);
@@ -19,6 +19,7 @@
 package opennlp.tools.sentdetect;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +33,11 @@ public class DefaultEndOfSentenceScanner implements EndOfSentenceScanner {
 
   private final Set<Character> eosCharacters;
 
+  /*
+   * The end of sentence characters in ascending order, for the primitive scan.
+   */
+  private final char[] sortedEosCharacters;
+
   /**
    * Initializes the current instance.
    *
@@ -43,6 +49,30 @@ public class DefaultEndOfSentenceScanner implements EndOfSentenceScanner {
     for (char eosChar: eosCharacters) {
       this.eosCharacters.add(eosChar);
     }
+
+    sortedEosCharacters = eosCharacters.clone();
+    Arrays.sort(sortedEosCharacters);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Note: Subclasses which change the behavior of {@link #getPositions(CharSequence)}
+   * must override this method accordingly.
+   */
+  @Override
+  public int[] getPositionArray(CharSequence s) {
+    int[] positions = new int[16];
+    int count = 0;
+    for (int i = 0; i < s.length(); i++) {
+      if (Arrays.binarySearch(sortedEosCharacters, s.charAt(i)) >= 0) {
+        if (count == positions.length) {
+          positions = Arrays.copyOf(positions, 2 * count);
+        }
+        positions[count++] = i;
+      }
+    }
+    return Arrays.copyOf(positions, count);
   }
 
   @Override
@@ -33,9 +33,15 @@ public class DefaultSDContextGenerator implements SDContextGenerator {
 
   /**
    * String buffer for generating features.
+   *
+   * @deprecated Not used by this class anymore, subclasses should use a local
+   *             {@link StringBuilder} instead.
    */
+  @Deprecated(since = "3.0.0")
   protected final StringBuffer buf;
 
+  private final StringBuilder featureBuffer;
+
   /**
    * List for holding features as they are generated.
    */
@@ -71,6 +77,7 @@ public class DefaultSDContextGenerator implements SDContextGenerator {
       this.eosCharacters.add(eosChar);
     }
     buf = new StringBuffer();
+    featureBuffer = new StringBuilder();
     collectFeats = new ArrayList<>();
   }
 
@@ -171,10 +178,10 @@ public class DefaultSDContextGenerator implements SDContextGenerator {
    */
   protected void collectFeatures(String prefix, String suffix, String previous,
       String next, Character eosChar) {
-    buf.append("x=");
-    buf.append(prefix);
-    collectFeats.add(buf.toString());
-    buf.setLength(0);
+    featureBuffer.append("x=");
+    featureBuffer.append(prefix);
+    collectFeats.add(featureBuffer.toString());
+    featureBuffer.setLength(0);
     if (!prefix.isEmpty()) {
       collectFeats.add(Integer.toString(prefix.length()));
       if (isFirstUpper(prefix)) {
@@ -185,10 +192,10 @@ public class DefaultSDContextGenerator implements SDContextGenerator {
       }
     }
 
-    buf.append("v=");
-    buf.append(previous);
-    collectFeats.add(buf.toString());
-    buf.setLength(0);
+    featureBuffer.append("v=");
+    featureBuffer.append(previous);
+    collectFeats.add(featureBuffer.toString());
+    featureBuffer.setLength(0);
     if (!previous.isEmpty()) {
       if (isFirstUpper(previous)) {
         collectFeats.add("vcap");
@@ -198,10 +205,10 @@ public class DefaultSDContextGenerator implements SDContextGenerator {
       }
     }
 
-    buf.append("s=");
-    buf.append(suffix);
-    collectFeats.add(buf.toString());
-    buf.setLength(0);
+    featureBuffer.append("s=");
+    featureBuffer.append(suffix);
+    collectFeats.add(featureBuffer.toString());
+    featureBuffer.setLength(0);
     if (!suffix.isEmpty()) {
       if (isFirstUpper(suffix)) {
         collectFeats.add("scap");
@@ -211,10 +218,10 @@ public class DefaultSDContextGenerator implements SDContextGenerator {
       }
     }
 
-    buf.append("n=");
-    buf.append(next);
-    collectFeats.add(buf.toString());
-    buf.setLength(0);
+    featureBuffer.append("n=");
+    featureBuffer.append(next);
+    collectFeats.add(featureBuffer.toString());
+    featureBuffer.setLength(0);
     if (!next.isEmpty()) {
       if (isFirstUpper(next)) {
         collectFeats.add("ncap");
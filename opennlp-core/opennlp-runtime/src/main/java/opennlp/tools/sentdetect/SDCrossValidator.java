@@ -63,23 +63,50 @@ public class SDCrossValidator {
         new CrossValidationPartitioner<>(samples, nFolds);
 
     while (partitioner.hasNext()) {
+      fmeasure.mergeInto(evaluateFold(partitioner.next()));
+    }
+  }
+
+  /**
+   * Starts the evaluation and runs up to {@code threads} folds concurrently.
+   * <p>
+   * The samples are read once into memory. The per-fold results are merged in fold order,
+   * hence the resulting {@link FMeasure} equals the one of {@link #evaluate(ObjectStream, int)}.
+   * The configured {@link SentenceDetectorEvaluationMonitor listeners} are called from several threads
+   * and must be thread-safe.
+   *
+   * @param samples The {@link ObjectStream} of {@link SentenceSample samples} to train and test with.
+   * @param nFolds Number of folds. It must be greater than zero.
+   * @param threads The maximum number of folds to run concurrently. It must be greater than zero.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void evaluate(ObjectStream<SentenceSample> samples, int nFolds, int threads)
+      throws IOException {
 
-      CrossValidationPartitioner.TrainingSampleStream<SentenceSample> trainingSampleStream =
-          partitioner.next();
+    CrossValidationPartitioner<SentenceSample> partitioner =
+        new CrossValidationPartitioner<>(samples, nFolds);
 
-      SentenceModel model;
+    for (FMeasure foldMeasure : partitioner.evaluateFolds(threads, this::evaluateFold)) {
+      fmeasure.mergeInto(foldMeasure);
+    }
+  }
 
-      model = SentenceDetectorME.train(languageCode, trainingSampleStream,
-          sdFactory, params);
+  private FMeasure evaluateFold(CrossValidationPartitioner.TrainingSampleStream<SentenceSample>
+                                    trainingSampleStream) throws IOException {
 
-      // do testing
-      SentenceDetectorEvaluator evaluator = new SentenceDetectorEvaluator(
-          new SentenceDetectorME(model), listeners);
+    SentenceModel model;
 
-      evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+    model = SentenceDetectorME.train(languageCode, trainingSampleStream,
+        sdFactory, params);
 
-      fmeasure.mergeInto(evaluator.getFMeasure());
-    }
+    // do testing
+    SentenceDetectorEvaluator evaluator = new SentenceDetectorEvaluator(
+        new SentenceDetectorME(model), listeners);
+
+    evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+
+    return evaluator.getFMeasure();
   }
 
   public FMeasure getFMeasure() {
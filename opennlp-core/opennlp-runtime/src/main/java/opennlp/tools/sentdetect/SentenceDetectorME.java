@@ -19,6 +19,7 @@ package opennlp.tools.sentdetect;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -33,10 +34,12 @@ import opennlp.tools.ml.TrainerFactory;
 import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.models.ModelType;
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.sentdetect.lang.Factory;
 import opennlp.tools.util.DownloadUtil;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 import opennlp.tools.util.StringList;
 import opennlp.tools.util.StringUtil;
 import opennlp.tools.util.TrainingParameters;
@@ -59,6 +62,10 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
    */
   public static final String NO_SPLIT = "n";
 
+  private static final String METRIC_FEATURE_GENERATION =
+      Instrumentation.metric("sentdetect", Instrumentation.FEATURE_GENERATION);
+  private static final String METRIC_EVAL = Instrumentation.metric("sentdetect", Instrumentation.MODEL_EVAL);
+
   /**
    * The maximum entropy model to use to evaluate contexts.
    */
@@ -79,11 +86,33 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
    */
   private final List<Double> sentProbs = new ArrayList<>();
 
+  /*
+   * Reused buffer for the sentences of sentPosDetect(CharSequence).
+   */
+  private final SpanBuffer spanBuffer = new SpanBuffer();
+
+  /*
+   * The start offsets of the sentences which follow the accepted breaks, the
+   * probabilities of these breaks and the indexes after them, found by the most
+   * recent call to findSentenceStarts.
+   */
+  private int[] sentStarts = new int[16];
+
+  private double[] sentStartProbs = new double[16];
+
+  private int[] sentBreakIndexes = new int[16];
+
   /**
    * The {@link Dictionary abbreviation dictionary} if available (may be {@code null}).
    */
   private final Dictionary abbDict;
 
+  /**
+   * The length of the longest abbreviation in {@link #abbDict}, computed once since the
+   * dictionary is not expected to change while detecting sentences.
+   */
+  private final int maxAbbreviationLength;
+
   protected final boolean useTokenEnd;
 
   /**
@@ -114,6 +143,7 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
   public SentenceDetectorME(SentenceModel model, Dictionary abbDict) {
     this.model = model.getMaxentModel();
     this.abbDict = abbDict;
+    this.maxAbbreviationLength = getMaxAbbreviationLength(abbDict);
     SentenceDetectorFactory sdFactory = model.getFactory();
     cgen = sdFactory.getSDContextGenerator();
     scanner = sdFactory.getEndOfSentenceScanner();
@@ -140,9 +170,20 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
       scanner = factory.createEndOfSentenceScanner(customEOSCharacters);
     }
     abbDict = model.getAbbreviations();
+    maxAbbreviationLength = getMaxAbbreviationLength(abbDict);
     useTokenEnd = model.useTokenEnd();
   }
 
+  private static int getMaxAbbreviationLength(Dictionary abbreviations) {
+    int maxLength = 0;
+    if (abbreviations != null) {
+      for (StringList abb : abbreviations) {
+        maxLength = Math.max(maxLength, abb.getToken(0).length());
+      }
+    }
+    return maxLength;
+  }
+
   private static Set<String> getAbbreviations(Dictionary abbreviations) {
     if (abbreviations == null) {
       return Collections.emptySet();
@@ -195,15 +236,85 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
    */
   @Override
   public Span[] sentPosDetect(CharSequence s) {
+    sentPosDetect(s, spanBuffer);
+    return spanBuffer.toSpans();
+  }
+
+  /**
+   * Detects the sentences in a {@link CharSequence} and writes them into a reusable
+   * {@link SpanBuffer}, without creating a {@link Span} per sentence.
+   *
+   * @param s The {@link CharSequence} to be processed.
+   * @param spans The {@link SpanBuffer} to receive the sentences with their probabilities,
+   *              it is cleared first.
+   */
+  @Override
+  public void sentPosDetect(CharSequence s, SpanBuffer spans) {
+    spans.clear();
     sentProbs.clear();
-    List<Integer> enders = scanner.getPositions(s);
-    List<Integer> positions = new ArrayList<>(enders.size());
+    final int startCount = findSentenceStarts(s, 0, 0, s.length());
 
-    for (int i = 0, end = enders.size(), index = 0; i < end; i++) {
-      int cint = enders.get(i);
+    // string does not contain sentence end positions
+    if (startCount == 0) {
+      addTrimmedSentence(s, 0, s.length(), 1d, spans);
+      return;
+    }
+
+    // Convert the sentence end indexes to spans, a span might contain only white spaces,
+    // in this case the length of the span will be zero after trimming and is ignored.
+    int start = 0;
+    for (int si = 0; si < startCount; si++) {
+      addTrimmedSentence(s, start, sentStarts[si], sentStartProbs[si], spans);
+      start = sentStarts[si];
+    }
+
+    if (start != s.length()) {
+      addTrimmedSentence(s, start, s.length(), 1d, spans);
+    }
+  }
+
+  private void addTrimmedSentence(CharSequence s, int start, int end, double prob, SpanBuffer spans) {
+    while (start < end && StringUtil.isWhitespace(s.charAt(start))) {
+      start++;
+    }
+    while (end > start && StringUtil.isWhitespace(s.charAt(end - 1))) {
+      end--;
+    }
+    if (end > start) {
+      spans.add(start, end, prob);
+      sentProbs.add(prob);
+    }
+  }
+
+  /**
+   * Evaluates the end of sentence candidates of {@code s} which are located in
+   * {@code [from, to)} and collects the start offsets of the sentences following the
+   * accepted breaks. The text after {@code to} is only used as context.
+   *
+   * @param s The {@link CharSequence} to be processed.
+   * @param from The offset of the first candidate to evaluate. It is the start of a sentence.
+   * @param fromIndex The index after the last accepted break, or {@code from} if unknown.
+   * @param to The offset after the last candidate to evaluate.
+   * @return The number of collected start offsets, they can be retrieved via
+   *         {@link #getSentenceStart(int)}, {@link #getSentenceStartProb(int)}
+   *         and {@link #getSentenceBreakIndex(int)}.
+   */
+  int findSentenceStarts(CharSequence s, int from, int fromIndex, int to) {
+    final int[] enders = scanner.getPositionArray(s);
+
+    int count = 0;
+    int index = fromIndex;
+    for (int i = 0, end = enders.length; i < end; i++) {
+      int cint = enders[i];
+      if (cint < from) {
+        continue;
+      }
+      if (cint >= to) {
+        break;
+      }
       // skip over the leading parts of non-token final delimiters
       int fws = getFirstWS(s,cint + 1);
-      if (i + 1 < end && enders.get(i + 1) < fws) {
+      if (i + 1 < end && enders[i + 1] < fws) {
         // Do not skip if the character right after the delimiter is uppercase,
         // as this likely indicates the start of a new sentence (e.g., "Gedanken.Bek.")
         // rather than a multi-period abbreviation (e.g., "z.B.").
@@ -212,92 +323,52 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
           continue;
         }
       }
-      if (positions.size() > 0 && cint < positions.get(positions.size() - 1)) continue;
+      if (count > 0 && cint < sentStarts[count - 1]) continue;
+
+      final long featureStart = Instrumentation.start();
+      final String[] context = cgen.getContext(s, cint);
+      Instrumentation.recordTime(METRIC_FEATURE_GENERATION, featureStart);
 
-      double[] probs = model.eval(cgen.getContext(s, cint));
+      final long evalStart = Instrumentation.start();
+      double[] probs = model.eval(context);
+      Instrumentation.recordTime(METRIC_EVAL, evalStart);
       String bestOutcome = model.getBestOutcome(probs);
 
       if (bestOutcome.equals(SPLIT) && isAcceptableBreak(s, index, cint)) {
         if (index != cint) {
+          if (count == sentStarts.length) {
+            sentStarts = Arrays.copyOf(sentStarts, 2 * count);
+            sentStartProbs = Arrays.copyOf(sentStartProbs, 2 * count);
+            sentBreakIndexes = Arrays.copyOf(sentBreakIndexes, 2 * count);
+          }
           if (useTokenEnd) {
-            positions.add(getFirstNonWS(s, getFirstWS(s,cint + 1)));
+            sentStarts[count] = getFirstNonWS(s, getFirstWS(s,cint + 1));
           }
           else {
-            positions.add(getFirstNonWS(s, cint + 1));
+            sentStarts[count] = getFirstNonWS(s, cint + 1);
           }
-          sentProbs.add(probs[model.getIndex(bestOutcome)]);
+          sentStartProbs[count] = probs[model.getIndex(bestOutcome)];
+          sentBreakIndexes[count] = cint + 1;
+          count++;
         }
 
         index = cint + 1;
       }
     }
 
-    int[] starts = ArrayMath.toIntArray(positions);
-
-    // string does not contain sentence end positions
-    if (starts.length == 0) {
-
-      // remove leading and trailing whitespace
-      int start = 0;
-      int end = s.length();
-
-      while (start < s.length() && StringUtil.isWhitespace(s.charAt(start)))
-        start++;
-
-      while (end > 0 && StringUtil.isWhitespace(s.charAt(end - 1)))
-        end--;
-
-      if (end - start > 0) {
-        sentProbs.add(1d);
-        return new Span[] {new Span(start, end)};
-      }
-      else
-        return new Span[0];
-    }
-
-    // Convert the sentence end indexes to spans
-
-    boolean leftover = starts[starts.length - 1] != s.length();
-    Span[] spans = new Span[leftover ? starts.length + 1 : starts.length];
-
-    for (int si = 0; si < starts.length; si++) {
-      int start;
-
-      if (si == 0) {
-        start = 0;
-      }
-      else {
-        start = starts[si - 1];
-      }
-
-      // A span might contain only white spaces, in this case the length of
-      // the span will be zero after trimming and should be ignored.
-      Span span = new Span(start, starts[si]).trim(s);
-      if (span.length() > 0) {
-        spans[si] = span;
-      }
-      else {
-        sentProbs.remove(si);
-      }
-    }
+    return count;
+  }
 
-    if (leftover) {
-      Span span = new Span(starts[starts.length - 1], s.length()).trim(s);
-      if (span.length() > 0) {
-        spans[spans.length - 1] = span;
-        sentProbs.add(1d);
-      }
-    }
-    /*
-     * set the prob for each span
-     */
-    for (int i = 0; i < spans.length; i++) {
-      double prob = sentProbs.get(i);
-      spans[i] = new Span(spans[i], prob);
+  int getSentenceStart(int i) {
+    return sentStarts[i];
+  }
 
-    }
+  double getSentenceStartProb(int i) {
+    return sentStartProbs[i];
+  }
 
-    return spans;
+  int getSentenceBreakIndex(int i) {
+    return sentBreakIndexes[i];
   }
 
   /**
@@ -345,20 +416,23 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
     if (abbDict == null)
       return true;
 
-    final String text = s.toString();
+    // Only the segment up to the longest abbreviation after the candidate can contain
+    // a match, the search is restricted to it to not copy the whole text per candidate
+    final int regionEnd = Math.min(s.length(), candidateIndex + maxAbbreviationLength + 1);
+    final String text = s.subSequence(fromIndex, regionEnd).toString();
     final boolean caseSensitive = abbDict.isCaseSensitive();
     final String searchText = caseSensitive ? text : StringUtil.toLowerCase(text);
     for (StringList abb : abbDict) {
       final String abbToken = caseSensitive ? abb.getToken(0)
           : StringUtil.toLowerCase(abb.getToken(0));
       final int tokenLength = abbToken.length();
-      int tokenStartPos = searchText.indexOf(abbToken, fromIndex);
+      int tokenStartPos = indexOf(searchText, abbToken, fromIndex, fromIndex);
       while (tokenStartPos != -1) {
         if (tokenStartPos > candidateIndex) {
           break; // past candidate position, no point searching further
         }
-        if (tokenStartPos == fromIndex
-            && searchText.substring(tokenStartPos, candidateIndex + 1).equals(abbToken)) {
+        if (tokenStartPos == fromIndex && searchText.substring(tokenStartPos - fromIndex,
+            candidateIndex + 1 - fromIndex).equals(abbToken)) {
           return false; // full abbreviation match at segment start -> no acceptable break
         }
         final char prevChar = s.charAt(tokenStartPos == fromIndex ? tokenStartPos : tokenStartPos - 1);
@@ -373,12 +447,21 @@ public class SentenceDetectorME implements SentenceDetector, Probabilistic {
           return false; // in case of a valid abbreviation: the (sentence) break is not accepted
         }
         // Try next occurrence of this abbreviation in the text
-        tokenStartPos = searchText.indexOf(abbToken, tokenStartPos + 1);
+        tokenStartPos = indexOf(searchText, abbToken, tokenStartPos + 1, fromIndex);
       }
     }
     return true; // no abbreviation(s) at given positions: valid sentence boundary
   }
 
+  /*
+   * Searches token in the region text which starts at offset regionStart of the
+   * full text. Positions are given and returned as offsets in the full text.
+   */
+  private static int indexOf(String region, String token, int fromIndex, int regionStart) {
+    final int index = region.indexOf(token, fromIndex - regionStart);
+    return index == -1 ? -1 : index + regionStart;
+  }
+
   /**
    * @param c The character to check.
    * @return {@code true} if the character represents an apostrophe, {@code false} otherwise.
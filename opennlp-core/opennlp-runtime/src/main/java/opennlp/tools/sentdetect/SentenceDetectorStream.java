@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.sentdetect;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.StringUtil;
+
+/**
+ * Detects sentences in text which is read incrementally from a {@link Readable},
+ * such as a {@link Reader} or a {@link CharBuffer}, and returns them one by one.
+ * <p>
+ * Only a bounded window of the input is held in memory. A sentence break is decided
+ * once at least {@code lookahead} characters after it have been read, so the features of
+ * the {@link SentenceDetectorME} see the same context as on the whole document, as long as
+ * no token is longer than the lookahead. If no break is found within
+ * {@code maxSentenceLength} characters, the text read so far is returned as a sentence.
+ * <p>
+ * The {@link Sentence sentences} carry their offsets relative to the start of the input
+ * as {@code long} values, hence inputs larger than {@link Integer#MAX_VALUE} characters
+ * are supported.
+ * <p>
+ * Note: A {@link SentenceDetectorStream} is not thread-safe and uses the passed
+ * {@link SentenceDetectorME}, which must not be used concurrently.
+ */
+public class SentenceDetectorStream implements ObjectStream<SentenceDetectorStream.Sentence> {
+
+  /**
+   * The default number of characters which must follow a sentence break before it is decided.
+   */
+  public static final int DEFAULT_LOOKAHEAD = 1024;
+
+  /**
+   * The default maximum length of a sentence, in characters.
+   */
+  public static final int DEFAULT_MAX_SENTENCE_LENGTH = 64 * 1024;
+
+  /**
+   * A sentence detected by a {@link SentenceDetectorStream}.
+   *
+   * @param start The offset of the first character, relative to the start of the input.
+   * @param end The offset after the last character, relative to the start of the input.
+   * @param prob The probability of the sentence break after the sentence.
+   * @param text The text of the sentence.
+   */
+  public record Sentence(long start, long end, double prob, String text) {
+  }
+
+  private final SentenceDetectorME detector;
+
+  private final Readable in;
+
+  private final int lookahead;
+
+  private final int maxSentenceLength;
+
+  private final CharBuffer chunk;
+
+  private final StringBuilder window = new StringBuilder();
+
+  private final Queue<Sentence> sentences = new ArrayDeque<>();
+
+  /*
+   * The offset of the first character of the window relative to the start of the input.
+   */
+  private long windowOffset;
+
+  /*
+   * The window offset at which the next sentence starts, and the index
+   * after the accepted break which precedes it.
+   */
+  private int sentenceStart;
+
+  private int breakIndex;
+
+  private boolean endOfInput;
+
+  /**
+   * Initializes a {@link SentenceDetectorStream} with the default lookahead and
+   * maximum sentence length.
+   *
+   * @param detector The {@link SentenceDetectorME} to detect the sentences with.
+   * @param in The {@link Readable} to read the text from.
+   */
+  public SentenceDetectorStream(SentenceDetectorME detector, Readable in) {
+    this(detector, in, DEFAULT_LOOKAHEAD, DEFAULT_MAX_SENTENCE_LENGTH);
+  }
+
+  /**
+   * Initializes a {@link SentenceDetectorStream}.
+   *
+   * @param detector The {@link SentenceDetectorME} to detect the sentences with.
+   * @param in The {@link Readable} to read the text from.
+   * @param lookahead The number of characters which must follow a sentence break
+   *                  before it is decided. Must be greater than {@code 0}.
+   * @param maxSentenceLength The maximum length of a sentence. Must be greater
+   *                          than {@code lookahead}.
+   * @throws IllegalArgumentException Thrown if parameters are invalid.
+   */
+  public SentenceDetectorStream(SentenceDetectorME detector, Readable in,
+                                int lookahead, int maxSentenceLength) {
+    this.detector = Objects.requireNonNull(detector, "detector must not be null");
+    this.in = Objects.requireNonNull(in, "in must not be null");
+    if (lookahead < 1) {
+      throw new IllegalArgumentException("lookahead must be greater than 0, but was " + lookahead);
+    }
+    if (maxSentenceLength <= lookahead) {
+      throw new IllegalArgumentException("maxSentenceLength must be greater than lookahead");
+    }
+    this.lookahead = lookahead;
+    this.maxSentenceLength = maxSentenceLength;
+    this.chunk = CharBuffer.allocate(Math.max(lookahead, 8 * 1024));
+  }
+
+  /**
+   * @return The next {@link Sentence}, or {@code null} if the input is exhausted.
+   * @throws IOException Thrown if IO errors occurred while reading the input.
+   */
+  @Override
+  public Sentence read() throws IOException {
+    while (sentences.isEmpty()) {
+      if (endOfInput && sentenceStart >= window.length()) {
+        return null;
+      }
+      fill();
+      detect();
+      compact();
+    }
+    return sentences.poll();
+  }
+
+  private void fill() throws IOException {
+    if (!endOfInput) {
+      chunk.clear();
+      int read = in.read(chunk);
+      if (read < 0) {
+        endOfInput = true;
+      } else {
+        chunk.flip();
+        window.append(chunk);
+      }
+    }
+  }
+
+  private void detect() {
+    final int limit = endOfInput ? window.length() : window.length() - lookahead;
+
+    if (limit > sentenceStart) {
+      int startCount = detector.findSentenceStarts(window, sentenceStart, breakIndex, limit);
+      for (int i = 0; i < startCount; i++) {
+        int nextStart = detector.getSentenceStart(i);
+        add(sentenceStart, nextStart, detector.getSentenceStartProb(i));
+        sentenceStart = nextStart;
+        breakIndex = detector.getSentenceBreakIndex(i);
+      }
+    }
+
+    if (endOfInput) {
+      add(sentenceStart, window.length(), 1d);
+      sentenceStart = window.length();
+    } else if (limit - sentenceStart > maxSentenceLength) {
+      // no break found, split before the lookahead to bound the window size
+      add(sentenceStart, limit, 1d);
+      sentenceStart = limit;
+      breakIndex = limit;
+    }
+  }
+
+  /*
+   * Adds the trimmed sentence between start and end, unless it contains only white spaces.
+   */
+  private void add(int start, int end, double prob) {
+    while (start < end && StringUtil.isWhitespace(window.charAt(start))) {
+      start++;
+    }
+    while (end > start && StringUtil.isWhitespace(window.charAt(end - 1))) {
+      end--;
+    }
+    if (end > start) {
+      sentences.add(new Sentence(windowOffset + start, windowOffset + end, prob,
+          window.substring(start, end)));
+    }
+  }
+
+  /*
+   * Drops the text before the next sentence, but keeps the lookahead
+   * before it as left context for the features.
+   */
+  private void compact() {
+    int drop = Math.min(sentenceStart, breakIndex) - lookahead;
+    if (drop > 0 && drop > window.length() / 2) {
+      window.delete(0, drop);
+      windowOffset += drop;
+      sentenceStart -= drop;
+      breakIndex -= drop;
+    }
+  }
+
+  /**
+   * @throws UnsupportedOperationException Thrown to signal no implementation is available.
+   */
+  @Override
+  public void reset() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (in instanceof AutoCloseable closeable) {
+      try {
+        closeable.close();
+      } catch (IOException | RuntimeException e) {
+        throw e;
+      } catch (Exception e) {
+        throw new IOException(e);
+      }
+    }
+  }
+}
@@ -25,6 +25,7 @@ import opennlp.tools.ml.Probabilistic;
 import opennlp.tools.models.ModelType;
 import opennlp.tools.util.DownloadUtil;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * A thread-safe version of {@link SentenceDetectorME}. Using it is completely transparent.
@@ -103,6 +104,11 @@ public class ThreadSafeSentenceDetectorME implements SentenceDetector, Probabili
     return getSD().sentPosDetect(s);
   }
 
+  @Override
+  public void sentPosDetect(CharSequence s, SpanBuffer spans) {
+    getSD().sentPosDetect(s, spans);
+  }
+
   /**
    * @deprecated Use {@link #probs()} instead.
    */
@@ -33,15 +33,8 @@ public class SentenceContextGenerator extends DefaultSDContextGenerator {
   @Override
   protected void collectFeatures(String prefix, String suffix, String previous, String next,
                                  Character eosChar) {
-    buf.append("p=");
-    buf.append(prefix);
-    collectFeats.add(buf.toString());
-    buf.setLength(0);
-
-    buf.append("s=");
-    buf.append(suffix);
-    collectFeats.add(buf.toString());
-    buf.setLength(0);
+    collectFeats.add("p=" + prefix);
+    collectFeats.add("s=" + suffix);
 
     collectFeats.add("p1=" + prefix.substring(StrictMath.max(prefix.length() - 1,0)));
     collectFeats.add("p2=" + prefix.substring(StrictMath.max(prefix.length() - 2,0)));
@@ -205,25 +205,52 @@ public class SentimentCrossValidator {
         new SentimentToDocumentSampleStream(samples), nFolds);
 
     while (partitioner.hasNext()) {
+      fmeasure.mergeInto(evaluateFold(partitioner.next()));
+    }
+  }
 
-      CrossValidationPartitioner.TrainingSampleStream<DocumentSample> trainingSampleStream = partitioner
-          .next();
-
-      SentimentModel model = SentimentME.train(languageCode,
-          new DocumentToSentimentSampleStream(trainingSampleStream), params,
-          factory);
+  /**
+   * Performs evaluation and runs up to {@code threads} folds concurrently. The
+   * per-fold results are merged in fold order, the configured monitors are
+   * called from several threads and must be thread-safe.
+   *
+   * @param samples
+   *          stream of SentimentSamples
+   * @param nFolds
+   *          the number of folds to be used in cross validation
+   * @param threads
+   *          the maximum number of folds to run concurrently
+   */
+  public void evaluate(ObjectStream<SentimentSample> samples, int nFolds, int threads)
+      throws IOException {
 
-      // do testing
-      SentimentEvaluator evaluator = new SentimentEvaluator(
-          new SentimentME(model), listeners);
+    // Note: The sentiment samples need to be grouped on a document basis.
 
-      evaluator.evaluate(new DocumentToSentimentSampleStream(
-          trainingSampleStream.getTestSampleStream()));
+    CrossValidationPartitioner<DocumentSample> partitioner = new CrossValidationPartitioner<>(
+        new SentimentToDocumentSampleStream(samples), nFolds);
 
-      fmeasure.mergeInto(evaluator.getFMeasure());
+    for (FMeasure foldMeasure : partitioner.evaluateFolds(threads, this::evaluateFold)) {
+      fmeasure.mergeInto(foldMeasure);
     }
   }
 
+  private FMeasure evaluateFold(CrossValidationPartitioner.TrainingSampleStream<DocumentSample>
+                                    trainingSampleStream) throws IOException {
+
+    SentimentModel model = SentimentME.train(languageCode,
+        new DocumentToSentimentSampleStream(trainingSampleStream), params,
+        factory);
+
+    // do testing
+    SentimentEvaluator evaluator = new SentimentEvaluator(
+        new SentimentME(model), listeners);
+
+    evaluator.evaluate(new DocumentToSentimentSampleStream(
+        trainingSampleStream.getTestSampleStream()));
+
+    return evaluator.getFMeasure();
+  }
+
   /**
    * Returns the F-Measure
    *
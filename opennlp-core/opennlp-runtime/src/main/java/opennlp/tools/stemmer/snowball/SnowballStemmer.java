@@ -19,11 +19,22 @@ package opennlp.tools.stemmer.snowball;
 
 import opennlp.tools.stemmer.Stemmer;
 
+/**
+ * A {@link Stemmer} which applies one of the generated Snowball stemming algorithms.
+ * <p>
+ * <b>Note:</b><br/>
+ * An instance keeps the state of the generated program and a reusable buffer, it is
+ * not thread-safe. Use {@link ThreadSafeSnowballStemmer} to share a stemmer between threads.
+ *
+ * @see ThreadSafeSnowballStemmer
+ */
 public class SnowballStemmer implements Stemmer {
 
   private final AbstractSnowballStemmer stemmer;
   private final int repeat;
 
+  private char[] buffer = new char[32];
+
   public SnowballStemmer(ALGORITHM algorithm, int repeat) {
     this.repeat = repeat;
 
@@ -78,15 +89,52 @@ public class SnowballStemmer implements Stemmer {
     this(algorithm, 1);
   }
 
+  @Override
   public CharSequence stem(CharSequence word) {
+    stemToBuffer(word);
+    return new String(stemmer.getCurrentBuffer(), 0, stemmer.getCurrentBufferLength());
+  }
+
+  /**
+   * Stems the specified {@code word} and appends the stem to {@code out}.
+   * <p>
+   * The characters are copied into a buffer which is reused across calls, therefore
+   * no objects are allocated unless {@code out} has to grow.
+   *
+   * @param word The word to stem.
+   * @param out The {@link StringBuilder} the stem is appended to.
+   */
+  public void stem(CharSequence word, StringBuilder out) {
+    stemToBuffer(word);
+    out.append(stemmer.getCurrentBuffer(), 0, stemmer.getCurrentBufferLength());
+  }
 
-    stemmer.setCurrent(word.toString());
+  private void stemToBuffer(CharSequence word) {
+    final int length = word.length();
+    if (buffer.length < length) {
+      buffer = new char[Math.max(length, buffer.length * 2)];
+    }
+
+    if (word instanceof String s) {
+      s.getChars(0, length, buffer, 0);
+    } else if (word instanceof StringBuilder sb) {
+      sb.getChars(0, length, buffer, 0);
+    } else {
+      for (int i = 0; i < length; i++) {
+        buffer[i] = word.charAt(i);
+      }
+    }
+
+    stemmer.setCurrent(buffer, length);
 
     for (int i = 0; i < repeat; i++) {
       stemmer.stem();
     }
 
-    return stemmer.getCurrent();
+    // the program replaces the buffer if an intermediate result does not fit
+    if (stemmer.getCurrentBuffer() != buffer) {
+      buffer = stemmer.getCurrentBuffer();
+    }
   }
 
   public enum ALGORITHM {
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.stemmer.snowball;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import opennlp.tools.commons.ThreadSafe;
+import opennlp.tools.stemmer.Stemmer;
+import opennlp.tools.stemmer.snowball.SnowballStemmer.ALGORITHM;
+import opennlp.tools.util.CharPoolIndex;
+
+/**
+ * A thread-safe version of the {@link SnowballStemmer}. Using it is completely transparent.
+ * You can use it in a single-threaded context as well, it only incurs a minimal overhead.
+ * <p>
+ * Optionally, the stems of frequent words are kept in a bounded cache which is shared by
+ * all threads. The cache is direct mapped: each word hashes to exactly one slot and a
+ * colliding word replaces the previous entry, so lookups and updates never block. Use
+ * {@link #getCacheHits()} and {@link #getCacheMisses()} to size the cache for a workload.
+ * <p>
+ * <b>Note:</b><br/>
+ * This implementation uses a {@link ThreadLocal}. Although the implementation is
+ * lightweight because the generated programs are small, if you have many long-running
+ * threads, you may run into memory problems.
+ * <p>
+ * Be careful when using this in a Jakarta EE application, for example.
+ * </p>
+ * The user is responsible for clearing the {@link ThreadLocal}
+ * via calling {@link #close()}.
+ *
+ * @see SnowballStemmer
+ */
+@ThreadSafe
+public class ThreadSafeSnowballStemmer implements Stemmer, AutoCloseable {
+
+  private final ALGORITHM algorithm;
+  private final int repeat;
+
+  private final ThreadLocal<SnowballStemmer> threadLocal = new ThreadLocal<>();
+
+  private final AtomicReferenceArray<CacheEntry> cache;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Initializes a {@link ThreadSafeSnowballStemmer} without a cache.
+   *
+   * @param algorithm The {@link ALGORITHM} to use.
+   */
+  public ThreadSafeSnowballStemmer(ALGORITHM algorithm) {
+    this(algorithm, 1, 0);
+  }
+
+  /**
+   * Initializes a {@link ThreadSafeSnowballStemmer}.
+   *
+   * @param algorithm The {@link ALGORITHM} to use.
+   * @param repeat The number of times the algorithm is applied to a word.
+   * @param cacheSize The maximum number of cached stems, it is rounded up to a power of two.
+   *                  Use {@code 0} to disable the cache.
+   * @throws IllegalArgumentException Thrown if {@code cacheSize} is negative or too large.
+   */
+  public ThreadSafeSnowballStemmer(ALGORITHM algorithm, int repeat, int cacheSize) {
+    if (cacheSize < 0 || cacheSize > 1 << 30) {
+      throw new IllegalArgumentException("cacheSize must be in [0, 2^30]: " + cacheSize);
+    }
+    this.algorithm = algorithm;
+    this.repeat = repeat;
+    this.cache = cacheSize == 0 ? null : new AtomicReferenceArray<>(tableSize(cacheSize));
+
+    // fail early on an unknown algorithm and warm up the current thread
+    threadLocal.set(new SnowballStemmer(algorithm, repeat));
+  }
+
+  /**
+   * @param cacheSize The requested cache size, in {@code [1, 2^30]}.
+   * @return The smallest power of two which is not smaller than {@code cacheSize}.
+   */
+  private static int tableSize(int cacheSize) {
+    return cacheSize == 1 ? 1 : Integer.highestOneBit(cacheSize - 1) << 1;
+  }
+
+  private SnowballStemmer getStemmer() {
+    SnowballStemmer s = threadLocal.get();
+    if (s == null) {
+      s = new SnowballStemmer(algorithm, repeat);
+      threadLocal.set(s);
+    }
+    return s;
+  }
+
+  @Override
+  public CharSequence stem(CharSequence word) {
+    if (cache == null) {
+      return getStemmer().stem(word);
+    }
+
+    final int slot = CharPoolIndex.hash(word) & (cache.length() - 1);
+    final CacheEntry entry = cache.get(slot);
+    if (entry != null && entry.word.contentEquals(word)) {
+      hits.increment();
+      return entry.stem;
+    }
+
+    misses.increment();
+    final String stem = getStemmer().stem(word).toString();
+    cache.set(slot, new CacheEntry(word.toString(), stem));
+    return stem;
+  }
+
+  /**
+   * Stems the specified {@code word} and appends the stem to {@code out}.
+   * <p>
+   * No objects are allocated for cache hits, or if the cache is disabled,
+   * unless {@code out} has to grow.
+   *
+   * @param word The word to stem.
+   * @param out The {@link StringBuilder} the stem is appended to.
+   */
+  public void stem(CharSequence word, StringBuilder out) {
+    if (cache == null) {
+      getStemmer().stem(word, out);
+      return;
+    }
+
+    final int slot = CharPoolIndex.hash(word) & (cache.length() - 1);
+    final CacheEntry entry = cache.get(slot);
+    if (entry != null && entry.word.contentEquals(word)) {
+      hits.increment();
+      out.append(entry.stem);
+      return;
+    }
+
+    misses.increment();
+    final int start = out.length();
+    getStemmer().stem(word, out);
+    cache.set(slot, new CacheEntry(word.toString(), out.substring(start)));
+  }
+
+  /**
+   * @return The maximum number of cached stems, {@code 0} if the cache is disabled.
+   */
+  public int getCacheSize() {
+    return cache == null ? 0 : cache.length();
+  }
+
+  /**
+   * @return The number of lookups which were answered from the cache.
+   */
+  public long getCacheHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return The number of lookups which had to run the stemming algorithm,
+   *         always {@code 0} if the cache is disabled.
+   */
+  public long getCacheMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return The fraction of lookups answered from the cache, or {@code 0} if there were none.
+   */
+  public double getCacheHitRate() {
+    final long h = hits.sum();
+    final long total = h + misses.sum();
+    return total == 0 ? 0 : (double) h / total;
+  }
+
+  /**
+   * Removes all cached stems and resets the cache statistics.
+   */
+  public void clearCache() {
+    if (cache != null) {
+      for (int i = 0; i < cache.length(); i++) {
+        cache.set(i, null);
+      }
+    }
+    hits.reset();
+    misses.reset();
+  }
+
+  @Override
+  public void close() {
+    threadLocal.remove();
+  }
+
+  private record CacheEntry(String word, String stem) {
+  }
+}
@@ -25,6 +25,7 @@ import opennlp.tools.ml.Probabilistic;
 import opennlp.tools.models.ModelType;
 import opennlp.tools.util.DownloadUtil;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * A thread-safe version of {@link TokenizerME}. Using it is completely transparent.
@@ -102,6 +103,18 @@ public class ThreadSafeTokenizerME implements Tokenizer, Probabilistic, AutoClos
     return getTokenizer().tokenizePos(s);
   }
 
+  @Override
+  public void tokenizePos(String s, SpanBuffer spans) {
+    getTokenizer().tokenizePos(s, spans);
+  }
+
+  /**
+   * @see TokenizerME#tokenizeOffsets(CharSequence)
+   */
+  public int[] tokenizeOffsets(CharSequence s) {
+    return getTokenizer().tokenizeOffsets(s);
+  }
+
   @Override
   public double[] probs() {
     return getTokenizer().probs();
@@ -63,20 +63,46 @@ public class TokenizerCrossValidator {
         new CrossValidationPartitioner<>(samples, nFolds);
 
     while (partitioner.hasNext()) {
+      fmeasure.mergeInto(evaluateFold(partitioner.next()));
+    }
+  }
 
-      CrossValidationPartitioner.TrainingSampleStream<TokenSample> trainingSampleStream =
-          partitioner.next();
-
-      // Maybe throws IOException if temporary file handling fails ...
-      TokenizerModel model = TokenizerME.train(trainingSampleStream, this.factory, params);
+  /**
+   * Starts the evaluation and runs up to {@code threads} folds concurrently.
+   * <p>
+   * The samples are read once into memory. The per-fold results are merged in fold order,
+   * hence the resulting {@link FMeasure} equals the one of {@link #evaluate(ObjectStream, int)}.
+   * The configured {@link TokenizerEvaluationMonitor listeners} are called from several threads
+   * and must be thread-safe.
+   *
+   * @param samples The {@link ObjectStream} of {@link TokenSample samples} to train and test with.
+   * @param nFolds Number of folds. It must be greater than zero.
+   * @param threads The maximum number of folds to run concurrently. It must be greater than zero.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void evaluate(ObjectStream<TokenSample> samples, int nFolds, int threads) throws IOException {
 
-      TokenizerEvaluator evaluator = new TokenizerEvaluator(new TokenizerME(model), listeners);
+    CrossValidationPartitioner<TokenSample> partitioner =
+        new CrossValidationPartitioner<>(samples, nFolds);
 
-      evaluator.evaluate(trainingSampleStream.getTestSampleStream());
-      fmeasure.mergeInto(evaluator.getFMeasure());
+    for (FMeasure foldMeasure : partitioner.evaluateFolds(threads, this::evaluateFold)) {
+      fmeasure.mergeInto(foldMeasure);
     }
   }
 
+  private FMeasure evaluateFold(CrossValidationPartitioner.TrainingSampleStream<TokenSample>
+                                    trainingSampleStream) throws IOException {
+
+    // Maybe throws IOException if temporary file handling fails ...
+    TokenizerModel model = TokenizerME.train(trainingSampleStream, this.factory, params);
+
+    TokenizerEvaluator evaluator = new TokenizerEvaluator(new TokenizerME(model), listeners);
+
+    evaluator.evaluate(trainingSampleStream.getTestSampleStream());
+    return evaluator.getFMeasure();
+  }
+
   public FMeasure getFMeasure() {
     return fmeasure;
   }
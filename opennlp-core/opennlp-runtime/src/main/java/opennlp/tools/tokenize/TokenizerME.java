@@ -18,10 +18,10 @@
 package opennlp.tools.tokenize;
 
 import java.io.IOException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import opennlp.tools.dictionary.Dictionary;
@@ -32,10 +32,14 @@ import opennlp.tools.ml.TrainerFactory;
 import opennlp.tools.ml.model.Event;
 import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.models.ModelType;
+import opennlp.tools.monitoring.Instrumentation;
+import opennlp.tools.tokenize.lang.Factory;
 import opennlp.tools.util.DownloadUtil;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 import opennlp.tools.util.StringList;
+import opennlp.tools.util.StringUtil;
 import opennlp.tools.util.TrainingParameters;
 
 /**
@@ -78,6 +82,10 @@ import opennlp.tools.util.TrainingParameters;
  */
 public class TokenizerME extends AbstractTokenizer implements Probabilistic {
 
+  private static final String METRIC_FEATURE_GENERATION =
+      Instrumentation.metric("tokenizer", Instrumentation.FEATURE_GENERATION);
+  private static final String METRIC_EVAL = Instrumentation.metric("tokenizer", Instrumentation.MODEL_EVAL);
+
   /**
    * Constant indicates a token split.
    */
@@ -88,8 +96,41 @@ public class TokenizerME extends AbstractTokenizer implements Probabilistic {
    */
   public static final String NO_SPLIT = "F";
 
+  /*
+   * Character classes, indexed by char, which replace the whitespace checks and
+   * the default alphanumeric pattern on the tokenization hot path.
+   */
+  private static final byte WHITESPACE = 1;
+  private static final byte LINE_SEPARATOR = 2;
+  private static final byte ALPHANUMERIC = 4;
+
+  private static final byte[] CHAR_CLASSES = new byte[Character.MAX_VALUE + 1];
+
+  static {
+    for (int c = 0; c <= Character.MAX_VALUE; c++) {
+      byte charClass = 0;
+      if (StringUtil.isWhitespace((char) c)) {
+        charClass |= WHITESPACE;
+      }
+      // the characters the WhitespaceTokenizer keeps as new line tokens
+      if (c == '\r' || c == '\n') {
+        charClass |= LINE_SEPARATOR;
+      }
+      if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+        charClass |= ALPHANUMERIC;
+      }
+      CHAR_CLASSES[c] = charClass;
+    }
+  }
+
   private final Pattern alphanumeric;
 
+  /*
+   * Reused matcher for a custom alphanumeric pattern, or null if the default
+   * pattern is in use which is checked via the character class table instead.
+   */
+  private final Matcher alphanumericMatcher;
+
   /*
    * The maximum entropy model to use to evaluate contexts.
    */
@@ -106,12 +147,24 @@ public class TokenizerME extends AbstractTokenizer implements Probabilistic {
   private final boolean useAlphaNumericOptimization;
 
   /*
-   * List of probabilities for each token returned from a call to
-   * <code>tokenize</code> or <code>tokenizePos</code>.
+   * The index of the SPLIT outcome, or -1 if the model never splits.
    */
-  private final List<Double> tokProbs;
+  private final int splitIndex;
 
-  private final List<Span> newTokens;
+  /*
+   * Reused buffer for the outcome probabilities of a single decision.
+   */
+  private final double[] outcomeProbs;
+
+  /*
+   * Start and end offsets, and the probabilities of the tokens found
+   * by the most recent call to tokenizePos or tokenizeOffsets.
+   */
+  private int[] tokOffsets;
+
+  private double[] tokProbs;
+
+  private int tokCount;
 
   /*
    * The {@link Dictionary abbreviation dictionary} if available (may be {@code null}).
@@ -150,9 +203,17 @@ public class TokenizerME extends AbstractTokenizer implements Probabilistic {
     this.cg = factory.getContextGenerator();
     this.alphanumeric = factory.getAlphaNumericPattern();
     this.useAlphaNumericOptimization = factory.isUseAlphaNumericOptimization();
+    this.alphanumericMatcher = isDefaultAlphaNumericPattern(alphanumeric) ? null : alphanumeric.matcher("");
+    this.splitIndex = this.model.getIndex(SPLIT);
+    this.outcomeProbs = new double[this.model.getNumOutcomes()];
+
+    tokOffsets = new int[100];
+    tokProbs = new double[50];
+  }
 
-    newTokens = new ArrayList<>();
-    tokProbs = new ArrayList<>(50);
+  private static boolean isDefaultAlphaNumericPattern(Pattern pattern) {
+    return Factory.DEFAULT_ALPHANUMERIC.pattern().equals(pattern.pattern())
+        && Factory.DEFAULT_ALPHANUMERIC.flags() == pattern.flags();
   }
 
   /**
@@ -166,7 +227,7 @@ public class TokenizerME extends AbstractTokenizer implements Probabilistic {
    */
   @Override
   public double[] probs() {
-    return ArrayMath.toDoubleArray(tokProbs);
+    return Arrays.copyOf(tokProbs, tokCount);
   }
 
   /**
@@ -190,55 +251,148 @@ public class TokenizerME extends AbstractTokenizer implements Probabilistic {
    */
   @Override
   public Span[] tokenizePos(String d) {
-    WhitespaceTokenizer whitespaceTokenizer = WhitespaceTokenizer.INSTANCE;
-    whitespaceTokenizer.setKeepNewLines(keepNewLines);
-    Span[] tokens = whitespaceTokenizer.tokenizePos(d);
-    newTokens.clear();
-    tokProbs.clear();
-    for (Span s : tokens) {
-      String tok = d.substring(s.getStart(), s.getEnd());
-      // Can't tokenize single characters
-      if (tok.length() < 2) {
-        newTokens.add(s);
-        tokProbs.add(1d);
-      } else if (useAlphaNumericOptimization() && alphanumeric.matcher(tok).matches()) {
-        newTokens.add(s);
-        tokProbs.add(1d);
-      } else {
-        int start = s.getStart();
-        int end = s.getEnd();
-        final int origStart = s.getStart();
-        double tokenProb = 1.0;
-        for (int j = origStart + 1; j < end; j++) {
-          double[] probs =
-              model.eval(cg.getContext(tok, j - origStart));
-          String best = model.getBestOutcome(probs);
-          tokenProb *= probs[model.getIndex(best)];
-          if (best.equals(TokenizerME.SPLIT)) {
-            if (isAcceptableAbbreviation(tok)) {
-              newTokens.add(new Span(start, end));
-              tokProbs.add(tokenProb);
-              long numberOfDots = tok.codePoints().filter(ch -> ch == '.').count();
-              j = j + (int) numberOfDots; // To compensate for abbreviation dot(s)
-              start = j + 1;
-            } else {
-              newTokens.add(new Span(start, j));
-              tokProbs.add(tokenProb);
-              start = j;
-            }
-            tokenProb = 1.0;
-          }
+    findTokens(d);
+
+    Span[] spans = new Span[tokCount];
+    for (int i = 0; i < tokCount; i++) {
+      spans[i] = new Span(tokOffsets[2 * i], tokOffsets[2 * i + 1]);
+    }
+    return spans;
+  }
+
+  /**
+   * Tokenizes the string into a reusable {@link SpanBuffer}, without creating a
+   * {@link Span} per token. In contrast to {@link #tokenizePos(String)}, the spans carry
+   * the token probabilities, as returned by {@link #probs()}.
+   *
+   * @param d The string to be tokenized.
+   * @param spans The {@link SpanBuffer} to receive the tokens, it is cleared first.
+   */
+  @Override
+  public void tokenizePos(String d, SpanBuffer spans) {
+    findTokens(d);
+
+    spans.clear();
+    for (int i = 0; i < tokCount; i++) {
+      spans.add(tokOffsets[2 * i], tokOffsets[2 * i + 1], tokProbs[i]);
+    }
+  }
+
+  /**
+   * Tokenizes the text and returns the token offsets only, without
+   * creating a {@link Span} per token. The text is not copied, except for
+   * the tokens which need to be classified by the model.
+   *
+   * @param d The text to be tokenized.
+   *
+   * @return An array of length {@code 2 * n} for {@code n} tokens, the start offset
+   *         of the i-th token is at index {@code 2 * i} and its end offset at {@code 2 * i + 1}.
+   */
+  public int[] tokenizeOffsets(CharSequence d) {
+    findTokens(d);
+    return Arrays.copyOf(tokOffsets, 2 * tokCount);
+  }
+
+  /*
+   * Splits the text at whitespace, like the WhitespaceTokenizer does, and classifies
+   * the inner characters of each whitespace separated token.
+   */
+  private void findTokens(CharSequence d) {
+    tokCount = 0;
+
+    int tokStart = -1;
+    final int end = d.length();
+    for (int i = 0; i < end; i++) {
+      final byte charClass = CHAR_CLASSES[d.charAt(i)];
+      if ((charClass & WHITESPACE) != 0) {
+        if (tokStart >= 0) {
+          splitToken(d, tokStart, i);
+          tokStart = -1;
         }
-        if (start < end) {
-          newTokens.add(new Span(start, end));
-          tokProbs.add(tokenProb);
+        if (keepNewLines && (charClass & LINE_SEPARATOR) != 0) {
+          addToken(i, i + 1, 1d);
         }
+      } else if (tokStart < 0) {
+        tokStart = i;
       }
     }
 
-    Span[] spans = new Span[newTokens.size()];
-    newTokens.toArray(spans);
-    return spans;
+    if (tokStart >= 0) {
+      splitToken(d, tokStart, end);
+    }
+  }
+
+  private void splitToken(CharSequence d, final int origStart, final int end) {
+    // Can't tokenize single characters
+    if (end - origStart < 2 || useAlphaNumericOptimization() && isAlphaNumeric(d, origStart, end)) {
+      addToken(origStart, end, 1d);
+      return;
+    }
+
+    final String tok = d.subSequence(origStart, end).toString();
+    int start = origStart;
+    double tokenProb = 1.0;
+    for (int j = origStart + 1; j < end; j++) {
+      final long featureStart = Instrumentation.start();
+      final String[] context = cg.getContext(tok, j - origStart);
+      Instrumentation.recordTime(METRIC_FEATURE_GENERATION, featureStart);
+
+      final long evalStart = Instrumentation.start();
+      Arrays.fill(outcomeProbs, 0);
+      double[] probs = model.eval(context, outcomeProbs);
+      Instrumentation.recordTime(METRIC_EVAL, evalStart);
+      final int best = ArrayMath.argmax(probs);
+      tokenProb *= probs[best];
+      if (best == splitIndex) {
+        if (isAcceptableAbbreviation(tok)) {
+          addToken(start, end, tokenProb);
+          j = j + countDots(tok); // To compensate for abbreviation dot(s)
+          start = j + 1;
+        } else {
+          addToken(start, j, tokenProb);
+          start = j;
+        }
+        tokenProb = 1.0;
+      }
+    }
+    if (start < end) {
+      addToken(start, end, tokenProb);
+    }
+  }
+
+  private boolean isAlphaNumeric(CharSequence d, int start, int end) {
+    if (alphanumericMatcher != null) {
+      return alphanumericMatcher.reset(d).region(start, end).matches();
+    }
+    for (int i = start; i < end; i++) {
+      if ((CHAR_CLASSES[d.charAt(i)] & ALPHANUMERIC) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int countDots(CharSequence tok) {
+    int dots = 0;
+    for (int i = 0; i < tok.length(); i++) {
+      if (tok.charAt(i) == '.') {
+        dots++;
+      }
+    }
+    return dots;
+  }
+
+  private void addToken(int start, int end, double prob) {
+    if (tokCount == tokProbs.length) {
+      tokProbs = Arrays.copyOf(tokProbs, 2 * tokCount);
+    }
+    if (2 * tokCount + 1 >= tokOffsets.length) {
+      tokOffsets = Arrays.copyOf(tokOffsets, 4 * tokCount + 2);
+    }
+    tokOffsets[2 * tokCount] = start;
+    tokOffsets[2 * tokCount + 1] = end;
+    tokProbs[tokCount] = prob;
+    tokCount++;
   }
 
   /**
@@ -0,0 +1,326 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import opennlp.tools.commons.Internal;
+
+/**
+ * Helpers for compact, immutable tables which pack their strings into a single {@code char}
+ * pool: entry {@code i} is {@code chars[offsets[i], offsets[i + 1])}. The entries are indexed
+ * by an open addressing hash table of {@code int} slots, a slot holds {@code entry + 1} or
+ * {@code 0} if it is free. An entry can additionally be qualified by an {@code int} key,
+ * e.g. a tag id, then two entries are only equal if their characters and keys are equal.
+ * <p>
+ * The tables share the bulk {@code int} and {@code char} array IO of their binary formats.
+ * <p>
+ * <b>Note:</b> The {@link #hash(CharSequence)} values must not change, files which store
+ * the hash slots, e.g. of the {@code MappedWordVectorTable}, would become unreadable.
+ */
+@Internal
+public final class CharPoolIndex {
+
+  private CharPoolIndex() {
+    // utility class, not intended to be instantiated
+  }
+
+  /**
+   * Spreads the bits of a hash code, so that its low bits can select a slot.
+   *
+   * @param h A hash code.
+   * @return The mixed hash code.
+   */
+  public static int mix(int h) {
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * @param text The text to hash.
+   * @return {@link String#hashCode()} of {@code text} with additional bit mixing.
+   */
+  public static int hash(CharSequence text) {
+    return mix(polynomial(text, 0, text.length()));
+  }
+
+  /**
+   * @param text The text which contains the region to hash.
+   * @param start The start index of the region, inclusive.
+   * @param end The end index of the region, exclusive.
+   * @return The same value as {@link #hash(CharSequence)} of the region.
+   */
+  public static int hash(CharSequence text, int start, int end) {
+    return mix(polynomial(text, start, end));
+  }
+
+  /**
+   * @param chars The characters which contain the region to hash.
+   * @param start The start index of the region, inclusive.
+   * @param end The end index of the region, exclusive.
+   * @return The same value as {@link #hash(CharSequence)} of the region.
+   */
+  public static int hash(char[] chars, int start, int end) {
+    return mix(polynomial(chars, start, end));
+  }
+
+  private static int hash(CharSequence text, int key) {
+    return mix(31 * polynomial(text, 0, text.length()) + key);
+  }
+
+  private static int hash(char[] chars, int start, int end, int key) {
+    return mix(31 * polynomial(chars, start, end) + key);
+  }
+
+  private static int polynomial(CharSequence text, int start, int end) {
+    int h = 0;
+    for (int i = start; i < end; i++) {
+      h = 31 * h + text.charAt(i);
+    }
+    return h;
+  }
+
+  private static int polynomial(char[] chars, int start, int end) {
+    int h = 0;
+    for (int i = start; i < end; i++) {
+      h = 31 * h + chars[i];
+    }
+    return h;
+  }
+
+  /**
+   * @param entries The number of entries to index.
+   * @return New free slots for {@code entries}, at most half of them will be used.
+   */
+  public static int[] createSlots(int entries) {
+    return new int[Math.max(2, Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1)];
+  }
+
+  /**
+   * Inserts an entry into the slots.
+   *
+   * @param slots The slots, see {@link #createSlots(int)}.
+   * @param chars The {@code char} pool.
+   * @param offsets The offsets of the entries in {@code chars}.
+   * @param entry The entry to insert.
+   * @return {@code -1} if the entry was inserted, or the index of an equal entry which
+   *         is already present.
+   */
+  public static int insert(int[] slots, char[] chars, int[] offsets, int entry) {
+    return insert(slots, chars, offsets, null, entry);
+  }
+
+  /**
+   * Inserts an entry qualified by a key into the slots.
+   *
+   * @param slots The slots, see {@link #createSlots(int)}.
+   * @param chars The {@code char} pool.
+   * @param offsets The offsets of the entries in {@code chars}.
+   * @param keys The keys of the entries, or {@code null} if the entries have no keys.
+   * @param entry The entry to insert.
+   * @return {@code -1} if the entry was inserted, or the index of an equal entry with
+   *         the same key which is already present.
+   */
+  public static int insert(int[] slots, char[] chars, int[] offsets, int[] keys, int entry) {
+    final int start = offsets[entry];
+    final int end = offsets[entry + 1];
+    final int mask = slots.length - 1;
+    int slot = (keys == null ? hash(chars, start, end) : hash(chars, start, end, keys[entry])) & mask;
+    for (; ; slot = (slot + 1) & mask) {
+      final int existing = slots[slot] - 1;
+      if (existing < 0) {
+        slots[slot] = entry + 1;
+        return -1;
+      }
+      if ((keys == null || keys[existing] == keys[entry])
+          && Arrays.equals(chars, start, end, chars, offsets[existing], offsets[existing + 1])) {
+        return existing;
+      }
+    }
+  }
+
+  /**
+   * @param slots The slots, see {@link #createSlots(int)}.
+   * @param chars The {@code char} pool.
+   * @param offsets The offsets of the entries in {@code chars}.
+   * @param text The text to look up.
+   * @return The index of the entry equal to {@code text}, or {@code -1} if there is none.
+   */
+  public static int indexOf(int[] slots, char[] chars, int[] offsets, CharSequence text) {
+    final int mask = slots.length - 1;
+    for (int slot = hash(text) & mask; ; slot = (slot + 1) & mask) {
+      final int entry = slots[slot] - 1;
+      if (entry < 0) {
+        return -1;
+      }
+      if (matches(chars, offsets, entry, text)) {
+        return entry;
+      }
+    }
+  }
+
+  /**
+   * @param slots The slots, see {@link #createSlots(int)}.
+   * @param chars The {@code char} pool.
+   * @param offsets The offsets of the entries in {@code chars}.
+   * @param keys The keys of the entries.
+   * @param text The text to look up.
+   * @param key The key to look up.
+   * @return The index of the entry equal to {@code text} with the given {@code key},
+   *         or {@code -1} if there is none.
+   */
+  public static int indexOf(int[] slots, char[] chars, int[] offsets, int[] keys,
+                            CharSequence text, int key) {
+    final int mask = slots.length - 1;
+    for (int slot = hash(text, key) & mask; ; slot = (slot + 1) & mask) {
+      final int entry = slots[slot] - 1;
+      if (entry < 0) {
+        return -1;
+      }
+      if (keys[entry] == key && matches(chars, offsets, entry, text)) {
+        return entry;
+      }
+    }
+  }
+
+  /**
+   * @param chars The {@code char} pool.
+   * @param offsets The offsets of the entries in {@code chars}.
+   * @param entry The index of the entry.
+   * @param text The text to compare with.
+   * @return {@code true} if the characters of the entry are equal to {@code text}.
+   */
+  public static boolean matches(char[] chars, int[] offsets, int entry, CharSequence text) {
+    final int start = offsets[entry];
+    final int length = offsets[entry + 1] - start;
+    if (length != text.length()) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (chars[start + i] != text.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @param length A length read from a binary format.
+   * @return The {@code length}.
+   * @throws InvalidFormatException Thrown if {@code length} is negative.
+   */
+  public static int checkLength(int length) throws InvalidFormatException {
+    if (length < 0) {
+      throw new InvalidFormatException("Invalid length: " + length);
+    }
+    return length;
+  }
+
+  /**
+   * Reads a length prefixed array of strings, as written by
+   * {@link #writeStrings(DataOutputStream, String[])}.
+   *
+   * @param in The {@link DataInputStream} to read from.
+   * @return The strings.
+   * @throws IOException Thrown if IO errors occurred or the length is invalid.
+   */
+  public static String[] readStrings(DataInputStream in) throws IOException {
+    final String[] values = new String[checkLength(in.readInt())];
+    for (int i = 0; i < values.length; i++) {
+      values[i] = in.readUTF();
+    }
+    return values;
+  }
+
+  /**
+   * Reads {@code length} {@code int} values in bulk.
+   *
+   * @param in The {@link DataInputStream} to read from.
+   * @param length The number of values.
+   * @return The values.
+   * @throws IOException Thrown if IO errors occurred or {@code length} is invalid.
+   */
+  public static int[] readInts(DataInputStream in, int length) throws IOException {
+    final byte[] bytes = new byte[Math.multiplyExact(checkLength(length), Integer.BYTES)];
+    in.readFully(bytes);
+    final int[] values = new int[length];
+    ByteBuffer.wrap(bytes).asIntBuffer().get(values);
+    return values;
+  }
+
+  /**
+   * Reads {@code length} {@code char} values in bulk.
+   *
+   * @param in The {@link DataInputStream} to read from.
+   * @param length The number of values.
+   * @return The values.
+   * @throws IOException Thrown if IO errors occurred or {@code length} is invalid.
+   */
+  public static char[] readChars(DataInputStream in, int length) throws IOException {
+    final byte[] bytes = new byte[Math.multiplyExact(checkLength(length), Character.BYTES)];
+    in.readFully(bytes);
+    final char[] values = new char[length];
+    ByteBuffer.wrap(bytes).asCharBuffer().get(values);
+    return values;
+  }
+
+  /**
+   * Writes the length and the given strings.
+   *
+   * @param out The {@link DataOutputStream} to write to.
+   * @param values The strings to write.
+   * @throws IOException Thrown if writing fails.
+   */
+  public static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+    out.writeInt(values.length);
+    for (String value : values) {
+      out.writeUTF(value);
+    }
+  }
+
+  /**
+   * Writes the given {@code int} values in bulk, without their length.
+   *
+   * @param out The {@link DataOutputStream} to write to.
+   * @param values The values to write.
+   * @throws IOException Thrown if writing fails.
+   */
+  public static void writeInts(DataOutputStream out, int[] values) throws IOException {
+    final ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES);
+    bytes.asIntBuffer().put(values);
+    out.write(bytes.array());
+  }
+
+  /**
+   * Writes the given {@code char} values in bulk, without their length.
+   *
+   * @param out The {@link DataOutputStream} to write to.
+   * @param values The values to write.
+   * @throws IOException Thrown if writing fails.
+   */
+  public static void writeChars(DataOutputStream out, char[] values) throws IOException {
+    final ByteBuffer bytes = ByteBuffer.allocate(values.length * Character.BYTES);
+    bytes.asCharBuffer().put(values);
+    out.write(bytes.array());
+  }
+}
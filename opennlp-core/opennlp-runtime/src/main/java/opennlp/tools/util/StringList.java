@@ -23,6 +23,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import opennlp.tools.util.jvm.StringInterner;
 import opennlp.tools.util.jvm.StringInterners;
 
 /**
@@ -76,6 +77,24 @@ public class StringList implements Iterable<String> {
    * @throws IllegalArgumentException Thrown if parameters were invalid.
    */
   public StringList(boolean isCaseSensitive, String... tokens) {
+    this(StringInterners.getInterner(), isCaseSensitive, tokens);
+  }
+
+  /**
+   * Initializes a {@link StringList} instance.
+   * <p>
+   * Note: <br>
+   * Token Strings will be interned via the given {@link StringInterner}.
+   *
+   * @param interner The {@link StringInterner} to intern the tokens with. Must not be {@code null}.
+   * @param isCaseSensitive Whether it will operate case-sensitive, or not.
+   * @param tokens The string parts of the new {@link StringList}.
+   *               Must not be an empty tokens array or {@code null}.
+   *
+   * @throws IllegalArgumentException Thrown if parameters were invalid.
+   */
+  public StringList(StringInterner interner, boolean isCaseSensitive, String... tokens) {
+    Objects.requireNonNull(interner, "interner must not be null");
     Objects.requireNonNull(tokens, "tokens must not be null");
 
     if (tokens.length == 0) {
@@ -84,7 +103,7 @@ public class StringList implements Iterable<String> {
 
     this.tokens = new String[tokens.length];
     for (int i = 0; i < tokens.length; i++) {
-      this.tokens[i] = StringInterners.intern(tokens[i]);
+      this.tokens[i] = tokens[i] == null ? null : interner.intern(tokens[i]);
     }
 
     this.caseSensitive = isCaseSensitive;
@@ -19,8 +19,15 @@
 package opennlp.tools.util.eval;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import opennlp.tools.util.CollectionObjectStream;
 import opennlp.tools.util.ObjectStream;
@@ -38,9 +45,35 @@ import opennlp.tools.util.ObjectStream;
  * one partition and is used first for training and afterwards for testing.
  * The {@link TestSampleStream} can be obtained via the
  * {@link TrainingSampleStream#getTestSampleStream()} method.
+ * <p>
+ * Alternatively, all partitions can be processed concurrently via
+ * {@link #evaluateFolds(int, FoldEvaluator)}. The samples are then read once into memory
+ * and every fold works on its own view of them.
  */
 public class CrossValidationPartitioner<E> {
 
+  /**
+   * Trains and evaluates a single fold of a cross validation run.
+   *
+   * @param <E> The generic type of samples.
+   * @param <R> The type of the per-fold result.
+   *
+   * @see CrossValidationPartitioner#evaluateFolds(int, FoldEvaluator)
+   */
+  @FunctionalInterface
+  public interface FoldEvaluator<E, R> {
+
+    /**
+     * Trains on the given partition and evaluates on its
+     * {@link TrainingSampleStream#getTestSampleStream() test samples}.
+     *
+     * @param trainingSampleStream The {@link TrainingSampleStream} of the fold.
+     * @return The result of the fold, e.g. an {@link FMeasure}.
+     * @throws IOException Thrown if IO errors occurred.
+     */
+    R evaluate(TrainingSampleStream<E> trainingSampleStream) throws IOException;
+  }
+
   /**
    * The {@link TestSampleStream} iterates over all test elements.
    *
@@ -283,6 +316,84 @@ public class CrossValidationPartitioner<E> {
     }
   }
 
+  /**
+   * Trains and evaluates all remaining partitions concurrently.
+   * <p>
+   * The underlying samples are read once into memory, afterwards every fold is handed a
+   * {@link TrainingSampleStream} of its own, so the folds do not share any stream state.
+   * At most {@code threads} folds are run at the same time. The results are returned in
+   * fold order, independent of the order in which the folds completed, so merging them
+   * yields the same scores as a sequential run.
+   * <p>
+   * Note:
+   * The {@link FoldEvaluator} is called from several threads at once, it and everything
+   * it shares between folds, such as evaluation monitors, must be thread-safe.
+   * After this method returned, {@link #hasNext()} returns {@code false}.
+   *
+   * @param threads The maximum number of folds to run concurrently. Must be greater than {@code 0}.
+   * @param evaluator The {@link FoldEvaluator} to apply to every fold.
+   * @param <R> The type of the per-fold result.
+   * @return The per-fold results, in fold order.
+   * @throws IOException Thrown if IO errors occurred while reading the samples or in one of the folds.
+   * @throws IllegalArgumentException Thrown if {@code threads} is not greater than {@code 0}.
+   */
+  public <R> List<R> evaluateFolds(int threads, FoldEvaluator<E, R> evaluator) throws IOException {
+    if (threads < 1) {
+      throw new IllegalArgumentException("threads must be greater than 0, but was " + threads);
+    }
+
+    if (lastTrainingSampleStream != null) {
+      lastTrainingSampleStream.poison();
+      lastTrainingSampleStream = null;
+    }
+
+    sampleStream.reset();
+
+    List<E> samples = new ArrayList<>();
+    E sample;
+    while ((sample = sampleStream.read()) != null) {
+      samples.add(sample);
+    }
+
+    int firstFold = testIndex;
+    testIndex = numberOfPartitions;
+
+    List<TrainingSampleStream<E>> folds = new ArrayList<>(numberOfPartitions - firstFold);
+    for (int fold = firstFold; fold < numberOfPartitions; fold++) {
+      folds.add(new TrainingSampleStream<>(new CollectionObjectStream<>(samples),
+          numberOfPartitions, fold));
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, Math.max(folds.size(), 1)));
+    try {
+      List<Future<R>> futures = new ArrayList<>(folds.size());
+      for (TrainingSampleStream<E> fold : folds) {
+        futures.add(executor.submit(() -> evaluator.evaluate(fold)));
+      }
+
+      List<R> results = new ArrayList<>(futures.size());
+      for (Future<R> future : futures) {
+        results.add(future.get());
+      }
+      return results;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Cross validation was interrupted");
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException ioe) {
+        throw ioe;
+      } else if (cause instanceof RuntimeException re) {
+        throw re;
+      } else if (cause instanceof Error error) {
+        throw error;
+      }
+      throw new IOException(cause);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Override
   public String toString() {
     return "At partition" + (testIndex + 1) +
@@ -17,6 +17,7 @@
 
 package opennlp.tools.util.featuregen;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -26,12 +27,14 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import opennlp.tools.util.model.ArtifactSerializer;
 import opennlp.tools.util.model.SerializableArtifact;
+import opennlp.tools.util.model.UncloseableInputStream;
 
 /**
  * Class to load a Brown cluster document in the format: {@code word\tword_class\tprob}.
@@ -44,30 +47,44 @@ import opennlp.tools.util.model.SerializableArtifact;
  * <p>
  * The file containing the clustering lexicon has to be passed as the
  * value of the dict attribute of each {@link BrownCluster} feature generator.
+ * <p>
+ * Tokens are mapped to int cluster ids by a compact hash index, and the cluster path
+ * prefixes used as features (see {@link BrownTokenClasses}) are computed once per cluster.
+ * Besides the text format, a cluster lexicon can be written in a binary format, see
+ * {@link #serializeBinary(OutputStream)}, which loads without parsing. The
+ * {@link BrownClusterSerializer} reads both formats.
  */
 public class BrownCluster implements SerializableArtifact {
 
-  private static final Pattern tabPattern = Pattern.compile("\t");
-
   public static class BrownClusterSerializer implements ArtifactSerializer<BrownCluster> {
 
     @Override
     public BrownCluster create(InputStream in) throws IOException {
-      return new BrownCluster(in);
+      return new BrownCluster(new UncloseableInputStream(in));
     }
 
     @Override
     public void serialize(BrownCluster artifact, OutputStream out)
         throws IOException {
-      artifact.serialize(out);
+      if (artifact.isBinaryFormat()) {
+        artifact.serializeBinary(out);
+      }
+      else {
+        artifact.serialize(out);
+      }
     }
   }
 
-  private final Map<String, String> tokenToClusterMap = new HashMap<>();
+  private final TokenClusterTable table;
+  private final List<List<String>> wordClasses;
+  private boolean binaryFormat;
 
   /**
    * Instatiates a {@link BrownCluster} and its related token to cluster map
    * via an {@link InputStream}.
+   * <p>
+   * The stream may either be in the text format or in the binary format, which
+   * is detected by its leading magic number.
    * 
    * @implNote
    * Only tokens with frequency bigger than {@code 5} will be added.
@@ -77,23 +94,68 @@ public class BrownCluster implements SerializableArtifact {
    */
   public BrownCluster(InputStream in) throws IOException {
 
-    try (BufferedReader breader = new BufferedReader(
-            new InputStreamReader(in, StandardCharsets.UTF_8))) {
-
-      String line;
-      while ((line = breader.readLine()) != null) {
-        String[] lineArray = tabPattern.split(line);
-        if (lineArray.length == 3) {
-          int freq = Integer.parseInt(lineArray[2]);
-          if (freq > 5 ) {
-            tokenToClusterMap.put(lineArray[1], lineArray[0]);
-          }
+    try (InputStream clusterIn = new BufferedInputStream(in)) {
+      clusterIn.mark(Integer.BYTES);
+      final byte[] header = clusterIn.readNBytes(Integer.BYTES);
+      clusterIn.reset();
+
+      if (TokenClusterTable.isTokenClusterTable(header)) {
+        table = TokenClusterTable.create(clusterIn);
+        binaryFormat = true;
+      }
+      else {
+        table = readText(clusterIn);
+      }
+    }
+
+    wordClasses = createWordClasses(table);
+  }
+
+  private static TokenClusterTable readText(InputStream in) throws IOException {
+    final TokenClusterTable.Builder builder = new TokenClusterTable.Builder();
+    final int[] fields = new int[6];
+
+    BufferedReader breader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+    String line;
+    while ((line = breader.readLine()) != null) {
+      final int length = TokenClusterTable.split(line, '\t', fields);
+      if (length == 3) {
+        int freq = Integer.parseInt(line, fields[4], fields[5], 10);
+        if (freq > 5 ) {
+          builder.add(line, fields[2], fields[3], line.substring(fields[0], fields[1]));
         }
-        else if (lineArray.length == 2) {
-          tokenToClusterMap.put(lineArray[0], lineArray[1]);
+      }
+      else if (length == 2) {
+        builder.add(line, fields[0], fields[1], line.substring(fields[2], fields[3]));
+      }
+    }
+
+    return builder.build();
+  }
+
+  /*
+   * Computes the cluster path prefixes of every cluster, equal prefixes of
+   * different clusters share one string instance.
+   */
+  private static List<List<String>> createWordClasses(TokenClusterTable table) {
+    final Map<String, String> prefixes = new HashMap<>();
+    final List<List<String>> wordClasses = new ArrayList<>(table.getClusterCount());
+    final int[] pathLengths = BrownTokenClasses.pathLengths;
+
+    for (int id = 0; id < table.getClusterCount(); id++) {
+      final String brownClass = table.getCluster(id);
+      final List<String> classes = new ArrayList<>(pathLengths.length);
+      for (int i = 0; i < pathLengths.length; i++) {
+        if (i == 0 || pathLengths[i - 1] < brownClass.length()) {
+          final String prefix = brownClass.substring(0,
+              StrictMath.min(brownClass.length(), pathLengths[i]));
+          classes.add(prefixes.computeIfAbsent(prefix, p -> p));
         }
       }
+      wordClasses.add(List.copyOf(classes));
     }
+    return List.copyOf(wordClasses);
   }
 
   /**
@@ -103,16 +165,97 @@ public class BrownCluster implements SerializableArtifact {
    * @return the brown class if such token is in the brown cluster map.
    */
   public String lookupToken(String string) {
-    return tokenToClusterMap.get(string);
+    final int id = table.lookup(string);
+    return id < 0 ? null : table.getCluster(id);
+  }
+
+  /**
+   * Looks up the id of the cluster of a token, without allocating objects.
+   *
+   * @param string the token to look-up
+   * @return the id of the brown class of the token, or {@code -1} if such token
+   *         is not in the brown cluster map.
+   */
+  public int lookupClusterId(String string) {
+    return table.lookup(string);
   }
 
+  /**
+   * @param id a cluster id, see {@link #lookupClusterId(String)}
+   * @return the brown class with the given id.
+   */
+  public String getCluster(int id) {
+    return table.getCluster(id);
+  }
+
+  /**
+   * @return the number of distinct brown classes, cluster ids are between
+   *         {@code 0} and this number.
+   */
+  public int getClusterCount() {
+    return table.getClusterCount();
+  }
+
+  /**
+   * @param id a cluster id, see {@link #lookupClusterId(String)}
+   * @return the immutable, precomputed cluster path prefixes of the brown class
+   *         with the given id, see {@link BrownTokenClasses}.
+   */
+  public List<String> getWordClasses(int id) {
+    return wordClasses.get(id);
+  }
+
+  /**
+   * @return the number of tokens in the brown cluster map.
+   */
+  public int size() {
+    return table.size();
+  }
+
+  /**
+   * Writes the token to cluster map in the text format.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out the {@link OutputStream} to write to.
+   * @throws IOException Thrown if IO errors occurred.
+   */
   public void serialize(OutputStream out) throws IOException {
-    try (Writer writer = new BufferedWriter(new OutputStreamWriter(out))) {
-      for (Map.Entry<String, String> entry : tokenToClusterMap.entrySet()) {
-        writer.write(entry.getKey() + "\t" + entry.getValue() + "\n");
-      }
-      writer.flush();
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    for (int i = 0; i < table.size(); i++) {
+      writer.write(table.getToken(i) + "\t" + table.getCluster(table.getTokenCluster(i)) + "\n");
     }
+    writer.flush();
+  }
+
+  /**
+   * Writes the token to cluster map in the binary format.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out the {@link OutputStream} to write to.
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void serializeBinary(OutputStream out) throws IOException {
+    table.serialize(out);
+  }
+
+  /**
+   * @return {@code true} if this {@link BrownCluster} is written in the binary format
+   *         when it is part of a model package, {@code false} for the text format.
+   */
+  public boolean isBinaryFormat() {
+    return binaryFormat;
+  }
+
+  /**
+   * Selects the format which is used when this {@link BrownCluster} is written as part
+   * of a model package. Clusters loaded from the binary format use it by default.
+   *
+   * @param binaryFormat {@code true} for the binary format, {@code false} for the text format.
+   */
+  public void setBinaryFormat(boolean binaryFormat) {
+    this.binaryFormat = binaryFormat;
   }
 
   @Override
@@ -17,7 +17,6 @@
 
 package opennlp.tools.util.featuregen;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -37,22 +36,15 @@ public class BrownTokenClasses {
    *
    * @param token The token to be looked up in the brown clustering map
    * @param brownLexicon The {@link BrownCluster} clustering map
-   * @return A list of the paths for a token.
+   * @return An immutable list of the paths for a token.
    */
   public static List<String> getWordClasses(String token, BrownCluster brownLexicon) {
-    if (brownLexicon.lookupToken(token) == null) {
+    final int id = brownLexicon.lookupClusterId(token);
+    if (id < 0) {
       return Collections.emptyList();
     } else {
-      String brownClass = brownLexicon.lookupToken(token);
-      List<String> pathLengthsList = new ArrayList<>();
-      pathLengthsList.add(brownClass.substring(0, StrictMath.min(brownClass.length(), pathLengths[0])));
-      for (int i = 1; i < pathLengths.length; i++) {
-        if (pathLengths[i - 1] < brownClass.length()) {
-          pathLengthsList.add(brownClass.substring(0,
-              StrictMath.min(brownClass.length(), pathLengths[i])));
-        }
-      }
-      return pathLengthsList;
+      // the paths are computed once per brown class when the cluster is loaded
+      return brownLexicon.getWordClasses(id);
     }
   }
 
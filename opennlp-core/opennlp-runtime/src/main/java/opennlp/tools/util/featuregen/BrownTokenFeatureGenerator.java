@@ -17,6 +17,7 @@
 
 package opennlp.tools.util.featuregen;
 
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -31,6 +32,9 @@ public class BrownTokenFeatureGenerator implements AdaptiveFeatureGenerator {
 
   private final BrownCluster brownLexicon;
 
+  // the features of every brown class, indexed by cluster id
+  private final String[][] clusterFeatures;
+
   /**
    * Instantiates a {@link BrownTokenFeatureGenerator} via a specified
    * {@link BrownCluster}.
@@ -39,16 +43,25 @@ public class BrownTokenFeatureGenerator implements AdaptiveFeatureGenerator {
    */
   public BrownTokenFeatureGenerator(BrownCluster dict) {
     this.brownLexicon = dict;
+
+    clusterFeatures = new String[dict.getClusterCount()][];
+    for (int id = 0; id < clusterFeatures.length; id++) {
+      List<String> wordClasses = dict.getWordClasses(id);
+      clusterFeatures[id] = new String[wordClasses.size()];
+      for (int i = 0; i < wordClasses.size(); i++) {
+        clusterFeatures[id][i] = PREFIX + wordClasses.get(i);
+      }
+    }
   }
 
   @Override
   public void createFeatures(List<String> features, String[] tokens, int index,
       String[] previousOutcomes) {
 
-    List<String> wordClasses = BrownTokenClasses.getWordClasses(tokens[index], brownLexicon);
+    int id = brownLexicon.lookupClusterId(tokens[index]);
 
-    for (String wordClass : wordClasses) {
-      features.add(PREFIX + wordClass);
+    if (id >= 0) {
+      Collections.addAll(features, clusterFeatures[id]);
     }
   }
 
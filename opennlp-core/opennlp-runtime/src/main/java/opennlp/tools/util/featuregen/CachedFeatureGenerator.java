@@ -21,6 +21,7 @@ package opennlp.tools.util.featuregen;
 import java.util.ArrayList;
 import java.util.List;
 
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.util.Cache;
 
 /**
@@ -30,6 +31,11 @@ import opennlp.tools.util.Cache;
  */
 public class CachedFeatureGenerator implements AdaptiveFeatureGenerator {
 
+  private static final String METRIC_CACHE_HIT =
+      Instrumentation.metric("featuregen", Instrumentation.CACHE_HIT);
+  private static final String METRIC_CACHE_MISS =
+      Instrumentation.metric("featuregen", Instrumentation.CACHE_MISS);
+
   private final AdaptiveFeatureGenerator generator;
 
   private String[] prevTokens;
@@ -61,6 +67,7 @@ public class CachedFeatureGenerator implements AdaptiveFeatureGenerator {
 
       if (cacheFeatures != null) {
         numberOfCacheHits++;
+        Instrumentation.increment(METRIC_CACHE_HIT);
         features.addAll(cacheFeatures);
         return;
       }
@@ -73,6 +80,7 @@ public class CachedFeatureGenerator implements AdaptiveFeatureGenerator {
     cacheFeatures = new ArrayList<>();
 
     numberOfCacheMisses++;
+    Instrumentation.increment(METRIC_CACHE_MISS);
 
     generator.createFeatures(cacheFeatures, tokens, index, previousOutcomes);
 
@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.featuregen;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import opennlp.tools.util.CharPoolIndex;
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * A compact, immutable mapping of tokens to cluster ids, shared by {@link BrownCluster}
+ * and {@link WordClusterDictionary}.
+ * <p>
+ * All tokens are packed into a single {@code char} pool which is indexed by an open
+ * addressing hash table, a token costs its characters plus three {@code int} values.
+ * Every distinct cluster is stored once and identified by its id, lookups do not
+ * allocate objects.
+ * <p>
+ * The table has a binary format, see {@link #serialize(OutputStream)} and
+ * {@link #create(InputStream)}, which loads without parsing.
+ */
+final class TokenClusterTable {
+
+  private static final int MAGIC = 0x4F4E5743;
+  private static final int VERSION = 1;
+
+  private final String[] clusters;
+  private final char[] chars;
+  private final int[] offsets;
+  private final int[] tokenClusters;
+  private final int[] slots;
+
+  private TokenClusterTable(String[] clusters, char[] chars, int[] offsets, int[] tokenClusters,
+                            int[] slots) {
+    this.clusters = clusters;
+    this.chars = chars;
+    this.offsets = offsets;
+    this.tokenClusters = tokenClusters;
+    this.slots = slots;
+  }
+
+  /**
+   * @param header The first bytes of a stream.
+   * @return {@code true} if {@code header} starts with the magic number of the binary format.
+   */
+  static boolean isTokenClusterTable(byte[] header) {
+    return header.length >= Integer.BYTES && ByteBuffer.wrap(header).getInt() == MAGIC;
+  }
+
+  /**
+   * Reads a {@link TokenClusterTable} in the binary format.
+   * <p>
+   * <b>Note:</b> The {@link InputStream} remains open.
+   *
+   * @param in The {@link InputStream} to read from.
+   * @return A valid {@link TokenClusterTable} instance.
+   * @throws IOException Thrown if IO errors occurred.
+   * @throws InvalidFormatException Thrown if the stream is not a token cluster table.
+   */
+  static TokenClusterTable create(InputStream in) throws IOException {
+    final DataInputStream data = new DataInputStream(in);
+
+    if (data.readInt() != MAGIC) {
+      throw new InvalidFormatException("Not a binary token cluster table!");
+    }
+    final int version = data.readInt();
+    if (version != VERSION) {
+      throw new InvalidFormatException("Unsupported token cluster table version: " + version);
+    }
+
+    final String[] clusters = CharPoolIndex.readStrings(data);
+
+    final int tokens = CharPoolIndex.checkLength(data.readInt());
+    final int[] tokenClusters = CharPoolIndex.readInts(data, tokens);
+    final int[] offsets = CharPoolIndex.readInts(data, tokens + 1);
+    final char[] chars = CharPoolIndex.readChars(data, offsets[tokens]);
+
+    for (int i = 0; i < tokens; i++) {
+      if (tokenClusters[i] < 0 || tokenClusters[i] >= clusters.length
+          || offsets[i] < 0 || offsets[i] > offsets[i + 1]) {
+        throw new InvalidFormatException("Invalid entry for token: " + i);
+      }
+    }
+
+    final int[] slots = CharPoolIndex.createSlots(tokens);
+    for (int token = 0; token < tokens; token++) {
+      if (CharPoolIndex.insert(slots, chars, offsets, token) >= 0) {
+        throw new InvalidFormatException("Duplicate token: " + token);
+      }
+    }
+
+    return new TokenClusterTable(clusters, chars, offsets, tokenClusters, slots);
+  }
+
+  /**
+   * Writes the binary representation of this table to the given {@link OutputStream}.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out The {@link OutputStream} to write the table into.
+   * @throws IOException Thrown if writing to the {@link OutputStream} fails.
+   */
+  void serialize(OutputStream out) throws IOException {
+    final DataOutputStream data = new DataOutputStream(out);
+
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+
+    CharPoolIndex.writeStrings(data, clusters);
+
+    data.writeInt(tokenClusters.length);
+    CharPoolIndex.writeInts(data, tokenClusters);
+    CharPoolIndex.writeInts(data, offsets);
+    CharPoolIndex.writeChars(data, chars);
+
+    data.flush();
+  }
+
+  /**
+   * @param token The token to look up.
+   * @return The id of the cluster of {@code token}, or {@code -1} if the token is unknown.
+   */
+  int lookup(String token) {
+    final int index = CharPoolIndex.indexOf(slots, chars, offsets, token);
+    return index < 0 ? -1 : tokenClusters[index];
+  }
+
+  /**
+   * @param id A cluster id, between {@code 0} and {@link #getClusterCount()}.
+   * @return The cluster with the given id.
+   */
+  String getCluster(int id) {
+    return clusters[id];
+  }
+
+  /**
+   * @return The number of distinct clusters.
+   */
+  int getClusterCount() {
+    return clusters.length;
+  }
+
+  /**
+   * @return The number of tokens.
+   */
+  int size() {
+    return tokenClusters.length;
+  }
+
+  /**
+   * @param index A token index, between {@code 0} and {@link #size()}.
+   * @return The token with the given index.
+   */
+  String getToken(int index) {
+    return new String(chars, offsets[index], offsets[index + 1] - offsets[index]);
+  }
+
+  /**
+   * @param index A token index, between {@code 0} and {@link #size()}.
+   * @return The cluster id of the token with the given index.
+   */
+  int getTokenCluster(int index) {
+    return tokenClusters[index];
+  }
+
+  /**
+   * Splits a line of a text cluster file at the given separator without allocating
+   * substrings, with the same result as {@link String#split(String)}: trailing empty
+   * fields are removed.
+   *
+   * @param line The line to split.
+   * @param separator The separator character.
+   * @param bounds Receives the start and end offsets of the leading fields, two values
+   *               per field for as many fields as fit.
+   * @return The number of fields.
+   */
+  static int split(String line, char separator, int[] bounds) {
+    int fields = 0;
+    int start = 0;
+    for (int field = 0; ; field++) {
+      int end = line.indexOf(separator, start);
+      if (end < 0) {
+        end = line.length();
+      }
+      if (2 * field + 1 < bounds.length) {
+        bounds[2 * field] = start;
+        bounds[2 * field + 1] = end;
+      }
+      if (end > start) {
+        fields = field + 1;
+      }
+      if (end == line.length()) {
+        // a line without any content still is one empty field, like String.split
+        return line.isEmpty() ? 1 : fields;
+      }
+      start = end + 1;
+    }
+  }
+
+  /**
+   * Collects tokens and their clusters and builds a {@link TokenClusterTable}.
+   * <p>
+   * If a token is added more than once, the cluster added last wins.
+   */
+  static final class Builder {
+
+    private final Map<String, Integer> clusterIds = new HashMap<>();
+    private final List<String> clusters = new ArrayList<>();
+
+    private char[] chars = new char[4096];
+    private int charLength;
+    private int[] offsets = new int[1025];
+    private int[] tokenClusters = new int[1024];
+    private int tokens;
+
+    /**
+     * Adds the token {@code line[start, end)} with the given {@code cluster}.
+     */
+    void add(String line, int start, int end, String cluster) {
+      if (tokens == tokenClusters.length) {
+        tokenClusters = Arrays.copyOf(tokenClusters, tokens * 2);
+        offsets = Arrays.copyOf(offsets, tokens * 2 + 1);
+      }
+      final int length = end - start;
+      if (charLength + length > chars.length) {
+        chars = Arrays.copyOf(chars, Math.max(chars.length * 2, charLength + length));
+      }
+      line.getChars(start, end, chars, charLength);
+      charLength += length;
+
+      Integer id = clusterIds.get(cluster);
+      if (id == null) {
+        id = clusters.size();
+        clusterIds.put(cluster, id);
+        clusters.add(cluster);
+      }
+
+      tokenClusters[tokens++] = id;
+      offsets[tokens] = charLength;
+    }
+
+    TokenClusterTable build() {
+      int[] slots = CharPoolIndex.createSlots(tokens);
+
+      // a repeated token keeps its first position but takes the cluster added last
+      boolean[] duplicate = null;
+      for (int token = 0; token < tokens; token++) {
+        final int existing = CharPoolIndex.insert(slots, chars, offsets, token);
+        if (existing >= 0) {
+          tokenClusters[existing] = tokenClusters[token];
+          if (duplicate == null) {
+            duplicate = new boolean[tokens];
+          }
+          duplicate[token] = true;
+        }
+      }
+
+      if (duplicate == null) {
+        return new TokenClusterTable(clusters.toArray(new String[0]),
+            Arrays.copyOf(chars, charLength), Arrays.copyOf(offsets, tokens + 1),
+            Arrays.copyOf(tokenClusters, tokens), slots);
+      }
+
+      // remove the duplicates and index the remaining tokens again
+      int unique = 0;
+      int uniqueChars = 0;
+      for (int token = 0; token < tokens; token++) {
+        if (!duplicate[token]) {
+          final int start = offsets[token];
+          final int length = offsets[token + 1] - start;
+          System.arraycopy(chars, start, chars, uniqueChars, length);
+          tokenClusters[unique] = tokenClusters[token];
+          offsets[unique] = uniqueChars;
+          uniqueChars += length;
+          unique++;
+        }
+      }
+      offsets[unique] = uniqueChars;
+
+      final char[] uniqueCharPool = Arrays.copyOf(chars, uniqueChars);
+      final int[] uniqueOffsets = Arrays.copyOf(offsets, unique + 1);
+      slots = CharPoolIndex.createSlots(unique);
+      for (int token = 0; token < unique; token++) {
+        CharPoolIndex.insert(slots, uniqueCharPool, uniqueOffsets, token);
+      }
+
+      return new TokenClusterTable(clusters.toArray(new String[0]), uniqueCharPool, uniqueOffsets,
+          Arrays.copyOf(tokenClusters, unique), slots);
+    }
+  }
+}
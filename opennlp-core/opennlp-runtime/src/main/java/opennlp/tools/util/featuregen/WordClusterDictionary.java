@@ -17,6 +17,7 @@
 
 package opennlp.tools.util.featuregen;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -26,62 +27,166 @@ import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
 
 import opennlp.tools.util.model.ArtifactSerializer;
 import opennlp.tools.util.model.SerializableArtifact;
+import opennlp.tools.util.model.UncloseableInputStream;
 
+/**
+ * A word cluster lexicon, which maps tokens to the ids of their clusters.
+ * <p>
+ * Tokens are mapped to int cluster ids by a compact hash index. Besides the text
+ * format, a lexicon can be written in a binary format, see {@link #serializeBinary(OutputStream)},
+ * which loads without parsing. The {@link WordClusterDictionarySerializer} reads both formats.
+ */
 public class WordClusterDictionary implements SerializableArtifact {
 
   public static class WordClusterDictionarySerializer implements ArtifactSerializer<WordClusterDictionary> {
 
     @Override
     public WordClusterDictionary create(InputStream in) throws IOException {
-      return new WordClusterDictionary(in);
+      return new WordClusterDictionary(new UncloseableInputStream(in));
     }
 
     @Override
     public void serialize(WordClusterDictionary artifact, OutputStream out) throws IOException {
-      artifact.serialize(out);
+      if (artifact.isBinaryFormat()) {
+        artifact.serializeBinary(out);
+      }
+      else {
+        artifact.serialize(out);
+      }
     }
   }
 
-  private final Map<String, String> tokenToClusterMap = new HashMap<>();
+  private final TokenClusterTable table;
+  private boolean binaryFormat;
 
   /**
    * Read word2vec and clark clustering style lexicons.
+   * <p>
+   * The stream may either be in the text format or in the binary format, which
+   * is detected by its leading magic number.
    * 
    * @param in the {@link InputStream} to read from.
    *
    * @throws IOException Thrown if IO errors occurred during read.
    */
   public WordClusterDictionary(InputStream in) throws IOException {
-    try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
-      String line;
-      while ((line = reader.readLine()) != null) {
-        String[] parts = line.split(" ");
-        if (parts.length == 3) {
-          tokenToClusterMap.put(parts[0], parts[1].intern());
-        } else if (parts.length == 2) {
-          tokenToClusterMap.put(parts[0], parts[1].intern());
-        }
+    try (InputStream clusterIn = new BufferedInputStream(in)) {
+      clusterIn.mark(Integer.BYTES);
+      final byte[] header = clusterIn.readNBytes(Integer.BYTES);
+      clusterIn.reset();
+
+      if (TokenClusterTable.isTokenClusterTable(header)) {
+        table = TokenClusterTable.create(clusterIn);
+        binaryFormat = true;
+      }
+      else {
+        table = readText(clusterIn);
+      }
+    }
+  }
+
+  private static TokenClusterTable readText(InputStream in) throws IOException {
+    final TokenClusterTable.Builder builder = new TokenClusterTable.Builder();
+    final int[] fields = new int[4];
+
+    BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+    String line;
+    while ((line = reader.readLine()) != null) {
+      final int length = TokenClusterTable.split(line, ' ', fields);
+      if (length == 3 || length == 2) {
+        builder.add(line, fields[0], fields[1], line.substring(fields[2], fields[3]));
       }
     }
+
+    return builder.build();
   }
 
   public String lookupToken(String string) {
-    return tokenToClusterMap.get(string);
+    final int id = table.lookup(string);
+    return id < 0 ? null : table.getCluster(id);
   }
 
-  public void serialize(OutputStream out) throws IOException {
-    try (Writer writer = new BufferedWriter(new OutputStreamWriter(out))) {
-      for (Map.Entry<String, String> entry : tokenToClusterMap.entrySet()) {
-        writer.write(entry.getKey() + " " + entry.getValue() + "\n");
-      }
+  /**
+   * Looks up the id of the cluster of a token, without allocating objects.
+   *
+   * @param string the token to look-up
+   * @return the id of the cluster of the token, or {@code -1} if the token is unknown.
+   */
+  public int lookupClusterId(String string) {
+    return table.lookup(string);
+  }
+
+  /**
+   * @param id a cluster id, see {@link #lookupClusterId(String)}
+   * @return the cluster with the given id.
+   */
+  public String getCluster(int id) {
+    return table.getCluster(id);
+  }
+
+  /**
+   * @return the number of distinct clusters, cluster ids are between
+   *         {@code 0} and this number.
+   */
+  public int getClusterCount() {
+    return table.getClusterCount();
+  }
+
+  /**
+   * @return the number of tokens in the lexicon.
+   */
+  public int size() {
+    return table.size();
+  }
 
-      writer.flush();
+  /**
+   * Writes the lexicon in the text format.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out the {@link OutputStream} to write to.
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void serialize(OutputStream out) throws IOException {
+    Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    for (int i = 0; i < table.size(); i++) {
+      writer.write(table.getToken(i) + " " + table.getCluster(table.getTokenCluster(i)) + "\n");
     }
+
+    writer.flush();
+  }
+
+  /**
+   * Writes the lexicon in the binary format.
+   * <p>
+   * After the serialization is finished the provided {@link OutputStream} remains open.
+   *
+   * @param out the {@link OutputStream} to write to.
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public void serializeBinary(OutputStream out) throws IOException {
+    table.serialize(out);
+  }
+
+  /**
+   * @return {@code true} if this {@link WordClusterDictionary} is written in the binary
+   *         format when it is part of a model package, {@code false} for the text format.
+   */
+  public boolean isBinaryFormat() {
+    return binaryFormat;
+  }
+
+  /**
+   * Selects the format which is used when this {@link WordClusterDictionary} is written as
+   * part of a model package. Lexicons loaded from the binary format use it by default.
+   *
+   * @param binaryFormat {@code true} for the binary format, {@code false} for the text format.
+   */
+  public void setBinaryFormat(boolean binaryFormat) {
+    this.binaryFormat = binaryFormat;
   }
 
   @Override
@@ -34,6 +34,9 @@ public class WordClusterFeatureGenerator implements AdaptiveFeatureGenerator {
   private final String resourceName;
   private final boolean lowerCaseDictionary;
 
+  // the features of every cluster, indexed by cluster id
+  private final String[] clusterFeatures;
+
   /**
    * Instantiates a {@link WordClusterFeatureGenerator} via a specified
    * {@link WordClusterDictionary}.
@@ -49,20 +52,25 @@ public class WordClusterFeatureGenerator implements AdaptiveFeatureGenerator {
     tokenDictionary = dict;
     resourceName = dictResourceKey;
     this.lowerCaseDictionary = lowerCaseDictionary;
+
+    clusterFeatures = new String[dict.getClusterCount()];
+    for (int id = 0; id < clusterFeatures.length; id++) {
+      clusterFeatures[id] = resourceName + dict.getCluster(id);
+    }
   }
 
   @Override
   public void createFeatures(List<String> features, String[] tokens, int index,
       String[] previousOutcomes) {
 
-    String clusterId;
+    int clusterId;
     if (lowerCaseDictionary) {
-      clusterId = tokenDictionary.lookupToken(StringUtil.toLowerCase(tokens[index]));
+      clusterId = tokenDictionary.lookupClusterId(StringUtil.toLowerCase(tokens[index]));
     } else {
-      clusterId = tokenDictionary.lookupToken(tokens[index]);
+      clusterId = tokenDictionary.lookupClusterId(tokens[index]);
     }
-    if (clusterId != null) {
-      features.add(resourceName + clusterId);
+    if (clusterId >= 0) {
+      features.add(clusterFeatures[clusterId]);
     }
   }
 }
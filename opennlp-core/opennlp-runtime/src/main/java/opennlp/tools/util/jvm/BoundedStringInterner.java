@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.jvm;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import opennlp.tools.commons.ThreadSafe;
+import opennlp.tools.util.CharPoolIndex;
+
+/**
+ * A {@link StringInterner} which holds at most a fixed number of strings. If it is full,
+ * the least recently used strings are evicted, approximated by the clock algorithm:
+ * a string which was not requested since the clock hand passed it last is replaced.
+ * <p>
+ * The strings are partitioned into segments by their hash code, each guarded by its own lock,
+ * to reduce contention between threads.
+ * <p>
+ * Use it for long-running services which process open-vocabulary text, where the
+ * {@link CHMStringInterner} would grow without bound.
+ */
+@ThreadSafe
+public class BoundedStringInterner implements MeasurableStringInterner {
+
+  /**
+   * The number of strings held by an interner created with the no-argument constructor.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_CAPACITY = 64;
+
+  private final Segment[] segments;
+  private final int capacity;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Initializes a {@link BoundedStringInterner} with {@link #DEFAULT_CAPACITY}.
+   */
+  public BoundedStringInterner() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Initializes a {@link BoundedStringInterner}.
+   *
+   * @param capacity The maximum number of strings to hold. Must be greater than {@code 0}.
+   * @throws IllegalArgumentException Thrown if {@code capacity} is not positive.
+   */
+  public BoundedStringInterner(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be greater than 0: " + capacity);
+    }
+    this.capacity = capacity;
+    final int count = Math.min(MAX_SEGMENTS,
+        Integer.highestOneBit(Math.max(1, capacity / MIN_SEGMENT_CAPACITY)));
+    segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment(capacity / count + (i < capacity % count ? 1 : 0));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String intern(String sample) {
+    final int h = CharPoolIndex.mix(sample.hashCode());
+    final String exist = segments[(h >>> 16) & (segments.length - 1)].intern(sample);
+    if (exist == null) {
+      misses.increment();
+      return sample;
+    }
+    hits.increment();
+    return exist;
+  }
+
+  /**
+   * @return The maximum number of strings held by this interner.
+   */
+  public int getCapacity() {
+    return capacity;
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  private static final class Entry {
+    private String value;
+    private boolean referenced;
+
+    private Entry(String value) {
+      this.value = value;
+    }
+  }
+
+  private static final class Segment {
+    private final Map<String, Entry> map;
+    private final Entry[] clock;
+    private int size;
+    private int hand;
+
+    private Segment(int capacity) {
+      map = new HashMap<>((int) (capacity / 0.75f) + 1);
+      clock = new Entry[capacity];
+    }
+
+    /*
+     * Returns the interned instance, or null if the sample was added.
+     */
+    private synchronized String intern(String sample) {
+      Entry entry = map.get(sample);
+      if (entry != null) {
+        entry.referenced = true;
+        return entry.value;
+      }
+
+      if (size < clock.length) {
+        entry = new Entry(sample);
+        clock[size++] = entry;
+      } else {
+        while (true) {
+          entry = clock[hand];
+          if (++hand == clock.length) {
+            hand = 0;
+          }
+          if (entry.referenced) {
+            entry.referenced = false;
+          } else {
+            map.remove(entry.value);
+            entry.value = sample;
+            break;
+          }
+        }
+      }
+      map.put(sample, entry);
+      return null;
+    }
+
+    private synchronized int size() {
+      return size;
+    }
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.jvm;
+
+/**
+ * A {@link StringInterner} which reports the number of interned strings and how often
+ * an interned instance could be returned.
+ */
+public interface MeasurableStringInterner extends StringInterner {
+
+  /**
+   * @return The number of strings currently held by the interner.
+   */
+  int size();
+
+  /**
+   * @return The number of calls which returned a previously interned instance.
+   */
+  long getHits();
+
+  /**
+   * @return The number of calls which returned the given string itself.
+   */
+  long getMisses();
+
+  /**
+   * @return The ratio of hits to all calls of {@link #intern(String)},
+   *         or {@code 0} if nothing was interned yet.
+   */
+  default double getHitRate() {
+    final long hits = getHits();
+    final long total = hits + getMisses();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+}
@@ -18,6 +18,9 @@
 package opennlp.tools.util.jvm;
 
 import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -28,27 +31,74 @@ import org.slf4j.LoggerFactory;
  * fully qualified classname. It needs to implement {@link StringInterner}.
  * <p>
  * If not specified by the user, the default interner is {@link CHMStringInterner}.
+ * <p>
+ * Components can use their own interner, obtained via {@link #getInterner(String)}. It is either
+ * {@link #setInterner(String, StringInterner) set} programmatically, or configured via the
+ * system property {@code opennlp.interner.class.<component>}, e.g.
+ * {@code opennlp.interner.class.namefind.dictionary}, and falls back to the default interner.
+ * Each configured component gets its own instance, so a {@link BoundedStringInterner} bounds
+ * the strings of that component only.
  */
 public class StringInterners {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(StringInterners.class);
+  private static final String INTERNER_CLASS_PROPERTY = "opennlp.interner.class";
   private static final StringInterner INTERNER;
+  private static final Map<String, StringInterner> COMPONENT_INTERNERS = new ConcurrentHashMap<>();
 
   static {
+    INTERNER = create(System.getProperty(INTERNER_CLASS_PROPERTY,
+        CHMStringInterner.class.getCanonicalName()));
+  }
 
-    final String clazzName = System.getProperty("opennlp.interner.class",
-        CHMStringInterner.class.getCanonicalName());
-
+  private static StringInterner create(String clazzName) {
     try {
       final Class<?> clazz = Class.forName(clazzName);
       final Constructor<?> cons = clazz.getDeclaredConstructor();
-      INTERNER = (StringInterner) cons.newInstance();
+      final StringInterner interner = (StringInterner) cons.newInstance();
       LOGGER.debug("Using '{}' as String interner implementation.", clazzName);
+      return interner;
     } catch (Exception e) {
       throw new RuntimeException("Could not load specified String interner implementation: '"
           + clazzName + "'. Reason: " + e.getLocalizedMessage(), e);
     }
+  }
+
+  /**
+   * @return The default {@link StringInterner}, used by {@link #intern(String)}.
+   */
+  public static StringInterner getInterner() {
+    return INTERNER;
+  }
 
+  /**
+   * Retrieves the {@link StringInterner} of a component. If none was set for it via
+   * {@link #setInterner(String, StringInterner)}, it is created from the class name given by
+   * the system property {@code opennlp.interner.class.<component>}, or, if that is not
+   * specified either, the default interner is used.
+   *
+   * @param component The name of the component. Must not be {@code null}.
+   * @return The {@link StringInterner} of the {@code component}.
+   * @throws RuntimeException Thrown if the configured implementation could not be loaded.
+   */
+  public static StringInterner getInterner(String component) {
+    Objects.requireNonNull(component, "component must not be null");
+    return COMPONENT_INTERNERS.computeIfAbsent(component, c -> {
+      final String clazzName = System.getProperty(INTERNER_CLASS_PROPERTY + "." + c);
+      return clazzName == null ? INTERNER : create(clazzName);
+    });
+  }
+
+  /**
+   * Sets the {@link StringInterner} of a component, which will be used by instances
+   * of the component which are created afterwards.
+   *
+   * @param component The name of the component. Must not be {@code null}.
+   * @param interner The {@link StringInterner} to use. Must not be {@code null}.
+   */
+  public static void setInterner(String component, StringInterner interner) {
+    Objects.requireNonNull(component, "component must not be null");
+    COMPONENT_INTERNERS.put(component, Objects.requireNonNull(interner, "interner must not be null"));
   }
 
   /**
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.jvm;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import opennlp.tools.commons.ThreadSafe;
+
+/**
+ * A lock-free {@link StringInterner} based on a fixed-size array. Each string has exactly one
+ * slot, selected by its hash code, and replaces the string in that slot if it is different.
+ * <p>
+ * This gives the cheapest lookup and a fixed memory footprint, but strings which share a slot
+ * evict each other. It is therefore a deduplicator with relaxed canonical requirements, like
+ * the {@link CHMStringDeduplicator}, and not a strict interner.
+ */
+@ThreadSafe
+public class StripedStringInterner implements MeasurableStringInterner {
+
+  /**
+   * The number of slots of an interner created with the no-argument constructor.
+   */
+  public static final int DEFAULT_CAPACITY = 1 << 16;
+
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final AtomicReferenceArray<String> slots;
+  private final int mask;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Initializes a {@link StripedStringInterner} with {@link #DEFAULT_CAPACITY} slots.
+   */
+  public StripedStringInterner() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Initializes a {@link StripedStringInterner}.
+   *
+   * @param capacity The number of slots, rounded up to the next power of two.
+   *                 Must be between {@code 1} and {@code 2^30}.
+   * @throws IllegalArgumentException Thrown if {@code capacity} is out of range.
+   */
+  public StripedStringInterner(int capacity) {
+    if (capacity < 1 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY
+          + ": " + capacity);
+    }
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    slots = new AtomicReferenceArray<>(size);
+    mask = size - 1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String intern(String sample) {
+    final int h = sample.hashCode();
+    final int slot = (h ^ (h >>> 16)) & mask;
+    final String exist = slots.getAcquire(slot);
+    if (exist != null && exist.equals(sample)) {
+      hits.increment();
+      return exist;
+    }
+    slots.setRelease(slot, sample);
+    misses.increment();
+    return sample;
+  }
+
+  /**
+   * @return The number of slots of this interner.
+   */
+  public int getCapacity() {
+    return slots.length();
+  }
+
+  /**
+   * @return The number of occupied slots. It is computed by scanning all slots.
+   */
+  @Override
+  public int size() {
+    int size = 0;
+    for (int i = 0; i < slots.length(); i++) {
+      if (slots.get(i) != null) {
+        size++;
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.jvm;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import opennlp.tools.commons.ThreadSafe;
+
+/**
+ * A {@link StringInterner} which references the interned strings weakly, based on a
+ * {@link ConcurrentHashMap}. A string is dropped from the interner once it is not used
+ * anymore, so the interner does not grow beyond the strings the application holds.
+ */
+@ThreadSafe
+public class WeakStringInterner implements MeasurableStringInterner {
+
+  private final Map<Object, WeakEntry> map = new ConcurrentHashMap<>();
+  private final ReferenceQueue<String> queue = new ReferenceQueue<>();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String intern(String sample) {
+    expunge();
+
+    final WeakEntry found = map.get(new Lookup(sample));
+    if (found != null) {
+      final String exist = found.get();
+      if (exist != null) {
+        hits.increment();
+        return exist;
+      }
+    }
+
+    final WeakEntry entry = new WeakEntry(sample, queue);
+    while (true) {
+      final WeakEntry existing = map.putIfAbsent(entry, entry);
+      if (existing == null) {
+        misses.increment();
+        return sample;
+      }
+      final String exist = existing.get();
+      if (exist != null) {
+        hits.increment();
+        return exist;
+      }
+      // cleared after it was found, but before it was enqueued
+      map.remove(existing, existing);
+    }
+  }
+
+  /**
+   * @return The number of strings currently held by the interner. Strings which were garbage
+   *         collected, but not yet removed, might be counted.
+   */
+  @Override
+  public int size() {
+    expunge();
+    return map.size();
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  private void expunge() {
+    Object cleared;
+    while ((cleared = queue.poll()) != null) {
+      map.remove(cleared, cleared);
+    }
+  }
+
+  /*
+   * The key and value of the map. Two entries are equal if they reference equal strings.
+   * A cleared entry is only equal to itself, so that it can still be removed.
+   */
+  private static final class WeakEntry extends WeakReference<String> {
+    private final int hash;
+
+    private WeakEntry(String referent, ReferenceQueue<String> queue) {
+      super(referent, queue);
+      hash = referent.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) {
+        return true;
+      }
+      final String value = get();
+      if (value == null) {
+        return false;
+      }
+      if (obj instanceof WeakEntry entry) {
+        return value.equals(entry.get());
+      }
+      return obj instanceof Lookup lookup && value.equals(lookup.value);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+  /*
+   * Looks up a string without allocating a weak reference.
+   */
+  private record Lookup(String value) {
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof WeakEntry entry && value.equals(entry.get());
+    }
+
+    @Override
+    public int hashCode() {
+      return value.hashCode();
+    }
+  }
+}
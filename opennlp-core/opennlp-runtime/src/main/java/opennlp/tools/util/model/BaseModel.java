@@ -41,6 +41,7 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 import java.util.zip.ZipOutputStream;
 
+import opennlp.tools.monitoring.Instrumentation;
 import opennlp.tools.util.BaseToolFactory;
 import opennlp.tools.util.InvalidFormatException;
 import opennlp.tools.util.LanguageCodeValidator;
@@ -72,6 +73,8 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
 
   private static final String SERIALIZER_CLASS_NAME_PREFIX = "serializer-class-";
 
+  private static final String METRIC_MODEL_LOAD = Instrumentation.metric("model", Instrumentation.MODEL_LOAD);
+
   private Map<String, ArtifactSerializer<?>> artifactSerializers = new HashMap<>();
 
   protected Map<String, Object> artifactMap = new HashMap<>();
@@ -230,6 +233,8 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
 
     Objects.requireNonNull(in, "in must not be null");
 
+    final long start = Instrumentation.start();
+
     createBaseArtifactSerializers(artifactSerializers);
 
     if (!in.markSupported()) {
@@ -277,6 +282,8 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
 
       checkArtifactMap();
     }
+
+    Instrumentation.recordTime(METRIC_MODEL_LOAD, start);
   }
 
   private void initializeFactory() throws InvalidFormatException {
@@ -400,6 +407,7 @@ public abstract class BaseModel implements ArtifactProvider, Serializable {
     GenericModelSerializer.register(serializers);
     PropertiesSerializer.register(serializers);
     DictionarySerializer.register(serializers);
+    BinaryDictionarySerializer.register(serializers);
     serializers.put("txt", new ByteArraySerializer());
     serializers.put("html", new ByteArraySerializer());
 
@@ -41,4 +41,8 @@ public class AggregateCharSequenceNormalizer implements CharSequenceNormalizer {
     return text;
   }
 
+  CharSequenceNormalizer[] getNormalizers() {
+    return normalizers;
+  }
+
 }
@@ -0,0 +1,1115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.normalizer;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * A {@link CharSequenceNormalizer} which gives the same output as an
+ * {@link AggregateCharSequenceNormalizer} of the same normalizers, but applies the
+ * {@link EmojiCharSequenceNormalizer}, {@link UrlCharSequenceNormalizer},
+ * {@link TwitterCharSequenceNormalizer}, {@link NumberCharSequenceNormalizer} and
+ * {@link ShrinkCharSequenceNormalizer} in a single left-to-right pass over the code points.
+ * <p>
+ * Each regular expression of these normalizers is compiled into a small state machine.
+ * The state machines are chained, so a code point which leaves one of them is immediately
+ * consumed by the next one, and the output of the last one is written into a reusable
+ * buffer. No intermediate strings are created, unlike the aggregate which runs up to ten
+ * {@code replaceAll} passes. Other normalizers, including subclasses of the above, are
+ * applied as given between the fused parts.
+ * <p>
+ * The buffers are kept per thread, an instance can be shared between threads.
+ */
+public class FusedCharSequenceNormalizer implements CharSequenceNormalizer {
+
+  @Serial
+  private static final long serialVersionUID = -2319170934711502185L;
+
+  /*
+   * Whether \b considers all Unicode letters and digits as word characters,
+   * as the regex engine did before Java 19, or only [a-zA-Z_0-9].
+   */
+  private static final boolean UNICODE_WORD_BOUNDARY =
+      Pattern.compile("\\b").matcher("\u00e9").find();
+
+  private final CharSequenceNormalizer[] normalizers;
+
+  private transient ThreadLocal<Pipeline> pipelines;
+
+  /**
+   * Initializes a {@link FusedCharSequenceNormalizer}.
+   *
+   * @param normalizers The normalizers in the order in which they should be applied.
+   *                    {@link AggregateCharSequenceNormalizer aggregates} are flattened.
+   */
+  public FusedCharSequenceNormalizer(CharSequenceNormalizer... normalizers) {
+    List<CharSequenceNormalizer> flattened = new ArrayList<>();
+    flatten(normalizers, flattened);
+    this.normalizers = flattened.toArray(new CharSequenceNormalizer[0]);
+    this.pipelines = ThreadLocal.withInitial(() -> new Pipeline(this.normalizers));
+  }
+
+  private static void flatten(CharSequenceNormalizer[] normalizers,
+                              List<CharSequenceNormalizer> flattened) {
+    for (CharSequenceNormalizer normalizer : normalizers) {
+      if (normalizer.getClass() == AggregateCharSequenceNormalizer.class) {
+        flatten(((AggregateCharSequenceNormalizer) normalizer).getNormalizers(), flattened);
+      } else if (normalizer.getClass() == FusedCharSequenceNormalizer.class) {
+        flatten(((FusedCharSequenceNormalizer) normalizer).normalizers, flattened);
+      } else {
+        flattened.add(normalizer);
+      }
+    }
+  }
+
+  @Serial
+  private Object readResolve() {
+    return new FusedCharSequenceNormalizer(normalizers);
+  }
+
+  @Override
+  public CharSequence normalize(CharSequence text) {
+    final StringBuilder out = pipelines.get().result;
+    out.setLength(0);
+    normalize(text, out);
+    return out.toString();
+  }
+
+  /**
+   * Normalizes a sequence of characters and appends the result to {@code out}.
+   *
+   * @param text The {@link CharSequence} to normalize.
+   * @param out The {@link StringBuilder} the normalized text is appended to.
+   */
+  public void normalize(CharSequence text, StringBuilder out) {
+    pipelines.get().normalize(text, out);
+  }
+
+  /**
+   * The normalizers of one thread: fused parts and other normalizers in order.
+   */
+  private static final class Pipeline {
+
+    private final Object[] segments;
+    private final StringBuilder result = new StringBuilder();
+    private final StringBuilder[] scratch = {new StringBuilder(), new StringBuilder()};
+
+    private Pipeline(CharSequenceNormalizer[] normalizers) {
+      List<Object> segments = new ArrayList<>();
+      List<Stage> stages = new ArrayList<>();
+      for (CharSequenceNormalizer normalizer : normalizers) {
+        if (!addStages(normalizer, stages)) {
+          if (!stages.isEmpty()) {
+            segments.add(new Fused(stages));
+            stages.clear();
+          }
+          segments.add(normalizer);
+        }
+      }
+      if (!stages.isEmpty()) {
+        segments.add(new Fused(stages));
+      }
+      this.segments = segments.toArray();
+    }
+
+    private void normalize(CharSequence text, StringBuilder out) {
+      CharSequence current = text;
+      for (int i = 0; i < segments.length; i++) {
+        final boolean last = i == segments.length - 1;
+        if (segments[i] instanceof Fused fused) {
+          StringBuilder target = out;
+          if (!last) {
+            target = current == scratch[0] ? scratch[1] : scratch[0];
+            target.setLength(0);
+          }
+          fused.normalize(current, target);
+          current = target;
+        } else {
+          current = ((CharSequenceNormalizer) segments[i]).normalize(current);
+          if (last) {
+            out.append(current);
+          }
+        }
+      }
+      if (segments.length == 0) {
+        out.append(text);
+      }
+    }
+  }
+
+  /*
+   * Adds the state machines for a normalizer, returns false if it can not be fused.
+   */
+  private static boolean addStages(CharSequenceNormalizer normalizer, List<Stage> stages) {
+    final Class<?> type = normalizer.getClass();
+    if (type == EmojiCharSequenceNormalizer.class) {
+      stages.add(new EmojiStage());
+    } else if (type == UrlCharSequenceNormalizer.class) {
+      stages.add(new UrlStage());
+      stages.add(new MailStage());
+    } else if (type == TwitterCharSequenceNormalizer.class) {
+      stages.add(new HashUserStage());
+      stages.add(new RetweetStage());
+      stages.add(new FaceStage());
+      stages.add(new LaughStage());
+    } else if (type == NumberCharSequenceNormalizer.class) {
+      stages.add(new NumberStage());
+    } else if (type == ShrinkCharSequenceNormalizer.class) {
+      stages.add(new SpaceStage());
+      stages.add(new RepeatedCharStage());
+      stages.add(new TrimStage());
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * A chain of stages which writes into a {@link StringBuilder}.
+   */
+  private static final class Fused {
+
+    private final Stage head;
+    private final Sink sink = new Sink();
+
+    private Fused(List<Stage> stages) {
+      Stage next = sink;
+      for (int i = stages.size() - 1; i >= 0; i--) {
+        stages.get(i).next = next;
+        next = stages.get(i);
+      }
+      head = next;
+    }
+
+    private void normalize(CharSequence text, StringBuilder out) {
+      sink.out = out;
+      try {
+        for (Stage stage = head; stage != sink; stage = stage.next) {
+          stage.reset();
+        }
+        final int length = text.length();
+        for (int i = 0; i < length; ) {
+          final int cp = Character.codePointAt(text, i);
+          head.put(cp);
+          i += Character.charCount(cp);
+        }
+        head.finish();
+      } finally {
+        sink.out = null;
+      }
+    }
+  }
+
+  /**
+   * A state machine which implements one regular expression replacement. The code points
+   * of the input are passed to {@link #put(int)} and the output is passed on to the next
+   * stage. Code points which may be part of a match are held back until the match is
+   * decided; if a match attempt fails, the held back code points are passed to
+   * {@link #put(int)} again, like the regex engine retries at the next position.
+   */
+  private abstract static class Stage {
+
+    Stage next;
+
+    abstract void put(int cp);
+
+    /**
+     * Flushes the held back code points at the end of the input and resets the state.
+     */
+    void finish() {
+      reset();
+      next.finish();
+    }
+
+    abstract void reset();
+  }
+
+  private static final class Sink extends Stage {
+
+    private StringBuilder out;
+
+    @Override
+    void put(int cp) {
+      out.appendCodePoint(cp);
+    }
+
+    @Override
+    void finish() {
+    }
+
+    @Override
+    void reset() {
+    }
+  }
+
+  /**
+   * A growable list of code points.
+   */
+  private static final class CodePoints {
+
+    private int[] values = new int[16];
+    private int size;
+
+    void add(int cp) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = cp;
+    }
+
+    int get(int index) {
+      return values[index];
+    }
+
+    int last() {
+      return values[size - 1];
+    }
+
+    int size() {
+      return size;
+    }
+
+    int[] copy(int from) {
+      return Arrays.copyOfRange(values, from, size);
+    }
+
+    void clear() {
+      size = 0;
+    }
+  }
+
+  private static boolean isSpace(int cp) {
+    // \s
+    return cp == ' ' || cp == '\t' || cp == '\n' || cp == 0x0B || cp == '\f' || cp == '\r';
+  }
+
+  private static boolean isAsciiLetterOrDigit(int cp) {
+    return cp >= 'a' && cp <= 'z' || cp >= 'A' && cp <= 'Z' || cp >= '0' && cp <= '9';
+  }
+
+  private static int toLowerAscii(int cp) {
+    return cp >= 'A' && cp <= 'Z' ? cp + 0x20 : cp;
+  }
+
+  /*
+   * The case-insensitive comparison of back references without UNICODE_CASE.
+   */
+  private static boolean equalsIgnoreCase(int cp1, int cp2) {
+    return toLowerAscii(cp1) == toLowerAscii(cp2);
+  }
+
+  /**
+   * Replaces runs of code points of a class by a single space.
+   */
+  private abstract static class CharClassStage extends Stage {
+
+    private boolean inRun;
+
+    abstract boolean matches(int cp);
+
+    @Override
+    void put(int cp) {
+      if (matches(cp)) {
+        if (!inRun) {
+          inRun = true;
+          next.put(' ');
+        }
+      } else {
+        inRun = false;
+        next.put(cp);
+      }
+    }
+
+    @Override
+    void reset() {
+      inRun = false;
+    }
+  }
+
+  /**
+   * {@code [\uD83C-\uDBFF\uDC00-\uDFFF]+} of the {@link EmojiCharSequenceNormalizer}, the regex
+   * parser combines {@code \uDBFF\uDC00} to U+10FC00 which leaves a range and a {@code -}.
+   */
+  private static final class EmojiStage extends CharClassStage {
+
+    @Override
+    boolean matches(int cp) {
+      return cp >= 0xD83C && cp <= 0x10FC00 || cp == '-';
+    }
+  }
+
+  /**
+   * {@code \d+} of the {@link NumberCharSequenceNormalizer}.
+   */
+  private static final class NumberStage extends CharClassStage {
+
+    @Override
+    boolean matches(int cp) {
+      return cp >= '0' && cp <= '9';
+    }
+  }
+
+  /**
+   * {@code https?://[-_.?&~;+=/#0-9A-Za-z]+} of the {@link UrlCharSequenceNormalizer}.
+   */
+  private static final class UrlStage extends Stage {
+
+    private static final int[] HTTP = {'h', 't', 't', 'p'};
+    private static final int[] SEPARATOR = {':', '/', '/'};
+
+    private final int[] pending = new int[9];
+    private int size;
+    private boolean inUrl;
+
+    private static boolean isUrlChar(int cp) {
+      return isAsciiLetterOrDigit(cp) || cp == '-' || cp == '_' || cp == '.' || cp == '?'
+          || cp == '&' || cp == '~' || cp == ';' || cp == '+' || cp == '=' || cp == '/'
+          || cp == '#';
+    }
+
+    @Override
+    void put(int cp) {
+      if (inUrl) {
+        if (isUrlChar(cp)) {
+          return;
+        }
+        inUrl = false;
+      }
+      pending[size++] = cp;
+
+      while (size > 0) {
+        final int state = matchState();
+        if (state == 0) {
+          return;
+        }
+        if (state > 0) {
+          next.put(' ');
+          size = 0;
+          inUrl = true;
+          return;
+        }
+        // retry at the next position
+        next.put(pending[0]);
+        System.arraycopy(pending, 1, pending, 0, --size);
+      }
+    }
+
+    /*
+     * Returns 1 for a match, 0 if the pending code points are a prefix of a match,
+     * and -1 if they can not be matched.
+     */
+    private int matchState() {
+      int i = 0;
+      for (int c : HTTP) {
+        if (i == size) {
+          return 0;
+        }
+        if (pending[i++] != c) {
+          return -1;
+        }
+      }
+      if (i < size && pending[i] == 's') {
+        i++;
+      }
+      for (int c : SEPARATOR) {
+        if (i == size) {
+          return 0;
+        }
+        if (pending[i++] != c) {
+          return -1;
+        }
+      }
+      if (i == size) {
+        return 0;
+      }
+      return isUrlChar(pending[i]) ? 1 : -1;
+    }
+
+    @Override
+    void finish() {
+      for (int i = 0; i < size; i++) {
+        next.put(pending[i]);
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      size = 0;
+      inUrl = false;
+    }
+  }
+
+  /**
+   * {@code (?<![-+_.0-9A-Za-z])[-+_.0-9A-Za-z]+@[-0-9A-Za-z]+[-.0-9A-Za-z]+} of the
+   * {@link UrlCharSequenceNormalizer}. The local part can not contain the {@code @},
+   * therefore a match starts with a whole run of local part characters. The domain
+   * matches the whole run of domain characters if it has at least two characters and
+   * does not start with a dot.
+   */
+  private static final class MailStage extends Stage {
+
+    private static final int IDLE = 0;
+    private static final int LOCAL = 1;
+    private static final int AT = 2;
+    private static final int DOMAIN = 3;
+    private static final int SKIP = 4;
+
+    private final CodePoints pending = new CodePoints();
+    private int state;
+    private int at;
+    private int previous = -1;
+
+    private static boolean isLocalChar(int cp) {
+      return isAsciiLetterOrDigit(cp) || cp == '-' || cp == '+' || cp == '_' || cp == '.';
+    }
+
+    private static boolean isDomainStart(int cp) {
+      return isAsciiLetterOrDigit(cp) || cp == '-';
+    }
+
+    private static boolean isDomainChar(int cp) {
+      return isAsciiLetterOrDigit(cp) || cp == '-' || cp == '.';
+    }
+
+    private void emit(int cp) {
+      previous = cp;
+      next.put(cp);
+    }
+
+    @Override
+    void put(int cp) {
+      switch (state) {
+        case IDLE -> {
+          if (isLocalChar(cp) && !isLocalChar(previous)) {
+            pending.add(cp);
+            state = LOCAL;
+          } else {
+            emit(cp);
+          }
+        }
+        case LOCAL -> {
+          if (isLocalChar(cp)) {
+            pending.add(cp);
+          } else if (cp == '@') {
+            at = pending.size();
+            pending.add(cp);
+            state = AT;
+          } else {
+            fail();
+            put(cp);
+          }
+        }
+        case AT -> {
+          if (isDomainStart(cp)) {
+            pending.add(cp);
+            state = DOMAIN;
+          } else {
+            fail();
+            put(cp);
+          }
+        }
+        case DOMAIN -> {
+          if (isDomainChar(cp)) {
+            next.put(' ');
+            previous = cp;
+            pending.clear();
+            state = SKIP;
+          } else {
+            fail();
+            put(cp);
+          }
+        }
+        default -> {
+          if (isDomainChar(cp)) {
+            previous = cp;
+          } else {
+            state = IDLE;
+            put(cp);
+          }
+        }
+      }
+    }
+
+    /*
+     * The match attempt at the start of the local part failed. No other attempt can
+     * start within the local part, but one can start after the @.
+     */
+    private void fail() {
+      final int end = state == LOCAL ? pending.size() : at;
+      final int[] retry = pending.copy(end);
+      for (int i = 0; i < end; i++) {
+        emit(pending.get(i));
+      }
+      pending.clear();
+      state = IDLE;
+      for (int cp : retry) {
+        put(cp);
+      }
+    }
+
+    @Override
+    void finish() {
+      while (state == LOCAL || state == AT || state == DOMAIN) {
+        fail();
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      pending.clear();
+      state = IDLE;
+      previous = -1;
+    }
+  }
+
+  /**
+   * {@code [#@]\S+} of the {@link TwitterCharSequenceNormalizer}.
+   */
+  private static final class HashUserStage extends Stage {
+
+    private int marker = -1;
+    private boolean inMatch;
+
+    @Override
+    void put(int cp) {
+      if (inMatch) {
+        if (isSpace(cp)) {
+          inMatch = false;
+          next.put(cp);
+        }
+      } else if (marker != -1) {
+        if (isSpace(cp)) {
+          next.put(marker);
+          next.put(cp);
+        } else {
+          next.put(' ');
+          inMatch = true;
+        }
+        marker = -1;
+      } else if (cp == '#' || cp == '@') {
+        marker = cp;
+      } else {
+        next.put(cp);
+      }
+    }
+
+    @Override
+    void finish() {
+      if (marker != -1) {
+        next.put(marker);
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      marker = -1;
+      inMatch = false;
+    }
+  }
+
+  /**
+   * {@code \b(rt[ :])+} case-insensitive of the {@link TwitterCharSequenceNormalizer}.
+   * The word boundary before the {@code r} is decided by the previous code point, with
+   * the rules of the regex engine for non-spacing marks.
+   */
+  private static final class RetweetStage extends Stage {
+
+    private static final int IDLE = 0;
+    private static final int R = 1;
+    private static final int RT = 2;
+    private static final int MATCH = 3;
+    private static final int MATCH_R = 4;
+    private static final int MATCH_RT = 5;
+
+    private final int[] pending = new int[2];
+    private int state;
+
+    // whether the last consumed code point counts as a word character for \b
+    private boolean wordBefore;
+    // whether a letter or digit precedes the non-spacing marks at the end of the input
+    private boolean base;
+
+    private static boolean isWordChar(int cp) {
+      if (UNICODE_WORD_BOUNDARY) {
+        return cp == '_' || Character.isLetterOrDigit(cp);
+      }
+      return cp == '_' || isAsciiLetterOrDigit(cp);
+    }
+
+    private void consumed(int cp) {
+      final boolean mark = Character.isBmpCodePoint(cp)
+          && Character.getType(cp) == Character.NON_SPACING_MARK;
+      wordBefore = isWordChar(cp) || mark && base;
+      if (!mark) {
+        base = Character.isBmpCodePoint(cp) && Character.isLetterOrDigit(cp);
+      }
+    }
+
+    private void emit(int cp) {
+      consumed(cp);
+      next.put(cp);
+    }
+
+    @Override
+    void put(int cp) {
+      switch (state) {
+        case IDLE -> {
+          if ((cp == 'r' || cp == 'R') && !wordBefore) {
+            pending[0] = cp;
+            state = R;
+          } else {
+            emit(cp);
+          }
+        }
+        case R, MATCH_R -> {
+          if (cp == 't' || cp == 'T') {
+            pending[1] = cp;
+            state = state == R ? RT : MATCH_RT;
+          } else {
+            fail(1, cp);
+          }
+        }
+        case RT, MATCH_RT -> {
+          if (cp == ' ' || cp == ':') {
+            if (state == RT) {
+              next.put(' ');
+            }
+            consumed(pending[0]);
+            consumed(pending[1]);
+            consumed(cp);
+            state = MATCH;
+          } else {
+            fail(2, cp);
+          }
+        }
+        default -> {
+          if (cp == 'r' || cp == 'R') {
+            pending[0] = cp;
+            state = MATCH_R;
+          } else {
+            state = IDLE;
+            put(cp);
+          }
+        }
+      }
+    }
+
+    /*
+     * Either the match attempt at the pending r failed, or the match ended before it.
+     */
+    private void fail(int size, int cp) {
+      final int r = pending[0];
+      final int t = pending[1];
+      final boolean attempt = state == R || state == RT;
+      state = IDLE;
+      if (attempt) {
+        emit(r);
+      } else {
+        put(r);
+      }
+      if (size > 1) {
+        put(t);
+      }
+      if (cp != -1) {
+        put(cp);
+      }
+    }
+
+    @Override
+    void finish() {
+      while (state != IDLE && state != MATCH) {
+        fail(state == R || state == MATCH_R ? 1 : 2, -1);
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      state = IDLE;
+      wordBefore = false;
+      base = false;
+    }
+  }
+
+  /**
+   * {@code [:;x]-?[()dop]} case-insensitive of the {@link TwitterCharSequenceNormalizer}.
+   */
+  private static final class FaceStage extends Stage {
+
+    private int eyes = -1;
+    private boolean nose;
+
+    private static boolean isEyes(int cp) {
+      return cp == ':' || cp == ';' || cp == 'x' || cp == 'X';
+    }
+
+    private static boolean isMouth(int cp) {
+      return cp == '(' || cp == ')' || cp == 'd' || cp == 'D' || cp == 'o' || cp == 'O'
+          || cp == 'p' || cp == 'P';
+    }
+
+    @Override
+    void put(int cp) {
+      if (eyes == -1) {
+        if (isEyes(cp)) {
+          eyes = cp;
+        } else {
+          next.put(cp);
+        }
+      } else if (isMouth(cp)) {
+        next.put(' ');
+        eyes = -1;
+        nose = false;
+      } else if (cp == '-' && !nose) {
+        nose = true;
+      } else {
+        flush();
+        put(cp);
+      }
+    }
+
+    private void flush() {
+      next.put(eyes);
+      eyes = -1;
+      if (nose) {
+        nose = false;
+        put('-');
+      }
+    }
+
+    @Override
+    void finish() {
+      if (eyes != -1) {
+        flush();
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      eyes = -1;
+      nose = false;
+    }
+  }
+
+  /**
+   * {@code ([hj])+([aieou])+(\1+\2+)+} case-insensitive, replaced by {@code $1$2$1$2}, of the
+   * {@link TwitterCharSequenceNormalizer}. Both runs of the first part are always matched
+   * completely, and the groups are their last code points.
+   */
+  private static final class LaughStage extends Stage {
+
+    private static final int IDLE = 0;
+    private static final int H = 1;
+    private static final int VOWEL = 2;
+    private static final int REPEAT_H = 3;
+    private static final int MATCH = 4;
+    private static final int MATCH_H = 5;
+
+    private final CodePoints pending = new CodePoints();
+    private int state;
+    private int group1;
+    private int group2;
+    private int repeatStart;
+
+    private static boolean isH(int cp) {
+      return cp == 'h' || cp == 'H' || cp == 'j' || cp == 'J';
+    }
+
+    private static boolean isVowel(int cp) {
+      return switch (cp) {
+        case 'a', 'e', 'i', 'o', 'u', 'A', 'E', 'I', 'O', 'U' -> true;
+        default -> false;
+      };
+    }
+
+    @Override
+    void put(int cp) {
+      switch (state) {
+        case IDLE -> {
+          if (isH(cp)) {
+            pending.add(cp);
+            state = H;
+          } else {
+            next.put(cp);
+          }
+        }
+        case H -> {
+          if (isH(cp)) {
+            pending.add(cp);
+          } else if (isVowel(cp)) {
+            group1 = pending.last();
+            pending.add(cp);
+            state = VOWEL;
+          } else {
+            fail(pending.size(), cp);
+          }
+        }
+        case VOWEL -> {
+          if (isVowel(cp)) {
+            pending.add(cp);
+          } else if (equalsIgnoreCase(cp, group1)) {
+            group2 = pending.last();
+            repeatStart = pending.size();
+            pending.add(cp);
+            state = REPEAT_H;
+          } else {
+            fail(pending.size(), cp);
+          }
+        }
+        case REPEAT_H -> {
+          if (equalsIgnoreCase(cp, group1)) {
+            pending.add(cp);
+          } else if (equalsIgnoreCase(cp, group2)) {
+            next.put(group1);
+            next.put(group2);
+            next.put(group1);
+            next.put(group2);
+            pending.clear();
+            state = MATCH;
+          } else {
+            // an attempt starting in the repeated run can see a longer run of [hj]
+            fail(repeatStart, cp);
+          }
+        }
+        case MATCH -> {
+          if (equalsIgnoreCase(cp, group1)) {
+            pending.add(cp);
+            state = MATCH_H;
+          } else if (!equalsIgnoreCase(cp, group2)) {
+            state = IDLE;
+            put(cp);
+          }
+        }
+        default -> {
+          if (equalsIgnoreCase(cp, group1)) {
+            pending.add(cp);
+          } else if (equalsIgnoreCase(cp, group2)) {
+            pending.clear();
+            state = MATCH;
+          } else {
+            // the match ended before the pending run
+            fail(0, cp);
+          }
+        }
+      }
+    }
+
+    /*
+     * Emits the first end pending code points, which can not start a match, and
+     * retries the remaining ones.
+     */
+    private void fail(int end, int cp) {
+      final int[] retry = pending.copy(end);
+      for (int i = 0; i < end; i++) {
+        next.put(pending.get(i));
+      }
+      pending.clear();
+      state = IDLE;
+      for (int c : retry) {
+        put(c);
+      }
+      if (cp != -1) {
+        put(cp);
+      }
+    }
+
+    @Override
+    void finish() {
+      while (state != IDLE && state != MATCH) {
+        fail(state == REPEAT_H ? repeatStart : state == MATCH_H ? 0 : pending.size(), -1);
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      pending.clear();
+      state = IDLE;
+    }
+  }
+
+  /**
+   * {@code \s{2,}} of the {@link ShrinkCharSequenceNormalizer}.
+   */
+  private static final class SpaceStage extends Stage {
+
+    private int space = -1;
+    private boolean inRun;
+
+    @Override
+    void put(int cp) {
+      if (isSpace(cp)) {
+        if (inRun) {
+          return;
+        }
+        if (space == -1) {
+          space = cp;
+        } else {
+          next.put(' ');
+          space = -1;
+          inRun = true;
+        }
+      } else {
+        if (space != -1) {
+          next.put(space);
+          space = -1;
+        }
+        inRun = false;
+        next.put(cp);
+      }
+    }
+
+    @Override
+    void finish() {
+      if (space != -1) {
+        next.put(space);
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      space = -1;
+      inRun = false;
+    }
+  }
+
+  /**
+   * {@code (.)\1{2,}} case-insensitive, replaced by {@code $1$1}, of the
+   * {@link ShrinkCharSequenceNormalizer}.
+   * <p>
+   * The regex engine also attempts a match at the low surrogate of a pair, where the
+   * {@code .} matches the low surrogate alone. This can only succeed if the pair is
+   * followed by the same low surrogate, then the pair is the start of the run.
+   */
+  private static final class RepeatedCharStage extends Stage {
+
+    private int first = -1;
+    private int second;
+    private int count;
+    // the high surrogate of the pair the run of low surrogates started with, or -1
+    private int high = -1;
+
+    private static boolean isAnyChar(int cp) {
+      // . without DOTALL
+      return cp != '\n' && cp != '\r' && cp != 0x85 && cp != 0x2028 && cp != 0x2029;
+    }
+
+    @Override
+    void put(int cp) {
+      if (first != -1) {
+        if (equalsIgnoreCase(cp, first)) {
+          if (count++ == 1) {
+            second = cp;
+          }
+          return;
+        }
+        if (high == -1 && count < 3 && Character.isSupplementaryCodePoint(first)
+            && cp == Character.lowSurrogate(first)) {
+          if (count == 2) {
+            next.put(first);
+          }
+          high = Character.highSurrogate(first);
+          first = cp;
+          count = 2;
+          return;
+        }
+        flush();
+      }
+      if (isAnyChar(cp)) {
+        first = cp;
+        count = 1;
+      } else {
+        next.put(cp);
+      }
+    }
+
+    private void flush() {
+      if (high != -1) {
+        // high and low surrogate, followed by one low surrogate for any longer run
+        next.put(Character.toCodePoint((char) high, (char) first));
+        if (count >= 2) {
+          next.put(first);
+        }
+        high = -1;
+        first = -1;
+        return;
+      }
+      next.put(first);
+      if (count >= 3) {
+        next.put(first);
+      } else if (count == 2) {
+        next.put(second);
+      }
+      first = -1;
+    }
+
+    @Override
+    void finish() {
+      if (first != -1) {
+        flush();
+      }
+      super.finish();
+    }
+
+    @Override
+    void reset() {
+      first = -1;
+      high = -1;
+    }
+  }
+
+  /**
+   * {@link String#trim()} of the {@link ShrinkCharSequenceNormalizer}.
+   */
+  private static final class TrimStage extends Stage {
+
+    private final CodePoints pending = new CodePoints();
+    private boolean started;
+
+    @Override
+    void put(int cp) {
+      if (cp <= ' ') {
+        if (started) {
+          pending.add(cp);
+        }
+      } else {
+        for (int i = 0; i < pending.size(); i++) {
+          next.put(pending.get(i));
+        }
+        pending.clear();
+        started = true;
+        next.put(cp);
+      }
+    }
+
+    @Override
+    void reset() {
+      pending.clear();
+      started = false;
+    }
+  }
+}
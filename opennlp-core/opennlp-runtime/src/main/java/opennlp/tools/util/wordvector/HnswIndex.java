@@ -0,0 +1,979 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.wordvector;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import opennlp.tools.util.CharPoolIndex;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.java.Experimental;
+
+/**
+ * An approximate nearest neighbour index over vectors, such as the vectors of a
+ * {@link WordVectorTable} or sentence vectors, based on a hierarchical navigable
+ * small world (HNSW) graph.
+ * <p>
+ * The vectors are compared by their {@link Similarity}. A query descends greedily through
+ * the sparse upper layers of the graph and then explores the dense bottom layer, keeping
+ * the {@code ef} most similar vectors found so far. A larger {@code ef} increases the
+ * recall of the returned top {@code k} neighbours at the cost of latency.
+ * <p>
+ * An index can be {@link #save(Path) saved} to a file, which is memory-mapped when it is
+ * {@link #open(Path) opened} again, hence loading a saved index takes constant time.
+ * <p>
+ * Searching is thread-safe, but vectors must not be {@link #add(String, float[]) added}
+ * concurrently with other operations. Opened indexes are read-only.
+ * <p>
+ * For reference see: Malkov and Yashunin, "Efficient and robust approximate nearest
+ * neighbor search using Hierarchical Navigable Small World graphs", 2016.
+ * <p>
+ * Warning: Experimental new feature, see OPENNLP-1144 for details, the API might be changed anytime.
+ */
+@Experimental
+public class HnswIndex {
+
+  /**
+   * The similarity measures of an {@link HnswIndex}.
+   */
+  public enum Similarity {
+    /**
+     * The cosine of the angle between the vectors, the vectors are normalized when they are added.
+     */
+    COSINE,
+    /**
+     * The dot product of the vectors.
+     */
+    DOT_PRODUCT
+  }
+
+  /**
+   * A vector found by a search.
+   *
+   * @param id The id of the vector, in the order the vectors were added.
+   * @param label The label of the vector, or {@code null} if it has none.
+   * @param score The similarity of the vector to the query.
+   */
+  public record Neighbor(int id, String label, float score) {
+  }
+
+  /**
+   * The default maximum number of neighbours per node in the upper layers,
+   * the bottom layer allows twice as many.
+   */
+  public static final int DEFAULT_M = 16;
+
+  /**
+   * The default number of candidates explored when a vector is added.
+   */
+  public static final int DEFAULT_EF_CONSTRUCTION = 200;
+
+  /**
+   * The default number of candidates explored by a search.
+   */
+  public static final int DEFAULT_EF_SEARCH = 64;
+
+  private static final int MAGIC = 0x4F4E484E; // ONHN
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 64;
+
+  private final int dimension;
+  private final Similarity similarity;
+  private final int m;
+  private final int efConstruction;
+  private final double levelMultiplier;
+  private final Random random = new Random(42);
+  private final Graph graph;
+
+  private int entryPoint;
+  private int maxLevel;
+
+  /**
+   * Initializes an empty {@link HnswIndex} with the default {@code m} and {@code efConstruction}.
+   *
+   * @param dimension The dimension of the vectors. Must be greater than {@code 0}.
+   * @param similarity The {@link Similarity} to compare the vectors with.
+   */
+  public HnswIndex(int dimension, Similarity similarity) {
+    this(dimension, similarity, DEFAULT_M, DEFAULT_EF_CONSTRUCTION);
+  }
+
+  /**
+   * Initializes an empty {@link HnswIndex}.
+   *
+   * @param dimension The dimension of the vectors. Must be greater than {@code 0}.
+   * @param similarity The {@link Similarity} to compare the vectors with.
+   * @param m The maximum number of neighbours per node in the upper layers, the bottom
+   *          layer allows {@code 2 * m}. Must be greater than {@code 1}.
+   * @param efConstruction The number of candidates explored when a vector is added.
+   *                       Must be greater than {@code 0}.
+   * @throws IllegalArgumentException Thrown if parameters are invalid.
+   */
+  public HnswIndex(int dimension, Similarity similarity, int m, int efConstruction) {
+    if (dimension < 1) {
+      throw new IllegalArgumentException("dimension must be greater than 0, but was " + dimension);
+    }
+    if (m < 2) {
+      throw new IllegalArgumentException("m must be greater than 1, but was " + m);
+    }
+    if (efConstruction < 1) {
+      throw new IllegalArgumentException("efConstruction must be greater than 0, but was "
+          + efConstruction);
+    }
+    this.dimension = dimension;
+    this.similarity = similarity;
+    this.m = m;
+    this.efConstruction = efConstruction;
+    this.levelMultiplier = 1 / Math.log(m);
+    this.graph = new HeapGraph();
+    this.entryPoint = -1;
+    this.maxLevel = -1;
+  }
+
+  private HnswIndex(MappedGraph graph, int dimension, Similarity similarity, int m,
+                    int entryPoint, int maxLevel) {
+    this.dimension = dimension;
+    this.similarity = similarity;
+    this.m = m;
+    this.efConstruction = DEFAULT_EF_CONSTRUCTION;
+    this.levelMultiplier = 1 / Math.log(m);
+    this.graph = graph;
+    this.entryPoint = entryPoint;
+    this.maxLevel = maxLevel;
+  }
+
+  /**
+   * Builds an {@link HnswIndex} over the vectors of a {@link WordVectorTable},
+   * labelled with their tokens.
+   *
+   * @param table The {@link WordVectorTable} to index.
+   * @param similarity The {@link Similarity} to compare the vectors with.
+   * @param m The maximum number of neighbours per node, see
+   *          {@link #HnswIndex(int, Similarity, int, int)}.
+   * @param efConstruction The number of candidates explored when a vector is added.
+   * @return The built {@link HnswIndex}.
+   * @throws IllegalArgumentException Thrown if the table is empty or parameters are invalid.
+   */
+  public static HnswIndex build(WordVectorTable table, Similarity similarity, int m,
+                                int efConstruction) {
+    final HnswIndex index = new HnswIndex(table.dimension(), similarity, m, efConstruction);
+    final float[] vector = new float[table.dimension()];
+    for (Iterator<String> tokens = table.tokens(); tokens.hasNext(); ) {
+      final String token = tokens.next();
+      toArray(table.get(token), vector);
+      index.add(token, vector);
+    }
+    return index;
+  }
+
+  /**
+   * Builds an {@link HnswIndex} over a stream of vectors, such as sentence vectors.
+   * The vectors are not labelled, they are identified by their position in the stream.
+   *
+   * @param vectors The {@link ObjectStream} of the vectors to index.
+   * @param dimension The dimension of the vectors.
+   * @param similarity The {@link Similarity} to compare the vectors with.
+   * @param m The maximum number of neighbours per node, see
+   *          {@link #HnswIndex(int, Similarity, int, int)}.
+   * @param efConstruction The number of candidates explored when a vector is added.
+   * @return The built {@link HnswIndex}.
+   * @throws IOException Thrown if IO errors occurred while reading the stream.
+   * @throws IllegalArgumentException Thrown if a vector has another dimension
+   *                                  or parameters are invalid.
+   */
+  public static HnswIndex build(ObjectStream<float[]> vectors, int dimension, Similarity similarity,
+                                int m, int efConstruction) throws IOException {
+    final HnswIndex index = new HnswIndex(dimension, similarity, m, efConstruction);
+    float[] vector;
+    while ((vector = vectors.read()) != null) {
+      index.add(null, vector);
+    }
+    return index;
+  }
+
+  private static float[] toArray(WordVector wordVector, float[] dest) {
+    for (int i = 0; i < dest.length; i++) {
+      dest[i] = wordVector.getAsFloat(i);
+    }
+    return dest;
+  }
+
+  /**
+   * Adds a vector to the index.
+   *
+   * @param label The label of the vector, may be {@code null}.
+   * @param vector The vector. It is copied, hence it can be reused by the caller.
+   * @return The id of the added vector.
+   * @throws IllegalArgumentException Thrown if the vector has another dimension.
+   * @throws UnsupportedOperationException Thrown if the index was {@link #open(Path) opened}.
+   */
+  public int add(String label, float[] vector) {
+    if (!(graph instanceof HeapGraph heapGraph)) {
+      throw new UnsupportedOperationException("An opened index is read-only");
+    }
+    final float[] v = prepare(vector);
+    final int level = (int) (-Math.log(1 - random.nextDouble()) * levelMultiplier);
+    final int id = heapGraph.add(label, v, level, m);
+
+    if (entryPoint == -1) {
+      entryPoint = id;
+      maxLevel = level;
+      return id;
+    }
+
+    int ep = entryPoint;
+    for (int l = maxLevel; l > level; l--) {
+      ep = greedySearch(v, ep, l);
+    }
+
+    for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+      final ScoredHeap candidates = searchLayer(v, ep, efConstruction, l);
+      final int count = candidates.size();
+      final int[] ids = new int[count];
+      final float[] scores = new float[count];
+      // the min-heap yields the candidates in ascending order of similarity
+      for (int i = count - 1; i >= 0; i--) {
+        scores[i] = candidates.topScore();
+        ids[i] = candidates.pop();
+      }
+
+      final int maxLinks = maxLinks(l);
+      final int[] links = heapGraph.links(id, l);
+      links[0] = selectNeighbors(ids, scores, count, maxLinks, links);
+      for (int i = 1; i <= links[0]; i++) {
+        connect(heapGraph, links[i], id, l, maxLinks);
+      }
+      ep = ids[0];
+    }
+
+    if (level > maxLevel) {
+      maxLevel = level;
+      entryPoint = id;
+    }
+    return id;
+  }
+
+  private float[] prepare(float[] vector) {
+    if (vector.length != dimension) {
+      throw new IllegalArgumentException("The vector must have the dimension " + dimension
+          + ", but has " + vector.length);
+    }
+    final float[] v = vector.clone();
+    if (similarity == Similarity.COSINE) {
+      double norm = 0;
+      for (float f : v) {
+        norm += f * f;
+      }
+      if (norm > 0) {
+        final float scale = (float) (1 / Math.sqrt(norm));
+        for (int i = 0; i < v.length; i++) {
+          v[i] *= scale;
+        }
+      }
+    }
+    return v;
+  }
+
+  private int maxLinks(int level) {
+    return level == 0 ? 2 * m : m;
+  }
+
+  /*
+   * Adds the link from node to id, if node has too many links afterwards
+   * its links are selected again.
+   */
+  private void connect(HeapGraph heapGraph, int node, int id, int level, int maxLinks) {
+    final int[] links = heapGraph.links(node, level);
+    if (links[0] < maxLinks) {
+      links[++links[0]] = id;
+      return;
+    }
+
+    final int count = links[0] + 1;
+    final int[] ids = new int[count];
+    final float[] scores = new float[count];
+    for (int i = 0; i < count; i++) {
+      ids[i] = i < links[0] ? links[i + 1] : id;
+      scores[i] = graph.similarity(node, ids[i]);
+    }
+    sortDescending(ids, scores, count);
+    links[0] = selectNeighbors(ids, scores, count, maxLinks, links);
+  }
+
+  private static void sortDescending(int[] ids, float[] scores, int count) {
+    // insertion sort, the lists are short
+    for (int i = 1; i < count; i++) {
+      final int id = ids[i];
+      final float score = scores[i];
+      int j = i - 1;
+      while (j >= 0 && scores[j] < score) {
+        ids[j + 1] = ids[j];
+        scores[j + 1] = scores[j];
+        j--;
+      }
+      ids[j + 1] = id;
+      scores[j + 1] = score;
+    }
+  }
+
+  /*
+   * Selects up to max neighbours from the candidates, which are sorted by descending similarity
+   * to the base vector, and writes them to out[1..]. A candidate is preferred if it is more
+   * similar to the base than to any neighbour selected before, which keeps links to distinct
+   * regions of the graph. The remaining slots are filled with the most similar candidates.
+   */
+  private int selectNeighbors(int[] ids, float[] scores, int count, int max, int[] out) {
+    final boolean[] selected = new boolean[count];
+    int size = 0;
+    for (int i = 0; i < count && size < max; i++) {
+      boolean diverse = true;
+      for (int j = 1; j <= size && diverse; j++) {
+        diverse = graph.similarity(ids[i], out[j]) <= scores[i];
+      }
+      if (diverse) {
+        out[++size] = ids[i];
+        selected[i] = true;
+      }
+    }
+    for (int i = 0; i < count && size < max; i++) {
+      if (!selected[i]) {
+        out[++size] = ids[i];
+      }
+    }
+    return size;
+  }
+
+  private int greedySearch(float[] query, int ep, int level) {
+    int best = ep;
+    float bestScore = graph.similarity(query, ep);
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      final int count = graph.linkCount(best, level);
+      for (int i = 0; i < count; i++) {
+        final int node = graph.link(best, level, i);
+        final float score = graph.similarity(query, node);
+        if (score > bestScore) {
+          bestScore = score;
+          best = node;
+          changed = true;
+        }
+      }
+    }
+    return best;
+  }
+
+  /*
+   * Returns the up to ef most similar nodes reachable on level from ep, as a min-heap.
+   */
+  private ScoredHeap searchLayer(float[] query, int ep, int ef, int level) {
+    final IntSet visited = new IntSet();
+    visited.add(ep);
+    final float epScore = graph.similarity(query, ep);
+    final ScoredHeap candidates = new ScoredHeap(true);
+    final ScoredHeap results = new ScoredHeap(false);
+    candidates.push(ep, epScore);
+    results.push(ep, epScore);
+
+    while (candidates.size() > 0) {
+      final float score = candidates.topScore();
+      final int node = candidates.pop();
+      if (results.size() >= ef && score < results.topScore()) {
+        break;
+      }
+      final int count = graph.linkCount(node, level);
+      for (int i = 0; i < count; i++) {
+        final int neighbor = graph.link(node, level, i);
+        if (visited.add(neighbor)) {
+          final float neighborScore = graph.similarity(query, neighbor);
+          if (results.size() < ef || neighborScore > results.topScore()) {
+            candidates.push(neighbor, neighborScore);
+            results.push(neighbor, neighborScore);
+            if (results.size() > ef) {
+              results.pop();
+            }
+          }
+        }
+      }
+    }
+    return results;
+  }
+
+  /**
+   * Searches the vectors most similar to {@code query}, exploring
+   * {@link #DEFAULT_EF_SEARCH} candidates.
+   *
+   * @param query The query vector.
+   * @param k The maximum number of neighbours to return.
+   * @return The most similar vectors, in descending order of similarity.
+   * @throws IllegalArgumentException Thrown if the query has another dimension.
+   */
+  public Neighbor[] search(float[] query, int k) {
+    return search(query, k, DEFAULT_EF_SEARCH);
+  }
+
+  /**
+   * Searches the vectors most similar to {@code query}.
+   *
+   * @param query The query vector.
+   * @param k The maximum number of neighbours to return.
+   * @param ef The number of candidates to explore, a larger number increases the recall
+   *           and the latency. At least {@code k} candidates are explored.
+   * @return The most similar vectors, in descending order of similarity.
+   * @throws IllegalArgumentException Thrown if the query has another dimension.
+   */
+  public Neighbor[] search(float[] query, int k, int ef) {
+    final float[] q = prepare(query);
+    if (entryPoint == -1 || k < 1) {
+      return new Neighbor[0];
+    }
+
+    int ep = entryPoint;
+    for (int l = maxLevel; l > 0; l--) {
+      ep = greedySearch(q, ep, l);
+    }
+    final ScoredHeap results = searchLayer(q, ep, Math.max(ef, k), 0);
+    while (results.size() > k) {
+      results.pop();
+    }
+
+    final Neighbor[] neighbors = new Neighbor[results.size()];
+    for (int i = neighbors.length - 1; i >= 0; i--) {
+      final float score = results.topScore();
+      final int id = results.pop();
+      neighbors[i] = new Neighbor(id, graph.label(id), score);
+    }
+    return neighbors;
+  }
+
+  /**
+   * Searches the vectors most similar to a {@link WordVector}.
+   *
+   * @param query The query {@link WordVector}, for example from a {@link WordVectorTable}.
+   * @param k The maximum number of neighbours to return.
+   * @param ef The number of candidates to explore, see {@link #search(float[], int, int)}.
+   * @return The most similar vectors, in descending order of similarity.
+   * @throws IllegalArgumentException Thrown if the query has another dimension.
+   */
+  public Neighbor[] search(WordVector query, int k, int ef) {
+    return search(toArray(query, new float[query.dimension()]), k, ef);
+  }
+
+  /**
+   * @param id The id of a vector.
+   * @return The label of the vector, or {@code null} if it has none.
+   */
+  public String getLabel(int id) {
+    return graph.label(id);
+  }
+
+  /**
+   * @return The number of vectors in the index.
+   */
+  public int size() {
+    return graph.size();
+  }
+
+  /**
+   * @return The dimension of the vectors.
+   */
+  public int dimension() {
+    return dimension;
+  }
+
+  /**
+   * @return The {@link Similarity} the vectors are compared with.
+   */
+  public Similarity getSimilarity() {
+    return similarity;
+  }
+
+  /**
+   * Saves the index to a file, which can be opened with {@link #open(Path)}.
+   *
+   * @param file The file to write the index to.
+   * @throws IOException Thrown if IO errors occurred or the graph exceeds the maximum file section size.
+   */
+  public void save(Path file) throws IOException {
+    final int count = graph.size();
+
+    // the upper layers of node are stored in one block of (1 + m) ints per layer
+    final int[] upperOffsets = new int[count];
+    long upperSize = 0;
+    for (int node = 0; node < count; node++) {
+      final int level = graph.level(node);
+      upperOffsets[node] = level > 0 ? (int) upperSize : -1;
+      upperSize += (long) level * (1 + m);
+    }
+
+    long labelChars = 0;
+    for (int node = 0; node < count; node++) {
+      final String label = graph.label(node);
+      labelChars += label != null ? label.length() : 0;
+    }
+
+    // the graph is mapped as a whole, hence it is limited to 2 GB
+    final long graphSize = ((long) count * 2 + (long) count * (1 + 2 * m) + upperSize + count + 1)
+        * Integer.BYTES + labelChars * Character.BYTES;
+    if (graphSize > Integer.MAX_VALUE) {
+      throw new IOException("The graph exceeds the maximum index size");
+    }
+    final long graphOffset = HEADER_SIZE + (long) count * dimension * Float.BYTES;
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      final ByteBuffer out = ByteBuffer.allocate(1024 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+      out.putInt(MAGIC).putInt(VERSION).putInt(dimension).putInt(count).putInt(similarity.ordinal())
+          .putInt(m).putInt(entryPoint).putInt(maxLevel).putLong(graphOffset);
+      out.position(HEADER_SIZE);
+
+      final float[] vector = new float[dimension];
+      for (int node = 0; node < count; node++) {
+        graph.vector(node, vector);
+        for (float component : vector) {
+          if (out.remaining() < Float.BYTES) {
+            write(channel, out);
+          }
+          out.putFloat(component);
+        }
+      }
+
+      for (int node = 0; node < count; node++) {
+        putInt(channel, out, graph.level(node));
+      }
+      for (int node = 0; node < count; node++) {
+        putInt(channel, out, upperOffsets[node]);
+      }
+      for (int node = 0; node < count; node++) {
+        putLinks(channel, out, node, 0);
+      }
+      for (int node = 0; node < count; node++) {
+        for (int level = 1; level <= graph.level(node); level++) {
+          putLinks(channel, out, node, level);
+        }
+      }
+
+      int labelOffset = 0;
+      putInt(channel, out, labelOffset);
+      for (int node = 0; node < count; node++) {
+        final String label = graph.label(node);
+        labelOffset += label != null ? label.length() : 0;
+        putInt(channel, out, labelOffset);
+      }
+      for (int node = 0; node < count; node++) {
+        final String label = graph.label(node);
+        for (int i = 0; label != null && i < label.length(); i++) {
+          if (out.remaining() < Character.BYTES) {
+            write(channel, out);
+          }
+          out.putChar(label.charAt(i));
+        }
+      }
+      write(channel, out);
+    }
+  }
+
+  private void putLinks(FileChannel channel, ByteBuffer out, int node, int level) throws IOException {
+    final int linkCount = graph.linkCount(node, level);
+    putInt(channel, out, linkCount);
+    for (int i = 0; i < maxLinks(level); i++) {
+      putInt(channel, out, i < linkCount ? graph.link(node, level, i) : 0);
+    }
+  }
+
+  private static void putInt(FileChannel channel, ByteBuffer out, int value) throws IOException {
+    if (out.remaining() < Integer.BYTES) {
+      write(channel, out);
+    }
+    out.putInt(value);
+  }
+
+  private static void write(FileChannel channel, ByteBuffer out) throws IOException {
+    out.flip();
+    while (out.hasRemaining()) {
+      channel.write(out);
+    }
+    out.clear();
+  }
+
+  /**
+   * Opens an index saved with {@link #save(Path)}. The file is memory-mapped and
+   * must not be modified while the index is in use. The opened index is read-only.
+   *
+   * @param file The file to open.
+   * @return The opened {@link HnswIndex}.
+   * @throws IOException Thrown if the file cannot be read or is not an index file.
+   */
+  public static HnswIndex open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+          .order(ByteOrder.LITTLE_ENDIAN);
+      if (header.getInt(0) != MAGIC) {
+        throw new IOException("Not an HNSW index file");
+      }
+      if (header.getInt(4) != VERSION) {
+        throw new IOException("Unsupported HNSW index version: " + header.getInt(4));
+      }
+      final int dimension = header.getInt(8);
+      final int count = header.getInt(12);
+      final Similarity similarity = Similarity.values()[header.getInt(16)];
+      final int m = header.getInt(20);
+      final int entryPoint = header.getInt(24);
+      final int maxLevel = header.getInt(28);
+      final long graphOffset = header.getLong(32);
+
+      final MappedGraph graph = new MappedGraph(channel, dimension, count, m, graphOffset);
+      return new HnswIndex(graph, dimension, similarity, m, entryPoint, maxLevel);
+    }
+  }
+
+  /**
+   * The storage of the vectors and their links.
+   */
+  private interface Graph {
+
+    int size();
+
+    int level(int node);
+
+    int linkCount(int node, int level);
+
+    int link(int node, int level, int i);
+
+    String label(int node);
+
+    void vector(int node, float[] dest);
+
+    float similarity(float[] query, int node);
+
+    float similarity(int a, int b);
+  }
+
+  private static float dot(float[] a, float[] b) {
+    float sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      sum += a[i] * b[i];
+    }
+    return sum;
+  }
+
+  /**
+   * A {@link Graph} which keeps the vectors and the links on the heap, it grows as vectors are added.
+   * The links of a node on a level are stored as count followed by the linked nodes.
+   */
+  private static class HeapGraph implements Graph {
+
+    private final List<float[]> vectors = new ArrayList<>();
+    private final List<int[][]> links = new ArrayList<>();
+    private final List<String> labels = new ArrayList<>();
+
+    int add(String label, float[] vector, int level, int m) {
+      final int[][] nodeLinks = new int[level + 1][];
+      for (int l = 0; l <= level; l++) {
+        nodeLinks[l] = new int[1 + (l == 0 ? 2 * m : m)];
+      }
+      vectors.add(vector);
+      links.add(nodeLinks);
+      labels.add(label);
+      return vectors.size() - 1;
+    }
+
+    int[] links(int node, int level) {
+      return links.get(node)[level];
+    }
+
+    @Override
+    public int size() {
+      return vectors.size();
+    }
+
+    @Override
+    public int level(int node) {
+      return links.get(node).length - 1;
+    }
+
+    @Override
+    public int linkCount(int node, int level) {
+      return links.get(node)[level][0];
+    }
+
+    @Override
+    public int link(int node, int level, int i) {
+      return links.get(node)[level][i + 1];
+    }
+
+    @Override
+    public String label(int node) {
+      return labels.get(node);
+    }
+
+    @Override
+    public void vector(int node, float[] dest) {
+      System.arraycopy(vectors.get(node), 0, dest, 0, dest.length);
+    }
+
+    @Override
+    public float similarity(float[] query, int node) {
+      return dot(query, vectors.get(node));
+    }
+
+    @Override
+    public float similarity(int a, int b) {
+      return dot(vectors.get(a), vectors.get(b));
+    }
+  }
+
+  /**
+   * A read-only {@link Graph} which reads the vectors and links from a memory-mapped file.
+   */
+  private static class MappedGraph implements Graph {
+
+    private final int dimension;
+    private final int count;
+    private final int m;
+
+    // the vectors are mapped in chunks of whole rows, a single mapping is limited to 2 GB
+    private final FloatBuffer[] chunks;
+    private final int rowsPerChunk;
+
+    private final IntBuffer levels;
+    private final IntBuffer upperOffsets;
+    private final IntBuffer bottomLinks;
+    private final IntBuffer upperLinks;
+    private final IntBuffer labelOffsets;
+    private final CharBuffer labelChars;
+
+    MappedGraph(FileChannel channel, int dimension, int count, int m, long graphOffset)
+        throws IOException {
+      this.dimension = dimension;
+      this.count = count;
+      this.m = m;
+
+      final long rowBytes = (long) dimension * Float.BYTES;
+      rowsPerChunk = (int) (Integer.MAX_VALUE / rowBytes);
+      final int chunkCount = count == 0 ? 0 : (count - 1) / rowsPerChunk + 1;
+      chunks = new FloatBuffer[chunkCount];
+      for (int i = 0; i < chunkCount; i++) {
+        final long firstRow = (long) i * rowsPerChunk;
+        final long chunkRows = Math.min(rowsPerChunk, count - firstRow);
+        chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + firstRow * rowBytes,
+            chunkRows * rowBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+      }
+
+      final ByteBuffer graph = channel.map(FileChannel.MapMode.READ_ONLY, graphOffset,
+          channel.size() - graphOffset).order(ByteOrder.LITTLE_ENDIAN);
+      final IntBuffer ints = graph.asIntBuffer();
+      levels = ints.slice(0, count);
+      upperOffsets = ints.slice(count, count);
+      int position = 2 * count;
+      bottomLinks = ints.slice(position, count * (1 + 2 * m));
+      position += count * (1 + 2 * m);
+
+      int upperSize = 0;
+      for (int node = 0; node < count; node++) {
+        upperSize += levels.get(node) * (1 + m);
+      }
+      upperLinks = ints.slice(position, upperSize);
+      position += upperSize;
+      labelOffsets = ints.slice(position, count + 1);
+      position += count + 1;
+      labelChars = graph.slice(position * Integer.BYTES, graph.capacity() - position * Integer.BYTES)
+          .order(ByteOrder.LITTLE_ENDIAN).asCharBuffer();
+    }
+
+    private int linksStart(int node, int level) {
+      return level == 0 ? node * (1 + 2 * m) : upperOffsets.get(node) + (level - 1) * (1 + m);
+    }
+
+    @Override
+    public int size() {
+      return count;
+    }
+
+    @Override
+    public int level(int node) {
+      return levels.get(node);
+    }
+
+    @Override
+    public int linkCount(int node, int level) {
+      return (level == 0 ? bottomLinks : upperLinks).get(linksStart(node, level));
+    }
+
+    @Override
+    public int link(int node, int level, int i) {
+      return (level == 0 ? bottomLinks : upperLinks).get(linksStart(node, level) + 1 + i);
+    }
+
+    @Override
+    public String label(int node) {
+      final int start = labelOffsets.get(node);
+      final int end = labelOffsets.get(node + 1);
+      return end > start ? labelChars.subSequence(start, end).toString() : null;
+    }
+
+    @Override
+    public void vector(int node, float[] dest) {
+      chunks[node / rowsPerChunk].get((node % rowsPerChunk) * dimension, dest, 0, dimension);
+    }
+
+    @Override
+    public float similarity(float[] query, int node) {
+      final FloatBuffer chunk = chunks[node / rowsPerChunk];
+      final int start = (node % rowsPerChunk) * dimension;
+      float sum = 0;
+      for (int i = 0; i < dimension; i++) {
+        sum += query[i] * chunk.get(start + i);
+      }
+      return sum;
+    }
+
+    @Override
+    public float similarity(int a, int b) {
+      final float[] vector = new float[dimension];
+      vector(a, vector);
+      return similarity(vector, b);
+    }
+  }
+
+  /**
+   * A binary heap of nodes ordered by their scores, either with the highest
+   * or with the lowest score on top.
+   */
+  private static class ScoredHeap {
+
+    private final boolean max;
+    private int[] ids = new int[16];
+    private float[] scores = new float[16];
+    private int size;
+
+    ScoredHeap(boolean max) {
+      this.max = max;
+    }
+
+    int size() {
+      return size;
+    }
+
+    float topScore() {
+      return scores[0];
+    }
+
+    private boolean above(float a, float b) {
+      return max ? a > b : a < b;
+    }
+
+    void push(int id, float score) {
+      if (size == ids.length) {
+        ids = Arrays.copyOf(ids, size * 2);
+        scores = Arrays.copyOf(scores, size * 2);
+      }
+      int i = size++;
+      while (i > 0) {
+        final int parent = (i - 1) / 2;
+        if (!above(score, scores[parent])) {
+          break;
+        }
+        ids[i] = ids[parent];
+        scores[i] = scores[parent];
+        i = parent;
+      }
+      ids[i] = id;
+      scores[i] = score;
+    }
+
+    int pop() {
+      final int top = ids[0];
+      size--;
+      final int id = ids[size];
+      final float score = scores[size];
+      int i = 0;
+      while (true) {
+        int child = 2 * i + 1;
+        if (child >= size) {
+          break;
+        }
+        if (child + 1 < size && above(scores[child + 1], scores[child])) {
+          child++;
+        }
+        if (!above(scores[child], score)) {
+          break;
+        }
+        ids[i] = ids[child];
+        scores[i] = scores[child];
+        i = child;
+      }
+      ids[i] = id;
+      scores[i] = score;
+      return top;
+    }
+  }
+
+  /**
+   * A set of non-negative ints with open addressing.
+   */
+  private static class IntSet {
+
+    private int[] keys = new int[64];
+    private int size;
+
+    IntSet() {
+      Arrays.fill(keys, -1);
+    }
+
+    /*
+     * Adds key, returns true if it was not contained before.
+     */
+    boolean add(int key) {
+      if (2 * (size + 1) > keys.length) {
+        final int[] old = keys;
+        keys = new int[old.length * 2];
+        Arrays.fill(keys, -1);
+        size = 0;
+        for (int k : old) {
+          if (k != -1) {
+            add(k);
+          }
+        }
+      }
+      final int mask = keys.length - 1;
+      int slot = CharPoolIndex.mix(key) & mask;
+      while (keys[slot] != -1) {
+        if (keys[slot] == key) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = key;
+      size++;
+      return true;
+    }
+  }
+}
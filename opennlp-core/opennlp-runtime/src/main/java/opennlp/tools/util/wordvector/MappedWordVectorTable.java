@@ -0,0 +1,569 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.wordvector;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import opennlp.tools.util.CharPoolIndex;
+import opennlp.tools.util.java.Experimental;
+
+/**
+ * A {@link WordVectorTable} implementation which memory-maps a binary word vector file,
+ * so the vectors are neither parsed nor copied to the heap when the table is opened.
+ * <p>
+ * The file consists of a header, the vectors as one contiguous matrix of little-endian
+ * {@code float} rows, and a token index: the row start offsets into a pool of token chars
+ * and an open addressing hash table from tokens to rows. Such files are created from
+ * GloVe or word2vec text files with {@link #convert(InputStream, Path)}, or from any
+ * {@link WordVectorTable} with {@link #write(WordVectorTable, Path)}.
+ * <p>
+ * Besides looking up single {@link WordVector word vectors}, the rows of several tokens
+ * can be copied into a single {@code float} array via {@link #lookup(String[], float[], int)}.
+ * <p>
+ * Instances are thread-safe.
+ * <p>
+ * Warning: Experimental new feature, see OPENNLP-1144 for details, the API might be changed anytime.
+ */
+@Experimental
+public class MappedWordVectorTable implements WordVectorTable {
+
+  private static final int MAGIC = 0x4F4E5756; // ONWV
+  private static final int VERSION = 1;
+
+  /*
+   * magic, version, rows, dimension, size, hash slots, index offset (long),
+   * padded to keep the matrix aligned.
+   */
+  private static final int HEADER_SIZE = 64;
+
+  private final int rows;
+  private final int dimension;
+  private final int size;
+
+  private final IntBuffer offsets;
+  private final IntBuffer slots;
+  private final CharBuffer chars;
+
+  // the matrix is mapped in chunks of whole rows, a single mapping is limited to 2 GB
+  private final FloatBuffer[] chunks;
+  private final int rowsPerChunk;
+
+  private MappedWordVectorTable(FileChannel channel) throws IOException {
+    final ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    if (header.getInt(0) != MAGIC) {
+      throw new IOException("Not a word vector table file");
+    }
+    if (header.getInt(4) != VERSION) {
+      throw new IOException("Unsupported word vector table version: " + header.getInt(4));
+    }
+    rows = header.getInt(8);
+    dimension = header.getInt(12);
+    size = header.getInt(16);
+    final int slotCount = header.getInt(20);
+    final long indexOffset = header.getLong(24);
+
+    final ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, indexOffset,
+        channel.size() - indexOffset).order(ByteOrder.LITTLE_ENDIAN);
+    final int slotsStart = (rows + 1) * Integer.BYTES;
+    final int charsStart = slotsStart + slotCount * Integer.BYTES;
+    offsets = index.slice(0, slotsStart).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    slots = index.slice(slotsStart, slotCount * Integer.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+    chars = index.slice(charsStart, index.capacity() - charsStart)
+        .order(ByteOrder.LITTLE_ENDIAN).asCharBuffer();
+
+    final long rowBytes = (long) dimension * Float.BYTES;
+    rowsPerChunk = rowBytes == 0 ? Integer.MAX_VALUE : (int) (Integer.MAX_VALUE / rowBytes);
+    final int chunkCount = rows == 0 ? 0 : (rows - 1) / rowsPerChunk + 1;
+    chunks = new FloatBuffer[chunkCount];
+    for (int i = 0; i < chunkCount; i++) {
+      final long firstRow = (long) i * rowsPerChunk;
+      final long chunkRows = Math.min(rowsPerChunk, rows - firstRow);
+      chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + firstRow * rowBytes,
+          chunkRows * rowBytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+    }
+  }
+
+  /**
+   * Opens a binary word vector file. The file is memory-mapped and must not
+   * be modified while the table is in use.
+   *
+   * @param file The file written by {@link #convert(InputStream, Path)} or
+   *             {@link #write(WordVectorTable, Path)}.
+   * @return The {@link MappedWordVectorTable}.
+   * @throws IOException Thrown if the file cannot be read or is not a word vector file.
+   */
+  public static MappedWordVectorTable open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      return new MappedWordVectorTable(channel);
+    }
+  }
+
+  /**
+   * Converts word vectors in the GloVe or word2vec text format into a binary word
+   * vector file which can be opened with {@link #open(Path)}.
+   * <p>
+   * Each line contains a token followed by the components of its vector, separated
+   * by spaces. A first line which contains only the number of vectors and their
+   * dimension, as written by word2vec, is skipped. If a token occurs more than once,
+   * its last vector is used.
+   *
+   * @param in A valid, open {@link InputStream} to read the UTF-8 encoded vectors from.
+   * @param out The file to write the binary word vectors to.
+   * @throws IOException Thrown if IO errors occurred or the dimension of the vectors differs.
+   */
+  public static void convert(InputStream in, Path out) throws IOException {
+    final BufferedReader reader = new BufferedReader(
+        new InputStreamReader(in, StandardCharsets.UTF_8), 1024 * 1024);
+
+    try (Writer writer = new Writer(out)) {
+      float[] vector = null;
+      String line;
+      boolean firstLine = true;
+      while ((line = reader.readLine()) != null) {
+        final int tokenEnd = line.indexOf(' ');
+        if (tokenEnd <= 0) {
+          if (line.isBlank()) {
+            continue;
+          }
+          throw new IOException("Line without vector: " + line);
+        }
+
+        if (firstLine) {
+          firstLine = false;
+          if (isWord2VecHeader(line, tokenEnd)) {
+            continue;
+          }
+        }
+
+        final int dimension = countFields(line, tokenEnd);
+        if (vector == null) {
+          vector = new float[dimension];
+        } else if (dimension != vector.length) {
+          throw new IOException("Vector dimension must be constant!");
+        }
+
+        int start = tokenEnd;
+        for (int i = 0; i < vector.length; i++) {
+          start = skipSpaces(line, start);
+          final int end = fieldEnd(line, start);
+          vector[i] = Float.parseFloat(line.substring(start, end));
+          start = end;
+        }
+
+        writer.add(line.substring(0, tokenEnd), vector);
+      }
+    }
+  }
+
+  /**
+   * Writes the vectors of a {@link WordVectorTable} into a binary word vector file
+   * which can be opened with {@link #open(Path)}.
+   *
+   * @param table The {@link WordVectorTable} to write.
+   * @param out The file to write the binary word vectors to.
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  public static void write(WordVectorTable table, Path out) throws IOException {
+    try (Writer writer = new Writer(out)) {
+      final float[] vector = new float[Math.max(table.dimension(), 0)];
+      for (Iterator<String> tokens = table.tokens(); tokens.hasNext(); ) {
+        final String token = tokens.next();
+        final WordVector wordVector = table.get(token);
+        for (int i = 0; i < vector.length; i++) {
+          vector[i] = wordVector.getAsFloat(i);
+        }
+        writer.add(token, vector);
+      }
+    }
+  }
+
+  private static boolean isWord2VecHeader(String line, int tokenEnd) {
+    if (countFields(line, tokenEnd) != 1) {
+      return false;
+    }
+    final int start = skipSpaces(line, tokenEnd);
+    return isDigits(line, 0, tokenEnd) && isDigits(line, start, fieldEnd(line, start));
+  }
+
+  private static boolean isDigits(String s, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (s.charAt(i) < '0' || s.charAt(i) > '9') {
+        return false;
+      }
+    }
+    return end > start;
+  }
+
+  private static int countFields(String line, int start) {
+    int count = 0;
+    int index = skipSpaces(line, start);
+    while (index < line.length()) {
+      count++;
+      index = skipSpaces(line, fieldEnd(line, index));
+    }
+    return count;
+  }
+
+  private static int skipSpaces(String line, int index) {
+    while (index < line.length() && Character.isWhitespace(line.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  private static int fieldEnd(String line, int index) {
+    while (index < line.length() && !Character.isWhitespace(line.charAt(index))) {
+      index++;
+    }
+    return index;
+  }
+
+  /**
+   * @param token The token to look up.
+   * @return The row of the vector of {@code token}, or {@code -1} if it is not in the table.
+   */
+  public int getRow(CharSequence token) {
+    final int mask = slots.capacity() - 1;
+    if (mask < 0) {
+      return -1;
+    }
+    for (int slot = CharPoolIndex.hash(token) & mask; ; slot = (slot + 1) & mask) {
+      final int entry = slots.get(slot);
+      if (entry == 0) {
+        return -1;
+      }
+      if (matches(entry - 1, token)) {
+        return entry - 1;
+      }
+    }
+  }
+
+  private boolean matches(int row, CharSequence token) {
+    final int start = offsets.get(row);
+    final int length = offsets.get(row + 1) - start;
+    if (length != token.length()) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (chars.get(start + i) != token.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String token(int row) {
+    final int start = offsets.get(row);
+    return chars.subSequence(start, offsets.get(row + 1)).toString();
+  }
+
+  /**
+   * Copies the vector of a row into {@code dest}.
+   *
+   * @param row The row of the vector, see {@link #getRow(CharSequence)}.
+   * @param dest The array to copy the {@link #dimension()} components of the vector to.
+   * @param offset The offset in {@code dest} of the first component.
+   * @throws IndexOutOfBoundsException Thrown if {@code row} is not a row of the table
+   *                                   or {@code dest} is too short.
+   */
+  public void copyRow(int row, float[] dest, int offset) {
+    if (row < 0 || row >= rows) {
+      throw new IndexOutOfBoundsException("row: " + row);
+    }
+    chunks[row / rowsPerChunk].get((row % rowsPerChunk) * dimension, dest, offset, dimension);
+  }
+
+  /**
+   * Copies the vectors of {@code tokens} one after the other into {@code dest}. The
+   * components of a token which is not in the table are set to {@code 0}.
+   *
+   * @param tokens The tokens to look up.
+   * @param dest The array to copy the vectors to, its length must be at least
+   *             {@code offset + tokens.length * dimension()}.
+   * @param offset The offset in {@code dest} of the first component of the first vector.
+   * @return The number of tokens found in the table.
+   * @throws IndexOutOfBoundsException Thrown if {@code dest} is too short.
+   */
+  public int lookup(String[] tokens, float[] dest, int offset) {
+    int found = 0;
+    for (String token : tokens) {
+      final int row = getRow(token);
+      if (row != -1) {
+        copyRow(row, dest, offset);
+        found++;
+      } else {
+        Arrays.fill(dest, offset, offset + dimension, 0f);
+      }
+      offset += dimension;
+    }
+    return found;
+  }
+
+  @Override
+  public WordVector get(String token) {
+    final int row = getRow(token);
+    if (row == -1) {
+      return null;
+    }
+    return new MappedWordVector(chunks[row / rowsPerChunk], (row % rowsPerChunk) * dimension, dimension);
+  }
+
+  @Override
+  public Iterator<String> tokens() {
+    return new Iterator<>() {
+
+      private int row = nextRow(0);
+
+      // rows of tokens which occur more than once are skipped, except for the last one
+      private int nextRow(int row) {
+        while (row < rows && getRow(token(row)) != row) {
+          row++;
+        }
+        return row;
+      }
+
+      @Override
+      public boolean hasNext() {
+        return row < rows;
+      }
+
+      @Override
+      public String next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        final String token = token(row);
+        row = nextRow(row + 1);
+        return token;
+      }
+    };
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public int dimension() {
+    return size > 0 ? dimension : -1;
+  }
+
+  /**
+   * A {@link WordVector} which reads its components from the mapped matrix.
+   */
+  private static class MappedWordVector implements WordVector {
+
+    private final FloatBuffer chunk;
+    private final int start;
+    private final int dimension;
+
+    MappedWordVector(FloatBuffer chunk, int start, int dimension) {
+      this.chunk = chunk;
+      this.start = start;
+      this.dimension = dimension;
+    }
+
+    @Override
+    public WordVectorType getDataType() {
+      return WordVectorType.FLOAT;
+    }
+
+    @Override
+    public float getAsFloat(int index) {
+      return chunk.get(start + index);
+    }
+
+    @Override
+    public double getAsDouble(int index) {
+      return getAsFloat(index);
+    }
+
+    @Override
+    public FloatBuffer toFloatBuffer() {
+      return chunk.slice(start, dimension);
+    }
+
+    @Override
+    public DoubleBuffer toDoubleBuffer() {
+      final double[] doubleVector = new double[dimension];
+      for (int i = 0; i < doubleVector.length; i++) {
+        doubleVector[i] = getAsFloat(i);
+      }
+      return DoubleBuffer.wrap(doubleVector).asReadOnlyBuffer();
+    }
+
+    @Override
+    public int dimension() {
+      return dimension;
+    }
+  }
+
+  /**
+   * Writes the vectors to the matrix section of a file as they are added, and the
+   * header and token index once all vectors are added.
+   */
+  private static class Writer implements AutoCloseable {
+
+    private final FileChannel channel;
+    private final List<String> tokens = new ArrayList<>();
+    private ByteBuffer buffer;
+    private int dimension = -1;
+
+    Writer(Path out) throws IOException {
+      channel = FileChannel.open(out, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
+      channel.position(HEADER_SIZE);
+    }
+
+    void add(String token, float[] vector) throws IOException {
+      if (dimension == -1) {
+        dimension = vector.length;
+        final int rowBytes = Math.max(dimension * Float.BYTES, 1);
+        buffer = ByteBuffer.allocate(Math.max(rowBytes, 1024 * 1024 / rowBytes * rowBytes))
+            .order(ByteOrder.LITTLE_ENDIAN);
+      }
+      if (buffer.remaining() < dimension * Float.BYTES) {
+        flush();
+      }
+      for (float component : vector) {
+        buffer.putFloat(component);
+      }
+      tokens.add(token);
+    }
+
+    private void flush() throws IOException {
+      buffer.flip();
+      while (buffer.hasRemaining()) {
+        channel.write(buffer);
+      }
+      buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+      try (channel) {
+        if (buffer != null) {
+          flush();
+        }
+        writeIndex();
+      }
+    }
+
+    private void writeIndex() throws IOException {
+      final int rows = tokens.size();
+      final long indexOffset = channel.position();
+
+      // a load factor of at most 0.5 keeps the probe sequences short
+      int slotCount = 1;
+      while (slotCount < 2 * rows) {
+        slotCount <<= 1;
+      }
+
+      // the index is mapped as a whole, hence it is limited to 2 GB
+      long indexSize = ((long) rows + 1 + slotCount) * Integer.BYTES;
+      for (String token : tokens) {
+        indexSize += (long) token.length() * Character.BYTES;
+      }
+      if (indexSize > Integer.MAX_VALUE) {
+        throw new IOException("The tokens exceed the maximum index size");
+      }
+      final int[] offsets = new int[rows + 1];
+      for (int row = 0; row < rows; row++) {
+        offsets[row + 1] = offsets[row] + tokens.get(row).length();
+      }
+      final int[] slots = new int[rows == 0 ? 0 : slotCount];
+      int size = 0;
+      for (int row = 0; row < rows; row++) {
+        final String token = tokens.get(row);
+        final int mask = slots.length - 1;
+        // the slots are written to the file, the hash must not change to keep it readable
+        int slot = CharPoolIndex.hash(token) & mask;
+        while (slots[slot] != 0 && !tokens.get(slots[slot] - 1).equals(token)) {
+          slot = (slot + 1) & mask;
+        }
+        if (slots[slot] == 0) {
+          size++;
+        }
+        // a token which occurs again replaces its former row
+        slots[slot] = row + 1;
+      }
+
+      final ByteBuffer out = ByteBuffer.allocate(1024 * 1024).order(ByteOrder.LITTLE_ENDIAN);
+      for (int offset : offsets) {
+        putInt(out, offset);
+      }
+      for (int slot : slots) {
+        putInt(out, slot);
+      }
+      for (String token : tokens) {
+        for (int i = 0; i < token.length(); i++) {
+          if (out.remaining() < Character.BYTES) {
+            write(out);
+          }
+          out.putChar(token.charAt(i));
+        }
+      }
+      write(out);
+
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+      header.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(Math.max(dimension, 0))
+          .putInt(size).putInt(slots.length).putLong(indexOffset);
+      header.clear();
+      channel.position(0);
+      while (header.hasRemaining()) {
+        channel.write(header);
+      }
+    }
+
+    private void putInt(ByteBuffer out, int value) throws IOException {
+      if (out.remaining() < Integer.BYTES) {
+        write(out);
+      }
+      out.putInt(value);
+    }
+
+    private void write(ByteBuffer out) throws IOException {
+      out.flip();
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+      out.clear();
+    }
+  }
+}
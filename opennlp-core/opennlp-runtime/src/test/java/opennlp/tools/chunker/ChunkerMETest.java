@@ -20,6 +20,7 @@ package opennlp.tools.chunker;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +34,7 @@ import opennlp.tools.util.Parameters;
 import opennlp.tools.util.PlainTextByLineStream;
 import opennlp.tools.util.Sequence;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 import opennlp.tools.util.TrainingParameters;
 
 /**
@@ -126,6 +128,36 @@ public class ChunkerMETest {
 
   }
 
+  @Test
+  void testChunkAsSpanBuffer() {
+    Span[] expected = chunker.chunkAsSpans(toks1, tags1);
+    double[] probs = ((ChunkerME) chunker).probs();
+
+    SpanBuffer buffer = new SpanBuffer();
+    chunker.chunkAsSpans(toks1, tags1, buffer);
+
+    Assertions.assertArrayEquals(expected, buffer.toSpans());
+    Assertions.assertEquals(4, buffer.getTypeCount());
+    Assertions.assertEquals(buffer.getTypeId(0), buffer.getTypeId(2));
+    Assertions.assertEquals((probs[9] + probs[10] + probs[11] + probs[12]) / 4, buffer.getProb(7), 1e-12);
+  }
+
+  @Test
+  void testDecodePhrasesLikeChunkSample() {
+    String[] tags = {"B-NP", "I-NP", "B-VP", "I-VP", "I-PP", "O", "I-", "B-", "XY"};
+    Random random = new Random(42);
+    SpanBuffer buffer = new SpanBuffer();
+    for (int n = 0; n < 2000; n++) {
+      String[] preds = new String[random.nextInt(10)];
+      for (int i = 0; i < preds.length; i++) {
+        preds[i] = tags[random.nextInt(tags.length)];
+      }
+      ChunkerME.decodePhrases(preds, buffer);
+      Assertions.assertArrayEquals(ChunkSample.phrasesAsSpanList(preds, preds, preds), buffer.toSpans(),
+          () -> Arrays.toString(preds));
+    }
+  }
+
   @Test
   void testTokenProbArray() {
     Sequence[] preds = chunker.topKSequences(toks1, tags1);
@@ -20,12 +20,17 @@ package opennlp.tools.dictionary;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import opennlp.tools.util.StringList;
+import opennlp.tools.util.model.BinaryDictionarySerializer;
 
 /**
  * Tests for the {@link Dictionary} class.
@@ -109,6 +114,85 @@ public class DictionaryTest {
     Assertions.assertEquals(reference, recreated);
   }
 
+  /**
+   * Tests the binary serialization of the {@link Dictionary} through a stream
+   * and through a memory-mapped file.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  @Test
+  void testBinarySerialization(@TempDir Path tempDir) throws IOException {
+    Dictionary reference = getCaseInsensitive();
+
+    reference.put(new StringList("a1", "a2", "a3", "a5"));
+    reference.put(new StringList("a2"));
+    reference.put(new StringList("New", "York"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    reference.serializeBinary(out);
+
+    Dictionary recreated = new Dictionary(new ByteArrayInputStream(out.toByteArray()));
+
+    Assertions.assertEquals(reference, recreated);
+    Assertions.assertFalse(recreated.isCaseSensitive());
+    Assertions.assertTrue(recreated.isBinaryFormat());
+    Assertions.assertEquals(BinaryDictionarySerializer.class, recreated.getArtifactSerializerClass());
+    Assertions.assertTrue(recreated.contains(new StringList("NEW", "YORK")));
+    Assertions.assertEquals(1, recreated.getMinTokenCount());
+    Assertions.assertEquals(4, recreated.getMaxTokenCount());
+
+    Path file = tempDir.resolve("dictionary.bin");
+    Files.write(file, out.toByteArray());
+
+    Assertions.assertEquals(reference, new Dictionary(file));
+  }
+
+  /**
+   * Tests the binary serialization of a case sensitive {@link Dictionary}.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  @Test
+  void testBinarySerializationCaseSensitive(@TempDir Path tempDir) throws IOException {
+    Dictionary reference = getCaseSensitive();
+
+    reference.put(new StringList("1a", "1b"));
+    reference.put(new StringList("1A", "1B"));
+
+    Path file = tempDir.resolve("dictionary.bin");
+    try (OutputStream out = Files.newOutputStream(file)) {
+      reference.serializeBinary(out);
+    }
+
+    Dictionary recreated = new Dictionary(file);
+
+    Assertions.assertEquals(reference, recreated);
+    Assertions.assertTrue(recreated.isCaseSensitive());
+    Assertions.assertTrue(recreated.contains(new StringList("1A", "1B")));
+    Assertions.assertFalse(recreated.contains(new StringList("1a", "1B")));
+  }
+
+  /**
+   * Tests that a file in the XML format is read by {@link Dictionary#Dictionary(Path)}.
+   *
+   * @throws IOException Thrown if IO errors occurred.
+   */
+  @Test
+  void testXmlFile(@TempDir Path tempDir) throws IOException {
+    Dictionary reference = getCaseInsensitive();
+    reference.put(new StringList("a1", "a2"));
+
+    Path file = tempDir.resolve("dictionary.xml");
+    try (OutputStream out = Files.newOutputStream(file)) {
+      reference.serialize(out);
+    }
+
+    Dictionary recreated = new Dictionary(file);
+
+    Assertions.assertEquals(reference, recreated);
+    Assertions.assertFalse(recreated.isBinaryFormat());
+  }
+
   /**
    * Tests for the {@link Dictionary#parseOneEntryPerLine(java.io.Reader)}
    * method.
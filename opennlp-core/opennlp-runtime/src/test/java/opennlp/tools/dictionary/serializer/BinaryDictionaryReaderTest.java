@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.dictionary.serializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import opennlp.tools.dictionary.serializer.BinaryDictionaryFormat.Kind;
+import opennlp.tools.util.InvalidFormatException;
+import opennlp.tools.util.StringList;
+
+/**
+ * Tests for the {@link BinaryDictionaryReader} and {@link BinaryDictionaryWriter} classes.
+ */
+public class BinaryDictionaryReaderTest {
+
+  private static byte[] write(BinaryDictionaryWriter writer) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    writer.write(out);
+    return out.toByteArray();
+  }
+
+  @Test
+  void testNGramEntries() throws IOException {
+    BinaryDictionaryWriter writer = new BinaryDictionaryWriter(Kind.NGRAM_MODEL, false);
+    writer.add(new StringList("the", "brown"), 3);
+    writer.add(new StringList("brown", "fox"), 300);
+    writer.add(new StringList("fox"), 0);
+    Assertions.assertEquals(3, writer.size());
+
+    BinaryDictionaryReader reader = BinaryDictionaryReader.open(
+        new ByteArrayInputStream(write(writer)), Kind.NGRAM_MODEL);
+
+    Assertions.assertEquals(Kind.NGRAM_MODEL, reader.getKind());
+    Assertions.assertFalse(reader.isCaseSensitive());
+    Assertions.assertEquals(3, reader.getEntryCount());
+
+    Assertions.assertTrue(reader.next());
+    String[] first = reader.getTokens();
+    Assertions.assertArrayEquals(new String[] {"the", "brown"}, first);
+    Assertions.assertEquals(3, reader.getCount());
+
+    Assertions.assertTrue(reader.next());
+    String[] second = reader.getTokens();
+    Assertions.assertArrayEquals(new String[] {"brown", "fox"}, second);
+    Assertions.assertEquals(300, reader.getCount());
+    // equal tokens share the instance of the string table
+    Assertions.assertSame(first[1], second[0]);
+
+    Assertions.assertTrue(reader.next());
+    Assertions.assertEquals(0, reader.getCount());
+
+    Assertions.assertFalse(reader.next());
+    Assertions.assertFalse(reader.next());
+    Assertions.assertThrows(NoSuchElementException.class, reader::getTokens);
+  }
+
+  @Test
+  void testDictionaryEntriesFromFile(@TempDir Path tempDir) throws IOException {
+    BinaryDictionaryWriter writer = new BinaryDictionaryWriter(Kind.DICTIONARY, true);
+    writer.add(new StringList("Übung"));
+    writer.add(new StringList("fährt", "Übung"));
+
+    Path file = tempDir.resolve("dict.bin");
+    Files.write(file, write(writer));
+
+    Assertions.assertTrue(BinaryDictionaryFormat.isBinaryDictionary(file));
+    Assertions.assertEquals(Kind.DICTIONARY, BinaryDictionaryFormat.readKind(file));
+
+    BinaryDictionaryReader reader = BinaryDictionaryReader.open(file);
+    Assertions.assertTrue(reader.isCaseSensitive());
+
+    Assertions.assertTrue(reader.next());
+    Assertions.assertArrayEquals(new String[] {"Übung"}, reader.getTokens());
+    Assertions.assertThrows(IllegalStateException.class, reader::getCount);
+
+    Assertions.assertTrue(reader.next());
+    Assertions.assertArrayEquals(new String[] {"fährt", "Übung"}, reader.getTokens());
+
+    Assertions.assertFalse(reader.next());
+  }
+
+  @Test
+  void testWrongKind() throws IOException {
+    BinaryDictionaryWriter writer = new BinaryDictionaryWriter(Kind.DICTIONARY, false);
+    writer.add(new StringList("a"));
+    byte[] data = write(writer);
+
+    Assertions.assertThrows(InvalidFormatException.class, () -> BinaryDictionaryReader.open(
+        new ByteArrayInputStream(data), Kind.NGRAM_MODEL));
+    Assertions.assertThrows(IllegalStateException.class,
+        () -> writer.add(new StringList("a"), 1));
+  }
+
+  @Test
+  void testNegativeCount() {
+    BinaryDictionaryWriter writer = new BinaryDictionaryWriter(Kind.NGRAM_MODEL, false);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> writer.add(new StringList("a"), -1));
+  }
+
+  @Test
+  void testNotBinary() {
+    byte[] xml = "<dictionary/>".getBytes();
+    Assertions.assertFalse(BinaryDictionaryFormat.isBinaryDictionary(xml));
+    Assertions.assertThrows(InvalidFormatException.class,
+        () -> BinaryDictionaryReader.open(new ByteArrayInputStream(xml)));
+  }
+
+  @Test
+  void testUnsupportedVersion() throws IOException {
+    byte[] data = write(new BinaryDictionaryWriter(Kind.DICTIONARY, false));
+    data[Integer.BYTES] = 2;
+
+    Assertions.assertThrows(InvalidFormatException.class,
+        () -> BinaryDictionaryReader.open(new ByteArrayInputStream(data)));
+  }
+
+  @Test
+  void testTruncated() throws IOException {
+    BinaryDictionaryWriter writer = new BinaryDictionaryWriter(Kind.DICTIONARY, false);
+    writer.add(new StringList("a", "b"));
+    writer.add(new StringList("c"));
+    byte[] data = write(writer);
+
+    BinaryDictionaryReader reader = BinaryDictionaryReader.open(
+        new ByteArrayInputStream(Arrays.copyOf(data, data.length - 1)));
+    Assertions.assertTrue(reader.next());
+    Assertions.assertThrows(EOFException.class, reader::next);
+  }
+
+  @Test
+  void testInvalidStringId() throws IOException {
+    BinaryDictionaryWriter writer = new BinaryDictionaryWriter(Kind.DICTIONARY, false);
+    writer.add(new StringList("a"));
+    byte[] data = write(writer);
+    // the last byte is the id of the only token
+    data[data.length - 1] = 5;
+
+    BinaryDictionaryReader reader = BinaryDictionaryReader.open(new ByteArrayInputStream(data));
+    Assertions.assertThrows(InvalidFormatException.class, reader::next);
+  }
+}
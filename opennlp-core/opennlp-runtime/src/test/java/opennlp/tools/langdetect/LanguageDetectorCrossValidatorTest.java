@@ -62,4 +62,39 @@ public class LanguageDetectorCrossValidatorTest {
     Assertions.assertEquals(0.98989898989899, cv.getDocumentAccuracy(), 0.01);
   }
 
+  @Test
+  public void evaluateConcurrently() throws Exception {
+
+    TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ITERATIONS_PARAM, 100);
+    params.put(Parameters.CUTOFF_PARAM, 5);
+    params.put("PrintMessages", false);
+
+    final AtomicInteger evaluatedCount = new AtomicInteger();
+
+    LanguageDetectorCrossValidator sequential = new LanguageDetectorCrossValidator(params,
+        new LanguageDetectorFactory());
+    sequential.evaluate(LanguageDetectorMETest.createSampleStream(), 3);
+
+    LanguageDetectorCrossValidator concurrent = new LanguageDetectorCrossValidator(params,
+        new LanguageDetectorFactory(), new LanguageDetectorEvaluationMonitor() {
+          @Override
+          public void correctlyClassified(LanguageSample reference,
+                                          LanguageSample prediction) {
+            evaluatedCount.incrementAndGet();
+          }
+
+          @Override
+          public void misclassified(LanguageSample reference,
+                                    LanguageSample prediction) {
+            evaluatedCount.incrementAndGet();
+          }
+        });
+    concurrent.evaluate(LanguageDetectorMETest.createSampleStream(), 3, 3);
+
+    Assertions.assertEquals(99, concurrent.getDocumentCount());
+    Assertions.assertEquals(99, evaluatedCount.get());
+    Assertions.assertEquals(sequential.getDocumentAccuracy(), concurrent.getDocumentAccuracy());
+  }
+
 }
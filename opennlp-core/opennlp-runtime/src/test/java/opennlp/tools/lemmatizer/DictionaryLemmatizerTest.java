@@ -17,6 +17,14 @@
 
 package opennlp.tools.lemmatizer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -49,4 +57,61 @@ public class DictionaryLemmatizerTest {
     }
   }
 
+  @Test
+  void testLookupIsCaseInsensitiveAndTagSpecific() {
+    String[] lemmas = dictionaryLemmatizer.lemmatize(new String[] {"Dogs", "dogs", "dogs"},
+        new String[] {"NNS", "VBZ", null});
+
+    Assertions.assertArrayEquals(new String[] {"dog", "O", "O"}, lemmas);
+  }
+
+  @Test
+  void testDuplicateEntriesKeepLastLemmas() throws IOException {
+    DictionaryLemmatizer lemmatizer = createLemmatizer(
+        "saw\tVBD\tsee\nsaw\tNN\tsaw\nsaw\tVBD\tsee#saw\n");
+
+    Assertions.assertEquals(List.of(List.of("see", "saw"), List.of("saw")),
+        lemmatizer.lemmatize(List.of("saw", "saw"), List.of("VBD", "NN")));
+
+    Map<List<String>, List<String>> dictMap = lemmatizer.getDictMap();
+    Assertions.assertEquals(2, dictMap.size());
+    Assertions.assertEquals(List.of("see", "saw"), dictMap.get(Arrays.asList("saw", "VBD")));
+    Assertions.assertSame(dictMap, lemmatizer.getDictMap());
+    Assertions.assertThrows(UnsupportedOperationException.class,
+        () -> dictMap.put(List.of("seen", "VBN"), List.of("see")));
+  }
+
+  @Test
+  void testLargeDictionary() throws IOException {
+    StringBuilder dictionary = new StringBuilder();
+    for (int i = 0; i < 5000; i++) {
+      dictionary.append("word").append(i).append("\tNN\tlemma").append(i % 10).append('\n');
+    }
+    DictionaryLemmatizer lemmatizer = createLemmatizer(dictionary.toString());
+
+    Assertions.assertEquals(5000, lemmatizer.getDictMap().size());
+    Assertions.assertArrayEquals(new String[] {"lemma0", "lemma9", "O"},
+        lemmatizer.lemmatize(new String[] {"word0", "word4999", "word5000"},
+            new String[] {"NN", "NN", "NN"}));
+  }
+
+  @Test
+  void testBinaryFormat() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dictionaryLemmatizer.serializeBinary(out);
+
+    DictionaryLemmatizer binary = new DictionaryLemmatizer(new ByteArrayInputStream(out.toByteArray()));
+
+    Assertions.assertEquals(dictionaryLemmatizer.getDictMap(), binary.getDictMap());
+
+    String[] sentence = {"The", "dogs", "were", "running", "down", "the", "street"};
+    String[] tags = {"DT", "NNS", "VBD", "VBG", "RP", "DT", "NN"};
+    Assertions.assertArrayEquals(dictionaryLemmatizer.lemmatize(sentence, tags),
+        binary.lemmatize(sentence, tags));
+  }
+
+  private static DictionaryLemmatizer createLemmatizer(String dictionary) throws IOException {
+    return new DictionaryLemmatizer(
+        new ByteArrayInputStream(dictionary.getBytes(StandardCharsets.UTF_8)));
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.ml;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Verifies that the vectorized {@link ArrayKernels} match the scalar ones.
+ * The tests only run if the vectorized kernels are available, which is the case for
+ * the dedicated surefire execution of the {@code vector-api} build profile.
+ */
+public class ArrayKernelsTest {
+
+  private static final double EPSILON = 1e-9;
+
+  private static ArrayKernels vector;
+
+  private final ArrayKernels scalar = new ScalarArrayKernels();
+
+  @BeforeAll
+  static void checkVectorApi() {
+    assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent(),
+        "jdk.incubator.vector is not available");
+    vector = ArrayKernels.create();
+    assumeTrue(!(vector instanceof ScalarArrayKernels), "the vectorized kernels are not available");
+  }
+
+  private static double[] random(Random rnd, int length) {
+    final double[] v = new double[length];
+    for (int i = 0; i < length; i++) {
+      v[i] = rnd.nextGaussian() * 4;
+    }
+    return v;
+  }
+
+  @Test
+  void testArrayMathSelectsVectorKernels() {
+    assertEquals(Boolean.parseBoolean(System.getProperty(ArrayKernels.VECTOR_PROPERTY, "true")),
+        ArrayMath.isVectorized());
+  }
+
+  // lengths around typical SIMD widths, to cover the scalar remainder loops
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 3, 4, 7, 8, 9, 31, 64, 1000, 4099})
+  void testKernelsMatchScalar(int length) {
+    final Random rnd = new Random(length);
+    final double[] a = random(rnd, length);
+    final double[] b = random(rnd, length);
+
+    assertEquals(scalar.innerProduct(a, b), vector.innerProduct(a, b),
+        EPSILON * Math.max(1, Math.abs(scalar.innerProduct(a, b))));
+    assertEquals(scalar.l1norm(a), vector.l1norm(a), EPSILON * Math.max(1, scalar.l1norm(a)));
+
+    final double shift = length == 0 ? 0 : ArrayMath.max(a);
+    final double expected = scalar.sumOfExps(a, length, shift);
+    assertEquals(expected, vector.sumOfExps(a, length, shift), EPSILON * Math.max(1, expected));
+
+    final double[] ys = b.clone();
+    final double[] yv = b.clone();
+    scalar.axpy(-0.75, a, ys);
+    vector.axpy(-0.75, a, yv);
+    assertArrayEquals(ys, yv, 0);
+
+    final double[] es = a.clone();
+    final double[] ev = a.clone();
+    final double sum = scalar.expInPlace(es, length, shift);
+    assertEquals(sum, vector.expInPlace(ev, length, shift), EPSILON * Math.max(1, sum));
+    for (int i = 0; i < length; i++) {
+      assertEquals(es[i], ev[i], EPSILON * Math.max(1, es[i]));
+    }
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {5, 17})
+  void testExpInPlaceOnlyTouchesPrefix(int length) {
+    final double[] x = random(new Random(42), length + 8);
+    final double[] expected = x.clone();
+    scalar.expInPlace(expected, length, 0);
+    vector.expInPlace(x, length, 0);
+    for (int i = length; i < x.length; i++) {
+      assertEquals(expected[i], x[i], 0);
+    }
+  }
+}
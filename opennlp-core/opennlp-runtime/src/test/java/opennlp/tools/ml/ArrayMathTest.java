@@ -99,6 +99,34 @@ public class ArrayMathTest {
     Assertions.assertEquals(2, ArrayMath.argmax(new double[] {100, 200, 300, -10, -20}));
   }
 
+  @Test
+  public void testLogSumOfExpsAllNegativeInfinity() {
+    Assertions.assertEquals(Double.NEGATIVE_INFINITY, ArrayMath.logSumOfExps(
+        new double[] {Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY}));
+    Assertions.assertEquals(StrictMath.log(2), ArrayMath.logSumOfExps(
+        new double[] {0, Double.NEGATIVE_INFINITY, 0}), 1e-12);
+  }
+
+  @Test
+  public void testAxpy() {
+    double[] y = {1, 2, 3};
+    ArrayMath.axpy(2, new double[] {1, -1, 0.5}, y);
+    Assertions.assertArrayEquals(new double[] {3, 0, 4}, y, 0);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> ArrayMath.axpy(1, new double[] {1}, new double[] {1, 2}));
+  }
+
+  @Test
+  public void testExpInPlace() {
+    double[] x = {0, StrictMath.log(2), StrictMath.log(3), 42};
+    Assertions.assertEquals(6, ArrayMath.expInPlace(x, 3, 0), 1e-12);
+    Assertions.assertArrayEquals(new double[] {1, 2, 3, 42}, x, 1e-12);
+
+    double[] y = {1, 2};
+    Assertions.assertEquals(1 + StrictMath.exp(1), ArrayMath.expInPlace(y, 2, 1), 1e-12);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ArrayMath.expInPlace(y, 3, 0));
+  }
+
   @Test
   public void testToDoubleArray() {
     Assertions.assertEquals(0, ArrayMath.toDoubleArray(Collections.emptyList()).length);
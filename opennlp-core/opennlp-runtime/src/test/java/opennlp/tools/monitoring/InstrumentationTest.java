@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.monitoring;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.tokenize.TokenSample;
+import opennlp.tools.tokenize.TokenizerFactory;
+import opennlp.tools.tokenize.TokenizerME;
+import opennlp.tools.tokenize.TokenizerModel;
+import opennlp.tools.util.CollectionObjectStream;
+import opennlp.tools.util.Parameters;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.TrainingParameters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InstrumentationTest {
+
+  private static TokenizerModel model;
+
+  @BeforeAll
+  static void initModel() throws IOException {
+    List<TokenSample> samples = List.of(
+        new TokenSample("year", new Span[] {new Span(0, 4)}),
+        new TokenSample("year,", new Span[] {new Span(0, 4), new Span(4, 5)}),
+        new TokenSample("it,", new Span[] {new Span(0, 2), new Span(2, 3)}),
+        new TokenSample("it", new Span[] {new Span(0, 2)}));
+
+    TrainingParameters mlParams = new TrainingParameters();
+    mlParams.put(Parameters.ITERATIONS_PARAM, 10);
+    mlParams.put(Parameters.CUTOFF_PARAM, 0);
+
+    model = TokenizerME.train(new CollectionObjectStream<>(samples),
+        TokenizerFactory.create(null, "eng", null, false, null), mlParams);
+  }
+
+  @AfterEach
+  void tearDown() {
+    Instrumentation.unregister();
+  }
+
+  @Test
+  void testDisabledByDefault() {
+    assertFalse(Instrumentation.isEnabled());
+    assertSame(MetricsRecorder.NOOP, Instrumentation.getRecorder());
+    assertEquals(0L, Instrumentation.start());
+  }
+
+  @Test
+  void testRegisterNull() {
+    assertThrows(NullPointerException.class, () -> Instrumentation.register(null));
+  }
+
+  @Test
+  void testMetricName() {
+    assertEquals("opennlp.tokenizer.eval",
+        Instrumentation.metric("tokenizer", Instrumentation.MODEL_EVAL));
+  }
+
+  @Test
+  void testTokenizerIsInstrumented() {
+    CountingRecorder recorder = new CountingRecorder();
+    Instrumentation.register(recorder);
+    assertTrue(Instrumentation.isEnabled());
+
+    new TokenizerME(model).tokenize("year, it,");
+
+    // one evaluation per inner character of "year," and "it,"
+    assertEquals(6L, recorder.timings(Instrumentation.metric("tokenizer", Instrumentation.MODEL_EVAL)));
+    assertEquals(6L, recorder.timings(
+        Instrumentation.metric("tokenizer", Instrumentation.FEATURE_GENERATION)));
+  }
+
+  @Test
+  void testModelLoadIsInstrumented() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    model.serialize(out);
+
+    CountingRecorder recorder = new CountingRecorder();
+    Instrumentation.register(recorder);
+
+    new TokenizerModel(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(1L, recorder.timings(Instrumentation.metric("model", Instrumentation.MODEL_LOAD)));
+  }
+
+  @Test
+  void testNothingRecordedAfterUnregister() {
+    CountingRecorder recorder = new CountingRecorder();
+    Instrumentation.register(recorder);
+    Instrumentation.unregister();
+
+    new TokenizerME(model).tokenize("year, it,");
+    assertTrue(recorder.counts.isEmpty());
+  }
+
+  private static class CountingRecorder implements MetricsRecorder {
+
+    private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordTime(String metric, long nanos) {
+      counts.computeIfAbsent(metric, m -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void incrementCounter(String metric, long delta) {
+      counts.computeIfAbsent(metric, m -> new LongAdder()).add(delta);
+    }
+
+    long timings(String metric) {
+      LongAdder adder = counts.get(metric);
+      return adder == null ? 0L : adder.sum();
+    }
+  }
+}
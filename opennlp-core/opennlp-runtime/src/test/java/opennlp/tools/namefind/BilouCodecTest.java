@@ -20,11 +20,13 @@ package opennlp.tools.namefind;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * This is the test class for {@link BilouCodec}.
@@ -50,6 +52,22 @@ public class BilouCodecTest {
 
   private static final String OTHER = BilouCodec.OTHER;
 
+  @Test
+  void testDecodeIntoSpanBuffer() {
+    String[] outcomes = {A_START, A_CONTINUE, A_LAST, A_UNIT, B_START, B_CONTINUE, B_LAST, B_UNIT,
+        C_UNIT, OTHER, BilouCodec.UNIT, "a-b-" + BilouCodec.UNIT};
+    Random random = new Random(42);
+    SpanBuffer spans = new SpanBuffer();
+    for (int n = 0; n < 2000; n++) {
+      List<String> sequence = new ArrayList<>();
+      for (int i = random.nextInt(12); i > 0; i--) {
+        sequence.add(outcomes[random.nextInt(outcomes.length)]);
+      }
+      codec.decode(sequence, spans);
+      Assertions.assertArrayEquals(codec.decode(sequence), spans.toSpans(), sequence::toString);
+    }
+  }
+
   @Test
   void testEncodeNoNames() {
     NameSample nameSample = new NameSample("Once upon a time.".split(" "), new Span[] {}, true);
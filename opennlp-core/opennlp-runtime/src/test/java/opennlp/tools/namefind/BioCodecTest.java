@@ -20,11 +20,13 @@ package opennlp.tools.namefind;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 
 /**
  * This is the test class for {@link BioCodec}.
@@ -46,6 +48,23 @@ public class BioCodecTest {
 
   private static final String OTHER = BioCodec.OTHER;
 
+  @Test
+  void testDecodeIntoSpanBuffer() {
+    String[] outcomes = {A_START, A_CONTINUE, B_START, B_CONTINUE, C_START, OTHER,
+        BioCodec.START, BioCodec.CONTINUE, "-" + BioCodec.START, "a-b-" + BioCodec.START,
+        "a b-" + BioCodec.CONTINUE, "a\nb-" + BioCodec.START};
+    Random random = new Random(42);
+    SpanBuffer spans = new SpanBuffer();
+    for (int n = 0; n < 2000; n++) {
+      List<String> sequence = new ArrayList<>();
+      for (int i = random.nextInt(12); i > 0; i--) {
+        sequence.add(outcomes[random.nextInt(outcomes.length)]);
+      }
+      codec.decode(sequence, spans);
+      Assertions.assertArrayEquals(codec.decode(sequence), spans.toSpans(), sequence::toString);
+    }
+  }
+
   @Test
   void testEncodeNoNames() {
     NameSample nameSample = new NameSample("Once upon a time.".split(" "), new Span[] {}, true);
@@ -20,18 +20,25 @@ package opennlp.tools.namefind;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.HashMap;
 
 import org.junit.jupiter.api.Test;
 
+import opennlp.tools.ml.AbstractEventModelSequenceTrainer;
+import opennlp.tools.ml.EventModelSequenceTrainer;
+import opennlp.tools.ml.TrainerFactory;
+import opennlp.tools.ml.model.MaxentModel;
 import opennlp.tools.util.MockInputStreamFactory;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.Parameters;
 import opennlp.tools.util.PlainTextByLineStream;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 import opennlp.tools.util.TrainingParameters;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
@@ -113,6 +120,72 @@ public class NameFinderMETest extends AbstractNameFinderTest {
     assertEquals(new Span(4, 6, DEFAULT), names[1]);
   }
 
+  @Test
+  void testNameFinderWarmStart() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ITERATIONS_PARAM, 5);
+    params.put(Parameters.CUTOFF_PARAM, 1);
+
+    TokenNameFinderModel initialModel = NameFinderME.train("eng", null, createAnnotatedSentences(),
+        params, TokenNameFinderFactory.create(null, null, Collections.emptyMap(), new BioCodec()));
+
+    // continue the training of the initial model
+    params.put(Parameters.WARM_START_ITERATIONS_PARAM, 65);
+    TokenNameFinderModel nameFinderModel = NameFinderME.train("eng", null, createAnnotatedSentences(),
+        params, TokenNameFinderFactory.create(null, null, Collections.emptyMap(), new BioCodec()),
+        initialModel);
+
+    TokenNameFinder nameFinder = new NameFinderME(nameFinderModel);
+
+    Span[] names = nameFinder.find(new String[] {"Hi", "Mike", ",", "it's", "Stefanie", "Schmidt", "."});
+
+    assertEquals(2, names.length);
+    assertEquals(new Span(1, 2, DEFAULT), names[0]);
+    assertEquals(new Span(4, 6, DEFAULT), names[1]);
+
+    // sequence trainers can not continue from an initial model
+    params.put(Parameters.ALGORITHM_PARAM, "PERCEPTRON_SEQUENCE");
+    assertThrows(IllegalArgumentException.class, () -> NameFinderME.train("eng", null,
+        createAnnotatedSentences(), params,
+        TokenNameFinderFactory.create(null, null, Collections.emptyMap(), new BioCodec()), initialModel));
+  }
+
+  @Test
+  void testNameFinderSequenceTrainingWithHeldOutData() throws Exception {
+    TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ALGORITHM_PARAM, "PERCEPTRON_SEQUENCE");
+    params.put(Parameters.ITERATIONS_PARAM, 70);
+    params.put(Parameters.CUTOFF_PARAM, 1);
+    params.put(Parameters.HELD_OUT_PATIENCE_PARAM, 2);
+
+    EventModelSequenceTrainer<NameSample, TrainingParameters> trainer =
+        TrainerFactory.getEventModelSequenceTrainer(params, new HashMap<>());
+    // the factory hands out the trainer typed by the sample type of its sequence stream
+    AbstractEventModelSequenceTrainer<?> sequenceTrainer =
+        (AbstractEventModelSequenceTrainer<?>) (Object) trainer;
+    // the held-out sentences are tagged with the model under training
+    TokenNameFinderFactory factory =
+        TokenNameFinderFactory.create(null, null, Collections.emptyMap(), new BioCodec());
+    sequenceTrainer.setHeldOutSequences(new NameSampleSequenceStream(createAnnotatedSentences(),
+        factory.createContextGenerator()));
+    MaxentModel model = trainer.train(new NameSampleSequenceStream(createAnnotatedSentences(),
+        factory.createContextGenerator()));
+
+    TokenNameFinder nameFinder = new NameFinderME(
+        new TokenNameFinderModel("eng", model, Collections.emptyMap(), null));
+
+    Span[] names = nameFinder.find(new String[] {"Hi", "Mike", ",", "it's", "Stefanie", "Schmidt", "."});
+
+    assertEquals(2, names.length);
+    assertEquals(new Span(1, 2, DEFAULT), names[0]);
+    assertEquals(new Span(4, 6, DEFAULT), names[1]);
+  }
+
+  private static ObjectStream<NameSample> createAnnotatedSentences() throws Exception {
+    return new NameSampleDataStream(new PlainTextByLineStream(new MockInputStreamFactory(
+        new File("opennlp/tools/namefind/AnnotatedSentences.txt")), "ISO-8859-1"));
+  }
+
   /**
    * Train NamefinderME using AnnotatedSentencesWithTypes.txt with "person"
    * nameType and try the model in a sample text.
@@ -158,6 +231,41 @@ public class NameFinderMETest extends AbstractNameFinderTest {
     assertTrue(hasOtherAsOutcome(nameFinderModel));
   }
 
+  @Test
+  void testFindIntoSpanBuffer() throws Exception {
+    ObjectStream<NameSample> sampleStream = new NameSampleDataStream(
+        new PlainTextByLineStream(new MockInputStreamFactory(
+            new File("opennlp/tools/namefind/AnnotatedSentencesWithTypes.txt")), "ISO-8859-1"));
+
+    TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ITERATIONS_PARAM, 70);
+    params.put(Parameters.CUTOFF_PARAM, 1);
+
+    TokenNameFinderModel nameFinderModel = NameFinderME.train("eng", null, sampleStream,
+        params, TokenNameFinderFactory.create(null, null, Collections.emptyMap(), new BioCodec()));
+
+    NameFinderME nameFinder = new NameFinderME(nameFinderModel);
+
+    String[] sentence = {"Hi", "Mike", ",", "it's", "Stefanie", "Schmidt", "."};
+    SpanBuffer buffer = new SpanBuffer();
+    nameFinder.find(sentence, buffer);
+
+    assertEquals(2, buffer.size());
+    assertEquals(new Span(1, 2, "person"), buffer.getSpan(0));
+    assertEquals(new Span(4, 6, "person"), buffer.getSpan(1));
+    assertEquals(buffer.getTypeId(0), buffer.getTypeId(1));
+
+    nameFinder.clearAdaptiveData();
+    Span[] names = nameFinder.find(sentence);
+    double[] probs = nameFinder.probs(names);
+    assertEquals(names.length, buffer.size());
+    for (int i = 0; i < names.length; i++) {
+      assertEquals(names[i], buffer.getSpan(i));
+      assertEquals(probs[i], names[i].getProb());
+      assertEquals(probs[i], buffer.getProb(i));
+    }
+  }
+
   /**
    * Train NamefinderME using OnlyWithNames.train. The goal is to check if the model validator accepts it.
    * This is related to the issue OPENNLP-9
@@ -20,11 +20,15 @@ package opennlp.tools.ngram;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import opennlp.tools.dictionary.Dictionary;
 import opennlp.tools.util.InvalidFormatException;
@@ -224,6 +228,41 @@ public class NGramModelTest {
     }
   }
 
+  @Test
+  void testSerializeBinary(@TempDir Path tempDir) throws Exception {
+    NGramModel reference;
+    try (InputStream stream = getClass().getResourceAsStream("/opennlp/tools/ngram/ngram-model.xml")) {
+      reference = new NGramModel(stream);
+    }
+    reference.add(new StringList("the", "brown"));
+
+    Path binary = tempDir.resolve("ngram-model.bin");
+    try (OutputStream out = Files.newOutputStream(binary)) {
+      reference.serializeBinary(out);
+    }
+
+    NGramModel fromStream;
+    try (InputStream in = Files.newInputStream(binary)) {
+      fromStream = new NGramModel(in);
+    }
+    NGramModel mapped = new NGramModel(binary);
+
+    Assertions.assertEquals(reference, fromStream);
+    Assertions.assertEquals(reference, mapped);
+    Assertions.assertEquals(reference.getCount(new StringList("the", "brown")),
+        mapped.getCount(new StringList("the", "brown")));
+    Assertions.assertEquals(14, mapped.toDictionary(true).size());
+  }
+
+  @Test
+  void testFromXmlFile(@TempDir Path tempDir) throws Exception {
+    Path xml = tempDir.resolve("ngram-model.xml");
+    try (InputStream stream = getClass().getResourceAsStream("/opennlp/tools/ngram/ngram-model.xml")) {
+      Files.copy(stream, xml);
+    }
+    Assertions.assertEquals(14, new NGramModel(xml).toDictionary(true).size());
+  }
+
   @Test
   void testFromInvalidFileMissingCount() {
     Assertions.assertThrows(InvalidFormatException.class, () -> {
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.postag;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.util.InvalidFormatException;
+
+/**
+ * Tests for the {@link CompactTagDictionary} class.
+ */
+public class CompactTagDictionaryTest {
+
+  private static CompactTagDictionary createDictionary(boolean caseSensitive) {
+    Map<String, String[]> entries = new LinkedHashMap<>();
+    entries.put("the", new String[] {"DT"});
+    entries.put("a", new String[] {"DT"});
+    entries.put("run", new String[] {"VB", "NN"});
+    entries.put("walk", new String[] {"VB", "NN"});
+    entries.put("Always", new String[] {"RB", "NNP"});
+    return CompactTagDictionary.create(entries, caseSensitive);
+  }
+
+  private static CompactTagDictionary serializeDeserializeDict(CompactTagDictionary dict)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dict.serialize(out);
+    try (InputStream in = new ByteArrayInputStream(out.toByteArray())) {
+      return CompactTagDictionary.create(in);
+    }
+  }
+
+  @Test
+  void testLookup() {
+    CompactTagDictionary dict = createDictionary(true);
+
+    Assertions.assertEquals(5, dict.size());
+    Assertions.assertArrayEquals(new String[] {"DT"}, dict.getTags("the"));
+    Assertions.assertArrayEquals(new String[] {"VB", "NN"}, dict.getTags("run"));
+    Assertions.assertArrayEquals(new String[] {"RB", "NNP"}, dict.getTags("Always"));
+    Assertions.assertNull(dict.getTags("always"));
+    Assertions.assertNull(dict.getTags("runs"));
+    Assertions.assertNull(dict.getTags(""));
+  }
+
+  @Test
+  void testSharedTagSets() {
+    CompactTagDictionary dict = createDictionary(true);
+
+    Assertions.assertEquals(5, dict.getTagCount());
+    Assertions.assertEquals(3, dict.getTagSetCount());
+    Assertions.assertSame(dict.getTagSet("the"), dict.getTagSet("a"));
+    Assertions.assertSame(dict.getTagSet("run"), dict.getTagSet("walk"));
+
+    CompactTagDictionary.TagSet tags = dict.getTagSet("run");
+    Assertions.assertEquals(2, tags.size());
+    Assertions.assertTrue(tags.contains("NN"));
+    Assertions.assertTrue(tags.contains(dict.getTagId("VB")));
+    Assertions.assertFalse(tags.contains("DT"));
+    Assertions.assertFalse(tags.contains(dict.getTagId("DT")));
+    Assertions.assertEquals("VB", dict.getTag(tags.getId(0)));
+    Assertions.assertEquals(-1, dict.getTagId("JJ"));
+
+    // the returned arrays must not change the shared tag sets
+    dict.getTags("run")[0] = "JJ";
+    Assertions.assertArrayEquals(new String[] {"VB", "NN"}, dict.getTags("walk"));
+  }
+
+  @Test
+  void testCaseInsensitive() {
+    CompactTagDictionary dict = createDictionary(false);
+
+    Assertions.assertFalse(dict.isCaseSensitive());
+    Assertions.assertArrayEquals(new String[] {"RB", "NNP"}, dict.getTags("always"));
+    Assertions.assertArrayEquals(new String[] {"RB", "NNP"}, dict.getTags("ALWAYS"));
+    Assertions.assertArrayEquals(new String[] {"DT"}, dict.getTags("The"));
+  }
+
+  @Test
+  void testSerialization() throws IOException {
+    CompactTagDictionary dict = createDictionary(false);
+    CompactTagDictionary deserialized = serializeDeserializeDict(dict);
+
+    Assertions.assertEquals(dict, deserialized);
+    Assertions.assertEquals(dict.hashCode(), deserialized.hashCode());
+    Assertions.assertFalse(deserialized.isCaseSensitive());
+    Assertions.assertArrayEquals(new String[] {"RB", "NNP"}, deserialized.getTags("ALWAYS"));
+    Assertions.assertNotEquals(createDictionary(true), deserialized);
+  }
+
+  @Test
+  void testFromPOSDictionary() throws IOException {
+    POSDictionary posDict = POSDictionary.create(POSDictionaryTest.class
+        .getResourceAsStream("TagDictionaryCaseInsensitive.xml"));
+    CompactTagDictionary dict = CompactTagDictionary.from(posDict);
+
+    Assertions.assertFalse(dict.isCaseSensitive());
+    Set<String> words = new HashSet<>();
+    for (String word : dict) {
+      words.add(word);
+      Assertions.assertArrayEquals(posDict.getTags(word), dict.getTags(word));
+    }
+    Assertions.assertEquals(1, words.size());
+    Assertions.assertArrayEquals(new String[] {"NNP"}, dict.getTags("MCKINSEY"));
+  }
+
+  @Test
+  void testCreateTagDictionaryDetectsFormat() throws IOException {
+    CompactTagDictionary dict = createDictionary(true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dict.serialize(out);
+
+    POSTaggerFactory factory = new POSTaggerFactory();
+    Assertions.assertEquals(dict,
+        factory.createTagDictionary(new ByteArrayInputStream(out.toByteArray())));
+    Assertions.assertInstanceOf(POSDictionary.class, factory.createTagDictionary(
+        POSDictionaryTest.class.getResourceAsStream("TagDictionaryCaseSensitive.xml")));
+  }
+
+  @Test
+  void testCreateTagDictionaryLeavesStreamOpen() throws IOException {
+    CompactTagDictionary dict = createDictionary(true);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dict.serialize(out);
+
+    POSTaggerFactory factory = new POSTaggerFactory();
+    CloseTrackingInputStream binaryIn =
+        new CloseTrackingInputStream(new ByteArrayInputStream(out.toByteArray()));
+    factory.createTagDictionary(binaryIn);
+    Assertions.assertFalse(binaryIn.closed);
+
+    CloseTrackingInputStream xmlIn = new CloseTrackingInputStream(
+        POSDictionaryTest.class.getResourceAsStream("TagDictionaryCaseSensitive.xml"));
+    factory.createTagDictionary(xmlIn);
+    Assertions.assertFalse(xmlIn.closed);
+    xmlIn.close();
+  }
+
+  private static class CloseTrackingInputStream extends FilterInputStream {
+
+    private boolean closed;
+
+    CloseTrackingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+  }
+
+  @Test
+  void testSequenceValidator() {
+    DefaultPOSSequenceValidator validator =
+        new DefaultPOSSequenceValidator(createDictionary(true));
+    String[] sentence = {"the", "dog", "run"};
+
+    Assertions.assertTrue(validator.validSequence(0, sentence, new String[0], "DT"));
+    Assertions.assertFalse(validator.validSequence(0, sentence, new String[0], "NN"));
+    Assertions.assertTrue(validator.validSequence(1, sentence, new String[0], "NN"));
+    Assertions.assertTrue(validator.validSequence(2, sentence, new String[0], "NN"));
+    Assertions.assertFalse(validator.validSequence(2, sentence, new String[0], "DT"));
+  }
+
+  @Test
+  void testInvalidInput() {
+    Assertions.assertThrows(InvalidFormatException.class, () ->
+        CompactTagDictionary.create(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+    Assertions.assertThrows(IllegalArgumentException.class, () ->
+        CompactTagDictionary.create(Map.of("word", new String[0]), true));
+    Assertions.assertThrows(IllegalArgumentException.class, () ->
+        CompactTagDictionary.create(Map.of("Word", new String[] {"NN"},
+            "word", new String[] {"VB"}), false));
+  }
+}
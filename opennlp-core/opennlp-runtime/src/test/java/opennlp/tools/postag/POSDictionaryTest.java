@@ -57,6 +57,32 @@ public class POSDictionaryTest {
     Assertions.assertEquals(dictionary, serializeDeserializeDict(dictionary));
   }
 
+  @Test
+  void testBinarySerialization() throws IOException {
+    POSDictionary dictionary = loadDictionary("TagDictionaryCaseInsensitive.xml");
+    dictionary.put("Always", "RB", "NNP");
+
+    POSDictionary recreated;
+    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      dictionary.serializeBinary(out);
+      recreated = POSDictionary.create(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    Assertions.assertEquals(dictionary, recreated);
+    Assertions.assertFalse(recreated.isCaseSensitive());
+    Assertions.assertTrue(recreated.isBinaryFormat());
+    Assertions.assertArrayEquals(new String[] {"RB", "NNP"}, recreated.getTags("ALWAYS"));
+    Assertions.assertEquals(POSTaggerFactory.POSDictionarySerializer.class,
+        recreated.getArtifactSerializerClass());
+
+    // the binary format is the one of the compact tag dictionary
+    try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+      recreated.serializeBinary(out);
+      Assertions.assertEquals(CompactTagDictionary.from(dictionary),
+          CompactTagDictionary.create(new ByteArrayInputStream(out.toByteArray())));
+    }
+  }
+
   @Test
   void testLoadingDictionaryWithoutCaseAttribute() throws IOException {
     POSDictionary dict = loadDictionary("TagDictionaryWithoutCaseAttribute.xml");
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.postag;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.formats.ResourceAsStreamFactory;
+import opennlp.tools.util.InputStreamFactory;
+import opennlp.tools.util.ObjectStream;
+import opennlp.tools.util.Parameters;
+import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.TrainingParameters;
+
+/**
+ * Tests for the {@link POSTaggerCrossValidator} class.
+ */
+public class POSTaggerCrossValidatorTest {
+
+  private static ObjectStream<POSSample> createSampleStream() throws IOException {
+    InputStreamFactory in = new ResourceAsStreamFactory(POSTaggerCrossValidatorTest.class,
+        "/opennlp/tools/postag/AnnotatedSentences.txt"); //PENN FORMAT
+
+    return new WordTagSampleStream(new PlainTextByLineStream(in, StandardCharsets.UTF_8));
+  }
+
+  private static TrainingParameters createParameters() {
+    TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ITERATIONS_PARAM, 50);
+    params.put(Parameters.CUTOFF_PARAM, 5);
+    return params;
+  }
+
+  @Test
+  void testConcurrentFoldsMatchSequentialFolds() throws IOException {
+    POSTaggerCrossValidator sequential = new POSTaggerCrossValidator("eng", createParameters(),
+        new POSTaggerFactory(), POSTagFormat.PENN);
+    sequential.evaluate(createSampleStream(), 3);
+
+    POSTaggerCrossValidator concurrent = new POSTaggerCrossValidator("eng", createParameters(),
+        new POSTaggerFactory(), POSTagFormat.PENN);
+    concurrent.evaluate(createSampleStream(), 3, 3);
+
+    Assertions.assertTrue(concurrent.getWordCount() > 0);
+    Assertions.assertEquals(sequential.getWordCount(), concurrent.getWordCount());
+    Assertions.assertEquals(sequential.getWordAccuracy(), concurrent.getWordAccuracy());
+  }
+
+  @Test
+  void testConcurrentFoldsWithTagDictionaryCutoff() throws IOException {
+    POSTaggerCrossValidator concurrent = new POSTaggerCrossValidator("eng", createParameters(),
+        null, null, null, 2, null, POSTagFormat.PENN);
+    concurrent.evaluate(createSampleStream(), 3, 2);
+
+    Assertions.assertTrue(concurrent.getWordCount() > 0);
+    Assertions.assertTrue(concurrent.getWordAccuracy() > 0.5);
+  }
+}
@@ -102,6 +102,43 @@ public class POSTaggerFactoryTest {
     Assertions.assertInstanceOf(DefaultPOSSequenceValidator.class, factory.getSequenceValidator());
   }
 
+  @Test
+  void testPOSTaggerWithCompactTagDictionary() throws IOException {
+    CompactTagDictionary posDict = CompactTagDictionary.from(POSDictionary.create(
+        POSDictionaryTest.class.getResourceAsStream("TagDictionaryCaseSensitive.xml")));
+    POSModel posModel = trainPOSModel(new POSTaggerFactory(null, null, posDict));
+
+    Assertions.assertInstanceOf(CompactTagDictionary.class, posModel.getFactory().getTagDictionary());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    posModel.serialize(out);
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+    POSModel fromSerialized = new POSModel(in);
+
+    POSTaggerFactory factory = fromSerialized.getFactory();
+    Assertions.assertEquals(posDict, factory.getTagDictionary());
+    Assertions.assertInstanceOf(DefaultPOSSequenceValidator.class, factory.getSequenceValidator());
+  }
+
+  @Test
+  void testPOSTaggerWithBinaryTagDictionary() throws IOException {
+    POSDictionary posDict = POSDictionary.create(
+        POSDictionaryTest.class.getResourceAsStream("TagDictionaryCaseSensitive.xml"));
+    posDict.setBinaryFormat(true);
+    POSModel posModel = trainPOSModel(new POSTaggerFactory(null, null, posDict));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    posModel.serialize(out);
+    ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+
+    POSModel fromSerialized = new POSModel(in);
+
+    TagDictionary tagDictionary = fromSerialized.getFactory().getTagDictionary();
+    Assertions.assertEquals(posDict, tagDictionary);
+    Assertions.assertTrue(((POSDictionary) tagDictionary).isBinaryFormat());
+  }
+
   @Test
   void testCreateWithInvalidName() {
     Assertions.assertThrows(InvalidFormatException.class, () -> BaseToolFactory.create("X", null));
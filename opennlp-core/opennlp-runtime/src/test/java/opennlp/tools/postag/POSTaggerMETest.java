@@ -143,6 +143,25 @@ public class POSTaggerMETest extends AbstractModelLoaderTest {
     Assertions.assertArrayEquals(expectedTags, tagger.tag(sentences));
   }
 
+  @Test
+  void testPOSTaggerWarmStart() throws IOException {
+    final String[] expected = {"DT", "NN", "VBD", "RB", "VBN", "IN", "DT", "NN", "."};
+
+    TrainingParameters params = new TrainingParameters();
+    params.put(Parameters.ALGORITHM_PARAM, ModelType.MAXENT.toString());
+    params.put(Parameters.ITERATIONS_PARAM, 10);
+    params.put(Parameters.CUTOFF_PARAM, 5);
+    POSModel initialModel = POSTaggerME.train("eng", createSampleStream(), params,
+        new POSTaggerFactory());
+
+    // continue the training of the initial model
+    params.put(Parameters.WARM_START_ITERATIONS_PARAM, 90);
+    POSModel model = POSTaggerME.train("eng", createSampleStream(), params,
+        new POSTaggerFactory(), initialModel);
+
+    testPOSTagger(new POSTaggerME(model, POSTagFormat.PENN), sentence, expected);
+  }
+
   @Test
   void testBuildNGramDictionary() throws IOException {
     ObjectStream<POSSample> samples = createSampleStream();
@@ -32,6 +32,7 @@ import opennlp.tools.util.InsufficientTrainingDataException;
 import opennlp.tools.util.Parameters;
 import opennlp.tools.util.PlainTextByLineStream;
 import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 import opennlp.tools.util.TrainingParameters;
 
 /**
@@ -135,6 +136,27 @@ public class SentenceDetectorMETest extends AbstractSentenceDetectorTest {
 
   }
 
+  @Test
+  void testSentPosDetectIntoSpanBuffer() {
+    SentenceDetectorME sentDetect = new SentenceDetectorME(sentdetectModel);
+
+    SpanBuffer buffer = new SpanBuffer();
+    for (String text : new String[] {"This is a test. There are many tests, this is the second.",
+        "This is a \"test\". I said \"This is a test.\"  Any questions?", "",
+        "               ", " This is a test", "This is a test.    With spaces between the two sentences."}) {
+      sentDetect.sentPosDetect(text, buffer);
+      double[] probs = sentDetect.probs();
+
+      Span[] spans = sentDetect.sentPosDetect(text);
+      Assertions.assertArrayEquals(spans, buffer.toSpans());
+      Assertions.assertEquals(probs.length, buffer.size());
+      for (int i = 0; i < buffer.size(); i++) {
+        Assertions.assertEquals(probs[i], buffer.getProb(i));
+        Assertions.assertEquals(spans[i].getProb(), buffer.getProb(i));
+      }
+    }
+  }
+
   /*
    * Tests OPENNLP-793 -> known abbreviations shall be respected (= no sentence break)
    * see: https://issues.apache.org/jira/projects/OPENNLP/issues/OPENNLP-793
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.sentdetect;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.dictionary.Dictionary;
+import opennlp.tools.util.Span;
+
+/**
+ * Tests for the {@link SentenceDetectorStream} class.
+ */
+public class SentenceDetectorStreamTest extends AbstractSentenceDetectorTest {
+
+  private static SentenceModel sentdetectModel;
+
+  private static String text;
+
+  @BeforeAll
+  static void prepareResources() throws IOException {
+    Dictionary abbreviationDict = loadAbbDictionary(Locale.ENGLISH);
+    SentenceDetectorFactory factory = new SentenceDetectorFactory(
+        "eng", true, abbreviationDict, null);
+    sentdetectModel = train(factory, Locale.ENGLISH);
+
+    try (InputStream in = SentenceDetectorStreamTest.class.getResourceAsStream(
+        "/opennlp/tools/sentdetect/Sentences.txt")) {
+      String document = new String(in.readAllBytes(), StandardCharsets.UTF_8).replace('\n', ' ');
+      text = document.repeat(5);
+    }
+  }
+
+  /*
+   * Returns a Readable which returns at most chunkSize characters per read call.
+   */
+  private static Readable chunked(String s, int chunkSize) {
+    CharBuffer source = CharBuffer.wrap(s);
+    return cb -> {
+      if (!source.hasRemaining()) {
+        return -1;
+      }
+      int n = Math.min(Math.min(chunkSize, cb.remaining()), source.remaining());
+      CharBuffer slice = source.slice(source.position(), n);
+      cb.put(slice);
+      source.position(source.position() + n);
+      return n;
+    };
+  }
+
+  private static List<SentenceDetectorStream.Sentence> readAll(SentenceDetectorStream stream)
+      throws IOException {
+    List<SentenceDetectorStream.Sentence> sentences = new ArrayList<>();
+    SentenceDetectorStream.Sentence sentence;
+    while ((sentence = stream.read()) != null) {
+      sentences.add(sentence);
+    }
+    return sentences;
+  }
+
+  private static void assertSameAsDocument(String document,
+                                           List<SentenceDetectorStream.Sentence> sentences) {
+    Span[] expected = new SentenceDetectorME(sentdetectModel).sentPosDetect(document);
+
+    Assertions.assertEquals(expected.length, sentences.size());
+    for (int i = 0; i < expected.length; i++) {
+      SentenceDetectorStream.Sentence sentence = sentences.get(i);
+      Assertions.assertEquals(expected[i].getStart(), sentence.start());
+      Assertions.assertEquals(expected[i].getEnd(), sentence.end());
+      Assertions.assertEquals(expected[i].getProb(), sentence.prob(), 0.000001);
+      Assertions.assertEquals(expected[i].getCoveredText(document), sentence.text());
+    }
+  }
+
+  @Test
+  void testReadMatchesSentPosDetect() throws IOException {
+    try (SentenceDetectorStream stream = new SentenceDetectorStream(
+        new SentenceDetectorME(sentdetectModel), new StringReader(text))) {
+      assertSameAsDocument(text, readAll(stream));
+    }
+  }
+
+  @Test
+  void testReadSmallChunks() throws IOException {
+    try (SentenceDetectorStream stream = new SentenceDetectorStream(
+        new SentenceDetectorME(sentdetectModel), chunked(text, 7), 64, 4096)) {
+      assertSameAsDocument(text, readAll(stream));
+    }
+  }
+
+  @Test
+  void testReadWithoutBreak() throws IOException {
+    String document = "  This text has no sentence end  ";
+    try (SentenceDetectorStream stream = new SentenceDetectorStream(
+        new SentenceDetectorME(sentdetectModel), CharBuffer.wrap(document))) {
+      List<SentenceDetectorStream.Sentence> sentences = readAll(stream);
+      Assertions.assertEquals(1, sentences.size());
+      Assertions.assertEquals("This text has no sentence end", sentences.get(0).text());
+      Assertions.assertEquals(2, sentences.get(0).start());
+      Assertions.assertEquals(31, sentences.get(0).end());
+      Assertions.assertNull(stream.read());
+    }
+  }
+
+  @Test
+  void testReadEmpty() throws IOException {
+    try (SentenceDetectorStream stream = new SentenceDetectorStream(
+        new SentenceDetectorME(sentdetectModel), new StringReader("   "))) {
+      Assertions.assertNull(stream.read());
+    }
+  }
+
+  @Test
+  void testMaxSentenceLength() throws IOException {
+    String document = "word ".repeat(100);
+    try (SentenceDetectorStream stream = new SentenceDetectorStream(
+        new SentenceDetectorME(sentdetectModel), chunked(document, 16), 10, 50)) {
+      List<SentenceDetectorStream.Sentence> sentences = readAll(stream);
+      Assertions.assertTrue(sentences.size() > 1);
+      StringBuilder joined = new StringBuilder();
+      for (SentenceDetectorStream.Sentence sentence : sentences) {
+        Assertions.assertTrue(sentence.end() - sentence.start() <= 50 + 16);
+        Assertions.assertEquals(document.substring((int) sentence.start(), (int) sentence.end()),
+            sentence.text());
+        joined.append(sentence.text());
+      }
+      Assertions.assertEquals(document.replace(" ", ""), joined.toString().replace(" ", ""));
+    }
+  }
+
+  @Test
+  void testInvalidArguments() {
+    SentenceDetectorME detector = new SentenceDetectorME(sentdetectModel);
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new SentenceDetectorStream(detector, new StringReader(text), 0, 100));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new SentenceDetectorStream(detector, new StringReader(text), 100, 100));
+  }
+
+  @Test
+  void testResetUnsupported() throws IOException {
+    try (SentenceDetectorStream stream = new SentenceDetectorStream(
+        new SentenceDetectorME(sentdetectModel), new StringReader(text))) {
+      Assertions.assertThrows(UnsupportedOperationException.class, stream::reset);
+    }
+  }
+}
@@ -198,4 +198,18 @@ public class SnowballStemmerTest {
     Assertions.assertEquals("innostuks", stemmer.stem("innostuksessaan"));
   }
 
+  @Test
+  void testStemIntoStringBuilder() {
+    SnowballStemmer stemmer = new SnowballStemmer(ALGORITHM.ENGLISH);
+    StringBuilder out = new StringBuilder("stems:");
+    stemmer.stem("accompanying", out);
+    stemmer.stem(new StringBuilder("softeners"), out);
+    Assertions.assertEquals("stems:accompanisoften", out.toString());
+
+    // longer than the initial buffer, and a shorter word afterwards
+    String word = "internationalization".repeat(3);
+    Assertions.assertEquals(new SnowballStemmer(ALGORITHM.ENGLISH).stem(word), stemmer.stem(word));
+    Assertions.assertEquals("maledict", stemmer.stem("malediction"));
+  }
+
 }
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.stemmer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.stemmer.snowball.SnowballStemmer;
+import opennlp.tools.stemmer.snowball.SnowballStemmer.ALGORITHM;
+import opennlp.tools.stemmer.snowball.ThreadSafeSnowballStemmer;
+
+public class ThreadSafeSnowballStemmerTest {
+
+  private static final String[] WORDS = {"accompanying", "malediction", "softeners", "this",
+      "running", "generalizations", "happily", "nationalities", "connected", "connection"};
+
+  @Test
+  void testStemWithoutCache() {
+    try (ThreadSafeSnowballStemmer stemmer = new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH)) {
+      Assertions.assertEquals("accompani", stemmer.stem("accompanying"));
+      Assertions.assertEquals(0, stemmer.getCacheSize());
+      Assertions.assertEquals(0, stemmer.getCacheMisses());
+      Assertions.assertEquals(0d, stemmer.getCacheHitRate());
+    }
+  }
+
+  @Test
+  void testCacheStatistics() {
+    try (ThreadSafeSnowballStemmer stemmer =
+             new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH, 1, 1000)) {
+      Assertions.assertEquals(1024, stemmer.getCacheSize());
+
+      Assertions.assertEquals("soften", stemmer.stem("softeners"));
+      Assertions.assertEquals("soften", stemmer.stem("softeners"));
+      StringBuilder out = new StringBuilder();
+      stemmer.stem(new StringBuilder("softeners"), out);
+      Assertions.assertEquals("soften", out.toString());
+
+      Assertions.assertEquals(2, stemmer.getCacheHits());
+      Assertions.assertEquals(1, stemmer.getCacheMisses());
+      Assertions.assertEquals(2d / 3, stemmer.getCacheHitRate(), 1e-9);
+
+      stemmer.clearCache();
+      Assertions.assertEquals(0, stemmer.getCacheHits());
+      Assertions.assertEquals("soften", stemmer.stem("softeners"));
+      Assertions.assertEquals(1, stemmer.getCacheMisses());
+    }
+  }
+
+  @Test
+  void testCollidingWordsInSmallCache() {
+    SnowballStemmer reference = new SnowballStemmer(ALGORITHM.ENGLISH);
+    try (ThreadSafeSnowballStemmer stemmer =
+             new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH, 1, 2)) {
+      for (int i = 0; i < 3; i++) {
+        for (String word : WORDS) {
+          StringBuilder out = new StringBuilder("#");
+          stemmer.stem(word, out);
+          Assertions.assertEquals("#" + reference.stem(word), out.toString());
+          Assertions.assertEquals(reference.stem(word), stemmer.stem(word));
+        }
+      }
+      Assertions.assertEquals(WORDS.length * 6, stemmer.getCacheHits() + stemmer.getCacheMisses());
+    }
+  }
+
+  @Test
+  void testConcurrentStemming() throws InterruptedException, ExecutionException {
+    SnowballStemmer reference = new SnowballStemmer(ALGORITHM.ENGLISH);
+    List<String> expected = new ArrayList<>();
+    for (String word : WORDS) {
+      expected.add(reference.stem(word).toString());
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try (ThreadSafeSnowballStemmer stemmer =
+             new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH, 1, 8)) {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+        results.add(executor.submit(() -> {
+          StringBuilder out = new StringBuilder();
+          for (int i = 0; i < 1000; i++) {
+            int w = i % WORDS.length;
+            out.setLength(0);
+            stemmer.stem(WORDS[w], out);
+            if (!expected.get(w).contentEquals(out)
+                || !expected.get(w).contentEquals(stemmer.stem(WORDS[w]))) {
+              return false;
+            }
+          }
+          return true;
+        }));
+      }
+      for (Future<Boolean> result : results) {
+        Assertions.assertTrue(result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  @Test
+  void testInvalidCacheSize() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH, 1, -1));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH, 1, (1 << 30) + 1));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH, 1, Integer.MAX_VALUE));
+  }
+
+  @Test
+  void testCacheSizeIsRoundedUpToPowerOfTwo() {
+    final int[][] sizes = {{1, 1}, {2, 2}, {3, 4}, {1000, 1024}, {1025, 2048}};
+    for (int[] size : sizes) {
+      try (ThreadSafeSnowballStemmer stemmer =
+               new ThreadSafeSnowballStemmer(ALGORITHM.ENGLISH, 1, size[0])) {
+        Assertions.assertEquals(size[1], stemmer.getCacheSize());
+      }
+    }
+  }
+}
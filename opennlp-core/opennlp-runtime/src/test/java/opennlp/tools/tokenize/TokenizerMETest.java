@@ -19,6 +19,7 @@ package opennlp.tools.tokenize;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -29,6 +30,8 @@ import opennlp.tools.util.InsufficientTrainingDataException;
 import opennlp.tools.util.ObjectStream;
 import opennlp.tools.util.Parameters;
 import opennlp.tools.util.PlainTextByLineStream;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.SpanBuffer;
 import opennlp.tools.util.TrainingParameters;
 
 /**
@@ -75,6 +78,75 @@ public class TokenizerMETest {
     Assertions.assertEquals("!", tokens[8]);
   }
 
+  @Test
+  void testTokenizeOffsets() throws IOException {
+    TokenizerModel model = TokenizerTestUtil.createMaxentTokenModel();
+    TokenizerME tokenizer = new TokenizerME(model);
+
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 20; i++) {
+      text.append("Sounds like it's not properly thought through! ");
+    }
+
+    Span[] spans = tokenizer.tokenizePos(text.toString());
+    double[] probs = tokenizer.probs();
+    Assertions.assertEquals(180, spans.length);
+    Assertions.assertEquals(spans.length, probs.length);
+
+    int[] offsets = tokenizer.tokenizeOffsets(text);
+    Assertions.assertEquals(2 * spans.length, offsets.length);
+    for (int i = 0; i < spans.length; i++) {
+      Assertions.assertEquals(spans[i].getStart(), offsets[2 * i]);
+      Assertions.assertEquals(spans[i].getEnd(), offsets[2 * i + 1]);
+    }
+    Assertions.assertArrayEquals(probs, tokenizer.probs());
+
+    Assertions.assertEquals(0, tokenizer.tokenizeOffsets("  ").length);
+    Assertions.assertEquals(0, tokenizer.probs().length);
+  }
+
+  @Test
+  void testTokenizePosIntoSpanBuffer() throws IOException {
+    TokenizerModel model = TokenizerTestUtil.createMaxentTokenModel();
+    TokenizerME tokenizer = new TokenizerME(model);
+
+    SpanBuffer buffer = new SpanBuffer();
+    for (String text : new String[] {"Sounds like it's not properly thought through!", "", "  ",
+        "Mr. Smith's car, which costs $1,000.00, isn't here."}) {
+      Span[] spans = tokenizer.tokenizePos(text);
+      double[] probs = tokenizer.probs();
+
+      tokenizer.tokenizePos(text, buffer);
+      Assertions.assertArrayEquals(spans, buffer.toSpans());
+      for (int i = 0; i < buffer.size(); i++) {
+        Assertions.assertEquals(probs[i], buffer.getProb(i));
+      }
+    }
+  }
+
+  @Test
+  void testCustomAlphaNumericPattern() throws IOException {
+    InputStreamFactory trainDataIn = new ResourceAsStreamFactory(
+        TokenizerModel.class, "/opennlp/tools/tokenize/token.train");
+
+    ObjectStream<TokenSample> samples = new TokenSampleStream(
+        new PlainTextByLineStream(trainDataIn, StandardCharsets.UTF_8));
+
+    TrainingParameters mlParams = new TrainingParameters();
+    mlParams.put(Parameters.ITERATIONS_PARAM, 100);
+    mlParams.put(Parameters.CUTOFF_PARAM, 0);
+
+    TokenizerModel model = TokenizerME.train(samples, TokenizerFactory.create(null, "eng", null, true,
+        Pattern.compile("^[A-Za-z0-9!]+$")), mlParams);
+
+    TokenizerME tokenizer = new TokenizerME(model);
+
+    // tokens matching the custom pattern are not split
+    Assertions.assertArrayEquals(new String[] {"not", "thought", "through!"},
+        tokenizer.tokenize("not thought through!"));
+    Assertions.assertArrayEquals(new double[] {1d, 1d, 1d}, tokenizer.probs());
+  }
+
   @Test
   void testInsufficientData() {
 
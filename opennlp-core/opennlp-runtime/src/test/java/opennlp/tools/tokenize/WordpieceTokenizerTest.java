@@ -17,7 +17,9 @@
 
 package opennlp.tools.tokenize;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.jupiter.api.Assertions;
@@ -51,6 +53,73 @@ public class WordpieceTokenizerTest {
 
   }
 
+  @Test
+  void testWordPieces() {
+
+    final Tokenizer tokenizer = new WordpieceTokenizer(getWordpieceVocabulary());
+    final String[] tokens = tokenizer.tokenize("Unaffable unaffable foxes... jump!? xyz");
+
+    final String[] expected = {"[CLS]", "[UNK]", "un", "##aff", "##able", "fox", "##es", "...",
+        "jump", "!", "##?", "[UNK]", "[SEP]"};
+
+    Assertions.assertArrayEquals(expected, tokens);
+
+  }
+
+  @Test
+  void testMaxTokenLength() {
+
+    final Tokenizer tokenizer = new WordpieceTokenizer(getWordpieceVocabulary(), 4);
+    final String[] tokens = tokenizer.tokenize("foxes fox");
+
+    Assertions.assertArrayEquals(new String[] {"[CLS]", "[UNK]", "fox", "[SEP]"}, tokens);
+
+  }
+
+  @Test
+  void testEncode() {
+
+    final WordpieceVocabulary vocabulary = getWordpieceVocabulary();
+    final WordpieceTokenizer tokenizer = new WordpieceTokenizer(vocabulary);
+    final String text = "Unaffable foxes... \u00a0jump!? xyz unaffable";
+
+    final String[] tokens = tokenizer.tokenize(text);
+    final long[] ids = new long[text.length() + 2];
+    final int count = tokenizer.encode(text, ids);
+
+    Assertions.assertEquals(tokens.length, count);
+    for (int i = 0; i < count; i++) {
+      Assertions.assertEquals(vocabulary.getId(tokens[i]), ids[i]);
+    }
+
+    // a too short array receives the leading ids only
+    final long[] shortIds = new long[3];
+    Assertions.assertEquals(count, tokenizer.encode(text, shortIds));
+    Assertions.assertEquals(ids[2], shortIds[2]);
+
+  }
+
+  @Test
+  void testEncodeWithoutSpecialTokens() {
+
+    final WordpieceTokenizer tokenizer = new WordpieceTokenizer(getVocabulary());
+    Assertions.assertThrows(IllegalStateException.class, () -> tokenizer.encode("the", new long[3]));
+
+  }
+
+  private WordpieceVocabulary getWordpieceVocabulary() {
+
+    final Map<String, Integer> vocabulary = new HashMap<>();
+
+    for (String token : new String[] {"[PAD]", "[CLS]", "[SEP]", "[UNK]", "un", "##aff", "##able",
+        "fox", "##es", "...", "jump", "!", "##?"}) {
+      vocabulary.put(token, vocabulary.size());
+    }
+
+    return new WordpieceVocabulary(vocabulary);
+
+  }
+
   private Set<String> getVocabulary() {
 
     final Set<String> vocabulary = new HashSet<>();
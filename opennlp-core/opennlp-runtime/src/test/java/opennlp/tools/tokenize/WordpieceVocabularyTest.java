@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.tokenize;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WordpieceVocabularyTest {
+
+  private static WordpieceVocabulary createVocabulary() {
+    final Map<String, Integer> vocabulary = new HashMap<>();
+    vocabulary.put("[UNK]", 0);
+    vocabulary.put("un", 1);
+    vocabulary.put("unaff", 2);
+    vocabulary.put("##able", 3);
+    vocabulary.put("##a", 4);
+    vocabulary.put("##", 5);
+    vocabulary.put("###", 6);
+    vocabulary.put("中文", 7);
+    return new WordpieceVocabulary(vocabulary);
+  }
+
+  @Test
+  void testGetId() {
+    final WordpieceVocabulary vocabulary = createVocabulary();
+
+    Assertions.assertEquals(8, vocabulary.size());
+    Assertions.assertEquals(0, vocabulary.getId("[UNK]"));
+    Assertions.assertEquals(1, vocabulary.getId("un"));
+    Assertions.assertEquals(2, vocabulary.getId("unaff"));
+    Assertions.assertEquals(3, vocabulary.getId("##able"));
+    Assertions.assertEquals(5, vocabulary.getId("##"));
+    Assertions.assertEquals(6, vocabulary.getId("###"));
+    Assertions.assertEquals(7, vocabulary.getId("中文"));
+    Assertions.assertEquals(-1, vocabulary.getId("una"));
+    Assertions.assertEquals(-1, vocabulary.getId("able"));
+    Assertions.assertEquals(-1, vocabulary.getId(""));
+    Assertions.assertTrue(vocabulary.contains("un"));
+    Assertions.assertFalse(vocabulary.contains("u"));
+  }
+
+  @Test
+  void testGetIdContinuation() {
+    final WordpieceVocabulary vocabulary = createVocabulary();
+
+    Assertions.assertEquals(3, vocabulary.getId("unable", 2, 6, true));
+    Assertions.assertEquals(-1, vocabulary.getId("unable", 2, 6, false));
+    Assertions.assertEquals(6, vocabulary.getId("x#", 1, 2, true));
+    Assertions.assertEquals(1, vocabulary.getId("run", 1, 3, false));
+  }
+
+  @Test
+  void testLongestMatch() {
+    final WordpieceVocabulary vocabulary = createVocabulary();
+
+    long match = vocabulary.longestMatch("unaffable", 0, 9, false);
+    Assertions.assertEquals(5, WordpieceVocabulary.matchEnd(match));
+    Assertions.assertEquals(2, WordpieceVocabulary.matchId(match));
+
+    match = vocabulary.longestMatch("unaffable", 0, 4, false);
+    Assertions.assertEquals(2, WordpieceVocabulary.matchEnd(match));
+    Assertions.assertEquals(1, WordpieceVocabulary.matchId(match));
+
+    match = vocabulary.longestMatch("unaffable", 5, 9, true);
+    Assertions.assertEquals(9, WordpieceVocabulary.matchEnd(match));
+    Assertions.assertEquals(3, WordpieceVocabulary.matchId(match));
+
+    match = vocabulary.longestMatch("unaffable", 5, 8, true);
+    Assertions.assertEquals(6, WordpieceVocabulary.matchEnd(match));
+    Assertions.assertEquals(4, WordpieceVocabulary.matchId(match));
+
+    Assertions.assertEquals(-1, vocabulary.longestMatch("able", 0, 4, false));
+  }
+
+  @Test
+  void testEmpty() {
+    final WordpieceVocabulary vocabulary = new WordpieceVocabulary(Map.of());
+    Assertions.assertEquals(0, vocabulary.size());
+    Assertions.assertEquals(-1, vocabulary.getId("a"));
+    Assertions.assertEquals(-1, vocabulary.longestMatch("a", 0, 1, true));
+  }
+
+  @Test
+  void testNegativeId() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new WordpieceVocabulary(Map.of("a", -1)));
+  }
+
+  @Test
+  void testRandomVocabulary() {
+    final Random random = new Random(42);
+    final Map<String, Integer> expected = new HashMap<>();
+    while (expected.size() < 5000) {
+      final StringBuilder token = new StringBuilder();
+      if (random.nextInt(3) == 0) {
+        token.append("##");
+      }
+      final int length = 1 + random.nextInt(8);
+      for (int i = 0; i < length; i++) {
+        // mostly ASCII letters, some chars from other scripts
+        token.append(random.nextInt(10) == 0 ? (char) (0x400 + random.nextInt(0x5000))
+            : (char) ('a' + random.nextInt(26)));
+      }
+      expected.putIfAbsent(token.toString(), expected.size());
+    }
+
+    final WordpieceVocabulary vocabulary = new WordpieceVocabulary(expected);
+    for (Map.Entry<String, Integer> entry : expected.entrySet()) {
+      Assertions.assertEquals(entry.getValue(), vocabulary.getId(entry.getKey()));
+      final String prefix = entry.getKey().substring(0, entry.getKey().length() - 1);
+      Assertions.assertEquals(expected.getOrDefault(prefix, -1), vocabulary.getId(prefix));
+    }
+  }
+
+  @Test
+  void testLoad(@TempDir Path tempDir) throws IOException {
+    final Path vocabFile = tempDir.resolve("vocab.txt");
+    Files.write(vocabFile, List.of("[PAD]", "[UNK]", "the", "##s", "the"), StandardCharsets.UTF_8);
+
+    final WordpieceVocabulary vocabulary = WordpieceVocabulary.load(vocabFile);
+    Assertions.assertEquals(4, vocabulary.size());
+    Assertions.assertEquals(0, vocabulary.getId("[PAD]"));
+    Assertions.assertEquals(1, vocabulary.getId("[UNK]"));
+    Assertions.assertEquals(4, vocabulary.getId("the"));
+    Assertions.assertEquals(3, vocabulary.getId("##s"));
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+class CharPoolIndexTest {
+
+  private static final char[] CHARS = "thecatthe".toCharArray();
+  private static final int[] OFFSETS = {0, 3, 6, 9};
+
+  @Test
+  void testHashIsStable() {
+    // the hash is persisted in the slots of mapped word vector tables
+    int h = "token".hashCode() * 0x9E3779B9;
+    Assertions.assertEquals(h ^ (h >>> 16), CharPoolIndex.hash("token"));
+    Assertions.assertEquals(CharPoolIndex.hash("token"), CharPoolIndex.hash("a token", 2, 7));
+    Assertions.assertEquals(CharPoolIndex.hash("token"),
+        CharPoolIndex.hash("a token".toCharArray(), 2, 7));
+  }
+
+  @Test
+  void testInsertAndIndexOf() {
+    int[] slots = CharPoolIndex.createSlots(3);
+    Assertions.assertEquals(-1, CharPoolIndex.insert(slots, CHARS, OFFSETS, 0));
+    Assertions.assertEquals(-1, CharPoolIndex.insert(slots, CHARS, OFFSETS, 1));
+    Assertions.assertEquals(0, CharPoolIndex.insert(slots, CHARS, OFFSETS, 2));
+
+    Assertions.assertEquals(0, CharPoolIndex.indexOf(slots, CHARS, OFFSETS, "the"));
+    Assertions.assertEquals(1, CharPoolIndex.indexOf(slots, CHARS, OFFSETS, "cat"));
+    Assertions.assertEquals(-1, CharPoolIndex.indexOf(slots, CHARS, OFFSETS, "dog"));
+    Assertions.assertEquals(-1, CharPoolIndex.indexOf(slots, CHARS, OFFSETS, ""));
+  }
+
+  @Test
+  void testInsertAndIndexOfWithKeys() {
+    int[] keys = {1, 1, 2};
+    int[] slots = CharPoolIndex.createSlots(3);
+    for (int entry = 0; entry < keys.length; entry++) {
+      Assertions.assertEquals(-1, CharPoolIndex.insert(slots, CHARS, OFFSETS, keys, entry));
+    }
+
+    Assertions.assertEquals(0, CharPoolIndex.indexOf(slots, CHARS, OFFSETS, keys, "the", 1));
+    Assertions.assertEquals(2, CharPoolIndex.indexOf(slots, CHARS, OFFSETS, keys, "the", 2));
+    Assertions.assertEquals(-1, CharPoolIndex.indexOf(slots, CHARS, OFFSETS, keys, "cat", 2));
+  }
+
+  @Test
+  void testReadWriteArrays() throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    CharPoolIndex.writeStrings(out, new String[] {"a", "b"});
+    CharPoolIndex.writeInts(out, OFFSETS);
+    CharPoolIndex.writeChars(out, CHARS);
+
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    Assertions.assertArrayEquals(new String[] {"a", "b"}, CharPoolIndex.readStrings(in));
+    Assertions.assertArrayEquals(OFFSETS, CharPoolIndex.readInts(in, OFFSETS.length));
+    Assertions.assertArrayEquals(CHARS, CharPoolIndex.readChars(in, CHARS.length));
+  }
+
+  @Test
+  void testNegativeLength() {
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(new byte[0]));
+    Assertions.assertThrows(InvalidFormatException.class, () -> CharPoolIndex.readInts(in, -1));
+    Assertions.assertThrows(InvalidFormatException.class, () -> CharPoolIndex.readChars(in, -1));
+  }
+}
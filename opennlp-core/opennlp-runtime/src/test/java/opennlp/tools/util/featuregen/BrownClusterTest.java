@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.featuregen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.formats.ResourceAsStreamFactory;
+
+public class BrownClusterTest {
+
+  private BrownCluster brownCluster;
+
+  @BeforeEach
+  void setup() throws IOException {
+    ResourceAsStreamFactory stream = new ResourceAsStreamFactory(
+        getClass(), "/opennlp/tools/formats/brown-cluster.txt");
+
+    brownCluster = new BrownCluster(stream.createInputStream());
+  }
+
+  private static BrownCluster create(String text) throws IOException {
+    return new BrownCluster(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void testLookupToken() {
+    // only tokens with a frequency above 5 are kept
+    Assertions.assertEquals(33, brownCluster.size());
+    Assertions.assertEquals("0000", brownCluster.lookupToken("in"));
+    Assertions.assertEquals("1101110", brownCluster.lookupToken("he"));
+    Assertions.assertNull(brownCluster.lookupToken("town"));
+    Assertions.assertNull(brownCluster.lookupToken("unknown"));
+
+    int id = brownCluster.lookupClusterId("you");
+    Assertions.assertEquals("00101", brownCluster.getCluster(id));
+    Assertions.assertEquals(-1, brownCluster.lookupClusterId("town"));
+  }
+
+  @Test
+  void testWordClasses() throws IOException {
+    BrownCluster cluster = create("a\t0101\nb\t01010101\nc\t01011111111\nd\t0101010101010101010101\n");
+
+    Assertions.assertEquals(List.of("0101"), BrownTokenClasses.getWordClasses("a", cluster));
+    Assertions.assertEquals(List.of("0101", "010101", "01010101"),
+        BrownTokenClasses.getWordClasses("b", cluster));
+    Assertions.assertEquals(List.of("0101", "010111", "0101111111", "01011111111"),
+        BrownTokenClasses.getWordClasses("c", cluster));
+    Assertions.assertEquals(List.of("0101", "010101", "0101010101", "01010101010101010101"),
+        BrownTokenClasses.getWordClasses("d", cluster));
+    Assertions.assertTrue(BrownTokenClasses.getWordClasses("e", cluster).isEmpty());
+
+    // equal prefixes of different clusters share one instance
+    Assertions.assertSame(BrownTokenClasses.getWordClasses("b", cluster).get(1),
+        BrownTokenClasses.getWordClasses("d", cluster).get(1));
+  }
+
+  @Test
+  void testTextFormatVariants() throws IOException {
+    BrownCluster cluster = create("0110\tfrequent\t6\n0111\trare\t5\ntwo\t10\t\n\n"
+        + "too\tmany\tcolumns\there\nfrequent\t1111\n");
+
+    Assertions.assertEquals(2, cluster.size());
+    Assertions.assertNull(cluster.lookupToken("rare"));
+    Assertions.assertEquals("10", cluster.lookupToken("two"));
+    // a token which is repeated takes the cluster of its last line
+    Assertions.assertEquals("1111", cluster.lookupToken("frequent"));
+  }
+
+  @Test
+  void testSerialization() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    new BrownCluster.BrownClusterSerializer().serialize(brownCluster, out);
+
+    BrownCluster recreated = new BrownCluster(new ByteArrayInputStream(out.toByteArray()));
+
+    Assertions.assertFalse(recreated.isBinaryFormat());
+    Assertions.assertEquals(brownCluster.size(), recreated.size());
+    Assertions.assertEquals("01010", recreated.lookupToken("with"));
+  }
+
+  @Test
+  void testBinarySerialization() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    brownCluster.serializeBinary(out);
+
+    CloseRecordingStream in = new CloseRecordingStream(out.toByteArray());
+    BrownCluster recreated = new BrownCluster.BrownClusterSerializer().create(in);
+
+    Assertions.assertFalse(in.closed);
+    Assertions.assertTrue(recreated.isBinaryFormat());
+    Assertions.assertEquals(brownCluster.size(), recreated.size());
+    Assertions.assertEquals(brownCluster.getClusterCount(), recreated.getClusterCount());
+    Assertions.assertEquals("00101", recreated.lookupToken("you"));
+    Assertions.assertNull(recreated.lookupToken("town"));
+
+    // a binary cluster stays binary when it is written again
+    ByteArrayOutputStream again = new ByteArrayOutputStream();
+    new BrownCluster.BrownClusterSerializer().serialize(recreated, again);
+    Assertions.assertArrayEquals(out.toByteArray(), again.toByteArray());
+  }
+
+  @Test
+  void testFeatureGenerators() {
+    String[] tokens = new String[] {"he", "went", "with", "you"};
+
+    List<String> features = new ArrayList<>();
+    new BrownTokenFeatureGenerator(brownCluster).createFeatures(features, tokens, 3, null);
+    Assertions.assertEquals(List.of("browncluster=0010", "browncluster=00101"), features);
+
+    features.clear();
+    new BrownTokenClassFeatureGenerator(brownCluster).createFeatures(features, tokens, 3, null);
+    Assertions.assertEquals(List.of("c,browncluster=lc,0010", "c,browncluster=lc,00101"), features);
+
+    features.clear();
+    new BrownTokenFeatureGenerator(brownCluster).createFeatures(features, tokens, 1, null);
+    Assertions.assertTrue(features.isEmpty());
+  }
+
+  private static class CloseRecordingStream extends ByteArrayInputStream {
+
+    private boolean closed;
+
+    CloseRecordingStream(byte[] data) {
+      super(data);
+    }
+
+    @Override
+    public void close() throws IOException {
+      closed = true;
+      super.close();
+    }
+  }
+}
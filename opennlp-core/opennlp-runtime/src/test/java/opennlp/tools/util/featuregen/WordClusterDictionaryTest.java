@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.featuregen;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WordClusterDictionaryTest {
+
+  private WordClusterDictionary dictionary;
+
+  @BeforeEach
+  void setup() throws IOException {
+    dictionary = new WordClusterDictionary(new ByteArrayInputStream(
+        "berlin 12\nparis 12 0.5\nmonday 7\n\nlonely\nübermorgen 7\n".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  void testLookupToken() {
+    Assertions.assertEquals(4, dictionary.size());
+    Assertions.assertEquals(2, dictionary.getClusterCount());
+    Assertions.assertEquals("12", dictionary.lookupToken("paris"));
+    Assertions.assertEquals("7", dictionary.lookupToken("übermorgen"));
+    Assertions.assertNull(dictionary.lookupToken("lonely"));
+    Assertions.assertEquals(dictionary.lookupClusterId("berlin"), dictionary.lookupClusterId("paris"));
+    Assertions.assertEquals(-1, dictionary.lookupClusterId("Berlin"));
+  }
+
+  @Test
+  void testSerialization() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dictionary.serialize(out);
+
+    WordClusterDictionary recreated = new WordClusterDictionary(
+        new ByteArrayInputStream(out.toByteArray()));
+
+    Assertions.assertFalse(recreated.isBinaryFormat());
+    Assertions.assertEquals(4, recreated.size());
+    Assertions.assertEquals("7", recreated.lookupToken("monday"));
+  }
+
+  @Test
+  void testBinarySerialization() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    dictionary.serializeBinary(out);
+
+    WordClusterDictionary recreated = new WordClusterDictionary.WordClusterDictionarySerializer()
+        .create(new ByteArrayInputStream(out.toByteArray()));
+
+    Assertions.assertTrue(recreated.isBinaryFormat());
+    Assertions.assertEquals(4, recreated.size());
+    Assertions.assertEquals(2, recreated.getClusterCount());
+    Assertions.assertEquals("12", recreated.lookupToken("berlin"));
+    Assertions.assertEquals("7", recreated.lookupToken("übermorgen"));
+    Assertions.assertNull(recreated.lookupToken("lonely"));
+  }
+
+  @Test
+  void testFeatureGenerator() {
+    String[] tokens = new String[] {"Paris", "on", "Monday"};
+
+    List<String> features = new ArrayList<>();
+    WordClusterFeatureGenerator generator = new WordClusterFeatureGenerator(dictionary, "dict=", true);
+    generator.createFeatures(features, tokens, 0, null);
+    generator.createFeatures(features, tokens, 1, null);
+    generator.createFeatures(features, tokens, 2, null);
+    Assertions.assertEquals(List.of("dict=12", "dict=7"), features);
+
+    features.clear();
+    new WordClusterFeatureGenerator(dictionary, "dict=", false).createFeatures(features, tokens, 0, null);
+    Assertions.assertTrue(features.isEmpty());
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util.jvm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import opennlp.tools.dictionary.Dictionary;
+import opennlp.tools.namefind.DictionaryNameFinder;
+import opennlp.tools.util.Span;
+import opennlp.tools.util.StringList;
+
+public class StringInternersTest {
+
+  private static MeasurableStringInterner create(String name) {
+    return switch (name) {
+      case "bounded" -> new BoundedStringInterner(100);
+      case "weak" -> new WeakStringInterner();
+      case "striped" -> new StripedStringInterner(1024);
+      default -> throw new IllegalArgumentException(name);
+    };
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"bounded", "weak", "striped"})
+  void testInternAndStatistics(String name) {
+    final MeasurableStringInterner interner = create(name);
+    final String first = new String("token");
+    final String second = new String("token");
+
+    Assertions.assertSame(first, interner.intern(first));
+    Assertions.assertSame(first, interner.intern(second));
+    Assertions.assertSame(first, interner.intern("token"));
+
+    Assertions.assertEquals(1, interner.size());
+    Assertions.assertEquals(2, interner.getHits());
+    Assertions.assertEquals(1, interner.getMisses());
+    Assertions.assertEquals(2d / 3, interner.getHitRate(), 1e-9);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"bounded", "weak", "striped"})
+  void testConcurrentIntern(String name) throws InterruptedException, ExecutionException {
+    final MeasurableStringInterner interner = create(name);
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < 4; t++) {
+        futures.add(executor.submit(() -> {
+          for (int i = 0; i < 10000; i++) {
+            final String sample = "word" + (i % 50);
+            Assertions.assertEquals(sample, interner.intern(sample));
+          }
+        }));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } finally {
+      executor.shutdown();
+    }
+    Assertions.assertEquals(40000, interner.getHits() + interner.getMisses());
+    Assertions.assertTrue(interner.size() <= 50);
+  }
+
+  @Test
+  void testBoundedEvictsUnreferencedStrings() {
+    final BoundedStringInterner interner = new BoundedStringInterner(3);
+    Assertions.assertEquals(3, interner.getCapacity());
+
+    final String a = new String("a");
+    interner.intern(a);
+    interner.intern("b");
+    interner.intern("c");
+    Assertions.assertSame(a, interner.intern(new String("a")));
+
+    // "b" was not requested again, so it is replaced first
+    interner.intern("d");
+    Assertions.assertEquals(3, interner.size());
+    Assertions.assertSame(a, interner.intern(new String("a")));
+    final String b = new String("b");
+    Assertions.assertSame(b, interner.intern(b));
+
+    for (int i = 0; i < 1000; i++) {
+      interner.intern("w" + i);
+    }
+    Assertions.assertEquals(3, interner.size());
+  }
+
+  @Test
+  void testWeakDropsUnusedStrings() throws InterruptedException {
+    final WeakStringInterner interner = new WeakStringInterner();
+    for (int i = 0; i < 1000; i++) {
+      interner.intern("w" + i);
+    }
+    final String kept = interner.intern(new String("kept"));
+
+    for (int i = 0; i < 50 && interner.size() > 1; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+    Assertions.assertEquals(1, interner.size());
+    Assertions.assertSame(kept, interner.intern(new String("kept")));
+  }
+
+  @Test
+  void testStripedCapacity() {
+    Assertions.assertEquals(1, new StripedStringInterner(1).getCapacity());
+    Assertions.assertEquals(1024, new StripedStringInterner(1000).getCapacity());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new StripedStringInterner(0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new BoundedStringInterner(0));
+  }
+
+  @Test
+  void testComponentInterner() {
+    Assertions.assertSame(StringInterners.getInterner(), StringInterners.getInterner("unconfigured"));
+
+    final BoundedStringInterner interner = new BoundedStringInterner(16);
+    StringInterners.setInterner("test.component", interner);
+    Assertions.assertSame(interner, StringInterners.getInterner("test.component"));
+
+    final StringList list = new StringList(interner, true, "a", "b");
+    Assertions.assertEquals(new StringList("a", "b"), list);
+    Assertions.assertEquals(2, interner.size());
+  }
+
+  @Test
+  void testComponentInternerFromSystemProperty() {
+    System.setProperty("opennlp.interner.class.test.property", WeakStringInterner.class.getName());
+    try {
+      final StringInterner interner = StringInterners.getInterner("test.property");
+      Assertions.assertInstanceOf(WeakStringInterner.class, interner);
+      Assertions.assertSame(interner, StringInterners.getInterner("test.property"));
+    } finally {
+      System.clearProperty("opennlp.interner.class.test.property");
+    }
+  }
+
+  @Test
+  void testDictionaryNameFinderWithInterner() {
+    final Dictionary dictionary = new Dictionary();
+    dictionary.put(new StringList("Max", "Mustermann"));
+
+    final BoundedStringInterner interner = new BoundedStringInterner(8);
+    final DictionaryNameFinder finder = new DictionaryNameFinder(dictionary, "person", interner);
+    final Span[] names = finder.find(new String[] {"Hello", "Max", "Mustermann", "and", "Erika", "."});
+
+    Assertions.assertArrayEquals(new Span[] {new Span(1, 3, "person")}, names);
+    Assertions.assertTrue(interner.size() <= 8);
+    Assertions.assertTrue(interner.getMisses() > 0);
+  }
+}
@@ -29,15 +29,30 @@ import morfologik.stemming.Dictionary;
 import morfologik.stemming.DictionaryLookup;
 import morfologik.stemming.WordData;
 
+import opennlp.morfologik.util.LookupCache;
 import opennlp.tools.lemmatizer.Lemmatizer;
 
 /**
  * A {@link Lemmatizer} implementation based on Morfologik binary
  * dictionaries
+ * <p>
+ * The lemmatizer is thread-safe: every thread uses its own {@link DictionaryLookup},
+ * and the lemmas of recently seen (word, tag) pairs are kept in a bounded,
+ * shared {@link LookupCache}.
  */
 public class MorfologikLemmatizer implements Lemmatizer {
 
-  private final Dictionary dictionary;
+  /**
+   * The default maximum number of cached (word, tag) pairs.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 100_000;
+
+  private final ThreadLocal<DictionaryLookup> dictLookup;
+
+  private final LookupCache<LemmaKey, List<String>> cache;
+
+  private record LemmaKey(String word, String postag) {
+  }
 
   /**
    * Initializes a {@link MorfologikLemmatizer} and related {@link Dictionary}
@@ -59,14 +74,31 @@ public class MorfologikLemmatizer implements Lemmatizer {
    * @param dictionary The {@link Dictionary} to be used.
    */
   public MorfologikLemmatizer(Dictionary dictionary) {
-    this.dictionary = dictionary;
+    this(dictionary, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Initializes a {@link MorfologikLemmatizer} with the given {@link Dictionary}.
+   *
+   * @param dictionary The {@link Dictionary} to be used.
+   * @param cacheSize The maximum number of cached (word, tag) pairs. If {@code 0},
+   *                  nothing is cached.
+   * @throws IllegalArgumentException Thrown if {@code cacheSize} is negative.
+   */
+  public MorfologikLemmatizer(Dictionary dictionary, int cacheSize) {
+    this.dictLookup = ThreadLocal.withInitial(() -> new DictionaryLookup(dictionary));
+    this.cache = new LookupCache<>(cacheSize);
+  }
+
+  private List<String> lemmatize(DictionaryLookup lookup, String word, String postag) {
+    return cache.get(new LemmaKey(word, postag), key -> lookupLemmas(lookup, key));
   }
 
-  private List<String> lemmatize(String word, String postag) {
-    List<WordData> dictMap = new DictionaryLookup(dictionary).lookup(word.toLowerCase());
+  private List<String> lookupLemmas(DictionaryLookup lookup, LemmaKey key) {
+    List<WordData> dictMap = lookup.lookup(key.word().toLowerCase());
     Set<String> lemmas = new HashSet<>();
     for (WordData wordData : dictMap) {
-      if (Objects.equals(postag, asString(wordData.getTag()))) {
+      if (Objects.equals(key.postag(), asString(wordData.getTag()))) {
         lemmas.add(asString(wordData.getStem()));
       }
     }
@@ -82,9 +114,10 @@ public class MorfologikLemmatizer implements Lemmatizer {
 
   @Override
   public String[] lemmatize(String[] toks, String[] tags) {
+    DictionaryLookup lookup = dictLookup.get();
     String[] lemmas = new String[toks.length];
     for (int i = 0; i < toks.length; i++) {
-      List<String> l = lemmatize(toks[i], tags[i]);
+      List<String> l = lemmatize(lookup, toks[i], tags[i]);
       if (l.size() > 0) {
         lemmas[i] = l.get(0);
       } else {
@@ -96,10 +129,32 @@ public class MorfologikLemmatizer implements Lemmatizer {
 
   @Override
   public List<List<String>> lemmatize(List<String> toks, List<String> tags) {
-    List<List<String>> lemmas = new ArrayList<>();
+    DictionaryLookup lookup = dictLookup.get();
+    List<List<String>> lemmas = new ArrayList<>(toks.size());
     for (int i = 0; i < toks.size(); i++) {
-      lemmas.add(lemmatize(toks.get(i), tags.get(i)));
+      lemmas.add(lemmatize(lookup, toks.get(i), tags.get(i)));
     }
     return lemmas;
   }
+
+  /**
+   * @return Retrieves the number of lookups which were answered from the cache.
+   */
+  public long getNumberOfCacheHits() {
+    return cache.getNumberOfCacheHits();
+  }
+
+  /**
+   * @return Retrieves the number of lookups which required a dictionary lookup.
+   */
+  public long getNumberOfCacheMisses() {
+    return cache.getNumberOfCacheMisses();
+  }
+
+  /**
+   * @return Retrieves the ratio of cache hits to all lookups, or {@code 0} if there were none.
+   */
+  public double getCacheHitRate() {
+    return cache.getHitRate();
+  }
 }
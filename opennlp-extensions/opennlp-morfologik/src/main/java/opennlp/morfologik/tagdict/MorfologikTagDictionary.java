@@ -17,24 +17,34 @@
 
 package opennlp.morfologik.tagdict;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import morfologik.stemming.Dictionary;
 import morfologik.stemming.DictionaryLookup;
-import morfologik.stemming.IStemmer;
 import morfologik.stemming.WordData;
 
+import opennlp.morfologik.util.LookupCache;
 import opennlp.tools.postag.TagDictionary;
 
 /**
  * A {@link TagDictionary} implementation based on Morfologik binary
  * dictionaries
+ * <p>
+ * The dictionary is thread-safe: every thread uses its own {@link DictionaryLookup},
+ * and the tags of recently seen words are kept in a bounded, shared {@link LookupCache}.
  */
 public class MorfologikTagDictionary implements TagDictionary {
 
-  private final IStemmer dictLookup;
+  /**
+   * The default maximum number of cached words.
+   */
+  public static final int DEFAULT_CACHE_SIZE = 100_000;
+
+  private static final String[] NO_TAGS = new String[0];
+
+  private final ThreadLocal<DictionaryLookup> dictLookup;
   private final boolean isCaseSensitive;
+  private final LookupCache<String, String[]> cache;
 
   /**
    * Initializes a case sensitive {@link MorfologikTagDictionary}
@@ -57,8 +67,26 @@ public class MorfologikTagDictionary implements TagDictionary {
    */
   public MorfologikTagDictionary(Dictionary dict, boolean caseSensitive)
       throws IllegalArgumentException {
-    this.dictLookup = new DictionaryLookup(dict);
+    this(dict, caseSensitive, DEFAULT_CACHE_SIZE);
+  }
+
+  /**
+   * Initializes a {@link MorfologikTagDictionary}
+   *
+   * @param dict A Morfologik FSA {@link Dictionary}.
+   * @param caseSensitive If {@code true} it performs case-sensitive lookup
+   * @param cacheSize The maximum number of cached words. If {@code 0}, nothing is cached.
+   * @throws IllegalArgumentException Thrown if FSA's root node cannot be acquired
+   *                                  (dictionary is empty), or if {@code cacheSize} is negative.
+   */
+  public MorfologikTagDictionary(Dictionary dict, boolean caseSensitive, int cacheSize)
+      throws IllegalArgumentException {
+    // fails early if the dictionary is empty
+    DictionaryLookup lookup = new DictionaryLookup(dict);
+    this.dictLookup = ThreadLocal.withInitial(() -> new DictionaryLookup(dict));
+    this.dictLookup.set(lookup);
     this.isCaseSensitive = caseSensitive;
+    this.cache = new LookupCache<>(cacheSize);
   }
 
   @Override
@@ -67,21 +95,45 @@ public class MorfologikTagDictionary implements TagDictionary {
       word = word.toLowerCase();
     }
 
-    List<WordData> data = dictLookup.lookup(word);
+    String[] tags = cache.get(word, this::lookupTags);
+    return tags.length > 0 ? tags.clone() : null;
+  }
+
+  private String[] lookupTags(String word) {
+    List<WordData> data = dictLookup.get().lookup(word);
     if (data != null && data.size() > 0) {
-      List<String> tags = new ArrayList<>(data.size());
-      for (WordData aData : data) {
-        tags.add(aData.getTag().toString());
+      String[] tags = new String[data.size()];
+      for (int i = 0; i < tags.length; i++) {
+        tags[i] = data.get(i).getTag().toString();
       }
-      if (tags.size() > 0)
-        return tags.toArray(new String[0]);
-      return null;
+      return tags;
     }
-    return null;
+    return NO_TAGS;
   }
 
   @Override
   public boolean isCaseSensitive() {
     return isCaseSensitive;
   }
+
+  /**
+   * @return Retrieves the number of lookups which were answered from the cache.
+   */
+  public long getNumberOfCacheHits() {
+    return cache.getNumberOfCacheHits();
+  }
+
+  /**
+   * @return Retrieves the number of lookups which required a dictionary lookup.
+   */
+  public long getNumberOfCacheMisses() {
+    return cache.getNumberOfCacheMisses();
+  }
+
+  /**
+   * @return Retrieves the ratio of cache hits to all lookups, or {@code 0} if there were none.
+   */
+  public double getCacheHitRate() {
+    return cache.getHitRate();
+  }
 }
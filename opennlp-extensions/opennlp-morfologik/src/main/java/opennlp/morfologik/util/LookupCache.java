@@ -0,0 +1,199 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.morfologik.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import opennlp.tools.util.CharPoolIndex;
+
+/**
+ * A bounded, thread-safe cache for the results of dictionary lookups.
+ * <p>
+ * If the cache is full, the least recently used entries are evicted, approximated by the
+ * clock algorithm: an entry which was not requested since the clock hand passed it last is
+ * replaced. The entries are partitioned into segments by the hash code of their keys, each
+ * guarded by its own lock, to reduce contention between threads. Results are computed
+ * outside the locks.
+ *
+ * @param <K> The type of the lookup keys.
+ * @param <V> The type of the cached results.
+ */
+public class LookupCache<K, V> {
+
+  private static final int MAX_SEGMENTS = 16;
+  private static final int MIN_SEGMENT_CAPACITY = 64;
+
+  private final Segment<K, V>[] segments;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Initializes a {@link LookupCache}.
+   *
+   * @param capacity The maximum number of cached entries. If {@code 0}, nothing is cached.
+   * @throws IllegalArgumentException Thrown if {@code capacity} is negative.
+   */
+  @SuppressWarnings("unchecked")
+  public LookupCache(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must not be negative, but was " + capacity);
+    }
+    final int count = capacity == 0 ? 0 : Math.min(MAX_SEGMENTS,
+        Integer.highestOneBit(Math.max(1, capacity / MIN_SEGMENT_CAPACITY)));
+    segments = new Segment[count];
+    for (int i = 0; i < count; i++) {
+      segments[i] = new Segment<>(capacity / count + (i < capacity % count ? 1 : 0));
+    }
+  }
+
+  /**
+   * Retrieves the cached result for {@code key}, or computes and caches it.
+   *
+   * @param key The lookup key. Must not be {@code null}.
+   * @param lookup Computes the result of a key which is not cached. Must not return {@code null}.
+   * @return The result for {@code key}.
+   */
+  public V get(K key, Function<K, V> lookup) {
+    if (segments.length == 0) {
+      misses.increment();
+      return lookup.apply(key);
+    }
+
+    final int h = CharPoolIndex.mix(key.hashCode());
+    final Segment<K, V> segment = segments[(h >>> 16) & (segments.length - 1)];
+    V value = segment.get(key);
+    if (value != null) {
+      hits.increment();
+      return value;
+    }
+
+    misses.increment();
+    value = lookup.apply(key);
+    segment.put(key, value);
+    return value;
+  }
+
+  /**
+   * @return Retrieves the number of lookups which were answered from the cache.
+   */
+  public long getNumberOfCacheHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return Retrieves the number of lookups which were not answered from the cache.
+   */
+  public long getNumberOfCacheMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return Retrieves the ratio of cache hits to all lookups, or {@code 0} if there were none.
+   */
+  public double getHitRate() {
+    long numberOfHits = hits.sum();
+    long lookups = numberOfHits + misses.sum();
+    return lookups > 0 ? (double) numberOfHits / lookups : 0;
+  }
+
+  /**
+   * @return Retrieves the number of cached entries.
+   */
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  @Override
+  public String toString() {
+    return super.toString() + ": hits=" + getNumberOfCacheHits()
+        + " misses=" + getNumberOfCacheMisses() + " hit%" + getHitRate();
+  }
+
+  private static final class Entry<K, V> {
+    private K key;
+    private V value;
+    private boolean referenced;
+
+    private Entry(K key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  private static final class Segment<K, V> {
+    private final Map<K, Entry<K, V>> map;
+    private final Entry<K, V>[] clock;
+    private int size;
+    private int hand;
+
+    @SuppressWarnings("unchecked")
+    private Segment(int capacity) {
+      map = new HashMap<>((int) (capacity / 0.75f) + 1);
+      clock = new Entry[capacity];
+    }
+
+    private synchronized V get(K key) {
+      Entry<K, V> entry = map.get(key);
+      if (entry == null) {
+        return null;
+      }
+      entry.referenced = true;
+      return entry.value;
+    }
+
+    private synchronized void put(K key, V value) {
+      if (map.containsKey(key)) {
+        return; // another thread cached it in the meantime
+      }
+
+      Entry<K, V> entry;
+      if (size < clock.length) {
+        entry = new Entry<>(key, value);
+        clock[size++] = entry;
+      } else {
+        while (true) {
+          entry = clock[hand];
+          if (++hand == clock.length) {
+            hand = 0;
+          }
+          if (entry.referenced) {
+            entry.referenced = false;
+          } else {
+            map.remove(entry.key);
+            entry.key = key;
+            entry.value = value;
+            break;
+          }
+        }
+      }
+      map.put(key, entry);
+    }
+
+    private synchronized int size() {
+      return size;
+    }
+  }
+}
@@ -18,9 +18,14 @@
 package opennlp.morfologik.lemmatizer;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import morfologik.stemming.Dictionary;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -62,6 +67,46 @@ public class MorfologikLemmatizerTest extends AbstractMorfologikTest {
     Assertions.assertTrue(lemmas.get(0).contains("ser"));
   }
 
+  @Test
+  public void testLemmatizeCached() throws Exception {
+    MorfologikLemmatizer dict = createDictionary(false);
+
+    String[] toks = {"casa", "casa", "casa", "foi"};
+    String[] tags = {"V", "NOUN", "V", "V"};
+
+    String[] lemmas = dict.lemmatize(toks, tags);
+    Assertions.assertArrayEquals(lemmas, dict.lemmatize(toks, tags));
+    Assertions.assertEquals("casar", lemmas[2]);
+
+    Assertions.assertEquals(3, dict.getNumberOfCacheMisses());
+    Assertions.assertEquals(5, dict.getNumberOfCacheHits());
+    Assertions.assertEquals(5d / 8, dict.getCacheHitRate(), 0.0001);
+  }
+
+  @Test
+  public void testLemmatizeConcurrently() throws Exception {
+    MorfologikLemmatizer dict = new MorfologikLemmatizer(
+        Dictionary.read(createMorfologikDictionary()), 0);
+
+    String[] toks = {"casa", "casa", "Casa", "foi"};
+    String[] tags = {"V", "NOUN", "PROP", "V"};
+    String[] expected = dict.lemmatize(toks, tags);
+
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<String[]>> results = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        results.add(executor.submit(() -> dict.lemmatize(toks, tags)));
+      }
+      for (Future<String[]> result : results) {
+        Assertions.assertArrayEquals(expected, result.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+    Assertions.assertEquals(0, dict.getNumberOfCacheHits());
+  }
+
   private MorfologikLemmatizer createDictionary(boolean caseSensitive)
       throws Exception {
     Path output = createMorfologikDictionary();
@@ -78,6 +78,23 @@ public class MorfologikTagDictionaryTest extends AbstractMorfologikTest {
 
   }
 
+  @Test
+  public void testPOSDictionaryCached() throws Exception {
+    MorfologikTagDictionary dict = createDictionary(false);
+
+    String[] tags = dict.getTags("casa");
+    Assertions.assertArrayEquals(tags, dict.getTags("Casa"));
+    Assertions.assertNull(dict.getTags("xyz"));
+    Assertions.assertNull(dict.getTags("xyz"));
+
+    // the returned arrays are copies of the cached ones
+    tags[0] = null;
+    Assertions.assertNotNull(dict.getTags("casa")[0]);
+
+    Assertions.assertEquals(2, dict.getNumberOfCacheMisses());
+    Assertions.assertEquals(3, dict.getNumberOfCacheHits());
+  }
+
   private MorfologikTagDictionary createDictionary(boolean caseSensitive)
       throws Exception {
     return this.createDictionary(caseSensitive, null);
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.morfologik.util;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link LookupCache} class.
+ */
+public class LookupCacheTest {
+
+  private static final Function<Integer, String> LOOKUP = String::valueOf;
+
+  @Test
+  void testEvictsUnreferencedEntries() {
+    LookupCache<Integer, String> cache = new LookupCache<>(2);
+    cache.get(1, LOOKUP);
+    cache.get(2, LOOKUP);
+    Assertions.assertEquals("1", cache.get(1, LOOKUP));
+
+    // 2 was not requested again and is replaced, 1 stays cached
+    cache.get(3, LOOKUP);
+    Assertions.assertEquals(2, cache.size());
+    Assertions.assertEquals("1", cache.get(1, LOOKUP));
+    Assertions.assertEquals("3", cache.get(3, LOOKUP));
+    Assertions.assertEquals(3, cache.getNumberOfCacheHits());
+    Assertions.assertEquals(3, cache.getNumberOfCacheMisses());
+
+    cache.get(2, LOOKUP);
+    Assertions.assertEquals(4, cache.getNumberOfCacheMisses());
+  }
+
+  @Test
+  void testKeepsCachingAfterCapacityIsReached() {
+    LookupCache<Integer, String> cache = new LookupCache<>(100);
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertEquals(String.valueOf(i), cache.get(i, LOOKUP));
+    }
+    Assertions.assertEquals(100, cache.size());
+    Assertions.assertEquals("999", cache.get(999, LOOKUP));
+    Assertions.assertEquals(1, cache.getNumberOfCacheHits());
+  }
+
+  @Test
+  void testZeroCapacityCachesNothing() {
+    LookupCache<Integer, String> cache = new LookupCache<>(0);
+    cache.get(1, LOOKUP);
+    Assertions.assertEquals("1", cache.get(1, LOOKUP));
+    Assertions.assertEquals(0, cache.size());
+    Assertions.assertEquals(2, cache.getNumberOfCacheMisses());
+  }
+
+  @Test
+  void testNegativeCapacity() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LookupCache<>(-1));
+  }
+}
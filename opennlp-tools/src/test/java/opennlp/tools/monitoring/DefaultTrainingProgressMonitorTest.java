@@ -17,6 +17,7 @@
 
 package opennlp.tools.monitoring;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +57,19 @@ class DefaultTrainingProgressMonitorTest extends AbstractLoggerTest {
     }
   }
 
+  @Test
+  void testFinishedIterationIgnoresDuration() {
+    try (LogCaptor logCaptor = LogCaptor.forClass(DefaultTrainingProgressMonitor.class)) {
+      progressMonitor.finishedIteration(1, Duration.ofMillis(120));
+      progressMonitor.finishedIteration(1, 250, 500, TrainingMeasure.HELD_OUT_ACCURACY, 0.5);
+      progressMonitor.display(true);
+
+      List<String> actual = logCaptor.getInfoLogs();
+      List<String> expected = List.of("1: (250/500) Held-out Accuracy : 0.5");
+      assertArrayEquals(expected.toArray(), actual.toArray());
+    }
+  }
+
   @Test
   void testFinishedTrainingWithStopCriteria() {
     try (LogCaptor logCaptor = LogCaptor.forClass(DefaultTrainingProgressMonitor.class)) {
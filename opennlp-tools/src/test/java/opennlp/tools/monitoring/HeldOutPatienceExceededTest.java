@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.monitoring;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import opennlp.tools.util.Parameters;
+import opennlp.tools.util.TrainingParameters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeldOutPatienceExceededTest {
+
+  private StopCriteria<Double> stopCriteria;
+
+  @BeforeEach
+  public void setup() {
+    stopCriteria = new HeldOutPatienceExceeded(
+        new TrainingParameters(Map.of(Parameters.HELD_OUT_PATIENCE_PARAM, 2)));
+  }
+
+  @Test
+  void testCriteria() {
+    assertFalse(stopCriteria.test(0.5));
+    assertFalse(stopCriteria.test(0.6));
+    assertFalse(stopCriteria.test(0.6));
+    // an improvement resets the patience
+    assertFalse(stopCriteria.test(0.7));
+    assertFalse(stopCriteria.test(0.65));
+    assertTrue(stopCriteria.test(0.7));
+  }
+
+  @Test
+  void testDefaultPatience() {
+    stopCriteria = new HeldOutPatienceExceeded(null);
+    assertFalse(stopCriteria.test(0.5));
+    for (int i = 1; i < Parameters.HELD_OUT_PATIENCE_DEFAULT_VALUE; i++) {
+      assertFalse(stopCriteria.test(0.4));
+    }
+    assertTrue(stopCriteria.test(0.4));
+  }
+
+  @Test
+  void testMessageIfSatisfied() {
+    stopCriteria.test(0.75);
+    assertEquals("Stopping: held-out accuracy did not improve on 0.75 for 2 evaluations.",
+        stopCriteria.getMessageIfSatisfied());
+  }
+
+}
@@ -126,4 +126,59 @@ public class TokenNameFinderCrossValidatorTest {
 
   }
 
+  @Test
+  void testConcurrentFoldsMatchSequentialFolds() throws Exception {
+
+    InputStreamFactory in = new ResourceAsStreamFactory(getClass(),
+        "/opennlp/tools/namefind/AnnotatedSentences.txt");
+
+    TrainingParameters mlParams = new TrainingParameters();
+    mlParams.put(Parameters.ITERATIONS_PARAM, 70);
+    mlParams.put(Parameters.CUTOFF_PARAM, 1);
+
+    mlParams.put(Parameters.ALGORITHM_PARAM,
+        ModelType.MAXENT.toString());
+
+    TokenNameFinderCrossValidator sequential = new TokenNameFinderCrossValidator("eng",
+        TYPE, mlParams, null, (TokenNameFinderEvaluationMonitor) null);
+    sequential.evaluate(new NameSampleDataStream(
+        new PlainTextByLineStream(in, StandardCharsets.ISO_8859_1)), 3);
+
+    TokenNameFinderCrossValidator concurrent = new TokenNameFinderCrossValidator("eng",
+        TYPE, mlParams, null, (TokenNameFinderEvaluationMonitor) null);
+    concurrent.evaluate(new NameSampleDataStream(
+        new PlainTextByLineStream(in, StandardCharsets.ISO_8859_1)), 3, 3);
+
+    Assertions.assertEquals(sequential.getFMeasure().getPrecisionScore(),
+        concurrent.getFMeasure().getPrecisionScore());
+    Assertions.assertEquals(sequential.getFMeasure().getRecallScore(),
+        concurrent.getFMeasure().getRecallScore());
+  }
+
+  @Test
+  void testConcurrentFoldsWithInsufficientData() {
+
+    Assertions.assertThrows(InsufficientTrainingDataException.class, () -> {
+
+      InputStreamFactory in = new ResourceAsStreamFactory(getClass(),
+          "/opennlp/tools/namefind/AnnotatedSentencesInsufficient.txt");
+
+      ObjectStream<NameSample> sampleStream = new NameSampleDataStream(
+          new PlainTextByLineStream(in, StandardCharsets.ISO_8859_1));
+
+      TrainingParameters mlParams = new TrainingParameters();
+      mlParams.put(Parameters.ITERATIONS_PARAM, 70);
+      mlParams.put(Parameters.CUTOFF_PARAM, 1);
+
+      mlParams.put(Parameters.ALGORITHM_PARAM,
+          ModelType.MAXENT.toString());
+
+      TokenNameFinderCrossValidator cv = new TokenNameFinderCrossValidator("eng",
+          TYPE, mlParams, null, (TokenNameFinderEvaluationMonitor) null);
+
+      cv.evaluate(sampleStream, 2, 2);
+
+    });
+  }
+
 }
@@ -17,12 +17,16 @@
 package opennlp.tools.util;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -85,6 +89,172 @@ public class ObjectStreamUtilsTest {
 
   }
 
+  @Test
+  void prefetchTest() throws IOException {
+    List<Integer> data = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      data.add(i);
+    }
+
+    try (ObjectStream<Integer> stream = ObjectStreamUtils.prefetch(
+        ObjectStreamUtils.createObjectStream(data), 16)) {
+      Assertions.assertEquals(data, readAll(stream));
+      Assertions.assertNull(stream.read());
+
+      // reset restarts reading from the beginning
+      stream.reset();
+      Assertions.assertEquals(Integer.valueOf(0), stream.read());
+      stream.reset();
+      Assertions.assertEquals(data, readAll(stream));
+    }
+  }
+
+  @Test
+  void prefetchPropagatesExceptionTest() throws IOException {
+    ObjectStream<String> stream = ObjectStreamUtils.prefetch(
+        failingStream("dog", "cat"), 4);
+
+    Assertions.assertEquals("dog", stream.read());
+    Assertions.assertEquals("cat", stream.read());
+    Assertions.assertThrows(IOException.class, stream::read);
+    stream.close();
+  }
+
+  @Test
+  void parallelMapTest() throws IOException {
+    List<Integer> data = new ArrayList<>();
+    List<String> expected = new ArrayList<>();
+    for (int i = 0; i < 500; i++) {
+      data.add(i);
+      if (i % 3 != 0) {
+        expected.add("#" + i);
+      }
+    }
+
+    try (ObjectStream<String> stream = ObjectStreamUtils.parallelMap(
+        ObjectStreamUtils.createObjectStream(data), i -> {
+          // finish the samples out of order
+          Thread.onSpinWait();
+          if (ThreadLocalRandom.current().nextInt(10) == 0) {
+            Thread.yield();
+          }
+          return i % 3 == 0 ? null : "#" + i;
+        }, 4)) {
+      Assertions.assertEquals(expected, readAll(stream));
+      Assertions.assertNull(stream.read());
+
+      stream.reset();
+      Assertions.assertEquals(expected, readAll(stream));
+    }
+  }
+
+  @Test
+  void parallelMapPropagatesExceptionTest() {
+    ObjectStream<String> stream = ObjectStreamUtils.parallelMap(
+        ObjectStreamUtils.createObjectStream("dog", "cat", "pig"), s -> {
+          if ("cat".equals(s)) {
+            throw new IOException("cannot map " + s);
+          }
+          return s;
+        }, 2);
+
+    IOException e = Assertions.assertThrows(IOException.class, () -> readAll(stream));
+    Assertions.assertEquals("cannot map cat", e.getMessage());
+  }
+
+  @Test
+  void parallelMapReleasesThreadsOnReadFailureTest() throws IOException, InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicReference<Thread> worker = new AtomicReference<>();
+    ObjectStream<String> samples = new ObjectStream<>() {
+
+      private boolean first = true;
+
+      @Override
+      public String read() throws IOException {
+        if (first) {
+          first = false;
+          return "dog";
+        }
+        // fail while the first sample is being mapped
+        await(started);
+        throw new IOException("broken stream");
+      }
+    };
+    ObjectStream<String> stream = ObjectStreamUtils.parallelMap(samples, s -> {
+      worker.set(Thread.currentThread());
+      started.countDown();
+      return s;
+    }, 1);
+
+    Assertions.assertEquals("dog", stream.read());
+
+    // the worker is released before the failure is read
+    worker.get().join(10_000);
+    Assertions.assertFalse(worker.get().isAlive());
+
+    IOException e = Assertions.assertThrows(IOException.class, stream::read);
+    Assertions.assertEquals("broken stream", e.getMessage());
+  }
+
+  @Test
+  void batchTest() throws IOException {
+    ObjectStream<List<String>> stream = ObjectStreamUtils.batch(
+        ObjectStreamUtils.createObjectStream("dog", "cat", "pig", "frog", "cow"), 2);
+
+    Assertions.assertEquals(List.of("dog", "cat"), stream.read());
+    Assertions.assertEquals(List.of("pig", "frog"), stream.read());
+    Assertions.assertEquals(List.of("cow"), stream.read());
+    Assertions.assertNull(stream.read());
+
+    stream.reset();
+    Assertions.assertEquals(List.of("dog", "cat"), stream.read());
+  }
+
+  @Test
+  void invalidArgumentsTest() {
+    ObjectStream<String> stream = ObjectStreamUtils.createObjectStream("dog");
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ObjectStreamUtils.prefetch(stream, 0));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> ObjectStreamUtils.parallelMap(stream, s -> s, 0));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> ObjectStreamUtils.batch(stream, 0));
+    Assertions.assertThrows(NullPointerException.class, () -> ObjectStreamUtils.prefetch(null, 1));
+  }
+
+  private static <T> List<T> readAll(ObjectStream<T> stream) throws IOException {
+    List<T> values = new ArrayList<>();
+    T value;
+    while ((value = stream.read()) != null) {
+      values.add(value);
+    }
+    return values;
+  }
+
+  private static void await(CountDownLatch latch) throws InterruptedIOException {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException();
+    }
+  }
+
+  private static ObjectStream<String> failingStream(String... values) {
+    return new ObjectStream<>() {
+
+      private int index;
+
+      @Override
+      public String read() throws IOException {
+        if (index < values.length) {
+          return values[index++];
+        }
+        throw new IOException("broken stream");
+      }
+    };
+  }
+
 
   private void compare(ObjectStream<String> stream, String[] expectedValues) throws IOException {
     String value;
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package opennlp.tools.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link SpanBuffer} class.
+ */
+public class SpanBufferTest {
+
+  @Test
+  void testAddAndGet() {
+    SpanBuffer spans = new SpanBuffer(1);
+    Assertions.assertTrue(spans.isEmpty());
+
+    spans.add(0, 5);
+    spans.add(6, 9, 0.5d);
+    spans.add(10, 12, "person", 0.25d);
+    spans.add(new Span(13, 20, "location", 0.75d));
+
+    Assertions.assertEquals(4, spans.size());
+    Assertions.assertEquals(6, spans.getStart(1));
+    Assertions.assertEquals(9, spans.getEnd(1));
+    Assertions.assertEquals(3, spans.length(1));
+    Assertions.assertEquals(0.5d, spans.getProb(1));
+    Assertions.assertEquals(SpanBuffer.NO_TYPE, spans.getTypeId(0));
+    Assertions.assertNull(spans.getType(0));
+    Assertions.assertEquals("person", spans.getType(2));
+    Assertions.assertEquals("location", spans.getType(3));
+    Assertions.assertEquals(2, spans.getTypeCount());
+
+    spans.setProb(0, 1d);
+    Assertions.assertEquals(new Span(0, 5, null, 1d), spans.getSpan(0));
+    Assertions.assertEquals(1d, spans.getSpan(0).getProb());
+    Assertions.assertEquals("[0..5), [6..9), [10..12) person, [13..20) location]",
+        spans.toString().substring(1));
+  }
+
+  @Test
+  void testAdapters() {
+    Span[] expected = {new Span(0, 2, "a", 0.1d), new Span(3, 4), new Span(5, 9, "b")};
+    SpanBuffer spans = new SpanBuffer();
+    spans.addAll(expected);
+
+    Span[] actual = spans.toSpans();
+    Assertions.assertArrayEquals(expected, actual);
+    for (int i = 0; i < expected.length; i++) {
+      Assertions.assertEquals(expected[i].getProb(), actual[i].getProb());
+    }
+    Assertions.assertEquals("ab", spans.getCoveredText(0, "abcdefghij"));
+    Assertions.assertEquals("fghi", spans.getCoveredText(2, "abcdefghij"));
+  }
+
+  @Test
+  void testClearKeepsTypeIds() {
+    SpanBuffer spans = new SpanBuffer();
+    spans.add(0, 1, "NP", 0d);
+    spans.add(1, 2, "VP", 0d);
+    final int np = spans.getTypeId(0);
+    final int vp = spans.getTypeId(1);
+
+    spans.clear();
+    Assertions.assertEquals(0, spans.size());
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> spans.getStart(0));
+
+    spans.add(0, 3, "VP", 0d);
+    Assertions.assertEquals(vp, spans.getTypeId(0));
+    Assertions.assertEquals(np, spans.getTypeId("NP"));
+    Assertions.assertEquals("NP", spans.getTypeName(np));
+    Assertions.assertEquals(2, spans.getTypeCount());
+  }
+
+  @Test
+  void testTypeIdOfRegion() {
+    SpanBuffer spans = new SpanBuffer();
+    Assertions.assertEquals(0, spans.getTypeId("B-NP", 2, 4));
+    Assertions.assertEquals(0, spans.getTypeId("NP"));
+    Assertions.assertEquals(1, spans.getTypeId("I-VP", 2, 4));
+    Assertions.assertEquals(0, spans.getTypeId("I-NP", 2, 4));
+    Assertions.assertEquals(2, spans.getTypeId("O", 1, 1));
+    Assertions.assertEquals("", spans.getTypeName(2));
+
+    // more types than are compared char by char
+    for (int i = 0; i < 100; i++) {
+      Assertions.assertEquals(i + 3, spans.getTypeId("B-T" + i, 2, 3 + Integer.toString(i).length()));
+    }
+    Assertions.assertEquals(42 + 3, spans.getTypeId("x-T42-y", 2, 5));
+    Assertions.assertEquals(1, spans.getTypeId(new StringBuilder("B-VP"), 2, 4));
+  }
+
+  @Test
+  void testInvalidArguments() {
+    SpanBuffer spans = new SpanBuffer();
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SpanBuffer(-1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> spans.add(-1, 2));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> spans.add(3, 2));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> spans.add(0, 2, 0, 0d));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> spans.getTypeName(0));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> spans.getTypeId("NP", 1, 3));
+  }
+}
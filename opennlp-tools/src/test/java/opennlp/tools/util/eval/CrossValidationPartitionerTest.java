@@ -18,6 +18,7 @@
 package opennlp.tools.util.eval;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
@@ -202,6 +203,61 @@ public class CrossValidationPartitionerTest {
     }
   }
 
+  /**
+   * Test that concurrently evaluated folds see the same partitions as
+   * sequentially obtained ones and that the results are returned in fold order.
+   */
+  @Test
+  void testEvaluateFolds() throws IOException {
+    List<String> data = new ArrayList<>();
+    for (int i = 1; i <= 10; i++) {
+      data.add(String.format("%02d", i));
+    }
+
+    CrossValidationPartitioner<String> partitioner = new CrossValidationPartitioner<>(data, 3);
+
+    List<String> folds = partitioner.evaluateFolds(3, training -> {
+      StringBuilder fold = new StringBuilder();
+      String sample;
+      while ((sample = training.read()) != null) {
+        fold.append(sample).append(' ');
+      }
+      fold.append('|');
+      ObjectStream<String> test = training.getTestSampleStream();
+      while ((sample = test.read()) != null) {
+        fold.append(' ').append(sample);
+      }
+      return fold.toString();
+    });
+
+    Assertions.assertEquals(List.of(
+        "02 03 05 06 08 09 | 01 04 07 10",
+        "01 03 04 06 07 09 10 | 02 05 08",
+        "01 02 04 05 07 08 10 | 03 06 09"), folds);
+    Assertions.assertFalse(partitioner.hasNext());
+  }
+
+  @Test
+  void testEvaluateFoldsPropagatesException() {
+    CrossValidationPartitioner<String> partitioner =
+        new CrossValidationPartitioner<>(List.of("01", "02", "03", "04"), 2);
+
+    IOException e = Assertions.assertThrows(IOException.class, () ->
+        partitioner.evaluateFolds(2, training -> {
+          throw new IOException("fold failed");
+        }));
+    Assertions.assertEquals("fold failed", e.getMessage());
+  }
+
+  @Test
+  void testEvaluateFoldsInvalidThreads() {
+    CrossValidationPartitioner<String> partitioner =
+        new CrossValidationPartitioner<>(List.of("01", "02"), 2);
+
+    Assertions.assertThrows(IllegalArgumentException.class, () ->
+        partitioner.evaluateFolds(0, training -> null));
+  }
+
   @Test
   void testToString() {
     Collection<String> emptyCollection = Collections.emptySet();
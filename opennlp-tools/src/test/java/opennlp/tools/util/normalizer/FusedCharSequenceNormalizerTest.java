@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.normalizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serial;
+import java.util.Locale;
+import java.util.Random;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class FusedCharSequenceNormalizerTest {
+
+  private static final CharSequenceNormalizer[] LANGUAGE_DETECTOR_NORMALIZERS = {
+      EmojiCharSequenceNormalizer.getInstance(),
+      UrlCharSequenceNormalizer.getInstance(),
+      TwitterCharSequenceNormalizer.getInstance(),
+      NumberCharSequenceNormalizer.getInstance(),
+      ShrinkCharSequenceNormalizer.getInstance()};
+
+  // fragments which start, continue or break the matches of the normalizers
+  private static final String[] FRAGMENTS = {"http://", "https://", "http:/", "htt", "h", "s",
+      "www.apache.org", "/a?b=c&d#e", "mail", "@", "#", "user.name+tag", "example.com", ".",
+      "-", "_", "+", "rt ", "RT:", "Rt", "r", "t", ":", ";", "x", "X", "-)", "(", "D", "o", "p",
+      "ha", "HA", "ja", "jJ", "hh", "a", "e", "i", "O", "u", "1", "2024", "0", " ", "  ", "\t",
+      "\n", "\r", "\u000B", "\f", "\u0001", "\u0085", " ", "aaa", "AaA", "!!!", "é",
+      "́", "ü", "中", "😀", "\uD83D", "\uDE00", "！", " ",
+      "word", "Word", "_x"};
+
+  private static void assertSameAsAggregate(String text, CharSequenceNormalizer... normalizers) {
+    String expected = new AggregateCharSequenceNormalizer(normalizers).normalize(text).toString();
+    FusedCharSequenceNormalizer fused = new FusedCharSequenceNormalizer(normalizers);
+    Assertions.assertEquals(expected, fused.normalize(text).toString(), () -> "Input: " + text);
+
+    StringBuilder out = new StringBuilder("prefix");
+    fused.normalize(new StringBuilder(text), out);
+    Assertions.assertEquals("prefix" + expected, out.toString());
+  }
+
+  private static String randomText(Random random) {
+    StringBuilder text = new StringBuilder();
+    int fragments = random.nextInt(25);
+    for (int i = 0; i < fragments; i++) {
+      text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+    }
+    return text.toString();
+  }
+
+  @Test
+  void testExamples() {
+    String[] examples = {
+        "asdf #hasdk23 2nnfdf", "RT RT RT 2nnfdf", "ahahahahhahahhahahaaaa", "jajjajajaja",
+        "hello :-) hello", ":) hello", "hello :P", "Visit https://opennlp.apache.org/ now!",
+        "mail dev@opennlp.apache.org or user@x.y", "12 monkeys and 99 problems",
+        "Sooooo   goooood!!!\t\t\nreally", "  trim me  ", "x@y@zz", "rt rtx", "hjahaha",
+        "I ❤ NLP 😀😀 - it's the best", "cafért :D", "ért "
+    };
+    for (String example : examples) {
+      assertSameAsAggregate(example, LANGUAGE_DETECTOR_NORMALIZERS);
+      for (CharSequenceNormalizer normalizer : LANGUAGE_DETECTOR_NORMALIZERS) {
+        assertSameAsAggregate(example, normalizer);
+      }
+    }
+  }
+
+  @Test
+  void testRandomInputsForEachNormalizer() {
+    Random random = new Random(42);
+    for (CharSequenceNormalizer normalizer : LANGUAGE_DETECTOR_NORMALIZERS) {
+      for (int i = 0; i < 20000; i++) {
+        assertSameAsAggregate(randomText(random), normalizer);
+      }
+    }
+  }
+
+  @Test
+  void testRandomInputsForLanguageDetectorNormalizers() {
+    Random random = new Random(7);
+    for (int i = 0; i < 50000; i++) {
+      assertSameAsAggregate(randomText(random), LANGUAGE_DETECTOR_NORMALIZERS);
+    }
+  }
+
+  @Test
+  void testRandomInputsInReverseOrder() {
+    CharSequenceNormalizer[] reversed = new CharSequenceNormalizer[LANGUAGE_DETECTOR_NORMALIZERS.length];
+    for (int i = 0; i < reversed.length; i++) {
+      reversed[i] = LANGUAGE_DETECTOR_NORMALIZERS[reversed.length - 1 - i];
+    }
+    Random random = new Random(13);
+    for (int i = 0; i < 20000; i++) {
+      assertSameAsAggregate(randomText(random), reversed);
+    }
+  }
+
+  @Test
+  void testLongInput() {
+    Random random = new Random(3);
+    StringBuilder text = new StringBuilder();
+    while (text.length() < 100_000) {
+      text.append(randomText(random)).append(' ');
+    }
+    text.append("http://").append("a".repeat(10_000)).append(" ha".repeat(1000));
+    assertSameAsAggregate(text.toString(), LANGUAGE_DETECTOR_NORMALIZERS);
+  }
+
+  @Test
+  void testOtherNormalizers() {
+    CharSequenceNormalizer upperCase = new UpperCaseNormalizer();
+    CharSequenceNormalizer subclass = new NumberCharSequenceNormalizer() {
+      @Serial
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public CharSequence normalize(CharSequence text) {
+        return text.toString().replace('0', 'o');
+      }
+    };
+
+    Random random = new Random(11);
+    for (int i = 0; i < 2000; i++) {
+      String text = randomText(random);
+      assertSameAsAggregate(text, upperCase);
+      assertSameAsAggregate(text, upperCase, EmojiCharSequenceNormalizer.getInstance());
+      assertSameAsAggregate(text, TwitterCharSequenceNormalizer.getInstance(), upperCase,
+          subclass, ShrinkCharSequenceNormalizer.getInstance());
+      assertSameAsAggregate(text, new AggregateCharSequenceNormalizer(
+          UrlCharSequenceNormalizer.getInstance(), upperCase),
+          ShrinkCharSequenceNormalizer.getInstance());
+    }
+    assertSameAsAggregate("unchanged 123");
+  }
+
+  @Test
+  void testSerialization() throws IOException, ClassNotFoundException {
+    FusedCharSequenceNormalizer normalizer =
+        new FusedCharSequenceNormalizer(LANGUAGE_DETECTOR_NORMALIZERS);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(normalizer);
+    }
+    CharSequenceNormalizer deserialized;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      deserialized = (CharSequenceNormalizer) in.readObject();
+    }
+
+    String text = "RT @user: sooooo goood http://t.co/x 2024 :)";
+    Assertions.assertEquals(normalizer.normalize(text).toString(),
+        deserialized.normalize(text).toString());
+  }
+
+  private static class UpperCaseNormalizer implements CharSequenceNormalizer {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public CharSequence normalize(CharSequence text) {
+      return text.toString().toUpperCase(Locale.ROOT);
+    }
+  }
+}
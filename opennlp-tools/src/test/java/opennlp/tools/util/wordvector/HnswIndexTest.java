@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.wordvector;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import opennlp.tools.util.ObjectStreamUtils;
+
+public class HnswIndexTest extends AbstractWordVectorTest {
+
+  private static final int DIMENSION = 16;
+
+  private static float[][] vectors;
+  private static float[][] queries;
+
+  @TempDir
+  private Path tempDir;
+
+  @BeforeAll
+  static void createVectors() {
+    final Random random = new Random(7);
+    vectors = new float[2000][DIMENSION];
+    for (float[] vector : vectors) {
+      for (int i = 0; i < DIMENSION; i++) {
+        vector[i] = (float) random.nextGaussian();
+      }
+    }
+    queries = new float[50][DIMENSION];
+    for (float[] query : queries) {
+      for (int i = 0; i < DIMENSION; i++) {
+        query[i] = (float) random.nextGaussian();
+      }
+    }
+  }
+
+  private static HnswIndex buildIndex(HnswIndex.Similarity similarity) {
+    final HnswIndex index = new HnswIndex(DIMENSION, similarity, 8, 100);
+    for (int i = 0; i < vectors.length; i++) {
+      Assertions.assertEquals(i, index.add("v" + i, vectors[i]));
+    }
+    return index;
+  }
+
+  private static double similarity(HnswIndex.Similarity similarity, float[] a, float[] b) {
+    double dot = 0;
+    double normA = 0;
+    double normB = 0;
+    for (int i = 0; i < a.length; i++) {
+      dot += a[i] * b[i];
+      normA += a[i] * a[i];
+      normB += b[i] * b[i];
+    }
+    return similarity == HnswIndex.Similarity.COSINE ? dot / Math.sqrt(normA * normB) : dot;
+  }
+
+  private static int[] exactTopK(HnswIndex.Similarity similarity, float[] query, int k) {
+    return IntStream.range(0, vectors.length).boxed()
+        .sorted(Comparator.comparingDouble(i -> -similarity(similarity, query, vectors[i])))
+        .limit(k).mapToInt(Integer::intValue).toArray();
+  }
+
+  private static double recall(HnswIndex index, int k, int ef) {
+    int found = 0;
+    for (float[] query : queries) {
+      final int[] expected = exactTopK(index.getSimilarity(), query, k);
+      final HnswIndex.Neighbor[] neighbors = index.search(query, k, ef);
+      Assertions.assertEquals(k, neighbors.length);
+      for (HnswIndex.Neighbor neighbor : neighbors) {
+        if (Arrays.stream(expected).anyMatch(id -> id == neighbor.id())) {
+          found++;
+        }
+      }
+    }
+    return (double) found / (queries.length * k);
+  }
+
+  @Test
+  void testCosineRecall() {
+    final HnswIndex index = buildIndex(HnswIndex.Similarity.COSINE);
+    Assertions.assertEquals(vectors.length, index.size());
+    Assertions.assertTrue(recall(index, 10, 100) >= 0.9);
+  }
+
+  @Test
+  void testDotProductRecall() {
+    final HnswIndex index = buildIndex(HnswIndex.Similarity.DOT_PRODUCT);
+    Assertions.assertTrue(recall(index, 10, 200) >= 0.8);
+  }
+
+  @Test
+  void testSearchOrderAndLabels() {
+    final HnswIndex index = buildIndex(HnswIndex.Similarity.COSINE);
+
+    final HnswIndex.Neighbor[] neighbors = index.search(vectors[42], 5);
+    Assertions.assertEquals(42, neighbors[0].id());
+    Assertions.assertEquals("v42", neighbors[0].label());
+    Assertions.assertEquals(1f, neighbors[0].score(), 0.0001f);
+    for (int i = 1; i < neighbors.length; i++) {
+      Assertions.assertTrue(neighbors[i - 1].score() >= neighbors[i].score());
+      Assertions.assertEquals("v" + neighbors[i].id(), index.getLabel(neighbors[i].id()));
+    }
+  }
+
+  @Test
+  void testSaveAndOpen() throws IOException {
+    final HnswIndex index = buildIndex(HnswIndex.Similarity.COSINE);
+    final Path file = tempDir.resolve("index.bin");
+    index.save(file);
+
+    final HnswIndex opened = HnswIndex.open(file);
+    Assertions.assertEquals(index.size(), opened.size());
+    Assertions.assertEquals(DIMENSION, opened.dimension());
+    Assertions.assertEquals(HnswIndex.Similarity.COSINE, opened.getSimilarity());
+    for (float[] query : queries) {
+      final HnswIndex.Neighbor[] expected = index.search(query, 10, 50);
+      final HnswIndex.Neighbor[] actual = opened.search(query, 10, 50);
+      Assertions.assertArrayEquals(expected, actual);
+    }
+
+    Assertions.assertThrows(UnsupportedOperationException.class,
+        () -> opened.add("new", queries[0]));
+  }
+
+  @Test
+  void testBuildFromTable() throws IOException {
+    final WordVectorTable table;
+    try (InputStream glove = getResourceStream("glove-example-short.txt")) {
+      table = Glove.parse(glove);
+    }
+
+    final HnswIndex index = HnswIndex.build(table, HnswIndex.Similarity.COSINE, 4, 10);
+    Assertions.assertEquals(4, index.size());
+    Assertions.assertEquals(50, index.dimension());
+
+    final HnswIndex.Neighbor[] neighbors = index.search(table.get("of"), 4, 10);
+    Assertions.assertEquals(4, neighbors.length);
+    Assertions.assertEquals("of", neighbors[0].label());
+  }
+
+  @Test
+  void testBuildFromStream() throws IOException {
+    final List<float[]> sentenceVectors = new ArrayList<>(Arrays.asList(vectors).subList(0, 100));
+    final HnswIndex index = HnswIndex.build(ObjectStreamUtils.createObjectStream(sentenceVectors),
+        DIMENSION, HnswIndex.Similarity.COSINE, HnswIndex.DEFAULT_M, HnswIndex.DEFAULT_EF_CONSTRUCTION);
+
+    Assertions.assertEquals(100, index.size());
+    final HnswIndex.Neighbor[] neighbors = index.search(vectors[7], 1);
+    Assertions.assertEquals(7, neighbors[0].id());
+    Assertions.assertNull(neighbors[0].label());
+  }
+
+  @Test
+  void testEmptyIndex() throws IOException {
+    final HnswIndex index = new HnswIndex(DIMENSION, HnswIndex.Similarity.DOT_PRODUCT);
+    Assertions.assertEquals(0, index.search(queries[0], 3).length);
+
+    final Path file = tempDir.resolve("empty.bin");
+    index.save(file);
+    Assertions.assertEquals(0, HnswIndex.open(file).search(queries[0], 3).length);
+  }
+
+  @Test
+  void testInvalidArguments() {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new HnswIndex(0, HnswIndex.Similarity.COSINE));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new HnswIndex(DIMENSION, HnswIndex.Similarity.COSINE, 1, 10));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new HnswIndex(DIMENSION, HnswIndex.Similarity.COSINE, 4, 0));
+
+    final HnswIndex index = new HnswIndex(DIMENSION, HnswIndex.Similarity.COSINE);
+    Assertions.assertThrows(IllegalArgumentException.class, () -> index.add("a", new float[3]));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> index.search(new float[3], 1));
+  }
+
+  @Test
+  void testOpenInvalidFile() throws IOException {
+    final Path file = tempDir.resolve("invalid.bin");
+    Files.write(file, new byte[64]);
+    Assertions.assertThrows(IOException.class, () -> HnswIndex.open(file));
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package opennlp.tools.util.wordvector;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedWordVectorTableTest extends AbstractWordVectorTest {
+
+  @TempDir
+  private Path tempDir;
+
+  private WordVectorTable referenceTable;
+  private MappedWordVectorTable wvTable;
+
+  @BeforeEach
+  public void setup() throws IOException {
+    try (InputStream glove = getResourceStream("glove-example-short.txt")) {
+      referenceTable = Glove.parse(glove);
+    }
+
+    final Path file = tempDir.resolve("glove.bin");
+    try (InputStream glove = getResourceStream("glove-example-short.txt")) {
+      MappedWordVectorTable.convert(glove, file);
+    }
+    wvTable = MappedWordVectorTable.open(file);
+  }
+
+  private static MappedWordVectorTable convert(Path file, String text) throws IOException {
+    MappedWordVectorTable.convert(
+        new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), file);
+    return MappedWordVectorTable.open(file);
+  }
+
+  private static void assertSameVectors(WordVectorTable expected, WordVectorTable actual) {
+    Assertions.assertEquals(expected.size(), actual.size());
+    Assertions.assertEquals(expected.dimension(), actual.dimension());
+
+    final Set<String> tokens = new HashSet<>();
+    for (Iterator<String> it = actual.tokens(); it.hasNext(); ) {
+      tokens.add(it.next());
+    }
+    Assertions.assertEquals(expected.size(), tokens.size());
+
+    for (String token : tokens) {
+      final WordVector expectedVector = expected.get(token);
+      final WordVector actualVector = actual.get(token);
+      Assertions.assertNotNull(expectedVector);
+      Assertions.assertEquals(WordVectorType.FLOAT, actualVector.getDataType());
+      Assertions.assertEquals(expectedVector.dimension(), actualVector.dimension());
+      for (int i = 0; i < expectedVector.dimension(); i++) {
+        Assertions.assertEquals(expectedVector.getAsFloat(i), actualVector.getAsFloat(i));
+      }
+    }
+  }
+
+  @Test
+  public void testConvertGlove() {
+    Assertions.assertEquals(4, wvTable.size());
+    Assertions.assertEquals(50, wvTable.dimension());
+    assertSameVectors(referenceTable, wvTable);
+    Assertions.assertNull(wvTable.get("OpenNLP"));
+    Assertions.assertEquals(-1, wvTable.getRow("OpenNLP"));
+  }
+
+  @Test
+  public void testWrite() throws IOException {
+    final Path file = tempDir.resolve("written.bin");
+    MappedWordVectorTable.write(referenceTable, file);
+    assertSameVectors(referenceTable, MappedWordVectorTable.open(file));
+  }
+
+  @Test
+  public void testBuffers() {
+    final WordVector reference = referenceTable.get("the");
+    final WordVector wv = wvTable.get("the");
+
+    final FloatBuffer floats = wv.toFloatBuffer();
+    Assertions.assertTrue(floats.isReadOnly());
+    Assertions.assertEquals(50, floats.remaining());
+    for (int i = 0; i < 50; i++) {
+      Assertions.assertEquals(reference.getAsFloat(i), floats.get(i));
+      Assertions.assertEquals(reference.getAsDouble(i), wv.toDoubleBuffer().get(i));
+    }
+  }
+
+  @Test
+  public void testLookup() {
+    final float[] dest = new float[1 + 3 * 50];
+    dest[51] = 42f;
+
+    final int found = wvTable.lookup(new String[] {"of", "OpenNLP", "and"}, dest, 1);
+    Assertions.assertEquals(2, found);
+
+    final float[] row = new float[50];
+    wvTable.copyRow(wvTable.getRow("of"), row, 0);
+    for (int i = 0; i < 50; i++) {
+      Assertions.assertEquals(referenceTable.get("of").getAsFloat(i), dest[1 + i]);
+      Assertions.assertEquals(row[i], dest[1 + i]);
+      Assertions.assertEquals(0f, dest[51 + i]);
+      Assertions.assertEquals(referenceTable.get("and").getAsFloat(i), dest[101 + i]);
+    }
+
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> wvTable.copyRow(4, row, 0));
+  }
+
+  @Test
+  public void testConvertWord2Vec() throws IOException {
+    final MappedWordVectorTable table = convert(tempDir.resolve("w2v.bin"),
+        "3 2\nfoo 1.5 -2 \nbär 0.25 3e2\nfoo 7 8\n");
+
+    Assertions.assertEquals(2, table.size());
+    Assertions.assertEquals(2, table.dimension());
+    Assertions.assertEquals(0.25f, table.get("bär").getAsFloat(0));
+    Assertions.assertEquals(300f, table.get("bär").getAsFloat(1));
+    // the last vector of a token wins
+    Assertions.assertEquals(7f, table.get("foo").getAsFloat(0));
+
+    final Set<String> tokens = new HashSet<>();
+    table.tokens().forEachRemaining(tokens::add);
+    Assertions.assertEquals(Set.of("foo", "bär"), tokens);
+  }
+
+  @Test
+  public void testConvertEmpty() throws IOException {
+    final MappedWordVectorTable table = convert(tempDir.resolve("empty.bin"), "");
+    Assertions.assertEquals(0, table.size());
+    Assertions.assertEquals(-1, table.dimension());
+    Assertions.assertNull(table.get("the"));
+    Assertions.assertFalse(table.tokens().hasNext());
+  }
+
+  @Test
+  public void testConvertDetectsBrokenDimensions() {
+    try (InputStream glove = getResourceStream("glove-example-broken-dimensions.txt")) {
+      Assertions.assertThrows(IOException.class,
+          () -> MappedWordVectorTable.convert(glove, tempDir.resolve("broken.bin")));
+    } catch (IOException e) {
+      Assertions.fail(e);
+    }
+  }
+
+  @Test
+  public void testOpenInvalidFile() throws IOException {
+    final Path file = tempDir.resolve("invalid.bin");
+    Files.write(file, new byte[64]);
+    Assertions.assertThrows(IOException.class, () -> MappedWordVectorTable.open(file));
+  }
+}